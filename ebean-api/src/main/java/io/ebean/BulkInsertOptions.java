@@ -0,0 +1,14 @@
+package io.ebean;
+
+/**
+ * Options used to control a bulk insert. Use BulkInsertOptionsBuilder to create an instance.
+ * <p>
+ * Instances of BulkInsertOptions are thread safe and safe to share across threads.
+ */
+public interface BulkInsertOptions {
+
+  /**
+   * Return the number of rows sent per COPY (or per JDBC batch when falling back to batched inserts).
+   */
+  int batchSize();
+}
@@ -0,0 +1,51 @@
+package io.ebean;
+
+/**
+ * Builds a BulkInsertOptions which is immutable and thread safe.
+ */
+public class BulkInsertOptionsBuilder {
+
+  private static final int DEFAULT_BATCH_SIZE = 10_000;
+
+  private static final BOptions DEFAULT_OPTIONS = new BOptions(DEFAULT_BATCH_SIZE);
+
+  private int batchSize = DEFAULT_BATCH_SIZE;
+
+  /**
+   * Return the default options.
+   */
+  public static BulkInsertOptions defaultOptions() {
+    return DEFAULT_OPTIONS;
+  }
+
+  /**
+   * Set the number of rows sent per COPY (or per JDBC batch when falling back to batched inserts).
+   * <p>
+   * Defaults to 10,000.
+   */
+  public BulkInsertOptionsBuilder setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * Build and return the BulkInsertOptions instance.
+   */
+  public BulkInsertOptions build() {
+    return new BOptions(batchSize);
+  }
+
+  private static class BOptions implements BulkInsertOptions {
+
+    private final int batchSize;
+
+    private BOptions(int batchSize) {
+      this.batchSize = batchSize;
+    }
+
+    @Override
+    public int batchSize() {
+      return batchSize;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package io.ebean;
+
+import java.util.List;
+
+/**
+ * A batch of query results held by column (rather than by row) for analytics type processing.
+ * <p>
+ * Integer columns are held in a <code>long[]</code>, floating point columns in a
+ * <code>double[]</code>, timestamps as epoch millis in a <code>long[]</code> and string
+ * columns are dictionary encoded (codes into a per batch dictionary). Each column has a
+ * null bitmap where bit <code>row</code> is set when the value is null. Other column types
+ * are held as objects.
+ * </p>
+ * <p>
+ * The arrays are reused for each batch and are only valid while the batch is being consumed.
+ * The arrays can be larger than the batch so only the first {@link #size()} rows are valid.
+ * </p>
+ *
+ * <pre>{@code
+ *
+ *  DB.sqlQuery("select id, name, total from orders")
+ *    .findColumnarBatches(1000, batch -> {
+ *
+ *      long[] ids = batch.longs(0);
+ *      double[] totals = batch.doubles(2);
+ *      for (int row = 0; row < batch.size(); row++) {
+ *        if (!batch.isNull(2, row)) {
+ *          // do something interesting with the data
+ *        }
+ *      }
+ *    });
+ *
+ * }</pre>
+ */
+public interface ColumnBatch {
+
+  /**
+   * The type of vector a column is held in.
+   */
+  enum Type {
+
+    /**
+     * Integer types held in a long[].
+     */
+    LONG,
+
+    /**
+     * Floating point types held in a double[].
+     */
+    DOUBLE,
+
+    /**
+     * Character types held as dictionary codes.
+     */
+    STRING,
+
+    /**
+     * Timestamps held as epoch millis in a long[].
+     */
+    TIMESTAMP,
+
+    /**
+     * Other types held in an Object[].
+     */
+    OBJECT
+  }
+
+  /**
+   * Return the number of rows in the batch.
+   */
+  int size();
+
+  /**
+   * Return the number of columns.
+   */
+  int columnCount();
+
+  /**
+   * Return the name (label) of the column (0 based).
+   */
+  String columnName(int column);
+
+  /**
+   * Return the type of the column.
+   */
+  Type columnType(int column);
+
+  /**
+   * Return true if the value of the column is null for the given row.
+   */
+  boolean isNull(int column, int row);
+
+  /**
+   * Return the null bitmap of the column.
+   */
+  long[] nulls(int column);
+
+  /**
+   * Return the values of a LONG or TIMESTAMP column.
+   */
+  long[] longs(int column);
+
+  /**
+   * Return the values of a DOUBLE column.
+   */
+  double[] doubles(int column);
+
+  /**
+   * Return the dictionary codes of a STRING column.
+   */
+  int[] dictionaryCodes(int column);
+
+  /**
+   * Return the dictionary of a STRING column.
+   */
+  List<String> dictionary(int column);
+
+  /**
+   * Return the values of an OBJECT column.
+   */
+  Object[] objects(int column);
+
+  /**
+   * Return the value of a LONG or TIMESTAMP column for the given row.
+   */
+  long getLong(int column, int row);
+
+  /**
+   * Return the value of a DOUBLE column for the given row.
+   */
+  double getDouble(int column, int row);
+
+  /**
+   * Return the value of a STRING column for the given row (null when null).
+   */
+  String getString(int column, int row);
+
+  /**
+   * Return the value of any column type for the given row (null when null).
+   */
+  Object getObject(int column, int row);
+}
@@ -379,6 +379,15 @@ public final class DB {
     getDefault().insertAll(beans);
   }
 
+  /**
+   * Bulk insert a collection of beans using the given options.
+   *
+   * @see Database#bulkInsert(Collection, BulkInsertOptions, Transaction)
+   */
+  public static void bulkInsert(Collection<?> beans, BulkInsertOptions options) {
+    getDefault().bulkInsert(beans, options);
+  }
+
   /**
    * Marks the entity bean as dirty.
    * <p>
@@ -1318,6 +1318,50 @@ public interface Database {
    */
   void insertAll(Collection<?> beans, Transaction transaction);
 
+  /**
+   * Bulk insert a collection of beans using the default options.
+   *
+   * @see #bulkInsert(Collection, BulkInsertOptions, Transaction)
+   */
+  void bulkInsert(Collection<?> beans);
+
+  /**
+   * Bulk insert a collection of beans using the given options.
+   *
+   * @see #bulkInsert(Collection, BulkInsertOptions, Transaction)
+   */
+  void bulkInsert(Collection<?> beans, BulkInsertOptions options);
+
+  /**
+   * Bulk insert a collection of beans using the given options and transaction.
+   * <p>
+   * This is intended for inserting a very large number of beans. On Postgres the rows are
+   * streamed using <code>COPY ... FROM STDIN</code> with id values assigned (from the sequence)
+   * prior to the copy. Beans with identity ids and other platforms fall back to batched inserts.
+   * </p>
+   * <p>
+   * Rather than notifying per bean, the L2 cache invalidation and BulkTableEventListener
+   * notification occurs once per table after the beans are inserted. BeanPersistController
+   * and ChangeLog are called per bean but BeanPersistListener and document store are not
+   * notified for the bulk inserted beans.
+   * </p>
+   *
+   * <pre>{@code
+   *
+   *   BulkInsertOptions options = new BulkInsertOptionsBuilder()
+   *     .setBatchSize(20_000)
+   *     .build();
+   *
+   *   database.bulkInsert(customers, options, transaction);
+   *
+   * }</pre>
+   *
+   * @param beans       The beans to insert
+   * @param options     The options to control the bulk insert
+   * @param transaction The transaction to use (can be null)
+   */
+  void bulkInsert(Collection<?> beans, BulkInsertOptions options, Transaction transaction);
+
   /**
    * Execute explicitly passing a transaction.
    */
@@ -64,6 +64,20 @@ public interface DtoQuery<T> {
    */
   void findEach(int batch, Consumer<List<T>> consumer);
 
+  /**
+   * Execute the query reading the rows into column batches of the given size.
+   * <p>
+   * This bypasses the DTO mapping and reads the columns of the query into primitive typed
+   * column vectors for analytics type processing. The column vectors are reused for each
+   * batch so the batch is only valid while it is being consumed.
+   * </p>
+   *
+   * @param batchSize The max number of rows in a batch
+   * @param consumer  The consumer to process each batch of rows
+   * @see SqlQuery#findColumnarBatches(int, Consumer)
+   */
+  void findColumnarBatches(int batchSize, Consumer<ColumnBatch> consumer);
+
   /**
    * Execute the query iterating a row at a time with the ability to stop consuming part way through.
    * <p>
@@ -5,10 +5,13 @@ import io.ebean.search.MultiMatch;
 import io.ebean.search.TextCommonTerms;
 import io.ebean.search.TextQueryString;
 import io.ebean.search.TextSimple;
+import io.ebean.text.json.JsonWriteOptions;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.persistence.NonUniqueResultException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.Timestamp;
 import java.util.Collection;
@@ -314,6 +317,27 @@ public interface ExpressionList<T> {
    */
   void findEach(int batch, Consumer<List<T>> consumer);
 
+  /**
+   * Execute the query in parallel over id range partitions.
+   *
+   * @see Query#findEachParallel(int, Consumer)
+   */
+  void findEachParallel(int partitions, Consumer<T> consumer);
+
+  /**
+   * Execute the query writing the results as a JSON array to the writer.
+   *
+   * @see Query#findJson(Writer, JsonWriteOptions)
+   */
+  void findJson(Writer writer, JsonWriteOptions options);
+
+  /**
+   * Execute the query writing the results as a JSON array to the output stream.
+   *
+   * @see Query#findJson(OutputStream, JsonWriteOptions)
+   */
+  void findJson(OutputStream outputStream, JsonWriteOptions options);
+
   /**
    * Execute the query processing the beans one at a time with the ability to
    * stop processing before reading all the beans.
@@ -1,8 +1,12 @@
 package io.ebean;
 
+import io.ebean.text.json.JsonWriteOptions;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.persistence.NonUniqueResultException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.Timestamp;
 import java.util.List;
@@ -844,6 +848,98 @@ public interface Query<T> {
    */
   void findEach(int batch, Consumer<List<T>> consumer);
 
+  /**
+   * Execute the query in parallel by splitting it into id range partitions.
+   * <p>
+   * Each partition is executed in its own thread using its own transaction and
+   * persistence context. The beans from all partitions are passed to the consumer
+   * in the calling thread (so the consumer does not need to be thread safe) via a
+   * bounded queue such that a slow consumer applies back pressure to the partitions.
+   * The order of the beans across partitions is not defined.
+   * </p>
+   * <p>
+   * The query is partitioned when the bean has a single integer id and the query
+   * does not use firstRow, maxRows or RawSql. Otherwise this falls back to findEach.
+   * If the consumer throws an exception the remaining partitions are cancelled.
+   * </p>
+   * <pre>{@code
+   *
+   *  DB.find(Customer.class)
+   *     .where().eq("status", Status.NEW)
+   *     .findEachParallel(4, (Customer customer) -> {
+   *
+   *       // export customer ...
+   *     });
+   *
+   * }</pre>
+   *
+   * @param partitions The number of partitions to execute in parallel
+   * @param consumer   The consumer used to process the queried beans
+   */
+  void findEachParallel(int partitions, Consumer<T> consumer);
+
+  /**
+   * Execute the query in parallel by splitting it into id range partitions returning a Stream.
+   * <p>
+   * Refer to {@link #findEachParallel(int, Consumer)} for details. Closing the stream
+   * cancels any partitions that have not completed.
+   * </p>
+   * <pre>{@code
+   *
+   *  // use try with resources to ensure Stream is closed
+   *
+   *  try (Stream<Customer> stream = query.findStreamParallel(4)) {
+   *    stream
+   *    .map(...)
+   *    .collect(...);
+   *  }
+   *
+   * }</pre>
+   *
+   * @param partitions The number of partitions to execute in parallel
+   */
+  @Nonnull
+  Stream<T> findStreamParallel(int partitions);
+
+  /**
+   * Execute the query writing the results as a JSON array to the writer.
+   * <p>
+   * When the query does not fetch a OneToMany or ManyToMany and does not use inheritance
+   * the rows are written directly from the JDBC ResultSet as JSON without building
+   * beans or a persistence context. Otherwise the beans are written one at a time as
+   * per findEach. In both cases the results are not held in memory.
+   * </p>
+   * <p>
+   * The PathProperties of the options are applied to the query such that only the
+   * properties that are written to the JSON are selected. The writer is flushed but
+   * not closed.
+   * </p>
+   * <pre>{@code
+   *
+   *  PathProperties paths = PathProperties.parse("id,name,billingAddress(city)");
+   *
+   *  DB.find(Customer.class)
+   *     .where().eq("status", Status.ACTIVE)
+   *     .findJson(writer, JsonWriteOptions.pathProperties(paths));
+   *
+   * }</pre>
+   *
+   * @param writer  The writer the JSON array is written to
+   * @param options The JSON write options (can be null)
+   */
+  void findJson(Writer writer, JsonWriteOptions options);
+
+  /**
+   * Execute the query writing the results as a JSON array (UTF-8) to the output stream.
+   * <p>
+   * Refer to {@link #findJson(Writer, JsonWriteOptions)} for details.
+   * </p>
+   *
+   * @param outputStream The output stream the JSON array is written to
+   * @param options      The JSON write options (can be null)
+   */
+  void findJson(OutputStream outputStream, JsonWriteOptions options);
+
   /**
    * Execute the query using callbacks to a visitor to process the resulting
    * beans one at a time.
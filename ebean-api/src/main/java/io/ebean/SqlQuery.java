@@ -116,6 +116,33 @@ public interface SqlQuery extends Serializable {
    */
   void findEachRow(RowConsumer consumer);
 
+  /**
+   * Execute the query reading the rows into column batches of the given size.
+   * <p>
+   * Rather than a row at a time the rows are read into primitive typed column vectors
+   * (with null bitmaps and dictionary encoded strings) for analytics type processing.
+   * The column vectors are reused for each batch so the batch is only valid while it is
+   * being consumed.
+   * </p>
+   *
+   * <pre>{@code
+   *
+   *  DB.sqlQuery("select id, name, total from orders")
+   *    .findColumnarBatches(1000, batch -> {
+   *
+   *      long[] ids = batch.longs(0);
+   *      for (int row = 0; row < batch.size(); row++) {
+   *        // do something interesting with the data
+   *      }
+   *    });
+   *
+   * }</pre>
+   *
+   * @param batchSize The max number of rows in a batch
+   * @param consumer  The consumer to process each batch of rows
+   */
+  void findColumnarBatches(int batchSize, Consumer<ColumnBatch> consumer);
+
   /**
    * Execute the query returning an optional row.
    */
@@ -423,6 +423,33 @@ public interface Transaction extends AutoCloseable {
    */
   int getBatchSize();
 
+  /**
+   * Set to true to execute batched inserts using multi-row insert statements.
+   * <p>
+   * Rather than using JDBC addBatch() with one set of bind values per row, batched inserts
+   * of the same type are executed using <code>insert into ... values (...),(...)</code>
+   * with the number of rows per statement determined by the max bind parameters of the
+   * database platform. This is typically much faster for MySQL, MariaDB, H2 and SQL Server.
+   * <p>
+   * Generated keys are returned when the platform supports getGeneratedKeys with multi-row
+   * insert. Otherwise inserts that need generated keys continue to use JDBC batch.
+   * <p>
+   * Has no effect when the platform does not support multi-row insert.
+   *
+   * <pre>{@code
+   *
+   * try (Transaction transaction = database.beginTransaction()) {
+   *   transaction.setBatchSize(1000);
+   *   transaction.setMultiRowInsert(true);
+   *
+   *   database.saveAll(customers);
+   *   transaction.commit();
+   * }
+   *
+   * }</pre>
+   */
+  void setMultiRowInsert(boolean multiRowInsert);
+
   /**
    * Specify if we want batched inserts to use getGeneratedKeys.
    * <p>
@@ -14,6 +14,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -32,7 +33,14 @@ public final class EntityBeanIntercept implements Serializable {
   private static final int STATE_REFERENCE = 1;
   private static final int STATE_LOADED = 2;
 
-  private transient final ReentrantLock lock = new ReentrantLock();
+  private static final AtomicReferenceFieldUpdater<EntityBeanIntercept, ReentrantLock> LOCK_UPDATER
+    = AtomicReferenceFieldUpdater.newUpdater(EntityBeanIntercept.class, ReentrantLock.class, "lock");
+
+  /**
+   * Lock used for lazy loading without a BeanLoader. Created on first use as most
+   * beans are never lazy loaded or lazy load via the BeanLoader lock.
+   */
+  private transient volatile ReentrantLock lock;
 
   private transient NodeUsageCollector nodeUsageCollector;
 
@@ -767,6 +775,66 @@ public final class EntityBeanIntercept implements Serializable {
     }
   }
 
+  /**
+   * Return the number of bits used by the dirty property mask.
+   * <p>
+   * This is 1 bit for the sort order plus 2 bits per property (changed and embedded dirty)
+   * plus the bits of any dirty embedded beans.
+   */
+  public int getDirtyMaskBits() {
+    int len = getPropertyLength();
+    int bits = 1 + 2 * len;
+    for (int i = 0; i < len; i++) {
+      if ((flags[i] & (FLAG_CHANGED_PROP + FLAG_EMBEDDED_DIRTY)) == FLAG_EMBEDDED_DIRTY) {
+        EntityBean embeddedBean = (EntityBean) owner._ebean_getField(i);
+        bits += embeddedBean._ebean_getIntercept().getDirtyMaskBits();
+      }
+    }
+    return bits;
+  }
+
+  /**
+   * Set the dirty properties into the mask starting at the given bit offset returning the next offset.
+   * <p>
+   * This is the bit mask equivalent of the dirty property key and is used as the key of update plans.
+   * The masks of dirty embedded beans are appended after the properties of this bean.
+   */
+  public int setDirtyMask(long[] mask, int offset) {
+    if (sortOrder > 0) {
+      setBit(mask, offset);
+    }
+    offset++;
+    int len = getPropertyLength();
+    int next = offset + 2 * len;
+    for (int i = 0; i < len; i++) {
+      if ((flags[i] & FLAG_CHANGED_PROP) != 0) {
+        setBit(mask, offset + 2 * i);
+      } else if ((flags[i] & FLAG_EMBEDDED_DIRTY) != 0) {
+        // an embedded property has been changed - recurse
+        setBit(mask, offset + 2 * i + 1);
+        EntityBean embeddedBean = (EntityBean) owner._ebean_getField(i);
+        next = embeddedBean._ebean_getIntercept().setDirtyMask(mask, next);
+      }
+    }
+    return next;
+  }
+
+  /**
+   * Set the loaded properties into the mask starting at the given bit offset (1 bit per property).
+   */
+  public void setLoadedMask(long[] mask, int offset) {
+    int len = getPropertyLength();
+    for (int i = 0; i < len; i++) {
+      if (isLoadedProperty(i)) {
+        setBit(mask, offset + i);
+      }
+    }
+  }
+
+  private static void setBit(long[] mask, int bit) {
+    mask[bit >>> 6] |= 1L << bit;
+  }
+
   /**
    * Return a loaded property hash.
    */
@@ -807,9 +875,11 @@ public final class EntityBeanIntercept implements Serializable {
    * Load the bean when it is a reference.
    */
   protected void loadBean(int loadProperty) {
-    lock.lock();
-    try {
-      if (beanLoader == null) {
+    final BeanLoader beanLoader = this.beanLoader;
+    if (beanLoader == null) {
+      final ReentrantLock lock = initLock();
+      lock.lock();
+      try {
         final Database database = DB.byName(ebeanServerName);
         if (database == null) {
           throw new PersistenceException("Database [" + ebeanServerName + "] was not found?");
@@ -817,10 +887,10 @@ public final class EntityBeanIntercept implements Serializable {
         // For stand alone reference bean or after deserialisation lazy load
         // using the ebeanServer. Synchronise only on the bean.
         loadBeanInternal(loadProperty, database.getPluginApi().beanLoader());
-        return;
+      } finally {
+        lock.unlock();
       }
-    } finally {
-      lock.unlock();
+      return;
     }
     final Lock lock = beanLoader.lock();
     try {
@@ -832,6 +902,22 @@ public final class EntityBeanIntercept implements Serializable {
     }
   }
 
+  /**
+   * Return the bean lock creating it if necessary.
+   */
+  private ReentrantLock initLock() {
+    final ReentrantLock lock = this.lock;
+    if (lock != null) {
+      return lock;
+    }
+    final ReentrantLock newLock = new ReentrantLock();
+    if (LOCK_UPDATER.compareAndSet(this, null, newLock)) {
+      return newLock;
+    }
+    // another thread won the race
+    return this.lock;
+  }
+
   /**
    * Invoke the lazy loading. This method is synchronised externally.
    */
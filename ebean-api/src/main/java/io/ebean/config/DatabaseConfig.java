@@ -135,6 +135,11 @@ public class DatabaseConfig {
 
   private TenantCatalogProvider tenantCatalogProvider;
 
+  /**
+   * The number of top tenants to collect metrics for (0 for no tenant metrics).
+   */
+  private int tenantMetricsMaxTenants;
+
   /**
    * When true will load entity classes via ModuleInfoLoader.
    * <p>
@@ -214,6 +219,12 @@ public class DatabaseConfig {
    */
   private int jdbcFetchSizeFindEach = 100;
 
+  /**
+   * When true findEach/findStream use a fetch size based on the estimated row width that
+   * is adjusted based on how fast the rows are consumed.
+   */
+  private boolean jdbcFetchSizeAdaptive = true;
+
   /**
    * Suffix appended to the base table to derive the view that contains the union
    * of the base table and the history table in order to support asOf queries.
@@ -344,6 +355,16 @@ public class DatabaseConfig {
    */
   private DataSourceConfig readOnlyDataSourceConfig = new DataSourceConfig();
 
+  /**
+   * Read replica DataSources that implicit read only transactions are load balanced across.
+   */
+  private List<DataSource> readReplicaDataSources = new ArrayList<>();
+
+  /**
+   * Millis that reads of a table stay on the primary after a commit that modified it.
+   */
+  private int readReplicaPinMillis = 1000;
+
   /**
    * Optional - the database schema that should be used to own the tables etc.
    */
@@ -413,10 +434,45 @@ public class DatabaseConfig {
 
   private boolean changeLogAsync = true;
 
+  /**
+   * Capacity of the bounded change log queue (0 for a background task per change set).
+   */
+  private int changeLogQueueSize;
+
+  /**
+   * Maximum number of change sets delivered to the listener together.
+   */
+  private int changeLogBatchSize = 100;
+
+  /**
+   * Time to wait collecting change sets into a batch.
+   */
+  private int changeLogBatchWindowMillis;
+
+  /**
+   * Directory used to spill change sets to when the change log queue is full.
+   */
+  private String changeLogSpillDirectory;
+
   private ReadAuditLogger readAuditLogger;
 
   private ReadAuditPrepare readAuditPrepare;
 
+  /**
+   * Time window over which read events are aggregated (0 to log each read event).
+   */
+  private int readAuditAggregateWindowMillis;
+
+  /**
+   * Maximum number of ids held by the read audit aggregation before it is flushed early.
+   */
+  private int readAuditAggregateMaxIds = 10000;
+
+  /**
+   * Read audit sample rates keyed by bean type (simple or full class name).
+   */
+  private Map<String, Double> readAuditSampleRates = new HashMap<>();
+
   private EncryptKeyManager encryptKeyManager;
 
   private EncryptDeployManager encryptDeployManager;
@@ -448,12 +504,14 @@ public class DatabaseConfig {
 
   private int backgroundExecutorSchedulePoolSize = 1;
   private int backgroundExecutorShutdownSecs = 30;
+  private boolean backgroundExecutorVirtualThreads;
 
   // defaults for the L2 bean caching
 
   private int cacheMaxSize = 10000;
   private int cacheMaxIdleTime = 600;
   private int cacheMaxTimeToLive = 60 * 60 * 6;
+  private long cacheOffHeapMaxBytes;
 
   // defaults for the L2 query caching
 
@@ -479,6 +537,16 @@ public class DatabaseConfig {
    */
   private int queryPlanTTLSeconds = 60 * 5;
 
+  /**
+   * Estimated memory in bytes that query plans can use across all bean types - defaults to 50MB.
+   */
+  private long queryPlanCacheMaxBytes = 50 * 1024 * 1024;
+
+  /**
+   * Max number of update plans cached per bean type - defaults to 1000.
+   */
+  private int updatePlanCacheMaxSize = 1000;
+
   /**
    * Set to true to globally disable L2 caching (typically for performance testing).
    */
@@ -503,6 +571,21 @@ public class DatabaseConfig {
    */
   private boolean notifyL2CacheInForeground;
 
+  /**
+   * The capacity of the bounded post commit queues. 0 means post commit processing uses the background executor.
+   */
+  private int postCommitQueueSize;
+
+  /**
+   * Time to wait collecting post commit events such that they are processed together.
+   */
+  private int postCommitBatchWindowMillis;
+
+  /**
+   * The behaviour when a post commit queue is full.
+   */
+  private PostCommitBackPressure postCommitBackPressure = PostCommitBackPressure.BLOCK;
+
   /**
    * Set to true to enable bind capture required for query plan capture.
    */
@@ -532,6 +615,11 @@ public class DatabaseConfig {
    */
   private SlowQueryListener slowQueryListener;
 
+  /**
+   * The tracer for query, lazy loading, batch flush and commit spans.
+   */
+  private DatabaseTracer databaseTracer;
+
   private ProfilingConfig profilingConfig = new ProfilingConfig();
 
   /**
@@ -601,6 +689,23 @@ public class DatabaseConfig {
     this.slowQueryListener = slowQueryListener;
   }
 
+  /**
+   * Return the tracer used to emit spans for queries, lazy loading, batch flush and commit.
+   */
+  public DatabaseTracer getDatabaseTracer() {
+    return databaseTracer;
+  }
+
+  /**
+   * Set the tracer used to emit spans for queries, lazy loading, batch flush and commit.
+   * <p>
+   * When not set a DatabaseTracer registered via ServiceLoader is used if present.
+   * </p>
+   */
+  public void setDatabaseTracer(DatabaseTracer databaseTracer) {
+    this.databaseTracer = databaseTracer;
+  }
+
 
   /**
    * Deprecated - look to have explicit order by. Sets the default orderById setting for queries.
@@ -911,6 +1016,24 @@ public class DatabaseConfig {
     this.tenantCatalogProvider = tenantCatalogProvider;
   }
 
+  /**
+   * Return the number of top tenants to collect metrics for.
+   */
+  public int getTenantMetricsMaxTenants() {
+    return tenantMetricsMaxTenants;
+  }
+
+  /**
+   * Set the number of top tenants to collect metrics for (0 for no tenant metrics).
+   * <p>
+   * When set with multi-tenancy, query execution time, transaction time, connection wait time
+   * and L2 cache hits and misses are collected per tenant. The top tenants by cost are reported
+   * with the remaining tenants reported together as <code>tenant.other</code>.
+   */
+  public void setTenantMetricsMaxTenants(int tenantMetricsMaxTenants) {
+    this.tenantMetricsMaxTenants = tenantMetricsMaxTenants;
+  }
+
   /**
    * Return true if dirty beans are automatically persisted.
    */
@@ -1107,6 +1230,25 @@ public class DatabaseConfig {
     this.jdbcFetchSizeFindEach = jdbcFetchSizeFindEach;
   }
 
+  /**
+   * Return true if findEach/findStream queries use an adaptive JDBC fetch size.
+   */
+  public boolean isJdbcFetchSizeAdaptive() {
+    return jdbcFetchSizeAdaptive;
+  }
+
+  /**
+   * Set to false to use the fixed jdbcFetchSizeFindEach rather than an adaptive fetch size
+   * for findEach/findStream queries.
+   * <p>
+   * The adaptive fetch size is not used when a fetch size hint is explicitly set on the query
+   * or when the platform uses the forward only hint (MySql).
+   * </p>
+   */
+  public void setJdbcFetchSizeAdaptive(boolean jdbcFetchSizeAdaptive) {
+    this.jdbcFetchSizeAdaptive = jdbcFetchSizeAdaptive;
+  }
+
   /**
    * Return the ChangeLogPrepare.
    * <p>
@@ -1189,6 +1331,72 @@ public class DatabaseConfig {
     this.changeLogAsync = changeLogAsync;
   }
 
+  /**
+   * Return the capacity of the bounded change log queue (0 for a background task per change set).
+   */
+  public int getChangeLogQueueSize() {
+    return changeLogQueueSize;
+  }
+
+  /**
+   * Set the capacity of the bounded change log queue.
+   * <p>
+   * When set (and the change log is async) the change sets are queued and delivered to the
+   * ChangeLogListener in batches by a single thread rather than submitting a task per change
+   * set to the background executor. When the queue is full the committing thread blocks unless
+   * a spill directory is set.
+   * </p>
+   */
+  public void setChangeLogQueueSize(int changeLogQueueSize) {
+    this.changeLogQueueSize = changeLogQueueSize;
+  }
+
+  /**
+   * Return the maximum number of change sets delivered to the listener together.
+   */
+  public int getChangeLogBatchSize() {
+    return changeLogBatchSize;
+  }
+
+  /**
+   * Set the maximum number of change sets delivered to the listener together (default 100).
+   */
+  public void setChangeLogBatchSize(int changeLogBatchSize) {
+    this.changeLogBatchSize = changeLogBatchSize;
+  }
+
+  /**
+   * Return the time in millis change sets are collected such that they are delivered together.
+   */
+  public int getChangeLogBatchWindowMillis() {
+    return changeLogBatchWindowMillis;
+  }
+
+  /**
+   * Set the time in millis change sets are collected such that they are delivered together.
+   */
+  public void setChangeLogBatchWindowMillis(int changeLogBatchWindowMillis) {
+    this.changeLogBatchWindowMillis = changeLogBatchWindowMillis;
+  }
+
+  /**
+   * Return the directory change sets are spilled to when the change log queue is full.
+   */
+  public String getChangeLogSpillDirectory() {
+    return changeLogSpillDirectory;
+  }
+
+  /**
+   * Set the directory change sets are spilled to when the change log queue is full.
+   * <p>
+   * Spilled change sets are delivered in order once the queue has drained and any change
+   * sets left spilled at shutdown are delivered on the next start.
+   * </p>
+   */
+  public void setChangeLogSpillDirectory(String changeLogSpillDirectory) {
+    this.changeLogSpillDirectory = changeLogSpillDirectory;
+  }
+
   /**
    * Return the ReadAuditLogger to use.
    */
@@ -1223,6 +1431,71 @@ public class DatabaseConfig {
     this.readAuditPrepare = readAuditPrepare;
   }
 
+  /**
+   * Return the time window in millis over which read events are aggregated (0 for no aggregation).
+   */
+  public int getReadAuditAggregateWindowMillis() {
+    return readAuditAggregateWindowMillis;
+  }
+
+  /**
+   * Set the time window in millis over which read events are aggregated.
+   * <p>
+   * When set the read events with the same bean type, query plan and user are aggregated
+   * over the window with the ids de-duplicated and then sent to the ReadAuditLogger as a
+   * single event by a background task. This reduces the volume of read audit logging for
+   * queries that are executed frequently (like list endpoints) at the cost of losing the
+   * individual event times and bind values.
+   * </p>
+   */
+  public void setReadAuditAggregateWindowMillis(int readAuditAggregateWindowMillis) {
+    this.readAuditAggregateWindowMillis = readAuditAggregateWindowMillis;
+  }
+
+  /**
+   * Return the maximum number of ids held by the read audit aggregation before it is flushed early.
+   */
+  public int getReadAuditAggregateMaxIds() {
+    return readAuditAggregateMaxIds;
+  }
+
+  /**
+   * Set the maximum number of ids (and aggregated events) held by the read audit aggregation
+   * before it is flushed ahead of the end of the time window. Defaults to 10000.
+   * <p>
+   * This bounds the memory used by the aggregation when there are many reads in a window.
+   * </p>
+   */
+  public void setReadAuditAggregateMaxIds(int readAuditAggregateMaxIds) {
+    this.readAuditAggregateMaxIds = readAuditAggregateMaxIds;
+  }
+
+  /**
+   * Return the read audit sample rates keyed by bean type.
+   */
+  public Map<String, Double> getReadAuditSampleRates() {
+    return readAuditSampleRates;
+  }
+
+  /**
+   * Set the read audit sample rates keyed by bean type (simple or full class name).
+   * <p>
+   * A rate of 0.1 means that around 1 in 10 queries of that read audited bean type are
+   * audited. Use this only for bean types that are not sensitive. Bean types without a
+   * rate have all their reads audited.
+   * </p>
+   */
+  public void setReadAuditSampleRates(Map<String, Double> readAuditSampleRates) {
+    this.readAuditSampleRates = readAuditSampleRates;
+  }
+
+  /**
+   * Set the read audit sample rate for the given bean type.
+   */
+  public void setReadAuditSampleRate(Class<?> beanType, double sampleRate) {
+    readAuditSampleRates.put(beanType.getName(), sampleRate);
+  }
+
   /**
    * Return the configuration for profiling.
    */
@@ -1448,6 +1721,25 @@ public class DatabaseConfig {
     this.backgroundExecutorShutdownSecs = backgroundExecutorShutdownSecs;
   }
 
+  /**
+   * Return true if background tasks are executed using a virtual thread per task (when supported).
+   */
+  public boolean isBackgroundExecutorVirtualThreads() {
+    return backgroundExecutorVirtualThreads;
+  }
+
+  /**
+   * Set to true to execute background tasks (findFutureList, findFutureCount, post commit
+   * notification etc) using a virtual thread per task when supported by the JVM.
+   * <p>
+   * On a JVM without virtual threads a warning is logged and the background tasks continue
+   * to use the (bounded) schedule pool. The periodic scheduled tasks always use the schedule pool.
+   * </p>
+   */
+  public void setBackgroundExecutorVirtualThreads(boolean backgroundExecutorVirtualThreads) {
+    this.backgroundExecutorVirtualThreads = backgroundExecutorVirtualThreads;
+  }
+
   /**
    * Return the L2 cache default max size.
    */
@@ -1490,6 +1782,25 @@ public class DatabaseConfig {
     this.cacheMaxTimeToLive = cacheMaxTimeToLive;
   }
 
+  /**
+   * Return the max bytes of the off heap tier of the L2 bean caches (0 for no off heap tier).
+   */
+  public long getCacheOffHeapMaxBytes() {
+    return cacheOffHeapMaxBytes;
+  }
+
+  /**
+   * Set the max bytes of the off heap tier of the L2 bean caches.
+   * <p>
+   * When set the bean cache data is additionally stored in direct memory (shared by all
+   * the local bean caches) with the cache max size then applying to the on heap hot tier
+   * in front of it. Defaults to 0 meaning no off heap tier is used.
+   * </p>
+   */
+  public void setCacheOffHeapMaxBytes(long cacheOffHeapMaxBytes) {
+    this.cacheOffHeapMaxBytes = cacheOffHeapMaxBytes;
+  }
+
   /**
    * Return the L2 query cache default max size.
    */
@@ -1714,6 +2025,52 @@ public class DatabaseConfig {
     this.readOnlyDataSourceConfig = readOnlyDataSourceConfig;
   }
 
+  /**
+   * Return the read replica DataSources.
+   */
+  public List<DataSource> getReadReplicaDataSources() {
+    return readReplicaDataSources;
+  }
+
+  /**
+   * Set the read replica DataSources that implicit read only transactions are load balanced across.
+   * <p>
+   * Like the read only DataSource these are expected to use AutoCommit true. Each query picks the
+   * replica with the fewest outstanding queries weighted by its recent latency. A replica that fails
+   * to provide connections is skipped for a time (circuit breaking) and when no replica is available
+   * the query uses the primary DataSource.
+   * <p>
+   * This is not used with multi-tenancy.
+   */
+  public void setReadReplicaDataSources(List<DataSource> readReplicaDataSources) {
+    this.readReplicaDataSources = readReplicaDataSources;
+  }
+
+  /**
+   * Add a read replica DataSource.
+   */
+  public void addReadReplicaDataSource(DataSource readReplicaDataSource) {
+    readReplicaDataSources.add(readReplicaDataSource);
+  }
+
+  /**
+   * Return the millis that reads of a table stay on the primary after a commit that modified it.
+   */
+  public int getReadReplicaPinMillis() {
+    return readReplicaPinMillis;
+  }
+
+  /**
+   * Set the millis that reads of a table stay on the primary after a commit that modified it.
+   * <p>
+   * This should be set to the expected replication lag such that reads after a write see the
+   * written data. Queries where the tables are not known (like SqlQuery) use the primary when
+   * any table has been modified within this window. Defaults to 1000 millis.
+   */
+  public void setReadReplicaPinMillis(int readReplicaPinMillis) {
+    this.readReplicaPinMillis = readReplicaPinMillis;
+  }
+
   /**
    * Return the JNDI name of the DataSource to use.
    */
@@ -2833,6 +3190,9 @@ public class DatabaseConfig {
     dumpMetricsOnShutdown = p.getBoolean("dumpMetricsOnShutdown", dumpMetricsOnShutdown);
     dumpMetricsOptions = p.get("dumpMetricsOptions", dumpMetricsOptions);
     queryPlanTTLSeconds = p.getInt("queryPlanTTLSeconds", queryPlanTTLSeconds);
+    queryPlanCacheMaxBytes = p.getLong("queryPlanCacheMaxBytes", queryPlanCacheMaxBytes);
+    cacheOffHeapMaxBytes = p.getLong("cacheOffHeapMaxBytes", cacheOffHeapMaxBytes);
+    updatePlanCacheMaxSize = p.getInt("updatePlanCacheMaxSize", updatePlanCacheMaxSize);
     slowQueryMillis = p.getLong("slowQueryMillis", slowQueryMillis);
     queryPlanEnable = p.getBoolean("queryPlan.enable", queryPlanEnable);
     queryPlanThresholdMicros = p.getLong("queryPlan.thresholdMicros", queryPlanThresholdMicros);
@@ -2845,13 +3205,18 @@ public class DatabaseConfig {
     localOnlyL2Cache = p.getBoolean("localOnlyL2Cache", localOnlyL2Cache);
     enabledL2Regions = p.get("enabledL2Regions", enabledL2Regions);
     notifyL2CacheInForeground = p.getBoolean("notifyL2CacheInForeground", notifyL2CacheInForeground);
+    postCommitQueueSize = p.getInt("postCommitQueueSize", postCommitQueueSize);
+    postCommitBatchWindowMillis = p.getInt("postCommitBatchWindowMillis", postCommitBatchWindowMillis);
+    postCommitBackPressure = p.getEnum(PostCommitBackPressure.class, "postCommitBackPressure", postCommitBackPressure);
     useJtaTransactionManager = p.getBoolean("useJtaTransactionManager", useJtaTransactionManager);
     useValidationNotNull = p.getBoolean("useValidationNotNull", useValidationNotNull);
     autoReadOnlyDataSource = p.getBoolean("autoReadOnlyDataSource", autoReadOnlyDataSource);
+    readReplicaPinMillis = p.getInt("readReplicaPinMillis", readReplicaPinMillis);
     idGeneratorAutomatic = p.getBoolean("idGeneratorAutomatic", idGeneratorAutomatic);
 
     backgroundExecutorSchedulePoolSize = p.getInt("backgroundExecutorSchedulePoolSize", backgroundExecutorSchedulePoolSize);
     backgroundExecutorShutdownSecs = p.getInt("backgroundExecutorShutdownSecs", backgroundExecutorShutdownSecs);
+    backgroundExecutorVirtualThreads = p.getBoolean("backgroundExecutorVirtualThreads", backgroundExecutorVirtualThreads);
     disableClasspathSearch = p.getBoolean("disableClasspathSearch", disableClasspathSearch);
     currentUserProvider = p.createInstance(CurrentUserProvider.class, "currentUserProvider", currentUserProvider);
     databasePlatform = p.createInstance(DatabasePlatform.class, "databasePlatform", databasePlatform);
@@ -2881,7 +3246,14 @@ public class DatabaseConfig {
     persistenceContextScope = PersistenceContextScope.valueOf(p.get("persistenceContextScope", "TRANSACTION"));
 
     changeLogAsync = p.getBoolean("changeLogAsync", changeLogAsync);
+    changeLogQueueSize = p.getInt("changeLogQueueSize", changeLogQueueSize);
+    changeLogBatchSize = p.getInt("changeLogBatchSize", changeLogBatchSize);
+    changeLogBatchWindowMillis = p.getInt("changeLogBatchWindowMillis", changeLogBatchWindowMillis);
+    changeLogSpillDirectory = p.get("changeLogSpillDirectory", changeLogSpillDirectory);
     changeLogIncludeInserts = p.getBoolean("changeLogIncludeInserts", changeLogIncludeInserts);
+    readAuditAggregateWindowMillis = p.getInt("readAuditAggregateWindowMillis", readAuditAggregateWindowMillis);
+    readAuditAggregateMaxIds = p.getInt("readAuditAggregateMaxIds", readAuditAggregateMaxIds);
+    loadReadAuditSampleRates(p.get("readAuditSampleRates", null));
     expressionEqualsWithNullAsNoop = p.getBoolean("expressionEqualsWithNullAsNoop", expressionEqualsWithNullAsNoop);
     expressionNativeIlike = p.getBoolean("expressionNativeIlike", expressionNativeIlike);
 
@@ -2891,6 +3263,7 @@ public class DatabaseConfig {
     historyTableSuffix = p.get("historyTableSuffix", historyTableSuffix);
     dataSourceJndiName = p.get("dataSourceJndiName", dataSourceJndiName);
     jdbcFetchSizeFindEach = p.getInt("jdbcFetchSizeFindEach", jdbcFetchSizeFindEach);
+    jdbcFetchSizeAdaptive = p.getBoolean("jdbcFetchSizeAdaptive", jdbcFetchSizeAdaptive);
     jdbcFetchSizeFindList = p.getInt("jdbcFetchSizeFindList", jdbcFetchSizeFindList);
     databasePlatformName = p.get("databasePlatformName", databasePlatformName);
     defaultOrderById = p.getBoolean("defaultOrderById", defaultOrderById);
@@ -2937,6 +3310,7 @@ public class DatabaseConfig {
     tenantCatalogProvider = p.createInstance(TenantCatalogProvider.class, "tenant.catalogProvider", tenantCatalogProvider);
     tenantSchemaProvider = p.createInstance(TenantSchemaProvider.class, "tenant.schemaProvider", tenantSchemaProvider);
     tenantPartitionColumn = p.get("tenant.partitionColumn", tenantPartitionColumn);
+    tenantMetricsMaxTenants = p.getInt("tenant.metricsMaxTenants", tenantMetricsMaxTenants);
     classes = getClasses(p);
 
     String mappingsProp = p.get("mappingLocations", null);
@@ -2986,6 +3360,28 @@ public class DatabaseConfig {
     }
   }
 
+  /**
+   * Load read audit sample rates in the form of <code>Customer:0.1,Order:0.5</code>.
+   */
+  private void loadReadAuditSampleRates(String sampleRates) {
+    for (String entry : StringHelper.splitNames(sampleRates)) {
+      int pos = entry.indexOf(':');
+      if (pos < 1) {
+        throw new IllegalArgumentException("Invalid readAuditSampleRates entry [" + entry + "] expecting beanType:rate");
+      }
+      double rate;
+      try {
+        rate = Double.parseDouble(entry.substring(pos + 1));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid readAuditSampleRates rate in [" + entry + "]", e);
+      }
+      if (rate < 0D || rate > 1D) {
+        throw new IllegalArgumentException("Invalid readAuditSampleRates rate in [" + entry + "] expecting 0 to 1");
+      }
+      readAuditSampleRates.put(entry.substring(0, pos), rate);
+    }
+  }
+
   /**
    * Return the PersistBatch mode to use for 'batchOnCascade' taking into account if the database
    * platform supports getGeneratedKeys in batch mode.
@@ -3128,6 +3524,56 @@ public class DatabaseConfig {
     this.notifyL2CacheInForeground = notifyL2CacheInForeground;
   }
 
+  /**
+   * Return the capacity of the bounded post commit queues (0 for unbounded via the background executor).
+   */
+  public int getPostCommitQueueSize() {
+    return postCommitQueueSize;
+  }
+
+  /**
+   * Set the capacity of the bounded post commit queues.
+   * <p>
+   * When set post commit processing uses staged bounded queues (L2 cache invalidation then
+   * persist listener, cluster and document store notification) each processed by their own
+   * thread rather than submitting a task per transaction to the background executor.
+   * </p>
+   */
+  public void setPostCommitQueueSize(int postCommitQueueSize) {
+    this.postCommitQueueSize = postCommitQueueSize;
+  }
+
+  /**
+   * Return the time in millis post commit events are collected such that they are processed together.
+   */
+  public int getPostCommitBatchWindowMillis() {
+    return postCommitBatchWindowMillis;
+  }
+
+  /**
+   * Set the time in millis post commit events are collected such that they are processed together.
+   * <p>
+   * Tables touched by many transactions in the window are then invalidated once.
+   * </p>
+   */
+  public void setPostCommitBatchWindowMillis(int postCommitBatchWindowMillis) {
+    this.postCommitBatchWindowMillis = postCommitBatchWindowMillis;
+  }
+
+  /**
+   * Return the behaviour when a post commit queue is full.
+   */
+  public PostCommitBackPressure getPostCommitBackPressure() {
+    return postCommitBackPressure;
+  }
+
+  /**
+   * Set the behaviour when a post commit queue is full. Defaults to BLOCK.
+   */
+  public void setPostCommitBackPressure(PostCommitBackPressure postCommitBackPressure) {
+    this.postCommitBackPressure = postCommitBackPressure;
+  }
+
   /**
    * Return the time to live for ebean's internal query plan.
    */
@@ -3145,6 +3591,41 @@ public class DatabaseConfig {
     this.queryPlanTTLSeconds = queryPlanTTLSeconds;
   }
 
+  /**
+   * Return the estimated memory in bytes that query plans can use across all bean types.
+   */
+  public long getQueryPlanCacheMaxBytes() {
+    return queryPlanCacheMaxBytes;
+  }
+
+  /**
+   * Set the estimated memory in bytes that query plans can use across all bean types.
+   * <p>
+   * When exceeded the least frequently and least recently used query plans are evicted.
+   * Set to 0 for no limit (query plans are then only trimmed based on queryPlanTTLSeconds).
+   * By default this is set to 50MB.
+   */
+  public void setQueryPlanCacheMaxBytes(long queryPlanCacheMaxBytes) {
+    this.queryPlanCacheMaxBytes = queryPlanCacheMaxBytes;
+  }
+
+  /**
+   * Return the max number of update plans cached per bean type.
+   */
+  public int getUpdatePlanCacheMaxSize() {
+    return updatePlanCacheMaxSize;
+  }
+
+  /**
+   * Set the max number of update plans cached per bean type.
+   * <p>
+   * Update plans are keyed by the set of dirty properties. When exceeded the least
+   * recently used update plans are evicted. Set to 0 for no limit. By default this is set to 1000.
+   */
+  public void setUpdatePlanCacheMaxSize(int updatePlanCacheMaxSize) {
+    this.updatePlanCacheMaxSize = updatePlanCacheMaxSize;
+  }
+
   /**
    * Create a new PlatformConfig based of the one held but with overridden properties by reading
    * properties with the given path and prefix.
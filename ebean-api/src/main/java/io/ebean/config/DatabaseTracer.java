@@ -0,0 +1,114 @@
+package io.ebean.config;
+
+/**
+ * Tracing of database work such as query execution, lazy loading, batch flush and commit.
+ * <p>
+ * Implement this to bridge to a tracing library such as OpenTelemetry. A span is started
+ * for each unit of work with attributes added and then ended. When no tracer is registered
+ * no spans are created.
+ * </p>
+ * <p>
+ * Register via {@link DatabaseConfig#setDatabaseTracer(DatabaseTracer)} or as a service
+ * via <code>ServiceLoader</code>.
+ * </p>
+ */
+public interface DatabaseTracer {
+
+  /**
+   * Attribute for the database name.
+   */
+  String DB_NAME = "db.name";
+
+  /**
+   * Attribute for the SQL statement.
+   */
+  String DB_STATEMENT = "db.statement";
+
+  /**
+   * Attribute for the entity or DTO bean type.
+   */
+  String TYPE = "ebean.type";
+
+  /**
+   * Attribute for the query label.
+   */
+  String LABEL = "ebean.label";
+
+  /**
+   * Attribute for the number of rows read.
+   */
+  String ROWS = "ebean.rows";
+
+  /**
+   * Attribute for the batch size (lazy loading and batch flush).
+   */
+  String BATCH = "ebean.batch";
+
+  /**
+   * The kind of work being traced.
+   */
+  enum Kind {
+
+    /**
+     * Query execution (ORM, SqlQuery and DtoQuery).
+     */
+    QUERY,
+
+    /**
+     * Lazy loading or secondary query batch.
+     */
+    LAZY_LOAD,
+
+    /**
+     * Flush of the JDBC batch.
+     */
+    BATCH_FLUSH,
+
+    /**
+     * Transaction commit.
+     */
+    COMMIT
+  }
+
+  /**
+   * Start a span given the start time as <code>System.nanoTime()</code>.
+   * <p>
+   * The start time can be in the past for work that has already executed (like a query
+   * that reports its execution time on completion).
+   * </p>
+   */
+  Span start(Kind kind, String name, long startNanos);
+
+  /**
+   * Start a span now.
+   */
+  default Span start(Kind kind, String name) {
+    return start(kind, name, System.nanoTime());
+  }
+
+  /**
+   * A started span that should be ended.
+   */
+  interface Span {
+
+    /**
+     * Add a string attribute (null values are ignored).
+     */
+    Span attribute(String key, String value);
+
+    /**
+     * Add a long attribute.
+     */
+    Span attribute(String key, long value);
+
+    /**
+     * Record that the work failed with the given exception.
+     */
+    void error(Throwable e);
+
+    /**
+     * End the span.
+     */
+    void end();
+  }
+}
@@ -0,0 +1,26 @@
+package io.ebean.config;
+
+/**
+ * The behaviour when a bounded post commit queue is full.
+ */
+public enum PostCommitBackPressure {
+
+  /**
+   * The committing thread blocks until there is space in the queue.
+   */
+  BLOCK,
+
+  /**
+   * Drop the L2 cache changes and instead clear all the L2 caches.
+   * <p>
+   * This only applies to the L2 cache invalidation stage. Persist listener, cluster and
+   * document store notification can not be dropped and use CALLER_RUNS instead.
+   * </p>
+   */
+  CLEAR_CACHE,
+
+  /**
+   * The committing thread performs the post commit processing itself.
+   */
+  CALLER_RUNS
+}
@@ -189,6 +189,27 @@ public class DatabasePlatform {
    */
   protected boolean forwardOnlyHintOnFindIterate;
 
+  /**
+   * If set then findIterate() with an implicit transaction on an autoCommit connection
+   * turns autoCommit off such that the JDBC fetch size is honoured (Postgres).
+   */
+  protected boolean autoCommitFalseOnFindIterate;
+
+  /**
+   * The max number of bind parameters used for a multi-row insert statement (0 when not supported).
+   */
+  protected int multiRowInsertMaxBind;
+
+  /**
+   * Set to true if getGeneratedKeys returns the keys for all rows of a multi-row insert.
+   */
+  protected boolean multiRowInsertGeneratedKeys;
+
+  /**
+   * Set to true if bulk insert can use COPY FROM STDIN (Postgres).
+   */
+  protected boolean copyInsert;
+
   /**
    * If set then use the CONCUR_UPDATABLE hint when creating ResultSets.
    * <p>
@@ -555,6 +576,77 @@ public class DatabasePlatform {
     this.forwardOnlyHintOnFindIterate = forwardOnlyHintOnFindIterate;
   }
 
+  /**
+   * Return true if findIterate() should turn off autoCommit on implicit transactions.
+   * <p>
+   * This is required for Postgres where the fetch size is ignored with autoCommit true
+   * and the entire ResultSet is otherwise read into memory.
+   * </p>
+   */
+  public boolean isAutoCommitFalseOnFindIterate() {
+    return autoCommitFalseOnFindIterate;
+  }
+
+  /**
+   * Set to true if findIterate() should turn off autoCommit on implicit transactions.
+   */
+  public void setAutoCommitFalseOnFindIterate(boolean autoCommitFalseOnFindIterate) {
+    this.autoCommitFalseOnFindIterate = autoCommitFalseOnFindIterate;
+  }
+
+  /**
+   * Return the max number of bind parameters used for a multi-row insert statement.
+   * <p>
+   * This determines the number of rows per statement when batched inserts use multi-row
+   * insert (<code>insert ... values (..),(..)</code>). Returns 0 when the platform
+   * does not support multi-row insert.
+   * </p>
+   */
+  public int getMultiRowInsertMaxBind() {
+    return multiRowInsertMaxBind;
+  }
+
+  /**
+   * Set the max number of bind parameters used for a multi-row insert statement (0 to disable).
+   */
+  public void setMultiRowInsertMaxBind(int multiRowInsertMaxBind) {
+    this.multiRowInsertMaxBind = multiRowInsertMaxBind;
+  }
+
+  /**
+   * Return true if getGeneratedKeys returns the keys for all rows of a multi-row insert.
+   * <p>
+   * When false, batched inserts that need generated keys use JDBC batch rather than multi-row insert.
+   * </p>
+   */
+  public boolean isMultiRowInsertGeneratedKeys() {
+    return multiRowInsertGeneratedKeys;
+  }
+
+  /**
+   * Set to true if getGeneratedKeys returns the keys for all rows of a multi-row insert.
+   */
+  public void setMultiRowInsertGeneratedKeys(boolean multiRowInsertGeneratedKeys) {
+    this.multiRowInsertGeneratedKeys = multiRowInsertGeneratedKeys;
+  }
+
+  /**
+   * Return true if bulk insert can use COPY FROM STDIN.
+   * <p>
+   * When false bulk insert falls back to batched inserts.
+   * </p>
+   */
+  public boolean isCopyInsert() {
+    return copyInsert;
+  }
+
+  /**
+   * Set to true if bulk insert can use COPY FROM STDIN.
+   */
+  public void setCopyInsert(boolean copyInsert) {
+    this.copyInsert = copyInsert;
+  }
+
   /**
    * Return true if the ResultSet CONCUR_UPDATABLE Hint should be used on
    * createNativeSqlTree() PreparedStatements.
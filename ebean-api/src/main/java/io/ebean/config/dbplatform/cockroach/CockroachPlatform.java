@@ -15,6 +15,8 @@ public class CockroachPlatform extends PostgresPlatform {
     this.likeSpecialCharacters = new char[]{'%', '_'};
     this.likeClauseRaw = "like ?";
     this.likeClauseEscaped = "like ?";
+    // bulk insert uses batched inserts
+    this.copyInsert = false;
   }
 
   /**
@@ -25,6 +25,8 @@ public class H2Platform extends DatabasePlatform {
     this.nativeUuidType = true;
     this.supportsDeleteTableAlias = true;
     this.inlineSqlUpdateLimit = true;
+    this.multiRowInsertMaxBind = 10_000;
+    this.multiRowInsertGeneratedKeys = true;
     this.dbDefaultValue.setNow("now()");
     this.exceptionTranslator =
       new SqlErrorCodes()
@@ -46,6 +46,8 @@ public abstract class BaseMySqlPlatform extends DatabasePlatform {
     this.likeClauseEscaped = "like ? escape'|'";
 
     this.forwardOnlyHintOnFindIterate = true;
+    this.multiRowInsertMaxBind = 10_000;
+    this.multiRowInsertGeneratedKeys = true;
     this.booleanDbType = Types.BIT;
 
     dbTypeMap.put(DbType.BIT, new DbPlatformType("tinyint(1)"));
@@ -41,6 +41,10 @@ public class PostgresPlatform extends DatabasePlatform {
     this.supportsNativeIlike = true;
     this.supportsDeleteTableAlias = true;
     this.selectCountWithAlias = true;
+    this.autoCommitFalseOnFindIterate = true;
+    this.multiRowInsertMaxBind = 10_000;
+    this.multiRowInsertGeneratedKeys = true;
+    this.copyInsert = true;
     this.blobDbType = Types.LONGVARBINARY;
     this.clobDbType = Types.VARCHAR;
     this.nativeUuidType = true;
@@ -27,6 +27,8 @@ abstract class SqlServerBasePlatform extends DatabasePlatform {
     // SQL Server unless we are using sequences
     this.persistBatchOnCascade = PersistBatch.NONE;
     this.idInExpandedForm = true;
+    // max 2100 bind parameters and getGeneratedKeys only returns the last key
+    this.multiRowInsertMaxBind = 2000;
     this.selectCountWithAlias = true;
     this.selectCountWithColumnAlias = true;
     this.sqlLimiter = new SqlServerSqlLimiter();
@@ -1,9 +1,13 @@
 package io.ebean.event.changelog;
 
+import java.io.Serializable;
+
 /**
  * A bean insert, update or delete change sent as part of a ChangeSet.
  */
-public class BeanChange {
+public class BeanChange implements Serializable {
+
+  private static final long serialVersionUID = -2290731497127643720L;
 
   /**
    * The underling base table name.
@@ -1,5 +1,7 @@
 package io.ebean.event.changelog;
 
+import java.util.List;
+
 /**
  * Listen for changes.
  * <p>
@@ -18,4 +20,18 @@ public interface ChangeLogListener {
    */
   void log(ChangeSet changeSet);
 
+  /**
+   * Log a batch of change sets in the order they were committed.
+   * <p>
+   * This is used when the change log is delivered in batches (see
+   * <code>DatabaseConfig.setChangeLogQueueSize()</code>) and by default calls
+   * {@link #log(ChangeSet)} for each change set.
+   * </p>
+   */
+  default void logBatch(List<ChangeSet> changeSets) {
+    for (ChangeSet changeSet : changeSets) {
+      log(changeSet);
+    }
+  }
+
 }
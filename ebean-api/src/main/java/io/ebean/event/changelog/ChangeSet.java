@@ -1,5 +1,6 @@
 package io.ebean.event.changelog;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -8,7 +9,9 @@ import java.util.Map;
 /**
  * Holds a set of changes.
  */
-public class ChangeSet {
+public class ChangeSet implements Serializable {
+
+  private static final long serialVersionUID = 2658463402934622561L;
 
   /**
    * A UUID transaction id specifically created for the change set.
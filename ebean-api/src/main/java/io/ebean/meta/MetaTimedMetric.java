@@ -31,6 +31,16 @@ public interface MetaTimedMetric extends MetaMetric {
    */
   long getMean();
 
+  /**
+   * Return the execution time in micros at the given percentile (0 to 100).
+   * <p>
+   * Returns -1 when percentiles are not collected for this metric.
+   * </p>
+   */
+  default long getPercentile(double percentile) {
+    return -1;
+  }
+
   /**
    * Return true if this is the first metrics collection for this query.
    * <p>
@@ -0,0 +1,19 @@
+package io.ebean.metric;
+
+import io.ebean.meta.MetricVisitor;
+
+/**
+ * Metric that reports a current value (like a queue depth) each time it is collected.
+ */
+public interface GaugeMetric {
+
+  /**
+   * Return the current value.
+   */
+  long get();
+
+  /**
+   * Visit the current value (reported as a count when non zero).
+   */
+  void visit(MetricVisitor visitor);
+}
@@ -2,6 +2,8 @@ package io.ebean.metric;
 
 import io.ebean.ProfileLocation;
 
+import java.util.function.LongSupplier;
+
 /**
  * Factory to create timed metric counters.
  */
@@ -29,6 +31,11 @@ public interface MetricFactory {
    */
   CountMetric createCountMetric(String name);
 
+  /**
+   * Create a gauge metric reporting the current value of the supplier.
+   */
+  GaugeMetric createGaugeMetric(String name, LongSupplier supplier);
+
   /**
    * Create a Timed metric.
    */
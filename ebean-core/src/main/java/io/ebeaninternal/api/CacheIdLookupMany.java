@@ -36,10 +36,11 @@ public class CacheIdLookupMany<T> implements CacheIdLookup<T> {
   @Override
   public List<T> removeHits(BeanCacheResult<T> cacheResult) {
 
-    Set<Object> hitIds = new HashSet<>();
-    List<T> beans = new ArrayList<>(hitIds.size());
+    List<BeanCacheResult.Entry<T>> hits = cacheResult.hits();
+    Set<Object> hitIds = new HashSet<>(hits.size() * 2);
+    List<T> beans = new ArrayList<>(hits.size());
 
-    for (BeanCacheResult.Entry<T> hit : cacheResult.hits()) {
+    for (BeanCacheResult.Entry<T> hit : hits) {
       hitIds.add(hit.getKey());
       beans.add(hit.getBean());
     }
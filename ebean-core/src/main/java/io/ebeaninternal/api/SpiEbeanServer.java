@@ -1,5 +1,6 @@
 package io.ebeaninternal.api;
 
+import io.ebean.ColumnBatch;
 import io.ebean.DtoQuery;
 import io.ebean.EbeanServer;
 import io.ebean.ExtendedServer;
@@ -12,19 +13,24 @@ import io.ebean.TxScope;
 import io.ebean.bean.BeanCollectionLoader;
 import io.ebean.bean.CallOrigin;
 import io.ebean.config.DatabaseConfig;
+import io.ebean.config.DatabaseTracer;
 import io.ebean.config.dbplatform.DatabasePlatform;
 import io.ebean.event.readaudit.ReadAuditLogger;
 import io.ebean.event.readaudit.ReadAuditPrepare;
 import io.ebean.meta.MetricVisitor;
+import io.ebean.text.json.JsonWriteOptions;
 import io.ebeaninternal.server.core.SpiResultSet;
 import io.ebeaninternal.server.core.timezone.DataTimeZone;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.query.CQuery;
 import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
 
+import java.io.Writer;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Service Provider extension to EbeanServer.
@@ -147,6 +153,18 @@ public interface SpiEbeanServer extends ExtendedServer, EbeanServer, BeanCollect
    */
   SpiTransaction createReadOnlyTransaction(Object tenantId);
 
+  /**
+   * Create a ServerTransaction for a query of the given tables.
+   * <p>
+   * The tables are used to route the query to a read replica taking into account
+   * tables that were recently modified.
+   * </p>
+   *
+   * @param tenantId For multi-tenant lazy loading provide the tenantId to use.
+   * @param tables   The tables the query reads (base and joined tables) or null when not known.
+   */
+  SpiTransaction createReadOnlyTransaction(Object tenantId, Set<String> tables);
+
   /**
    * An event from another server in the cluster used to notify local
    * BeanListeners of remote inserts updates and deletes.
@@ -214,6 +232,16 @@ public interface SpiEbeanServer extends ExtendedServer, EbeanServer, BeanCollect
    */
   void slowQueryCheck(long executionTimeMicros, int rowCount, SpiQuery<?> query);
 
+  /**
+   * Collect the query execution time for the tenant (when collecting per tenant metrics).
+   */
+  void collectTenantQuery(Object tenantId, long executionTimeMicros);
+
+  /**
+   * Return the tracer used to emit spans (null when not tracing).
+   */
+  DatabaseTracer getDatabaseTracer();
+
   /**
    * Start an enhanced transactional method.
    */
@@ -249,6 +277,11 @@ public interface SpiEbeanServer extends ExtendedServer, EbeanServer, BeanCollect
    */
   void findEachRow(SpiSqlQuery query, RowConsumer consumer);
 
+  /**
+   * SqlQuery find column batches with consumer.
+   */
+  void findColumnarBatches(SpiSqlQuery query, int batchSize, Consumer<ColumnBatch> consumer);
+
   /**
    * DTO findList query.
    */
@@ -269,11 +302,37 @@ public interface SpiEbeanServer extends ExtendedServer, EbeanServer, BeanCollect
    */
   <T> void findDtoEach(SpiDtoQuery<T> query, int batch, Consumer<List<T>> consumer);
 
+  /**
+   * DTO find column batches query.
+   */
+  <T> void findDtoColumnarBatches(SpiDtoQuery<T> query, int batchSize, Consumer<ColumnBatch> consumer);
+
   /**
    * DTO findEachWhile query.
    */
   <T> void findDtoEachWhile(SpiDtoQuery<T> query, Predicate<T> consumer);
 
+  /**
+   * Execute the query in parallel over id range partitions.
+   * <p>
+   * The transaction is only used when the query can not be partitioned.
+   * </p>
+   */
+  <T> void findEachParallel(SpiQuery<T> query, int partitions, Consumer<T> consumer, Transaction transaction);
+
+  /**
+   * Execute the query writing the results as a JSON array to the writer.
+   */
+  <T> void findJson(SpiQuery<T> query, Writer writer, JsonWriteOptions options, Transaction transaction);
+
+  /**
+   * Execute the query in parallel over id range partitions returning a Stream.
+   * <p>
+   * The transaction is only used when the query can not be partitioned.
+   * </p>
+   */
+  <T> Stream<T> findStreamParallel(SpiQuery<T> query, int partitions, Transaction transaction);
+
   /**
    * Return / wrap the ORM query as a DTO query.
    */
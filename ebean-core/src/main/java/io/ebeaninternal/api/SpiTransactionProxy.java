@@ -293,6 +293,11 @@ public abstract class SpiTransactionProxy implements SpiTransaction {
     return transaction.getBatchGetGeneratedKeys();
   }
 
+  @Override
+  public void setMultiRowInsert(boolean multiRowInsert) {
+    transaction.setMultiRowInsert(multiRowInsert);
+  }
+
   @Override
   public void setFlushOnMixed(boolean batchFlushOnMixed) {
     transaction.setFlushOnMixed(batchFlushOnMixed);
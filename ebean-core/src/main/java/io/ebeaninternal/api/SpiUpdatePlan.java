@@ -44,9 +44,9 @@ public interface SpiUpdatePlan {
   long getTimeLastUsed();
 
   /**
-   * Return the hash key for this plan.
+   * Return the key for this plan.
    */
-  String getKey();
+  UpdatePlanKey getKey();
 
   /**
    * Return the concurrency mode for this plan.
@@ -0,0 +1,293 @@
+package io.ebeaninternal.api;
+
+import io.ebean.meta.MetaCountMetric;
+import io.ebean.meta.MetaTimedMetric;
+import io.ebean.meta.MetricVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Metrics per tenant for query execution, transaction time, connection wait and L2 cache hits.
+ * <p>
+ * Metrics are reported for the top N tenants by cost (query, transaction and connection wait time)
+ * with the remaining tenants reported together as <code>tenant.other</code>. Up to 2N tenants are
+ * tracked as candidates and tenants beyond that record into the other bucket. On each collection
+ * with reset the candidates outside the top N are dropped making room for new tenants.
+ * </p>
+ * <p>
+ * Recording uses striped counters and does not allocate (except the first time a tenant is seen).
+ * </p>
+ */
+public final class TenantMetrics {
+
+  private static final String OTHER = "other";
+
+  private final int maxTenants;
+
+  private final Map<Object, Tenant> tenants = new ConcurrentHashMap<>();
+
+  private final Tenant other = new Tenant(OTHER);
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Create reporting the given number of top tenants.
+   */
+  public TenantMetrics(int maxTenants) {
+    this.maxTenants = maxTenants;
+  }
+
+  /**
+   * Return the tenant to record against.
+   */
+  private Tenant tenant(Object tenantId) {
+    if (tenantId == null) {
+      return other;
+    }
+    Tenant tenant = tenants.get(tenantId);
+    if (tenant != null) {
+      return tenant;
+    }
+    if (tenants.size() >= maxTenants * 2) {
+      return other;
+    }
+    return tenants.computeIfAbsent(tenantId, id -> new Tenant(String.valueOf(id)));
+  }
+
+  /**
+   * Add query execution time.
+   */
+  public void addQuery(Object tenantId, long micros) {
+    tenant(tenantId).query.add(micros);
+  }
+
+  /**
+   * Add transaction execution time.
+   */
+  public void addTransaction(Object tenantId, long micros) {
+    tenant(tenantId).txn.add(micros);
+  }
+
+  /**
+   * Add time waiting to obtain a connection.
+   */
+  public void addConnectionWait(Object tenantId, long micros) {
+    tenant(tenantId).connection.add(micros);
+  }
+
+  /**
+   * Add L2 cache hits and misses.
+   */
+  public void addCache(Object tenantId, int hits, int misses) {
+    Tenant tenant = tenant(tenantId);
+    if (hits > 0) {
+      tenant.cacheHit.add(hits);
+    }
+    if (misses > 0) {
+      tenant.cacheMiss.add(misses);
+    }
+  }
+
+  /**
+   * Visit the metrics of the top tenants and the other bucket.
+   */
+  public void visitMetrics(MetricVisitor visitor) {
+    lock.lock();
+    try {
+      boolean reset = visitor.isReset();
+      List<Snapshot> snapshots = new ArrayList<>(tenants.size());
+      for (Map.Entry<Object, Tenant> entry : tenants.entrySet()) {
+        snapshots.add(new Snapshot(entry.getKey(), entry.getValue(), reset));
+      }
+      snapshots.sort((s1, s2) -> Long.compare(s2.cost(), s1.cost()));
+
+      Snapshot otherSnapshot = new Snapshot(null, other, reset);
+      for (int i = 0; i < snapshots.size(); i++) {
+        Snapshot snapshot = snapshots.get(i);
+        if (i < maxTenants) {
+          snapshot.visit(visitor);
+        } else {
+          otherSnapshot.merge(snapshot);
+          if (reset) {
+            tenants.remove(snapshot.tenantId);
+          }
+        }
+      }
+      otherSnapshot.visit(visitor);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static final class Tenant {
+
+    final String name;
+    final Timed query = new Timed();
+    final Timed txn = new Timed();
+    final Timed connection = new Timed();
+    final LongAdder cacheHit = new LongAdder();
+    final LongAdder cacheMiss = new LongAdder();
+
+    Tenant(String name) {
+      this.name = name;
+    }
+  }
+
+  private static final class Timed {
+
+    final LongAdder count = new LongAdder();
+    final LongAdder total = new LongAdder();
+    final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    void add(long micros) {
+      count.increment();
+      total.add(micros);
+      max.accumulate(micros);
+    }
+  }
+
+  /**
+   * Collected values for a tenant.
+   */
+  private static final class Snapshot {
+
+    final Object tenantId;
+    final String name;
+    final TimedStats query;
+    final TimedStats txn;
+    final TimedStats connection;
+    final CountStats cacheHit;
+    final CountStats cacheMiss;
+
+    Snapshot(Object tenantId, Tenant tenant, boolean reset) {
+      this.tenantId = tenantId;
+      this.name = "tenant." + tenant.name;
+      this.query = new TimedStats(name + ".query", tenant.query, reset);
+      this.txn = new TimedStats(name + ".txn", tenant.txn, reset);
+      this.connection = new TimedStats(name + ".connection", tenant.connection, reset);
+      this.cacheHit = new CountStats(name + ".l2.hit", reset ? tenant.cacheHit.sumThenReset() : tenant.cacheHit.sum());
+      this.cacheMiss = new CountStats(name + ".l2.miss", reset ? tenant.cacheMiss.sumThenReset() : tenant.cacheMiss.sum());
+    }
+
+    long cost() {
+      return query.total + txn.total + connection.total;
+    }
+
+    void merge(Snapshot other) {
+      query.merge(other.query);
+      txn.merge(other.txn);
+      connection.merge(other.connection);
+      cacheHit.count += other.cacheHit.count;
+      cacheMiss.count += other.cacheMiss.count;
+    }
+
+    void visit(MetricVisitor visitor) {
+      query.visit(visitor);
+      txn.visit(visitor);
+      connection.visit(visitor);
+      cacheHit.visit(visitor);
+      cacheMiss.visit(visitor);
+    }
+  }
+
+  private static final class TimedStats implements MetaTimedMetric {
+
+    private final String name;
+    private long count;
+    private long total;
+    private long max;
+
+    TimedStats(String name, Timed timed, boolean reset) {
+      this.name = name;
+      if (reset) {
+        this.count = timed.count.sumThenReset();
+        this.total = timed.total.sumThenReset();
+        this.max = timed.max.getThenReset();
+      } else {
+        this.count = timed.count.sum();
+        this.total = timed.total.sum();
+        this.max = timed.max.get();
+      }
+    }
+
+    void merge(TimedStats other) {
+      count += other.count;
+      total += other.total;
+      max = Math.max(max, other.max);
+    }
+
+    void visit(MetricVisitor visitor) {
+      if (count > 0) {
+        visitor.visitTimed(this);
+      }
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public String getLocation() {
+      return null;
+    }
+
+    @Override
+    public long getCount() {
+      return count;
+    }
+
+    @Override
+    public long getTotal() {
+      return total;
+    }
+
+    @Override
+    public long getMax() {
+      return max;
+    }
+
+    @Override
+    public long getMean() {
+      return (count < 1) ? 0L : Math.round((double) total / count);
+    }
+
+    @Override
+    public boolean initialCollection() {
+      return false;
+    }
+  }
+
+  private static final class CountStats implements MetaCountMetric {
+
+    private final String name;
+    private long count;
+
+    CountStats(String name, long count) {
+      this.name = name;
+      this.count = count;
+    }
+
+    void visit(MetricVisitor visitor) {
+      if (count > 0) {
+        visitor.visitCount(this);
+      }
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public long getCount() {
+      return count;
+    }
+  }
+}
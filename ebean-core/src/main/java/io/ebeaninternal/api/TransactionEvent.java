@@ -10,7 +10,9 @@ import io.ebeanservice.docstore.api.DocStoreUpdates;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Holds information for a transaction. There is one TransactionEvent instance
@@ -38,6 +40,8 @@ public class TransactionEvent implements Serializable {
 
   private transient CacheChangeSet changeSet;
 
+  private transient Set<String> persistTables;
+
   /**
    * Create the TransactionEvent, one per Transaction.
    */
@@ -96,6 +100,23 @@ public class TransactionEvent implements Serializable {
     eventTables.add(table);
   }
 
+  /**
+   * Add the base table of a bean that was inserted, updated or deleted.
+   */
+  public void addPersistTable(String baseTable) {
+    if (persistTables == null) {
+      persistTables = new HashSet<>();
+    }
+    persistTables.add(baseTable);
+  }
+
+  /**
+   * Return the base tables of beans that were inserted, updated or deleted (can be null).
+   */
+  public Set<String> getPersistTables() {
+    return persistTables;
+  }
+
   /**
    * Add post commit listeners. Watch this for large transactions.
    */
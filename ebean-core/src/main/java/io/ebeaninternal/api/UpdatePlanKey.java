@@ -0,0 +1,48 @@
+package io.ebeaninternal.api;
+
+import java.util.Arrays;
+
+/**
+ * Key used for caching update plans.
+ * <p>
+ * This is a bit mask of the dirty (or loaded) properties of the bean along with flags
+ * for the version and publish such that no string is built per update.
+ * </p>
+ */
+public final class UpdatePlanKey {
+
+  private final long[] mask;
+
+  private final int hash;
+
+  public UpdatePlanKey(long[] mask) {
+    this.mask = mask;
+    this.hash = Arrays.hashCode(mask);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof UpdatePlanKey)) {
+      return false;
+    }
+    UpdatePlanKey other = (UpdatePlanKey) obj;
+    return hash == other.hash && Arrays.equals(mask, other.mask);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (long word : mask) {
+      sb.append(Long.toHexString(word)).append(':');
+    }
+    return sb.toString();
+  }
+}
@@ -81,4 +81,14 @@ public interface SpiJsonWriter extends JsonWriter {
    * Write the bean properties.
    */
   <T> void writeBean(BeanDescriptor<T> desc, EntityBean bean);
+
+  /**
+   * Return true if query rows can be written directly without building beans (no bean visitors).
+   */
+  boolean isRowWrite();
+
+  /**
+   * Return true if the property at the given path should be written based on the FetchPath.
+   */
+  boolean isIncludeProperty(String path, String propertyName);
 }
@@ -0,0 +1,85 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebeaninternal.server.cache.DefaultServerCache.CacheEntry;
+
+import java.util.Map;
+
+/**
+ * Eviction engine used by DefaultServerCache to bound the size of the cache.
+ * <p>
+ * The engine is notified of reads, writes and removals and enforces the max size
+ * as entries are written (rather than via periodic trimming).
+ * </p>
+ */
+public interface CacheEviction {
+
+  /**
+   * Record a cache hit for the given entry.
+   */
+  void onRead(CacheEntry entry);
+
+  /**
+   * Record an entry that has been put into the map (replacing an existing entry or null).
+   * <p>
+   * Returns the number of entries evicted in order to keep within the max size.
+   * </p>
+   */
+  int onWrite(CacheEntry entry, CacheEntry replaced);
+
+  /**
+   * Record an entry that has been removed from the map.
+   */
+  void onRemove(CacheEntry entry);
+
+  /**
+   * Clear the map and the eviction state.
+   * <p>
+   * This is atomic with respect to the writes recorded by the eviction such that an entry
+   * put concurrently is either cleared or remains in the map and is tracked.
+   * </p>
+   */
+  void clear();
+
+  /**
+   * Creates the eviction engine for a given cache.
+   */
+  interface Factory {
+
+    /**
+     * Create the eviction for the given map and max size.
+     */
+    CacheEviction create(Map<Object, CacheEntry> map, int maxSize);
+  }
+
+  /**
+   * No size bound.
+   */
+  final class None implements CacheEviction {
+
+    private final Map<Object, CacheEntry> map;
+
+    None(Map<Object, CacheEntry> map) {
+      this.map = map;
+    }
+
+    @Override
+    public void onRead(CacheEntry entry) {
+      // do nothing
+    }
+
+    @Override
+    public int onWrite(CacheEntry entry, CacheEntry replaced) {
+      return 0;
+    }
+
+    @Override
+    public void onRemove(CacheEntry entry) {
+      // do nothing
+    }
+
+    @Override
+    public void clear() {
+      map.clear();
+    }
+  }
+}
@@ -5,6 +5,7 @@ import io.ebean.cache.ServerCacheFactory;
 import io.ebean.cache.ServerCacheOptions;
 import io.ebean.config.CurrentTenantProvider;
 import io.ebean.config.DatabaseConfig;
+import io.ebeaninternal.api.TenantMetrics;
 import io.ebeaninternal.server.cluster.ClusterManager;
 
 /**
@@ -22,6 +23,8 @@ public class CacheManagerOptions {
 
   private QueryCacheEntryValidate queryCacheEntryValidate;
 
+  private TenantMetrics tenantMetrics;
+
   private ServerCacheFactory cacheFactory = new DefaultServerCacheFactory();
   private ServerCacheOptions beanDefault = new ServerCacheOptions();
   private ServerCacheOptions queryDefault = new ServerCacheOptions();
@@ -59,6 +62,11 @@ public class CacheManagerOptions {
     return this;
   }
 
+  public CacheManagerOptions with(TenantMetrics tenantMetrics) {
+    this.tenantMetrics = tenantMetrics;
+    return this;
+  }
+
   public String getServerName() {
     return (databaseConfig == null) ? "db" : databaseConfig.getName();
   }
@@ -90,4 +98,8 @@ public class CacheManagerOptions {
   public QueryCacheEntryValidate getQueryCacheEntryValidate() {
     return queryCacheEntryValidate;
   }
+
+  public TenantMetrics getTenantMetrics() {
+    return tenantMetrics;
+  }
 }
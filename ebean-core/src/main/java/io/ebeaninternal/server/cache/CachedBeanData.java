@@ -4,19 +4,26 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Data held in the bean cache for cached beans.
+ * <p>
+ * The property values are held in an array by position of the CachedBeanSchema with a
+ * bitmask of the loaded positions.
+ * </p>
  */
 public class CachedBeanData implements Externalizable {
 
   private long whenCreated;
   private long version;
   private String discValue;
-  private Map<String, Object> data;
+  private CachedBeanSchema schema;
+  private Object[] values;
+  private long[] loaded;
 
   /**
    * The sharable bean is effectively transient (near cache only).
@@ -24,13 +31,34 @@ public class CachedBeanData implements Externalizable {
   private transient Object sharableBean;
 
   /**
-   * Construct from a loaded bean.
+   * Construct from a loaded bean with the values by position of the schema.
    */
-  public CachedBeanData(Object sharableBean, String discValue, Map<String, Object> data, long version) {
+  public CachedBeanData(Object sharableBean, String discValue, CachedBeanSchema schema, Object[] values, long[] loaded, long version) {
     this.whenCreated = System.currentTimeMillis();
     this.sharableBean = sharableBean;
     this.discValue = discValue;
-    this.data = data;
+    this.schema = schema;
+    this.values = values;
+    this.loaded = loaded;
+    this.version = version;
+  }
+
+  /**
+   * Construct given the data keyed by property name.
+   */
+  public CachedBeanData(Object sharableBean, String discValue, Map<String, Object> data, long version) {
+    this(sharableBean, discValue, CachedBeanSchema.of(data.keySet().toArray(new String[0])), data.values().toArray(), allLoaded(data.size()), version);
+  }
+
+  /**
+   * Construct from binary encoded form.
+   */
+  CachedBeanData(String discValue, CachedBeanSchema schema, Object[] values, long[] loaded, long version, long whenCreated) {
+    this.whenCreated = whenCreated;
+    this.discValue = discValue;
+    this.schema = schema;
+    this.values = values;
+    this.loaded = loaded;
     this.version = version;
   }
 
@@ -40,6 +68,28 @@ public class CachedBeanData implements Externalizable {
   public CachedBeanData() {
   }
 
+  /**
+   * Return a new loaded bitmask for the given number of properties.
+   */
+  public static long[] newLoaded(int size) {
+    return new long[(size + 63) >>> 6];
+  }
+
+  private static long[] allLoaded(int size) {
+    long[] loaded = newLoaded(size);
+    for (int i = 0; i < size; i++) {
+      setLoaded(loaded, i);
+    }
+    return loaded;
+  }
+
+  /**
+   * Set the position as loaded in the bitmask.
+   */
+  public static void setLoaded(long[] loaded, int position) {
+    loaded[position >>> 6] |= 1L << position;
+  }
+
   @Override
   public void writeExternal(ObjectOutput out) throws IOException {
     out.writeLong(version);
@@ -49,10 +99,13 @@ public class CachedBeanData implements Externalizable {
     if (hasDisc) {
       out.writeUTF(discValue);
     }
-    out.writeInt(data.size());
-    for (Map.Entry<String, Object> entry : data.entrySet()) {
-      out.writeUTF(entry.getKey());
-      out.writeObject(entry.getValue());
+    out.writeLong(schema.getVersion());
+    out.writeInt(loadedCount());
+    for (int i = 0; i < values.length; i++) {
+      if (isLoaded(i)) {
+        out.writeUTF(schema.getName(i));
+        out.writeObject(values[i]);
+      }
     }
   }
 
@@ -63,18 +116,41 @@ public class CachedBeanData implements Externalizable {
     if (in.readBoolean()) {
       discValue = in.readUTF();
     }
-    data = new LinkedHashMap<>();
+    long schemaVersion = in.readLong();
     int count = in.readInt();
+    List<String> names = new ArrayList<>(count);
+    List<Object> read = new ArrayList<>(count);
     for (int i = 0; i < count; i++) {
-      String key = in.readUTF();
-      Object val = in.readObject();
-      data.put(key, val);
+      names.add(in.readUTF());
+      read.add(in.readObject());
+    }
+    CachedBeanSchema registered = CachedBeanSchema.forVersion(schemaVersion);
+    if (registered != null) {
+      readBySchema(registered, names, read);
+    } else {
+      // schema not registered in this JVM so use the names as the schema
+      schema = CachedBeanSchema.of(names.toArray(new String[0]));
+      values = read.toArray();
+      loaded = allLoaded(count);
+    }
+  }
+
+  private void readBySchema(CachedBeanSchema registered, List<String> names, List<Object> read) {
+    schema = registered;
+    values = new Object[registered.size()];
+    loaded = newLoaded(registered.size());
+    for (int i = 0; i < names.size(); i++) {
+      int position = registered.position(names.get(i));
+      if (position > -1) {
+        values[position] = read.get(i);
+        setLoaded(loaded, position);
+      }
     }
   }
 
   @Override
   public String toString() {
-    return data.toString();
+    return getData().toString();
   }
 
   /**
@@ -83,10 +159,20 @@ public class CachedBeanData implements Externalizable {
    */
   public CachedBeanData update(Map<String, Object> changes, long version) {
 
-    Map<String, Object> copy = new HashMap<>();
-    copy.putAll(data);
-    copy.putAll(changes);
-    return new CachedBeanData(null, discValue, copy, version);
+    Object[] copyValues = values.clone();
+    long[] copyLoaded = loaded.clone();
+    for (Map.Entry<String, Object> entry : changes.entrySet()) {
+      int position = schema.position(entry.getKey());
+      if (position == -1) {
+        // property not in the schema so fallback to using the names
+        Map<String, Object> copy = getData();
+        copy.putAll(changes);
+        return new CachedBeanData(null, discValue, copy, version);
+      }
+      copyValues[position] = entry.getValue();
+      setLoaded(copyLoaded, position);
+    }
+    return new CachedBeanData(null, discValue, schema, copyValues, copyLoaded, version);
   }
 
   /**
@@ -117,24 +203,71 @@ public class CachedBeanData implements Externalizable {
     return sharableBean;
   }
 
+  /**
+   * Return the schema the values are held by.
+   */
+  public CachedBeanSchema getSchema() {
+    return schema;
+  }
+
+  /**
+   * Return the loaded bitmask.
+   */
+  long[] getLoaded() {
+    return loaded;
+  }
+
+  /**
+   * Return the number of loaded properties.
+   */
+  int loadedCount() {
+    int count = 0;
+    for (long word : loaded) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * Return true if the property at the given schema position is held.
+   */
+  public boolean isLoaded(int position) {
+    return (loaded[position >>> 6] & (1L << position)) != 0;
+  }
+
+  /**
+   * Return the value at the given schema position.
+   */
+  public Object getValue(int position) {
+    return values[position];
+  }
+
   /**
    * Return true if the property is held.
    */
   public boolean isLoaded(String propertyName) {
-    return data.containsKey(propertyName);
+    int position = schema.position(propertyName);
+    return position > -1 && isLoaded(position);
   }
 
   /**
    * Return the value for a given property name.
    */
   public Object getData(String propertyName) {
-    return data.get(propertyName);
+    int position = schema.position(propertyName);
+    return position > -1 ? values[position] : null;
   }
 
   /**
-   * Return all the property data.
+   * Return all the property data (loaded properties keyed by name).
    */
   public Map<String, Object> getData() {
+    Map<String, Object> data = new LinkedHashMap<>();
+    for (int i = 0; i < values.length; i++) {
+      if (isLoaded(i)) {
+        data.put(schema.getName(i), values[i]);
+      }
+    }
     return data;
   }
 }
@@ -4,45 +4,36 @@ import io.ebean.bean.EntityBean;
 import io.ebean.bean.EntityBeanIntercept;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.BeanProperty;
-import io.ebeaninternal.server.deploy.BeanPropertyAssocMany;
-
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 public class CachedBeanDataFromBean {
 
   public static CachedBeanData extract(BeanDescriptor<?> desc, EntityBean bean) {
 
     EntityBeanIntercept ebi = bean._ebean_getIntercept();
-    Map<String, Object> data = new LinkedHashMap<>();
-
-    BeanProperty idProperty = desc.getIdProperty();
-    if (idProperty != null) {
-      int propertyIndex = idProperty.getPropertyIndex();
-      if (ebi.isLoadedProperty(propertyIndex)) {
-        data.put(idProperty.getName(), idProperty.getCacheDataValue(bean));
-      }
-    }
+    BeanProperty[] props = desc.propertiesCache();
+    Object[] values = new Object[props.length];
+    long[] loaded = CachedBeanData.newLoaded(props.length);
 
-    // extract all the non-many properties
+    // extract by position of the cache schema
     final boolean dirty = ebi.isDirty();
-    for (BeanProperty prop : desc.propertiesNonMany()) {
-      if (dirty && ebi.isDirtyProperty(prop.getPropertyIndex())) {
-        data.put(prop.getName(), prop.getCacheDataValueOrig(ebi));
+    for (int i = 0; i < props.length; i++) {
+      BeanProperty prop = props[i];
+      if (prop.isMany()) {
+        // element collection
+        values[i] = prop.getCacheDataValue(bean);
+        CachedBeanData.setLoaded(loaded, i);
+      } else if (dirty && !prop.isId() && ebi.isDirtyProperty(prop.getPropertyIndex())) {
+        values[i] = prop.getCacheDataValueOrig(ebi);
+        CachedBeanData.setLoaded(loaded, i);
       } else if (ebi.isLoadedProperty(prop.getPropertyIndex())) {
-        data.put(prop.getName(), prop.getCacheDataValue(bean));
-      }
-    }
-
-    for (BeanPropertyAssocMany<?> prop : desc.propertiesMany()) {
-      if (prop.isElementCollection()) {
-        data.put(prop.getName(), prop.getCacheDataValue(bean));
+        values[i] = prop.getCacheDataValue(bean);
+        CachedBeanData.setLoaded(loaded, i);
       }
     }
 
     long version = desc.getVersion(bean);
     EntityBean sharableBean = createSharableBean(desc, bean, ebi);
-    return new CachedBeanData(sharableBean, desc.getDiscValue(), data, version);
+    return new CachedBeanData(sharableBean, desc.getDiscValue(), desc.getCacheSchema(), values, loaded, version);
   }
 
   private static EntityBean createSharableBean(BeanDescriptor<?> desc, EntityBean bean, EntityBeanIntercept beanEbi) {
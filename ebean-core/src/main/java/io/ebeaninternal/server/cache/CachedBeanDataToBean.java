@@ -16,25 +16,27 @@ public class CachedBeanDataToBean {
     // any future lazy loading skips L2 bean cache
     ebi.setLoadedFromCache(true);
 
-    BeanProperty idProperty = desc.getIdProperty();
     if (desc.getInheritInfo() != null) {
         desc = desc.getInheritInfo().readType(bean.getClass()).desc();
     }
 
-    if (idProperty != null) {
-      // load the id property
-      loadProperty(bean, cacheBeanData, ebi, idProperty, context);
-    }
-
-    // load the non-many properties
-    for (BeanProperty prop : desc.propertiesNonMany()) {
-      loadProperty(bean, cacheBeanData, ebi, prop, context);
+    if (cacheBeanData.getSchema() == desc.getCacheSchema()) {
+      // straight copy by position of the cache schema
+      BeanProperty[] props = desc.propertiesCache();
+      for (int i = 0; i < props.length; i++) {
+        if (cacheBeanData.isLoaded(i) && !ebi.isLoadedProperty(props[i].getPropertyIndex())) {
+          props[i].setCacheDataValue(bean, cacheBeanData.getValue(i), context);
+        }
+      }
+    } else {
+      // data from a different schema (e.g. a super type) so load by property name
+      for (BeanProperty prop : desc.propertiesCache()) {
+        loadProperty(bean, cacheBeanData, ebi, prop, context);
+      }
     }
 
     for (BeanPropertyAssocMany<?> prop : desc.propertiesMany()) {
-      if (prop.isElementCollection()) {
-        loadProperty(bean, cacheBeanData, ebi, prop, context);
-      } else {
+      if (!prop.isElementCollection()) {
         prop.createReferenceIfNull(bean);
       }
     }
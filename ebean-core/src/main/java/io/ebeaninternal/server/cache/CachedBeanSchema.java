@@ -0,0 +1,129 @@
+package io.ebeaninternal.server.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The property layout of CachedBeanData.
+ * <p>
+ * The cached values are held in an array by position of the schema. A BeanDescriptor
+ * registers its schema on deployment such that bean data can be hydrated by position.
+ * The schema version is derived from the property names and types so that data encoded
+ * by a different deployment (unknown version) is detected on read and treated as a miss.
+ * </p>
+ * <p>
+ * Schemas for ad hoc data (keyed by name rather than from a BeanDescriptor) are not
+ * registered such that they do not accumulate in the registry.
+ * </p>
+ */
+public final class CachedBeanSchema {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  /**
+   * Registered schemas by version.
+   */
+  private static final Map<Long, CachedBeanSchema> registry = new ConcurrentHashMap<>();
+
+  private final long version;
+
+  private final String[] names;
+
+  private final Map<String, Integer> positions;
+
+  private final boolean registered;
+
+  private CachedBeanSchema(long version, String[] names, boolean registered) {
+    this.version = version;
+    this.names = names;
+    this.registered = registered;
+    this.positions = new HashMap<>(names.length * 2);
+    for (int i = 0; i < names.length; i++) {
+      positions.put(names[i], i);
+    }
+  }
+
+  /**
+   * Register and return the schema for the given property names and types (of a BeanDescriptor).
+   */
+  public static CachedBeanSchema register(String[] names, Class<?>[] types) {
+    long version = version(names, types);
+    return registry.computeIfAbsent(version, v -> new CachedBeanSchema(v, names.clone(), true));
+  }
+
+  /**
+   * Return an unregistered schema for ad hoc data with the given property names.
+   */
+  public static CachedBeanSchema of(String[] names) {
+    return new CachedBeanSchema(version(names, null), names.clone(), false);
+  }
+
+  /**
+   * Return the schema for the given version or null if it is not registered.
+   */
+  static CachedBeanSchema forVersion(long version) {
+    return registry.get(version);
+  }
+
+  private static long version(String[] names, Class<?>[] types) {
+    long hash = FNV_OFFSET;
+    for (int i = 0; i < names.length; i++) {
+      hash = hash(hash, names[i]);
+      hash = hash(hash, types == null ? null : types[i].getName());
+    }
+    return hash;
+  }
+
+  private static long hash(long hash, String value) {
+    if (value != null) {
+      for (int i = 0; i < value.length(); i++) {
+        hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+      }
+    }
+    return (hash ^ 0xFFFF) * FNV_PRIME;
+  }
+
+  /**
+   * Return the schema version.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Return true if the schema is registered (and can be found by version).
+   */
+  public boolean isRegistered() {
+    return registered;
+  }
+
+  /**
+   * Return the number of properties.
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Return the property name at the given position.
+   */
+  public String getName(int position) {
+    return names[position];
+  }
+
+  /**
+   * Return the position of the given property or -1 if it is not part of the schema.
+   */
+  public int position(String name) {
+    Integer position = positions.get(name);
+    return position == null ? -1 : position;
+  }
+
+  @Override
+  public String toString() {
+    return "schema:" + Long.toHexString(version) + " " + String.join(",", names);
+  }
+}
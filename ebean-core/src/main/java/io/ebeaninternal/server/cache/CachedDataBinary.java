@@ -0,0 +1,350 @@
+package io.ebeaninternal.server.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary format for bean cache data (for use by remote and off heap caches).
+ * <p>
+ * Unlike java serialisation there is no stream header or class descriptors. Lengths and
+ * numbers are written as varints and values are tagged by type. The cache data values
+ * are mostly already in String form (via ScalarType format()) or byte[] for binary types.
+ * </p>
+ * <p>
+ * The first byte is the format version. Data written with a different version (including
+ * data written using java serialisation) is detected on read and returned as null such that
+ * the entry can be treated as a cache miss and evicted.
+ * </p>
+ * <p>
+ * Bean data is written as the schema version, the loaded bitmask and the loaded values by
+ * position. Bean data with a schema that is not registered (e.g. written by a different
+ * deployment) is likewise returned as null. The property names are only written for ad hoc
+ * (unregistered) schemas.
+ * </p>
+ */
+public final class CachedDataBinary {
+
+  /**
+   * The current format version.
+   */
+  public static final byte VERSION = 4;
+
+  private static final int TAG_NULL = 0;
+  private static final int TAG_STRING = 1;
+  private static final int TAG_BYTES = 2;
+  private static final int TAG_LONG = 3;
+  private static final int TAG_INT = 4;
+  private static final int TAG_BOOLEAN_TRUE = 5;
+  private static final int TAG_BOOLEAN_FALSE = 6;
+  private static final int TAG_DOUBLE = 7;
+  private static final int TAG_UUID = 8;
+  private static final int TAG_DECIMAL = 9;
+  private static final int TAG_BEAN_DATA = 10;
+  private static final int TAG_BEAN_ID = 11;
+  private static final int TAG_SERIALIZED = 12;
+
+  private CachedDataBinary() {
+  }
+
+  /**
+   * Write the bean data including the version byte.
+   */
+  public static void writeBeanData(DataOutput out, CachedBeanData data) throws IOException {
+    out.writeByte(VERSION);
+    writeBeanDataContent(out, data);
+  }
+
+  /**
+   * Read the bean data returning null if the data was written with a different version.
+   */
+  public static CachedBeanData readBeanData(DataInput in) throws IOException {
+    if (in.readByte() != VERSION) {
+      return null;
+    }
+    try {
+      return readBeanDataContent(in);
+    } catch (UnknownSchema e) {
+      return null;
+    }
+  }
+
+  /**
+   * Write the many ids including the version byte.
+   */
+  public static void writeManyIds(DataOutput out, CachedManyIds manyIds) throws IOException {
+    out.writeByte(VERSION);
+    List<Object> idList = manyIds.getIdList();
+    writeVarInt(out, idList.size());
+    for (Object id : idList) {
+      writeValue(out, id);
+    }
+  }
+
+  /**
+   * Read the many ids returning null if the data was written with a different version.
+   */
+  public static CachedManyIds readManyIds(DataInput in) throws IOException {
+    if (in.readByte() != VERSION) {
+      return null;
+    }
+    int size = readVarInt(in);
+    List<Object> idList = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      idList.add(readValue(in));
+    }
+    return new CachedManyIds(idList);
+  }
+
+  private static void writeBeanDataContent(DataOutput out, CachedBeanData data) throws IOException {
+    writeVarLong(out, data.getVersion());
+    writeVarLong(out, data.getWhenCreated());
+    writeString(out, data.getDiscValue());
+    writeSchema(out, data.getSchema());
+    long[] loaded = data.getLoaded();
+    writeVarInt(out, loaded.length);
+    for (long word : loaded) {
+      writeVarLong(out, word);
+    }
+    int size = data.getSchema().size();
+    for (int i = 0; i < size; i++) {
+      if (data.isLoaded(i)) {
+        writeValue(out, data.getValue(i));
+      }
+    }
+  }
+
+  private static CachedBeanData readBeanDataContent(DataInput in) throws IOException {
+    long version = readVarLong(in);
+    long whenCreated = readVarLong(in);
+    String discValue = readString(in);
+    CachedBeanSchema schema = readSchema(in);
+    int words = readVarInt(in);
+    if (schema == null || words != CachedBeanData.newLoaded(schema.size()).length) {
+      throw new UnknownSchema();
+    }
+    long[] loaded = new long[words];
+    for (int i = 0; i < words; i++) {
+      loaded[i] = readVarLong(in);
+    }
+    Object[] values = new Object[schema.size()];
+    CachedBeanData data = new CachedBeanData(discValue, schema, values, loaded, version, whenCreated);
+    for (int i = 0; i < values.length; i++) {
+      if (data.isLoaded(i)) {
+        values[i] = readValue(in);
+      }
+    }
+    return data;
+  }
+
+  /**
+   * Write the schema version followed by the number of names plus one and the names for an
+   * unregistered schema or 0 for a registered schema.
+   */
+  private static void writeSchema(DataOutput out, CachedBeanSchema schema) throws IOException {
+    out.writeLong(schema.getVersion());
+    if (schema.isRegistered()) {
+      writeVarInt(out, 0);
+    } else {
+      writeVarInt(out, schema.size() + 1);
+      for (int i = 0; i < schema.size(); i++) {
+        writeString(out, schema.getName(i));
+      }
+    }
+  }
+
+  private static CachedBeanSchema readSchema(DataInput in) throws IOException {
+    long schemaVersion = in.readLong();
+    int count = readVarInt(in);
+    if (count == 0) {
+      return CachedBeanSchema.forVersion(schemaVersion);
+    }
+    String[] names = new String[count - 1];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = readString(in);
+    }
+    return CachedBeanSchema.of(names);
+  }
+
+  private static void writeValue(DataOutput out, Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(TAG_NULL);
+    } else if (value instanceof String) {
+      out.writeByte(TAG_STRING);
+      writeString(out, (String) value);
+    } else if (value instanceof byte[]) {
+      byte[] bytes = (byte[]) value;
+      out.writeByte(TAG_BYTES);
+      writeVarInt(out, bytes.length);
+      out.write(bytes);
+    } else if (value instanceof Long) {
+      out.writeByte(TAG_LONG);
+      writeVarLong(out, zigZag((Long) value));
+    } else if (value instanceof Integer) {
+      out.writeByte(TAG_INT);
+      writeVarLong(out, zigZag((Integer) value));
+    } else if (value instanceof Boolean) {
+      out.writeByte((Boolean) value ? TAG_BOOLEAN_TRUE : TAG_BOOLEAN_FALSE);
+    } else if (value instanceof Double) {
+      out.writeByte(TAG_DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (value instanceof UUID) {
+      UUID uuid = (UUID) value;
+      out.writeByte(TAG_UUID);
+      out.writeLong(uuid.getMostSignificantBits());
+      out.writeLong(uuid.getLeastSignificantBits());
+    } else if (value instanceof BigDecimal) {
+      out.writeByte(TAG_DECIMAL);
+      writeString(out, value.toString());
+    } else if (value instanceof CachedBeanData) {
+      out.writeByte(TAG_BEAN_DATA);
+      writeBeanDataContent(out, (CachedBeanData) value);
+    } else if (value instanceof CachedBeanId) {
+      CachedBeanId beanId = (CachedBeanId) value;
+      out.writeByte(TAG_BEAN_ID);
+      writeString(out, beanId.getDiscValue());
+      writeValue(out, beanId.getId());
+    } else {
+      out.writeByte(TAG_SERIALIZED);
+      byte[] bytes = serialize(value);
+      writeVarInt(out, bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private static Object readValue(DataInput in) throws IOException {
+    int tag = in.readByte();
+    switch (tag) {
+      case TAG_NULL:
+        return null;
+      case TAG_STRING:
+        return readString(in);
+      case TAG_BYTES:
+        return readBytes(in);
+      case TAG_LONG:
+        return unZigZag(readVarLong(in));
+      case TAG_INT:
+        return (int) unZigZag(readVarLong(in));
+      case TAG_BOOLEAN_TRUE:
+        return Boolean.TRUE;
+      case TAG_BOOLEAN_FALSE:
+        return Boolean.FALSE;
+      case TAG_DOUBLE:
+        return in.readDouble();
+      case TAG_UUID:
+        return new UUID(in.readLong(), in.readLong());
+      case TAG_DECIMAL:
+        return new BigDecimal(readString(in));
+      case TAG_BEAN_DATA:
+        return readBeanDataContent(in);
+      case TAG_BEAN_ID:
+        return new CachedBeanId(readString(in), readValue(in));
+      case TAG_SERIALIZED:
+        return deserialize(readBytes(in));
+      default:
+        throw new IOException("Unexpected value tag " + tag);
+    }
+  }
+
+  private static byte[] serialize(Object value) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(os)) {
+      oos.writeObject(value);
+    }
+    return os.toByteArray();
+  }
+
+  private static Object deserialize(byte[] bytes) throws IOException {
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return ois.readObject();
+    } catch (ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static void writeString(DataOutput out, String value) throws IOException {
+    if (value == null) {
+      writeVarInt(out, 0);
+    } else {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      // length + 1 such that 0 represents null
+      writeVarInt(out, bytes.length + 1);
+      out.write(bytes);
+    }
+  }
+
+  private static String readString(DataInput in) throws IOException {
+    int len = readVarInt(in);
+    if (len == 0) {
+      return null;
+    }
+    byte[] bytes = new byte[len - 1];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static byte[] readBytes(DataInput in) throws IOException {
+    byte[] bytes = new byte[readVarInt(in)];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  static void writeVarInt(DataOutput out, int value) throws IOException {
+    writeVarLong(out, value & 0xFFFFFFFFL);
+  }
+
+  static int readVarInt(DataInput in) throws IOException {
+    return (int) readVarLong(in);
+  }
+
+  static void writeVarLong(DataOutput out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  static long readVarLong(DataInput in) throws IOException {
+    long value = 0;
+    int shift = 0;
+    while (shift < 64) {
+      byte b = in.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+      shift += 7;
+    }
+    throw new IOException("Malformed varint");
+  }
+
+  /**
+   * The bean data schema is not registered in this JVM.
+   */
+  private static final class UnknownSchema extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    UnknownSchema() {
+      super("Unknown cache data schema");
+    }
+  }
+}
@@ -12,6 +12,7 @@ import io.ebean.cache.ServerCacheType;
 import io.ebean.config.CurrentTenantProvider;
 import io.ebean.meta.MetricVisitor;
 import io.ebean.util.AnnotationUtil;
+import io.ebeaninternal.api.TenantMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +37,7 @@ class DefaultCacheHolder {
   private final ServerCacheOptions queryDefault;
   private final CurrentTenantProvider tenantProvider;
   private final QueryCacheEntryValidate queryCacheEntryValidate;
+  private final TenantMetrics tenantMetrics;
 
   DefaultCacheHolder(CacheManagerOptions builder) {
     this.cacheFactory = builder.getCacheFactory();
@@ -43,6 +45,7 @@ class DefaultCacheHolder {
     this.queryDefault = builder.getQueryDefault();
     this.tenantProvider = builder.getCurrentTenantProvider();
     this.queryCacheEntryValidate = builder.getQueryCacheEntryValidate();
+    this.tenantMetrics = builder.getTenantMetrics();
   }
 
   void visitMetrics(MetricVisitor visitor) {
@@ -92,7 +95,11 @@ class DefaultCacheHolder {
         lock.unlock();
       }
     }
-    return cacheFactory.createCache(new ServerCacheConfig(type, key, shortName, options, tenantProvider, queryCacheEntryValidate));
+    ServerCache cache = cacheFactory.createCache(new ServerCacheConfig(type, key, shortName, options, tenantProvider, queryCacheEntryValidate));
+    if (tenantMetrics != null && tenantProvider != null) {
+      return new TenantMetricsServerCache(cache, tenantProvider, tenantMetrics);
+    }
+    return cache;
   }
 
   void clearAll() {
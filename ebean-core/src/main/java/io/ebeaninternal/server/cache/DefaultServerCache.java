@@ -10,19 +10,16 @@ import io.ebean.metric.MetricFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
  * The default cache implementation.
  * <p>
- * It is base on ConcurrentHashMap with periodic trimming using a TimerTask.
- * The periodic trimming means that an LRU list does not have to be maintained.
+ * It is based on ConcurrentHashMap with the max size enforced on write by a
+ * CacheEviction engine (W-TinyLFU by default). Periodic trimming is used only
+ * for idle and time to live expiry.
  * </p>
  */
 public class DefaultServerCache implements ServerCache {
@@ -30,14 +27,14 @@ public class DefaultServerCache implements ServerCache {
   protected static final Logger logger = LoggerFactory.getLogger(DefaultServerCache.class);
 
   /**
-   * Compare by last access time (for LRU eviction).
+   * The underlying map (ConcurrentHashMap or similar)
    */
-  public static final CompareByLastAccess BY_LAST_ACCESS = new CompareByLastAccess();
+  protected final Map<Object, CacheEntry> map;
 
   /**
-   * The underlying map (ConcurrentHashMap or similar)
+   * Eviction engine enforcing the max size.
    */
-  protected final Map<Object, CacheEntry> map;
+  protected final CacheEviction eviction;
 
   protected final CountMetric hitCount;
   protected final CountMetric missCount;
@@ -68,6 +65,7 @@ public class DefaultServerCache implements ServerCache {
     this.maxIdleSecs = config.getMaxIdleSecs();
     this.maxSecsToLive = config.getMaxSecsToLive();
     this.trimFrequency = config.determineTrimFrequency();
+    this.eviction = config.createEviction();
 
     MetricFactory factory = MetricFactory.get();
 
@@ -162,7 +160,7 @@ public class DefaultServerCache implements ServerCache {
   @Override
   public void clear() {
     clearCount.increment();
-    map.clear();
+    eviction.clear();
   }
 
   /**
@@ -184,6 +182,7 @@ public class DefaultServerCache implements ServerCache {
       return null;
     } else {
       hitCount.increment();
+      eviction.onRead(entry);
       return unwrapEntry(entry);
     }
   }
@@ -213,8 +212,19 @@ public class DefaultServerCache implements ServerCache {
   @Override
   public void put(Object id, Object value) {
     Object key = key(id);
-    map.put(key, new CacheEntry(key, value));
+    putEntry(new CacheEntry(key, value));
+  }
+
+  /**
+   * Put the entry into the map enforcing the max size.
+   */
+  protected void putEntry(CacheEntry entry) {
+    CacheEntry replaced = map.put(entry.getKey(), entry);
     putCount.increment();
+    int evicted = eviction.onWrite(entry, replaced);
+    if (evicted > 0) {
+      evictCount.add(evicted);
+    }
   }
 
   /**
@@ -222,8 +232,16 @@ public class DefaultServerCache implements ServerCache {
    */
   @Override
   public void remove(Object id) {
-    CacheEntry entry = map.remove(key(id));
+    removeEntry(key(id));
+  }
+
+  /**
+   * Remove the entry with the given (tenant aware) key.
+   */
+  protected void removeEntry(Object key) {
+    CacheEntry entry = map.remove(key);
     if (entry != null) {
+      eviction.onRemove(entry);
       removeCount.increment();
     }
   }
@@ -237,28 +255,14 @@ public class DefaultServerCache implements ServerCache {
   }
 
   /**
-   * Return the size to trim to based on the max size.
+   * Run the eviction based on Idle time and Time to live.
    * <p>
-   * This returns 90% of the max size.
+   * The max size is enforced on write by the CacheEviction engine.
    * </p>
    */
-  protected int getTrimSize() {
-    return (maxSize * 90 / 100);
-  }
-
-  /**
-   * Run the eviction based on Idle time, Time to live and LRU last access.
-   */
   public void runEviction() {
 
-    long trimForMaxSize;
-    if (maxSize == 0) {
-      trimForMaxSize = 0;
-    } else {
-      trimForMaxSize = size() - maxSize;
-    }
-
-    if (maxIdleSecs == 0 && maxSecsToLive == 0 && trimForMaxSize < 0) {
+    if (maxIdleSecs == 0 && maxSecsToLive == 0) {
       // nothing to trim on this cache
       return;
     }
@@ -267,9 +271,6 @@ public class DefaultServerCache implements ServerCache {
 
     long trimmedByIdle = 0;
     long trimmedByTTL = 0;
-    long trimmedByLRU = 0;
-
-    List<CacheEntry> activeList = new ArrayList<>(map.size());
 
     long idleExpireNano = startNanos - TimeUnit.SECONDS.toNanos(maxIdleSecs);
     long ttlExpireNano = startNanos - TimeUnit.SECONDS.toNanos(maxSecsToLive);
@@ -279,38 +280,23 @@ public class DefaultServerCache implements ServerCache {
       CacheEntry cacheEntry = it.next();
       if (maxIdleSecs > 0 && idleExpireNano > cacheEntry.getLastAccessTime()) {
         it.remove();
+        eviction.onRemove(cacheEntry);
         trimmedByIdle++;
 
       } else if (maxSecsToLive > 0 && ttlExpireNano > cacheEntry.getCreateTime()) {
         it.remove();
+        eviction.onRemove(cacheEntry);
         trimmedByTTL++;
-
-      } else if (trimForMaxSize > 0) {
-        activeList.add(cacheEntry);
-      }
-    }
-
-    if (trimForMaxSize > 0) {
-      trimmedByLRU = activeList.size() - maxSize;
-      if (trimmedByLRU > 0) {
-        // sort into last access time ascending
-        activeList.sort(BY_LAST_ACCESS);
-        int trimSize = getTrimSize();
-        for (int i = trimSize; i < activeList.size(); i++) {
-          // remove if still in the cache
-          map.remove(activeList.get(i).getKey());
-        }
       }
     }
 
     evictCount.add(trimmedByIdle);
     evictCount.add(trimmedByTTL);
-    evictCount.add(trimmedByLRU);
 
     if (logger.isTraceEnabled()) {
       long exeMicros = TimeUnit.MICROSECONDS.convert(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
-      logger.trace("Executed trim of cache {} in [{}]millis idle[{}] timeToLive[{}] accessTime[{}]"
-        , name, exeMicros, trimmedByIdle, trimmedByTTL, trimmedByLRU);
+      logger.trace("Executed trim of cache {} in [{}]micros idle[{}] timeToLive[{}]"
+        , name, exeMicros, trimmedByIdle, trimmedByTTL);
     }
   }
 
@@ -325,19 +311,6 @@ public class DefaultServerCache implements ServerCache {
     }
   }
 
-  /**
-   * Comparator for sorting by last access time.
-   */
-  public static class CompareByLastAccess implements Comparator<CacheEntry>, Serializable {
-
-    private static final long serialVersionUID = 1L;
-
-    @Override
-    public int compare(CacheEntry e1, CacheEntry e2) {
-      return Long.compare(e1.getLastAccessTime(), e2.getLastAccessTime());
-    }
-  }
-
   /**
    * Wraps the value to additionally hold createTime and lastAccessTime and hit counter.
    */
@@ -348,11 +321,26 @@ public class DefaultServerCache implements ServerCache {
     private final long createTime;
     private long lastAccessTime;
 
+    /**
+     * Eviction engine state - guarded by the eviction lock.
+     */
+    CacheEntry prev;
+    CacheEntry next;
+    byte queue;
+    boolean retired;
+
     public CacheEntry(Object key, Object value) {
+      this(key, value, System.nanoTime());
+    }
+
+    /**
+     * Create with the given create time (for an entry restored from another tier).
+     */
+    public CacheEntry(Object key, Object value, long createTime) {
       this.key = key;
       this.value = value;
-      this.createTime = System.nanoTime();
-      this.lastAccessTime = createTime;
+      this.createTime = createTime;
+      this.lastAccessTime = System.nanoTime();
     }
 
     /**
@@ -19,6 +19,8 @@ public class DefaultServerCacheConfig {
 
   private Map<Object, DefaultServerCache.CacheEntry> map;
 
+  private CacheEviction.Factory evictionFactory = TinyLfuCacheEviction::new;
+
   public DefaultServerCacheConfig(ServerCacheConfig config) {
     this(config,  new ConcurrentHashMap<>());
   }
@@ -54,6 +56,23 @@ public class DefaultServerCacheConfig {
     return map;
   }
 
+  /**
+   * Set the factory used to create the eviction engine (defaults to W-TinyLFU).
+   */
+  public void setEvictionFactory(CacheEviction.Factory evictionFactory) {
+    this.evictionFactory = evictionFactory;
+  }
+
+  /**
+   * Create the eviction engine used to enforce the max size on write.
+   */
+  public CacheEviction createEviction() {
+    if (maxSize <= 0) {
+      return new CacheEviction.None(map);
+    }
+    return evictionFactory.create(map, maxSize);
+  }
+
   public int getMaxSize() {
     return maxSize;
   }
@@ -68,6 +87,9 @@ public class DefaultServerCacheConfig {
 
   /**
    * Determine a good trimFrequency as half of maxIdleSecs (or maxSecsToLive).
+   * <p>
+   * Trimming is only used for idle and time to live expiry with max size enforced on write.
+   * </p>
    */
   public int determineTrimFrequency() {
     if (trimFrequency > 0) {
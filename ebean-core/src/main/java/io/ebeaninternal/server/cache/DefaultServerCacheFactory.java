@@ -6,6 +6,7 @@ import io.ebean.cache.ServerCacheConfig;
 import io.ebean.cache.ServerCacheFactory;
 import io.ebean.cache.ServerCacheNotification;
 import io.ebean.cache.ServerCacheNotify;
+import io.ebean.cache.ServerCacheType;
 
 
 /**
@@ -15,18 +16,28 @@ class DefaultServerCacheFactory implements ServerCacheFactory {
 
   private final BackgroundExecutor executor;
 
+  private final OffHeapStore offHeapStore;
+
   /**
    * Construct when l2 cache is disabled.
    */
   DefaultServerCacheFactory() {
-    this.executor = null;
+    this(null, null);
   }
 
   /**
    * Construct with executor service.
    */
   DefaultServerCacheFactory(BackgroundExecutor executor) {
+    this(executor, null);
+  }
+
+  /**
+   * Construct with executor service and off heap store used by the bean caches.
+   */
+  DefaultServerCacheFactory(BackgroundExecutor executor, OffHeapStore offHeapStore) {
     this.executor = executor;
+    this.offHeapStore = offHeapStore;
   }
 
   @Override
@@ -36,6 +47,9 @@ class DefaultServerCacheFactory implements ServerCacheFactory {
     if (config.isQueryCache()) {
       // use a server cache aware of extra validation and QueryCacheEntry
       cache = new DefaultServerQueryCache(new DefaultServerCacheConfig(config));
+    } else if (offHeapStore != null && config.getType() == ServerCacheType.BEAN) {
+      // bean cache with the max size applied to the on heap tier
+      cache = new DefaultServerCacheOffHeap(new DefaultServerCacheConfig(config), offHeapStore);
     } else {
       cache = new DefaultServerCache(new DefaultServerCacheConfig(config));
     }
@@ -0,0 +1,228 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.meta.MetricVisitor;
+import io.ebean.metric.CountMetric;
+import io.ebean.metric.MetricFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bean cache with an on heap hot tier and an off heap tier.
+ * <p>
+ * The max size applies to the on heap tier. Bean data put into the cache is also written
+ * (using the CachedDataBinary format) to the OffHeapStore shared by the bean caches. Entries
+ * evicted from the on heap tier are then read from the off heap tier and promoted back to
+ * the on heap tier. The off heap tier holds entries until the slab holding them is recycled.
+ * </p>
+ * <p>
+ * Puts, removals and promotions for a key are done under a (striped) key lock such that
+ * an invalidated entry is not restored from the off heap tier. The idle time of an off
+ * heap entry is measured from when it was put or last promoted (accesses of the on heap
+ * entry are not tracked) such that off heap entries can expire earlier but never later.
+ * </p>
+ */
+class DefaultServerCacheOffHeap extends DefaultServerCache {
+
+  private final OffHeapStore store;
+
+  private static final int LOCK_STRIPES = 64;
+
+  /**
+   * Address in the off heap store keyed by the (tenant aware) key.
+   */
+  private final Map<Object, OffHeapRef> index = new ConcurrentHashMap<>();
+
+  /**
+   * Striped locks for put, remove and promotion by key.
+   */
+  private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+  private final CountMetric offHeapHitCount;
+
+  private final long maxNanosToLive;
+
+  private final long maxIdleNanos;
+
+  DefaultServerCacheOffHeap(DefaultServerCacheConfig config, OffHeapStore store) {
+    super(config);
+    this.store = store;
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+    }
+    this.maxNanosToLive = TimeUnit.SECONDS.toNanos(config.getMaxSecsToLive());
+    this.maxIdleNanos = TimeUnit.SECONDS.toNanos(config.getMaxIdleSecs());
+    this.offHeapHitCount = MetricFactory.get().createCountMetric("l2n." + shortName + ".offheap.hit");
+  }
+
+  @Override
+  public void visit(MetricVisitor visitor) {
+    super.visit(visitor);
+    offHeapHitCount.visit(visitor);
+  }
+
+  /**
+   * Return the count of hits on the off heap tier.
+   */
+  long getOffHeapHitCount() {
+    return offHeapHitCount.get(false);
+  }
+
+  @Override
+  protected CacheEntry getCacheEntry(Object id) {
+    Object key = key(id);
+    CacheEntry entry = map.get(key);
+    if (entry != null) {
+      return entry;
+    }
+    OffHeapRef ref = index.get(key);
+    if (ref == null) {
+      return null;
+    }
+    long now = System.nanoTime();
+    if (ref.isIdle(now, maxIdleNanos)) {
+      index.remove(key, ref);
+      return null;
+    }
+    entry = read(key, ref.address);
+    if (entry == null) {
+      index.remove(key, ref);
+      return null;
+    }
+    ReentrantLock lock = lock(key);
+    lock.lock();
+    try {
+      if (index.get(key) != ref) {
+        // removed or replaced while reading so not promoted
+        return map.get(key);
+      }
+      CacheEntry current = map.get(key);
+      if (current != null) {
+        return current;
+      }
+      ref.lastAccess = now;
+      putEntry(entry);
+    } finally {
+      lock.unlock();
+    }
+    offHeapHitCount.increment();
+    return entry;
+  }
+
+  @Override
+  public void put(Object id, Object value) {
+    Object key = key(id);
+    CacheEntry entry = new CacheEntry(key, value);
+    long address = (value instanceof CachedBeanData) ? write(entry.getCreateTime(), (CachedBeanData) value) : -1;
+    ReentrantLock lock = lock(key);
+    lock.lock();
+    try {
+      putEntry(entry);
+      if (address < 0) {
+        index.remove(key);
+      } else {
+        index.put(key, new OffHeapRef(address, entry.getCreateTime()));
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  protected void removeEntry(Object key) {
+    ReentrantLock lock = lock(key);
+    lock.lock();
+    try {
+      index.remove(key);
+      super.removeEntry(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private ReentrantLock lock(Object key) {
+    int hash = key.hashCode();
+    return locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+  }
+
+  @Override
+  public void clear() {
+    index.clear();
+    super.clear();
+  }
+
+  @Override
+  public int size() {
+    return Math.max(map.size(), index.size());
+  }
+
+  @Override
+  public void runEviction() {
+    super.runEviction();
+    long now = System.nanoTime();
+    index.values().removeIf(ref -> ref.isIdle(now, maxIdleNanos) || !store.isValid(ref.address));
+  }
+
+  private long write(long createTime, CachedBeanData data) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeLong(createTime);
+      CachedDataBinary.writeBeanData(out, data);
+      out.flush();
+      return store.put(bytes.toByteArray());
+    } catch (IOException | RuntimeException e) {
+      // data that can not be encoded is only held in the on heap tier
+      logger.debug("Unable to write cache entry off heap for cache {}", name, e);
+      return -1;
+    }
+  }
+
+  private CacheEntry read(Object key, long address) {
+    byte[] bytes = store.get(address);
+    if (bytes == null) {
+      return null;
+    }
+    try {
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+      long createTime = in.readLong();
+      if (maxNanosToLive > 0 && System.nanoTime() - createTime > maxNanosToLive) {
+        return null;
+      }
+      CachedBeanData data = CachedDataBinary.readBeanData(in);
+      return data == null ? null : new CacheEntry(key, data, createTime);
+    } catch (IOException | RuntimeException e) {
+      logger.debug("Unable to read cache entry off heap for cache {}", name, e);
+      return null;
+    }
+  }
+
+  /**
+   * Reference to an entry in the off heap store.
+   */
+  private static final class OffHeapRef {
+
+    final long address;
+
+    /**
+     * Time the entry was put or last promoted from the off heap tier.
+     */
+    volatile long lastAccess;
+
+    OffHeapRef(long address, long lastAccess) {
+      this.address = address;
+      this.lastAccess = lastAccess;
+    }
+
+    boolean isIdle(long now, long maxIdleNanos) {
+      return maxIdleNanos > 0 && now - lastAccess > maxIdleNanos;
+    }
+  }
+}
@@ -12,9 +12,16 @@ public class DefaultServerCachePlugin implements ServerCachePlugin {
 
   /**
    * Creates the default ServerCacheFactory.
+   * <p>
+   * When cacheOffHeapMaxBytes is set the bean caches additionally use a shared off heap tier.
+   * </p>
    */
   @Override
   public ServerCacheFactory create(DatabaseConfig config, BackgroundExecutor executor) {
+    long offHeapMaxBytes = config.getCacheOffHeapMaxBytes();
+    if (offHeapMaxBytes > 0) {
+      return new DefaultServerCacheFactory(executor, new OffHeapStore(offHeapMaxBytes));
+    }
     return new DefaultServerCacheFactory(executor);
   }
 }
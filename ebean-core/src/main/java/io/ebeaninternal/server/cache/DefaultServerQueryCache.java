@@ -33,8 +33,7 @@ public class DefaultServerQueryCache extends DefaultServerCache {
     }
     QueryCacheEntry value = (QueryCacheEntry) entry.getValue();
     if (!queryCacheEntryValidate.isValid(value)) {
-      map.remove(key);
-      removeCount.increment();
+      removeEntry(key);
       return null;
     }
     return entry;
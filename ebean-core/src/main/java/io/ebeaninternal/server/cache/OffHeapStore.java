@@ -0,0 +1,171 @@
+package io.ebeaninternal.server.cache;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Off heap byte store shared by the bean caches (when an off heap max size is set).
+ * <p>
+ * Entries are appended to direct ByteBuffer slabs and referenced by a long address.
+ * When all slabs are full the oldest slab is recycled (FIFO) which invalidates the
+ * addresses of the entries it held. Callers treat an invalid address as a cache miss.
+ * </p>
+ * <p>
+ * Reads are lock free using an optimistic read of the slab StampedLock which is write
+ * locked while the slab is recycled. A read that overlaps the recycling of its slab
+ * fails validation (which includes the load fence) and is treated as a miss.
+ * </p>
+ * <p>
+ * The address packs the slab index (16 bits), the slab generation (24 bits) and the
+ * offset in the slab (24 bits).
+ * </p>
+ */
+final class OffHeapStore {
+
+  private static final int MAX_SLAB_SIZE = 4 * 1024 * 1024;
+
+  private static final int MIN_SLAB_SIZE = 1024;
+
+  private static final int MAX_SLABS = 0xFFFF;
+
+  private static final int GEN_MASK = 0xFFFFFF;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final int slabSize;
+
+  private final Slab[] slabs;
+
+  /**
+   * The slab currently appended to - guarded by the lock.
+   */
+  private int current;
+
+  /**
+   * Create with the given max bytes.
+   */
+  OffHeapStore(long maxBytes) {
+    this.slabSize = (int) Math.min(MAX_SLAB_SIZE, Math.max(MIN_SLAB_SIZE, maxBytes / 8));
+    int slabCount = (int) Math.min(MAX_SLABS, Math.max(2, maxBytes / slabSize));
+    this.slabs = new Slab[slabCount];
+    for (int i = 0; i < slabCount; i++) {
+      slabs[i] = new Slab();
+    }
+  }
+
+  /**
+   * Return the capacity in bytes.
+   */
+  long capacity() {
+    return (long) slabSize * slabs.length;
+  }
+
+  /**
+   * Store the bytes returning the address or -1 if the bytes are too large to store.
+   */
+  long put(byte[] bytes) {
+    int required = bytes.length + 4;
+    if (required > slabSize) {
+      return -1;
+    }
+    lock.lock();
+    try {
+      Slab slab = slabs[current];
+      if (slab.buffer == null) {
+        slab.buffer = ByteBuffer.allocateDirect(slabSize);
+      } else if (slab.buffer.remaining() < required) {
+        // move to the next slab recycling it when full (invalidates its entries)
+        current = (current + 1) % slabs.length;
+        slab = slabs[current];
+        if (slab.buffer == null) {
+          slab.buffer = ByteBuffer.allocateDirect(slabSize);
+        } else {
+          long stamp = slab.recycle.writeLock();
+          try {
+            slab.generation = (slab.generation + 1) & GEN_MASK;
+            slab.buffer.clear();
+          } finally {
+            slab.recycle.unlockWrite(stamp);
+          }
+        }
+      }
+      int offset = slab.buffer.position();
+      slab.buffer.putInt(bytes.length);
+      slab.buffer.put(bytes);
+      return address(current, slab.generation, offset);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Return the bytes for the given address or null if the entry has been recycled.
+   */
+  byte[] get(long address) {
+    Slab slab = slabs[slabIndex(address)];
+    int generation = generation(address);
+    long stamp = slab.recycle.tryOptimisticRead();
+    ByteBuffer buffer = slab.buffer;
+    if (stamp == 0 || buffer == null || slab.generation != generation) {
+      // being recycled or already recycled
+      return null;
+    }
+    ByteBuffer read = buffer.duplicate();
+    int offset = offset(address);
+    if (offset + 4 > read.capacity()) {
+      return null;
+    }
+    int len = read.getInt(offset);
+    if (len < 0 || offset + 4 + len > read.capacity()) {
+      return null;
+    }
+    byte[] bytes = new byte[len];
+    read.position(offset + 4);
+    read.get(bytes);
+    // the slab may have been recycled while copying
+    return slab.recycle.validate(stamp) ? bytes : null;
+  }
+
+  /**
+   * Return true if the address still refers to a stored entry.
+   */
+  boolean isValid(long address) {
+    Slab slab = slabs[slabIndex(address)];
+    return slab.buffer != null && slab.generation == generation(address);
+  }
+
+  private static long address(int slab, int generation, int offset) {
+    return ((long) slab << 48) | ((long) generation << 24) | offset;
+  }
+
+  private static int slabIndex(long address) {
+    return (int) (address >>> 48);
+  }
+
+  private static int generation(long address) {
+    return (int) (address >>> 24) & GEN_MASK;
+  }
+
+  private static int offset(long address) {
+    return (int) address & GEN_MASK;
+  }
+
+  private static final class Slab {
+
+    /**
+     * Lazily allocated direct buffer - guarded by the lock for writes.
+     */
+    volatile ByteBuffer buffer;
+
+    /**
+     * Incremented each time the slab is recycled.
+     */
+    volatile int generation;
+
+    /**
+     * Write locked while the slab is recycled (validates optimistic reads).
+     */
+    final StampedLock recycle = new StampedLock();
+  }
+}
@@ -0,0 +1,92 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.cache.ServerCache;
+import io.ebean.cache.ServerCacheStatistics;
+import io.ebean.config.CurrentTenantProvider;
+import io.ebean.meta.MetricVisitor;
+import io.ebeaninternal.api.TenantMetrics;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ServerCache wrapper that collects hits and misses per tenant.
+ */
+final class TenantMetricsServerCache implements ServerCache {
+
+  private final ServerCache delegate;
+
+  private final CurrentTenantProvider tenantProvider;
+
+  private final TenantMetrics tenantMetrics;
+
+  TenantMetricsServerCache(ServerCache delegate, CurrentTenantProvider tenantProvider, TenantMetrics tenantMetrics) {
+    this.delegate = delegate;
+    this.tenantProvider = tenantProvider;
+    this.tenantMetrics = tenantMetrics;
+  }
+
+  @Override
+  public Map<Object, Object> getAll(Set<Object> keys) {
+    Map<Object, Object> map = delegate.getAll(keys);
+    int hits = map.size();
+    tenantMetrics.addCache(tenantProvider.currentId(), hits, keys.size() - hits);
+    return map;
+  }
+
+  @Override
+  public Object get(Object id) {
+    Object value = delegate.get(id);
+    if (value == null) {
+      tenantMetrics.addCache(tenantProvider.currentId(), 0, 1);
+    } else {
+      tenantMetrics.addCache(tenantProvider.currentId(), 1, 0);
+    }
+    return value;
+  }
+
+  @Override
+  public void putAll(Map<Object, Object> keyValues) {
+    delegate.putAll(keyValues);
+  }
+
+  @Override
+  public void put(Object id, Object value) {
+    delegate.put(id, value);
+  }
+
+  @Override
+  public void removeAll(Set<Object> keys) {
+    delegate.removeAll(keys);
+  }
+
+  @Override
+  public void remove(Object id) {
+    delegate.remove(id);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public int getHitRatio() {
+    return delegate.getHitRatio();
+  }
+
+  @Override
+  public ServerCacheStatistics getStatistics(boolean reset) {
+    return delegate.getStatistics(reset);
+  }
+
+  @Override
+  public void visit(MetricVisitor visitor) {
+    delegate.visit(visitor);
+  }
+}
@@ -0,0 +1,269 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebeaninternal.server.cache.DefaultServerCache.CacheEntry;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * W-TinyLFU eviction with amortized O(1) cost per access.
+ * <p>
+ * New entries go into a small LRU window. Entries leaving the window become candidates
+ * for the main segmented LRU (probation and protected) and are admitted only when their
+ * estimated frequency (via FrequencySketch) beats the entry that would otherwise be evicted.
+ * </p>
+ * <p>
+ * Reads are recorded on a best effort basis - when the lock is contended the read is
+ * dropped rather than blocking the caller. Writes always take the lock and evict entries
+ * as needed such that the size bound is enforced on write.
+ * </p>
+ */
+final class TinyLfuCacheEviction implements CacheEviction {
+
+  static final byte QUEUE_NONE = 0;
+  static final byte QUEUE_WINDOW = 1;
+  static final byte QUEUE_PROBATION = 2;
+  static final byte QUEUE_PROTECTED = 3;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Map<Object, CacheEntry> map;
+
+  private final FrequencySketch sketch;
+
+  private final int maxSize;
+
+  private final int maxWindow;
+
+  private final int maxProtected;
+
+  private final Queue window = new Queue();
+
+  private final Queue probation = new Queue();
+
+  private final Queue protect = new Queue();
+
+  TinyLfuCacheEviction(Map<Object, CacheEntry> map, int maxSize) {
+    this.map = map;
+    this.maxSize = maxSize;
+    this.maxWindow = Math.max(1, maxSize / 100);
+    this.maxProtected = (maxSize - maxWindow) * 80 / 100;
+    this.sketch = new FrequencySketch(maxSize);
+  }
+
+  /**
+   * Return the number of entries tracked by the eviction.
+   * <p>
+   * Entries are only linked while they are in the map such that this matches the map size
+   * once concurrent writes have completed.
+   * </p>
+   */
+  int size() {
+    return window.size + probation.size + protect.size;
+  }
+
+  @Override
+  public void onRead(CacheEntry entry) {
+    if (!lock.tryLock()) {
+      // drop the read under contention
+      return;
+    }
+    try {
+      switch (entry.queue) {
+        case QUEUE_WINDOW:
+          sketch.increment(entry.getKey());
+          window.moveToFront(entry);
+          break;
+        case QUEUE_PROBATION:
+          sketch.increment(entry.getKey());
+          probation.unlink(entry);
+          protect.linkFirst(entry, QUEUE_PROTECTED);
+          demoteProtected();
+          break;
+        case QUEUE_PROTECTED:
+          sketch.increment(entry.getKey());
+          protect.moveToFront(entry);
+          break;
+        default:
+          // removed or not yet linked
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int onWrite(CacheEntry entry, CacheEntry replaced) {
+    lock.lock();
+    try {
+      if (replaced != null) {
+        replaced.retired = true;
+        unlink(replaced);
+      }
+      if (entry.retired || map.get(entry.getKey()) != entry) {
+        // replaced, removed or cleared from the map before we got here
+        entry.retired = true;
+        return 0;
+      }
+      sketch.increment(entry.getKey());
+      window.linkFirst(entry, QUEUE_WINDOW);
+      return evict();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void onRemove(CacheEntry entry) {
+    lock.lock();
+    try {
+      entry.retired = true;
+      unlink(entry);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    lock.lock();
+    try {
+      // clear the map under the lock such that concurrent writes are not left untracked
+      map.clear();
+      window.clear();
+      probation.clear();
+      protect.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Move entries out of the window and evict until within max size.
+   */
+  private int evict() {
+    int candidates = 0;
+    while (window.size > maxWindow) {
+      CacheEntry entry = window.tail;
+      window.unlink(entry);
+      probation.linkFirst(entry, QUEUE_PROBATION);
+      candidates++;
+    }
+    int evicted = 0;
+    while (size() > maxSize) {
+      CacheEntry victim = probation.tail;
+      if (victim == null) {
+        victim = (protect.tail != null) ? protect.tail : window.tail;
+      } else if (candidates > 0) {
+        // candidates are at the front of probation, victim at the end
+        CacheEntry candidate = probation.head;
+        if (candidate != victim && sketch.frequency(candidate.getKey()) <= sketch.frequency(victim.getKey())) {
+          // reject the candidate
+          victim = candidate;
+        }
+        candidates--;
+      }
+      unlink(victim);
+      victim.retired = true;
+      if (map.remove(victim.getKey(), victim)) {
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  /**
+   * Move the least recently used protected entries back into probation.
+   */
+  private void demoteProtected() {
+    while (protect.size > maxProtected) {
+      CacheEntry entry = protect.tail;
+      protect.unlink(entry);
+      probation.linkFirst(entry, QUEUE_PROBATION);
+    }
+  }
+
+  private void unlink(CacheEntry entry) {
+    switch (entry.queue) {
+      case QUEUE_WINDOW:
+        window.unlink(entry);
+        break;
+      case QUEUE_PROBATION:
+        probation.unlink(entry);
+        break;
+      case QUEUE_PROTECTED:
+        protect.unlink(entry);
+        break;
+      default:
+        // not linked
+    }
+  }
+
+  /**
+   * Doubly linked access ordered queue (head is most recently used).
+   */
+  private static final class Queue {
+
+    CacheEntry head;
+    CacheEntry tail;
+    int size;
+
+    void linkFirst(CacheEntry entry, byte queue) {
+      entry.queue = queue;
+      entry.prev = null;
+      entry.next = head;
+      if (head == null) {
+        tail = entry;
+      } else {
+        head.prev = entry;
+      }
+      head = entry;
+      size++;
+    }
+
+    void unlink(CacheEntry entry) {
+      CacheEntry prev = entry.prev;
+      CacheEntry next = entry.next;
+      if (prev == null) {
+        head = next;
+      } else {
+        prev.next = next;
+      }
+      if (next == null) {
+        tail = prev;
+      } else {
+        next.prev = prev;
+      }
+      entry.prev = null;
+      entry.next = null;
+      entry.queue = QUEUE_NONE;
+      size--;
+    }
+
+    void moveToFront(CacheEntry entry) {
+      if (head != entry) {
+        byte queue = entry.queue;
+        unlink(entry);
+        linkFirst(entry, queue);
+      }
+    }
+
+    /**
+     * Clear the queue retiring the entries (such that they are not linked again).
+     */
+    void clear() {
+      CacheEntry entry = head;
+      while (entry != null) {
+        CacheEntry next = entry.next;
+        entry.prev = null;
+        entry.next = null;
+        entry.queue = QUEUE_NONE;
+        entry.retired = true;
+        entry = next;
+      }
+      head = null;
+      tail = null;
+      size = 0;
+    }
+  }
+}
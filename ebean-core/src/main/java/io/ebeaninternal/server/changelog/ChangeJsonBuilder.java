@@ -35,6 +35,22 @@ class ChangeJsonBuilder {
     }
   }
 
+  /**
+   * Create a generator that can be reused to write many bean changes.
+   */
+  JsonGenerator createGenerator(Writer writer) throws IOException {
+    JsonGenerator generator = jsonFactory.createGenerator(writer);
+    generator.setRootValueSeparator(null);
+    return generator;
+  }
+
+  /**
+   * Write the bean change as JSON using the given generator (without flushing).
+   */
+  void writeBeanJson(JsonGenerator generator, BeanChange bean, ChangeSet changeSet) throws IOException {
+    writeBeanChange(generator, bean, changeSet);
+  }
+
   /**
    * Write the bean change as JSON document containing the transaction header details.
    */
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.changelog;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.ebean.event.changelog.BeanChange;
 import io.ebean.event.changelog.ChangeLogListener;
 import io.ebean.event.changelog.ChangeSet;
@@ -9,11 +10,17 @@ import io.ebean.plugin.SpiServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.StringWriter;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * Simply logs the change sets in JSON form to logger named <code>io.ebean.ChangeLog</code>.
+ * <p>
+ * When delivered in batches the bean changes of the batch are logged together as a single
+ * log entry with a JSON document per line.
+ * </p>
  */
 public class DefaultChangeLogListener implements ChangeLogListener, Plugin {
 
@@ -37,6 +44,16 @@ public class DefaultChangeLogListener implements ChangeLogListener, Plugin {
    */
   private int defaultBufferSize = 400;
 
+  /**
+   * Buffer reused for batches.
+   */
+  private final StringWriter batchBuffer = new StringWriter(4000);
+
+  /**
+   * Generator reused for batches (writing to the batchBuffer).
+   */
+  private JsonGenerator batchGenerator;
+
   public DefaultChangeLogListener() {
   }
 
@@ -81,6 +98,42 @@ public class DefaultChangeLogListener implements ChangeLogListener, Plugin {
     }
   }
 
+  /**
+   * Log the bean changes of all the change sets as a single log entry with a line per bean change.
+   */
+  @Override
+  public synchronized void logBatch(List<ChangeSet> changeSets) {
+    try {
+      JsonGenerator generator = batchGenerator();
+      int count = 0;
+      for (ChangeSet changeSet : changeSets) {
+        for (BeanChange beanChange : changeSet.getChanges()) {
+          if (count++ > 0) {
+            generator.writeRaw('\n');
+          }
+          jsonBuilder.writeBeanJson(generator, beanChange, changeSet);
+        }
+      }
+      generator.flush();
+      if (count > 0) {
+        changeLog.info(batchBuffer.toString());
+      }
+    } catch (Exception e) {
+      // discard the generator as it can be in an invalid state
+      batchGenerator = null;
+      logger.error("Exception logging batch of " + changeSets.size() + " change sets", e);
+    } finally {
+      batchBuffer.getBuffer().setLength(0);
+    }
+  }
+
+  private JsonGenerator batchGenerator() throws IOException {
+    if (batchGenerator == null) {
+      batchGenerator = jsonBuilder.createGenerator(batchBuffer);
+    }
+    return batchGenerator;
+  }
+
   /**
    * Return a decent buffer size based on the bean change.
    */
@@ -1,7 +1,10 @@
 package io.ebeaninternal.server.core;
 
+import io.ebean.ColumnBatch;
 import io.ebean.EbeanServer;
 import io.ebean.Transaction;
+import io.ebean.config.DatabaseTracer;
+import io.ebean.core.type.DataReader;
 import io.ebean.util.JdbcClose;
 import io.ebeaninternal.api.BindParams;
 import io.ebeaninternal.api.SpiEbeanServer;
@@ -11,12 +14,15 @@ import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.server.lib.Str;
 import io.ebeaninternal.server.persist.Binder;
 import io.ebeaninternal.server.persist.TrimLogSql;
+import io.ebeaninternal.server.query.DefaultColumnBatch;
+import io.ebeaninternal.server.type.RsetDataReader;
 import io.ebeaninternal.server.util.BindParamsParser;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.function.Consumer;
 
 /**
  * Wraps the objects involved in executing a SQL / Relational Query.
@@ -41,6 +47,8 @@ public abstract class AbstractSqlQueryRequest {
 
   protected long startNano;
 
+  private DatabaseTracer.Span span;
+
   /**
    * Create the BeanFindRequest.
    */
@@ -104,16 +112,70 @@ public abstract class AbstractSqlQueryRequest {
 
   protected abstract void requestComplete();
 
+  /**
+   * Read the ResultSet into column batches of the given size returning the number of rows read.
+   */
+  public int readColumnBatches(int batchSize, Consumer<ColumnBatch> consumer) throws SQLException {
+    DataReader dataReader = new RsetDataReader(server.getDataTimeZone(), resultSet);
+    DefaultColumnBatch batch = new DefaultColumnBatch(resultSet, dataReader, batchSize);
+    int count = 0;
+    while (batch.read()) {
+      count += batch.size();
+      consumer.accept(batch);
+    }
+    return count;
+  }
+
   /**
    * Close the underlying resources.
    */
   public void close() {
     requestComplete();
+    collectTenantQuery();
+    endSpan();
     JdbcClose.close(resultSet);
     JdbcClose.close(pstmt);
   }
 
 
+  /**
+   * Collect the query execution time per tenant (when collecting tenant metrics).
+   */
+  private void collectTenantQuery() {
+    Object tenantId = (transaction == null) ? null : transaction.getTenantId();
+    server.collectTenantQuery(tenantId, (System.nanoTime() - startNano) / 1000L);
+  }
+
+  /**
+   * Start the span for the query when tracing (prior to execution).
+   */
+  protected void startSpan() {
+    startNano = System.nanoTime();
+    DatabaseTracer tracer = server.getDatabaseTracer();
+    if (tracer != null) {
+      String label = query.getLabel();
+      span = tracer.start(DatabaseTracer.Kind.QUERY, (label == null) ? "sql.query" : "sql.query." + label, startNano)
+        .attribute(DatabaseTracer.DB_NAME, server.getName())
+        .attribute(DatabaseTracer.LABEL, label);
+    }
+  }
+
+  /**
+   * Record the error on the span when tracing.
+   */
+  public void traceError(Throwable e) {
+    if (span != null) {
+      span.error(e);
+    }
+  }
+
+  private void endSpan() {
+    if (span != null) {
+      span.attribute(DatabaseTracer.DB_STATEMENT, sql).end();
+      span = null;
+    }
+  }
+
   /**
    * Prepare the SQL taking into account named bind parameters.
    */
@@ -140,7 +202,7 @@ public abstract class AbstractSqlQueryRequest {
    * Prepare and execute the SQL using the Binder.
    */
   public void executeSql(Binder binder, SpiQuery.Type type) throws SQLException {
-    startNano = System.nanoTime();
+    startSpan();
     executeAsSql(binder);
   }
 
@@ -7,6 +7,7 @@ import io.ebean.bean.BeanCollection;
 import io.ebean.bean.EntityBean;
 import io.ebean.bean.EntityBeanIntercept;
 import io.ebean.bean.PersistenceContext;
+import io.ebean.config.DatabaseTracer;
 import io.ebeaninternal.api.LoadBeanRequest;
 import io.ebeaninternal.api.LoadManyRequest;
 import io.ebeaninternal.api.LoadRequest;
@@ -21,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -42,7 +44,7 @@ class DefaultBeanLoader {
   void loadMany(LoadManyRequest loadRequest) {
 
     SpiQuery<?> query = loadRequest.createQuery(server);
-    executeQuery(loadRequest, query);
+    executeQuery(loadRequest, query, loadRequest.getBatch().size());
     loadRequest.postLoad();
   }
 
@@ -160,17 +162,41 @@ class DefaultBeanLoader {
       query.setBeanCacheMode(CacheMode.PUT);
     }
 
-    List<?> list = executeQuery(loadRequest, query);
+    List<?> list = executeQuery(loadRequest, query, idList.size());
     loadRequest.postLoad(list);
   }
 
+  /**
+   * Execute the lazy load query with a span when tracing.
+   */
+  private List<?> executeQuery(LoadRequest loadRequest, SpiQuery<?> query, int batchSize) {
+    DatabaseTracer tracer = server.getDatabaseTracer();
+    if (tracer == null) {
+      return executeQuery(loadRequest, query);
+    }
+    BeanDescriptor<?> desc = query.getBeanDescriptor();
+    String name = (loadRequest.isLazy() ? "lazy." : "query.") + desc.getSimpleName();
+    DatabaseTracer.Span span = tracer.start(DatabaseTracer.Kind.LAZY_LOAD, name)
+      .attribute(DatabaseTracer.DB_NAME, server.getName())
+      .attribute(DatabaseTracer.TYPE, desc.getFullName())
+      .attribute(DatabaseTracer.BATCH, batchSize);
+    try {
+      return executeQuery(loadRequest, query);
+    } catch (RuntimeException e) {
+      span.error(e);
+      throw e;
+    } finally {
+      span.end();
+    }
+  }
+
   /**
    * Execute the lazy load query taking into account MySql transaction oddness.
    */
   private List<?> executeQuery(LoadRequest loadRequest, SpiQuery<?> query) {
     if (onIterateUseExtraTxn && loadRequest.isParentFindIterate()) {
       // MySql - we need a different transaction to execute the secondary query
-      SpiTransaction extraTxn = server.createReadOnlyTransaction(query.getTenantId());
+      SpiTransaction extraTxn = server.createReadOnlyTransaction(query.getTenantId(), Collections.singleton(query.getBeanDescriptor().getBaseTable()));
       try {
         return server.findList(query, extraTxn);
       } finally {
@@ -53,20 +53,27 @@ public class DefaultCallOriginFactory implements CallOriginFactory {
   }
 
   private boolean ignore(StackTraceElement element) {
-    if (element.getClassName().startsWith(IO_EBEAN)) {
+    return ignore(element.getClassName(), element.getMethodName());
+  }
+
+  /**
+   * Return true if the frame is ebean internal or an enhanced method.
+   */
+  static boolean ignore(String className, String methodName) {
+    if (className.startsWith(IO_EBEAN)) {
       return true;
     }
-    return element.getMethodName().startsWith("_ebean_");
+    return methodName.startsWith("_ebean_");
   }
 
-  private CallOrigin createCallStack(StackTraceElement[] finalTrace) {
+  static CallOrigin createCallStack(StackTraceElement[] finalTrace) {
     return new CallStack(finalTrace, finalTrace[0].hashCode(), pathHash(finalTrace));
   }
 
   /**
    * Return the hash code for the path excluding the first element.
    */
-  private int pathHash(StackTraceElement[] callStack) {
+  private static int pathHash(StackTraceElement[] callStack) {
 
     int hc = 0;
     for (int i = 1; i < callStack.length; i++) {
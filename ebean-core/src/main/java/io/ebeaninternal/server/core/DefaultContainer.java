@@ -67,7 +67,7 @@ public class DefaultContainer implements SpiContainer {
     String namePrefix = "ebean-" + config.getName();
     int schedulePoolSize = config.getBackgroundExecutorSchedulePoolSize();
     int shutdownSecs = config.getBackgroundExecutorShutdownSecs();
-    return new DefaultBackgroundExecutor(schedulePoolSize, shutdownSecs, namePrefix);
+    return new DefaultBackgroundExecutor(schedulePoolSize, shutdownSecs, namePrefix, config.isBackgroundExecutorVirtualThreads());
   }
 
   /**
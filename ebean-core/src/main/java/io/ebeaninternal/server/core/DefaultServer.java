@@ -1,14 +1,19 @@
 package io.ebeaninternal.server.core;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.ebean.AutoTune;
 import io.ebean.BackgroundExecutor;
 import io.ebean.BeanState;
+import io.ebean.BulkInsertOptions;
+import io.ebean.BulkInsertOptionsBuilder;
 import io.ebean.CallableSql;
+import io.ebean.ColumnBatch;
 import io.ebean.DocumentStore;
 import io.ebean.DtoQuery;
 import io.ebean.ExpressionFactory;
 import io.ebean.ExpressionList;
 import io.ebean.ExtendedServer;
+import io.ebean.FetchPath;
 import io.ebean.Filter;
 import io.ebean.FutureIds;
 import io.ebean.FutureList;
@@ -63,6 +68,8 @@ import io.ebean.plugin.Property;
 import io.ebean.plugin.SpiServer;
 import io.ebean.text.csv.CsvReader;
 import io.ebean.text.json.JsonContext;
+import io.ebean.text.json.JsonIOException;
+import io.ebean.text.json.JsonWriteOptions;
 import io.ebeaninternal.api.ExtraMetrics;
 import io.ebeaninternal.api.LoadBeanRequest;
 import io.ebeaninternal.api.LoadManyRequest;
@@ -82,6 +89,7 @@ import io.ebeaninternal.api.SpiSqlQuery;
 import io.ebeaninternal.api.SpiSqlUpdate;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.api.SpiTransactionManager;
+import io.ebeaninternal.api.TenantMetrics;
 import io.ebeaninternal.api.TransactionEventTable;
 import io.ebeaninternal.server.autotune.AutoTuneService;
 import io.ebeaninternal.server.cache.RemoteCacheEvent;
@@ -114,6 +122,7 @@ import io.ebeaninternal.server.text.csv.TCsvReader;
 import io.ebeaninternal.server.transaction.DefaultPersistenceContext;
 import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
 import io.ebeaninternal.server.transaction.TransactionManager;
+import io.ebeaninternal.server.util.StackFrames;
 import io.ebeaninternal.util.ParamTypeHelper;
 import io.ebeaninternal.util.ParamTypeHelper.TypeInfo;
 import io.ebeanservice.docstore.api.DocStoreIntegration;
@@ -125,6 +134,8 @@ import javax.persistence.NonUniqueResultException;
 import javax.persistence.OptimisticLockException;
 import javax.persistence.PersistenceException;
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -195,6 +206,8 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
   private final boolean updateAllPropertiesInBatch;
   private final long slowQueryMicros;
   private final SlowQueryListener slowQueryListener;
+  private final TenantMetrics tenantMetrics;
+  private final DatabaseTracer databaseTracer;
   private final boolean disableL2Cache;
   private boolean shutdown;
 
@@ -219,6 +232,8 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     this.currentTenantProvider = this.config.getCurrentTenantProvider();
     this.slowQueryMicros = config.getSlowQueryMicros();
     this.slowQueryListener = config.getSlowQueryListener();
+    this.tenantMetrics = config.getTenantMetrics();
+    this.databaseTracer = config.getDatabaseTracer();
     this.beanDescriptorManager = config.getBeanDescriptorManager();
     beanDescriptorManager.setEbeanServer(this);
     this.updateAllPropertiesInBatch = this.config.isUpdateAllPropertiesInBatch();
@@ -257,6 +272,9 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
       // use a common CallStack for performance as we don't care with no AutoTune
       return new NoopCallOriginFactory();
     }
+    if (StackFrames.isAvailable()) {
+      return new StackWalkerCallOriginFactory(config.getMaxCallStack());
+    }
     return new DefaultCallOriginFactory(config.getMaxCallStack());
   }
 
@@ -1485,6 +1503,47 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     // no try finally - findEach guarantee's cleanup of the transaction if required
   }
 
+  @Override
+  public <T> void findEachParallel(SpiQuery<T> query, int partitions, Consumer<T> consumer, Transaction t) {
+    PartitionedQuery<T> partitioned = PartitionedQuery.of(this, query, partitions);
+    if (partitioned == null) {
+      findEach(query, consumer, t);
+    } else {
+      partitioned.start().findEach(consumer);
+    }
+  }
+
+  @Override
+  public <T> void findJson(SpiQuery<T> query, Writer writer, JsonWriteOptions options, Transaction t) {
+    FetchPath pathProperties = (options == null) ? null : options.getPathProperties();
+    if (pathProperties != null) {
+      // only select the properties that are written to the JSON
+      query.apply(pathProperties);
+    }
+    SpiOrmQueryRequest<T> request = createQueryRequest(Type.ITERATE, query, t);
+    request.initTransIfRequired();
+    try {
+      JsonGenerator generator = jsonContext.createGenerator(writer);
+      request.findJson(jsonContext.createJsonWriter(generator, options));
+      generator.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    } finally {
+      request.endTransIfRequired();
+    }
+  }
+
+  @Nonnull
+  @Override
+  public <T> Stream<T> findStreamParallel(SpiQuery<T> query, int partitions, Transaction t) {
+    PartitionedQuery<T> partitioned = PartitionedQuery.of(this, query, partitions);
+    if (partitioned == null) {
+      return findStream(query, t);
+    }
+    return stream(spliteratorUnknownSize(partitioned.start(), 0), false)
+      .onClose(partitioned::close);
+  }
+
   @Override
   public <T> void findEachWhile(Query<T> query, Predicate<T> consumer, Transaction t) {
     SpiOrmQueryRequest<T> request = createQueryRequest(Type.ITERATE, query, t);
@@ -1596,6 +1655,11 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     executeSqlQuery((req) -> req.findEachRow(consumer), query);
   }
 
+  @Override
+  public void findColumnarBatches(SpiSqlQuery query, int batchSize, Consumer<ColumnBatch> consumer) {
+    executeSqlQuery((req) -> req.findColumnarBatches(batchSize, consumer), query);
+  }
+
   @Override
   public <T> List<T> findListMapper(SpiSqlQuery query, RowMapper<T> mapper) {
     return executeSqlQuery((req) -> req.findListMapper(mapper), query);
@@ -1638,6 +1702,17 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     }
   }
 
+  @Override
+  public <T> void findDtoColumnarBatches(SpiDtoQuery<T> query, int batchSize, Consumer<ColumnBatch> consumer) {
+    DtoQueryRequest<T> request = new DtoQueryRequest<>(this, dtoQueryEngine, query);
+    try {
+      request.initTransIfRequired();
+      request.findColumnarBatches(batchSize, consumer);
+    } finally {
+      request.endTransIfRequired();
+    }
+  }
+
   @Override
   public <T> void findDtoEachWhile(SpiDtoQuery<T> query, Predicate<T> consumer) {
     DtoQueryRequest<T> request = new DtoQueryRequest<>(this, dtoQueryEngine, query);
@@ -1767,6 +1842,31 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     }, transaction);
   }
 
+  @Override
+  public void bulkInsert(Collection<?> beans) {
+    bulkInsert(beans, BulkInsertOptionsBuilder.defaultOptions(), null);
+  }
+
+  @Override
+  public void bulkInsert(Collection<?> beans, BulkInsertOptions options) {
+    bulkInsert(beans, options, null);
+  }
+
+  @Override
+  public void bulkInsert(Collection<?> beans, BulkInsertOptions options, Transaction transaction) {
+    if (beans == null || beans.isEmpty()) {
+      return;
+    }
+    List<EntityBean> entityBeans = new ArrayList<>(beans.size());
+    for (Object bean : beans) {
+      entityBeans.add(checkEntityBean(bean));
+    }
+    executeInTrans((txn) -> {
+      persister.bulkInsert(entityBeans, options, txn);
+      return 0;
+    }, transaction);
+  }
+
   @Override
   public <T> List<T> publish(Query<T> query, Transaction transaction) {
     return executeInTrans((txn) -> persister.publish(query, txn), transaction);
@@ -2231,6 +2331,11 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     return transactionManager.createReadOnlyTransaction(tenantId);
   }
 
+  @Override
+  public SpiTransaction createReadOnlyTransaction(Object tenantId, Set<String> tables) {
+    return transactionManager.createReadOnlyTransaction(tenantId, tables);
+  }
+
   /**
    * Create a CallStack object.
    * <p>
@@ -2266,6 +2371,18 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     }
   }
 
+  @Override
+  public void collectTenantQuery(Object tenantId, long executionTimeMicros) {
+    if (tenantMetrics != null) {
+      tenantMetrics.addQuery(tenantId != null ? tenantId : currentTenantId(), executionTimeMicros);
+    }
+  }
+
+  @Override
+  public DatabaseTracer getDatabaseTracer() {
+    return databaseTracer;
+  }
+
   @Override
   public Set<Property> checkUniqueness(Object bean) {
     return checkUniqueness(bean, null);
@@ -2341,6 +2458,9 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
       persister.visitMetrics(visitor);
     }
     extraMetrics.visitMetrics(visitor);
+    if (tenantMetrics != null) {
+      tenantMetrics.visitMetrics(visitor);
+    }
     visitor.visitEnd();
   }
 
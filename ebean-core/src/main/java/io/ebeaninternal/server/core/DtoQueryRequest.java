@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.core;
 
+import io.ebean.ColumnBatch;
 import io.ebean.core.type.DataReader;
 import io.ebeaninternal.api.SpiDtoQuery;
 import io.ebeaninternal.api.SpiEbeanServer;
@@ -46,7 +47,7 @@ public final class DtoQueryRequest<T> extends AbstractSqlQueryRequest {
    */
   @Override
   public void executeSql(Binder binder, SpiQuery.Type type) throws SQLException {
-    startNano = System.nanoTime();
+    startSpan();
     SpiQuery<?> ormQuery = query.getOrmQuery();
     if (ormQuery != null) {
       ormQuery.setType(type);
@@ -100,6 +101,11 @@ public final class DtoQueryRequest<T> extends AbstractSqlQueryRequest {
     queryEngine.findEach(this, batch, consumer);
   }
 
+  public void findColumnarBatches(int batchSize, Consumer<ColumnBatch> consumer) {
+    flushJdbcBatchOnQuery();
+    queryEngine.findColumnarBatches(this, batchSize, consumer);
+  }
+
   public void findEachWhile(Predicate<T> consumer) {
     flushJdbcBatchOnQuery();
     queryEngine.findEachWhile(this, consumer);
@@ -226,5 +226,15 @@ class DumpMetricsJson implements ServerMetricsAsJson {
     val(timedMetric.getMean());
     key("max");
     val(timedMetric.getMax());
+    if (timedMetric.getPercentile(50) >= 0) {
+      key("p50");
+      val(timedMetric.getPercentile(50));
+      key("p95");
+      val(timedMetric.getPercentile(95));
+      key("p99");
+      val(timedMetric.getPercentile(99));
+      key("p999");
+      val(timedMetric.getPercentile(99.9));
+    }
   }
 }
@@ -10,9 +10,11 @@ import io.ebean.cache.ServerCacheNotifyPlugin;
 import io.ebean.cache.ServerCacheOptions;
 import io.ebean.cache.ServerCachePlugin;
 import io.ebean.config.DatabaseConfig;
+import io.ebean.config.DatabaseTracer;
 import io.ebean.config.ExternalTransactionManager;
 import io.ebean.config.ProfilingConfig;
 import io.ebean.config.SlowQueryListener;
+import io.ebean.config.TenantMode;
 import io.ebean.config.dbplatform.DatabasePlatform;
 import io.ebean.config.dbplatform.DbHistorySupport;
 import io.ebean.event.changelog.ChangeLogListener;
@@ -34,6 +36,7 @@ import io.ebeaninternal.api.SpiLogManager;
 import io.ebeaninternal.api.SpiLogger;
 import io.ebeaninternal.api.SpiLoggerFactory;
 import io.ebeaninternal.api.SpiProfileHandler;
+import io.ebeaninternal.api.TenantMetrics;
 import io.ebeaninternal.server.autotune.AutoTuneService;
 import io.ebeaninternal.server.autotune.AutoTuneServiceProvider;
 import io.ebeaninternal.server.autotune.NoAutoTuneService;
@@ -77,6 +80,7 @@ import io.ebeaninternal.server.query.QueryPlanLoggerExplain;
 import io.ebeaninternal.server.query.QueryPlanLoggerOracle;
 import io.ebeaninternal.server.query.QueryPlanLoggerPostgres;
 import io.ebeaninternal.server.query.QueryPlanLoggerSqlServer;
+import io.ebeaninternal.server.readaudit.AggregateReadAuditLogger;
 import io.ebeaninternal.server.readaudit.DefaultReadAuditLogger;
 import io.ebeaninternal.server.readaudit.DefaultReadAuditPrepare;
 import io.ebeaninternal.server.text.json.DJsonContext;
@@ -144,6 +148,9 @@ public class InternalConfiguration {
   private final MultiValueBind multiValueBind;
   private final SpiLogManager logManager;
   private final ExtraMetrics extraMetrics = new ExtraMetrics();
+
+  private final TenantMetrics tenantMetrics;
+  private final DatabaseTracer databaseTracer;
   private ServerCacheNotify cacheNotify;
   private boolean localL2Caching;
 
@@ -169,6 +176,8 @@ public class InternalConfiguration {
     this.deployCreateProperties = new DeployCreateProperties(typeManager);
     this.deployUtil = new DeployUtil(typeManager, config);
     this.serverCachePlugin = initServerCachePlugin();
+    this.tenantMetrics = initTenantMetrics();
+    this.databaseTracer = initDatabaseTracer();
     this.cacheManager = initCacheManager();
 
     final InternalConfigXmlMap xmlMap = initExternalMapping();
@@ -238,6 +247,33 @@ public class InternalConfiguration {
     return extraMetrics;
   }
 
+  /**
+   * Return the per tenant metrics (null when not collected).
+   */
+  public TenantMetrics getTenantMetrics() {
+    return tenantMetrics;
+  }
+
+  /**
+   * Return the tracer used to emit spans (null when tracing is not used).
+   */
+  public DatabaseTracer getDatabaseTracer() {
+    return databaseTracer;
+  }
+
+  private DatabaseTracer initDatabaseTracer() {
+    DatabaseTracer tracer = config.getDatabaseTracer();
+    return tracer != null ? tracer : config.service(DatabaseTracer.class);
+  }
+
+  private TenantMetrics initTenantMetrics() {
+    int maxTenants = config.getTenantMetricsMaxTenants();
+    if (maxTenants <= 0 || config.getTenantMode() == TenantMode.NONE) {
+      return null;
+    }
+    return new TenantMetrics(maxTenants);
+  }
+
   /**
    * Check if this is a SpiServerPlugin and if so 'collect' it to give the complete list
    * later on the DefaultServer for late call to configure().
@@ -291,7 +327,13 @@ public class InternalConfiguration {
    */
   ReadAuditLogger getReadAuditLogger() {
     ReadAuditLogger found = bootupClasses.getReadAuditLogger();
-    return plugin(found != null ? found : jacksonCorePresent? new DefaultReadAuditLogger(): null);
+    ReadAuditLogger readAuditLogger = found != null ? found : jacksonCorePresent ? new DefaultReadAuditLogger() : null;
+    int windowMillis = config.getReadAuditAggregateWindowMillis();
+    if (readAuditLogger != null && windowMillis > 0) {
+      // the aggregate logger delegates the plugin lifecycle flushing before shutdown
+      return plugin(new AggregateReadAuditLogger(readAuditLogger, windowMillis, config.getReadAuditAggregateMaxIds()));
+    }
+    return plugin(readAuditLogger);
   }
 
   /**
@@ -353,7 +395,7 @@ public class InternalConfiguration {
   }
 
   Persister createPersister(SpiEbeanServer server) {
-    return new DefaultPersister(server, binder, beanDescriptorManager);
+    return new DefaultPersister(server, binder, beanDescriptorManager, databaseTracer);
   }
 
   public SpiCacheManager getCacheManager() {
@@ -431,7 +473,7 @@ public class InternalConfiguration {
     TransactionManagerOptions options =
       new TransactionManagerOptions(server, notifyL2CacheInForeground, config, scopeManager, clusterManager, backgroundExecutor,
         indexUpdateProcessor, beanDescriptorManager, dataSource(), profileHandler(), logManager,
-        tableModState, cacheNotify, clockService);
+        tableModState, cacheNotify, clockService, tenantMetrics, databaseTracer);
 
     if (config.isDocStoreOnly()) {
       return new DocStoreTransactionManager(options);
@@ -611,7 +653,8 @@ public class InternalConfiguration {
 
     CacheManagerOptions builder = new CacheManagerOptions(clusterManager, config, localL2Caching)
       .with(beanOptions, queryOptions)
-      .with(factory, tableModState);
+      .with(factory, tableModState)
+      .with(tenantMetrics);
 
     return new DefaultServerCacheManager(builder);
   }
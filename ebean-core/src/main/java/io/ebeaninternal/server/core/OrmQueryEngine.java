@@ -3,6 +3,7 @@ package io.ebeaninternal.server.core;
 import io.ebean.QueryIterator;
 import io.ebean.Version;
 import io.ebean.bean.BeanCollection;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 
 import javax.persistence.PersistenceException;
 import java.sql.SQLException;
@@ -43,6 +44,12 @@ public interface OrmQueryEngine {
    */
   <T> QueryIterator<T> findIterate(OrmQueryRequest<T> request);
 
+  /**
+   * Execute the query writing the rows directly as JSON returning false if
+   * beans need to be built (and the query is executed via findIterate instead).
+   */
+  <T> boolean findJson(OrmQueryRequest<T> request, SpiJsonWriter writer);
+
   /**
    * Execute the row count query.
    */
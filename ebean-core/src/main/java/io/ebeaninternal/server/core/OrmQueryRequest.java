@@ -9,6 +9,7 @@ import io.ebean.bean.BeanCollection;
 import io.ebean.bean.EntityBean;
 import io.ebean.bean.PersistenceContext;
 import io.ebean.cache.QueryCacheEntry;
+import io.ebean.config.DatabaseTracer;
 import io.ebean.common.BeanList;
 import io.ebean.common.BeanMap;
 import io.ebean.common.CopyOnFirstWriteList;
@@ -27,6 +28,7 @@ import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.api.SpiQuery.Type;
 import io.ebeaninternal.api.SpiQuerySecondary;
 import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.BeanProperty;
 import io.ebeaninternal.server.deploy.BeanPropertyAssocMany;
@@ -41,6 +43,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.PersistenceException;
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -89,6 +92,10 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
 
   private Set<String> dependentTables;
 
+  private Boolean auditReads;
+
+  private DatabaseTracer.Span span;
+
   /**
    * Create the InternalQueryRequest.
    */
@@ -275,7 +282,7 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
       } else {
         // create an implicit transaction to execute this query
         // potentially using read-only DataSource with autoCommit
-        transaction = ebeanServer.createReadOnlyTransaction(query.getTenantId());
+        transaction = ebeanServer.createReadOnlyTransaction(query.getTenantId(), queryTables());
       }
       createdTransaction = true;
     }
@@ -283,6 +290,15 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
     loadContext = new DLoadContext(this, secondaryQueries);
   }
 
+  /**
+   * Return the tables the query reads (base and joined tables) from the query plan or null
+   * when not yet known (the first execution of the query plan).
+   */
+  private Set<String> queryTables() {
+    CQueryPlan queryPlan = getQueryPlan();
+    return queryPlan == null ? null : queryPlan.getDependentTables();
+  }
+
   /**
    * Rollback the transaction if it was created for this request.
    */
@@ -386,12 +402,28 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
 
   @Override
   public int delete() {
-    return notifyCache(queryEngine.delete(this), false);
+    startSpan();
+    try {
+      return notifyCache(queryEngine.delete(this), false);
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
   }
 
   @Override
   public int update() {
-    return notifyCache(queryEngine.update(this), true);
+    startSpan();
+    try {
+      return notifyCache(queryEngine.update(this), true);
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
   }
 
   private int notifyCache(int rows, boolean update) {
@@ -408,30 +440,83 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
 
   @Override
   public Object findId() {
-    return queryEngine.findId(this);
+    startSpan();
+    try {
+      return queryEngine.findId(this);
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
   }
 
   @Override
   public int findCount() {
-    return queryEngine.findCount(this);
+    startSpan();
+    try {
+      return queryEngine.findCount(this);
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
   }
 
   @Override
   public <A> List<A> findIds() {
-    return queryEngine.findIds(this);
+    startSpan();
+    try {
+      return queryEngine.findIds(this);
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
   }
 
   @Override
   public void findEach(Consumer<T> consumer) {
+    startSpan();
     try (QueryIterator<T> it = queryEngine.findIterate(this)) {
       while (it.hasNext()) {
         consumer.accept(it.next());
       }
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
+  }
+
+  @Override
+  public void findJson(SpiJsonWriter writer) throws IOException {
+    startSpan();
+    try {
+      writer.writeStartArray();
+      if (!queryEngine.findJson(this, writer)) {
+        // beans are required (fetch of a many, inheritance etc) so write them one at a time
+        try (QueryIterator<T> it = queryEngine.findIterate(this)) {
+          while (it.hasNext()) {
+            beanDescriptor.jsonWrite(writer, (EntityBean) it.next(), null);
+          }
+        }
+      }
+      writer.writeEndArray();
+    } catch (IOException | RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
     }
   }
 
   @Override
   public void findEach(int batch, Consumer<List<T>> batchConsumer) {
+    startSpan();
     final List<T> buffer = new ArrayList<>(batch);
     try (QueryIterator<T> it = queryEngine.findIterate(this)) {
       while (it.hasNext()) {
@@ -445,40 +530,86 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
         // consume the remainder
         batchConsumer.accept(buffer);
       }
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
     }
   }
 
   @Override
   public void findEachWhile(Predicate<T> consumer) {
+    startSpan();
     try (QueryIterator<T> it = queryEngine.findIterate(this)) {
       while (it.hasNext()) {
         if (!consumer.test(it.next())) {
           break;
         }
       }
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
     }
   }
 
+  /**
+   * Note that when tracing the span is ended when the iterator is closed (or exhausted).
+   */
   @Override
   public QueryIterator<T> findIterate() {
-    return queryEngine.findIterate(this);
+    startSpan();
+    try {
+      QueryIterator<T> iterator = queryEngine.findIterate(this);
+      return span == null ? iterator : new TracedIterator(iterator);
+    } catch (RuntimeException e) {
+      traceError(e);
+      endSpan();
+      throw e;
+    }
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public List<T> findList() {
-    return (List<T>) queryEngine.findMany(this);
+    startSpan();
+    try {
+      return (List<T>) queryEngine.findMany(this);
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
   }
 
   @Override
   public List<Version<T>> findVersions() {
-    return queryEngine.findVersions(this);
+    startSpan();
+    try {
+      return queryEngine.findVersions(this);
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public Set<T> findSet() {
-    return (Set<T>) queryEngine.findMany(this);
+    startSpan();
+    try {
+      return (Set<T>) queryEngine.findMany(this);
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
   }
 
   @Override
@@ -493,12 +624,104 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
         throw new PersistenceException("No mapKey specified for query");
       }
     }
-    return (Map<K, T>) queryEngine.findMany(this);
+    startSpan();
+    try {
+      return (Map<K, T>) queryEngine.findMany(this);
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
   }
 
   @Override
   public <A> List<A> findSingleAttributeList() {
-    return queryEngine.findSingleAttributeList(this);
+    startSpan();
+    try {
+      return queryEngine.findSingleAttributeList(this);
+    } catch (RuntimeException e) {
+      traceError(e);
+      throw e;
+    } finally {
+      endSpan();
+    }
+  }
+
+  /**
+   * Start the span (prior to execution) when tracing. This is a null check only when
+   * there is no tracer.
+   */
+  private void startSpan() {
+    DatabaseTracer tracer = ebeanServer.getDatabaseTracer();
+    if (tracer != null) {
+      String label = query.getPlanLabel();
+      String name = (label != null) ? label : "orm." + beanDescriptor.getSimpleName() + "." + query.getType().label();
+      span = tracer.start(DatabaseTracer.Kind.QUERY, name)
+        .attribute(DatabaseTracer.DB_NAME, ebeanServer.getName())
+        .attribute(DatabaseTracer.TYPE, beanDescriptor.getFullName())
+        .attribute(DatabaseTracer.LABEL, label);
+    }
+  }
+
+  private void traceError(Throwable e) {
+    if (span != null) {
+      span.attribute(DatabaseTracer.DB_STATEMENT, query.getGeneratedSql());
+      span.error(e);
+    }
+  }
+
+  private void endSpan() {
+    if (span != null) {
+      span.end();
+      span = null;
+    }
+  }
+
+  /**
+   * QueryIterator that ends the span when closed or exhausted (so the span includes the rows read).
+   */
+  private final class TracedIterator implements QueryIterator<T> {
+
+    private final QueryIterator<T> iterator;
+
+    TracedIterator(QueryIterator<T> iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        if (iterator.hasNext()) {
+          return true;
+        }
+        endSpan();
+        return false;
+      } catch (RuntimeException e) {
+        traceError(e);
+        endSpan();
+        throw e;
+      }
+    }
+
+    @Override
+    public T next() {
+      return iterator.next();
+    }
+
+    @Override
+    public void remove() {
+      iterator.remove();
+    }
+
+    @Override
+    public void close() {
+      try {
+        iterator.close();
+      } finally {
+        endSpan();
+      }
+    }
   }
 
   /**
@@ -774,11 +997,16 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
   /**
    * Return true if read auditing is on for this query request.
    * <p>
-   * This means that read audit is on for this bean type and that query has not explicitly disabled it.
+   * This means that read audit is on for this bean type, the query has not explicitly disabled it
+   * and the query is included by the read audit sample rate of the bean type.
    * </p>
    */
   public boolean isAuditReads() {
-    return beanDescriptor.isReadAuditing() && !query.isDisableReadAudit();
+    if (auditReads == null) {
+      // determined once such that sampling is consistent for the request
+      auditReads = !query.isDisableReadAudit() && (query.getFutureFetchAudit() != null || beanDescriptor.isReadAuditSampled());
+    }
+    return auditReads;
   }
 
   /**
@@ -807,6 +1035,27 @@ public final class OrmQueryRequest<T> extends BeanRequest implements SpiOrmQuery
    */
   public void slowQueryCheck(long executionTimeMicros, int rowCount) {
     ebeanServer.slowQueryCheck(executionTimeMicros, rowCount, query);
+    traceRows(rowCount);
+  }
+
+  /**
+   * Collect the query execution time (per tenant when collecting tenant metrics).
+   */
+  public void collectTenantQuery(long executionTimeMicros) {
+    ebeanServer.collectTenantQuery(query.getTenantId(), executionTimeMicros);
+  }
+
+  /**
+   * Add the executed statement and row count to the span (when tracing).
+   * <p>
+   * Called directly for findEach/findIterate style queries that skip the slow query check.
+   * </p>
+   */
+  public void traceRows(int rowCount) {
+    if (span != null) {
+      span.attribute(DatabaseTracer.DB_STATEMENT, query.getGeneratedSql())
+        .attribute(DatabaseTracer.ROWS, rowCount);
+    }
   }
 
   public void setInlineCountDistinct() {
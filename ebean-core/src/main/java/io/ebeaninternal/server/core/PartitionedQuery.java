@@ -0,0 +1,277 @@
+package io.ebeaninternal.server.core;
+
+import io.ebean.OrderBy;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.api.SpiQuery;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.deploy.BeanProperty;
+import io.ebeaninternal.server.executor.DaemonThreadFactory;
+
+import javax.persistence.PersistenceException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Executes a query as a number of id range partitions in parallel.
+ * <p>
+ * Each partition is executed by its own thread using its own transaction (connection)
+ * and persistence context. The threads are from an executor dedicated to the query (sized
+ * to the number of partitions) rather than the background executor such that all the
+ * partitions run concurrently and do not delay (or get blocked behind) background tasks.
+ * The beans are fed into a bounded queue that is consumed by the calling thread such
+ * that slow consumers apply back pressure to the partitions.
+ * Cancelling (or a failure in any partition) cancels all the partitions.
+ * </p>
+ */
+final class PartitionedQuery<T> implements Iterator<T> {
+
+  /**
+   * Marker put on the queue when a partition has completed.
+   */
+  private static final Object END = new Object();
+
+  private static final int QUEUE_CAPACITY = 1000;
+
+  private static final long OFFER_WAIT_MILLIS = 100;
+
+  private final SpiEbeanServer server;
+
+  private final List<SpiQuery<T>> partitions;
+
+  private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+  private final AtomicBoolean cancelled = new AtomicBoolean();
+
+  private volatile RuntimeException error;
+
+  private int remaining;
+
+  private T next;
+
+  PartitionedQuery(SpiEbeanServer server, List<SpiQuery<T>> partitions) {
+    this.server = server;
+    this.partitions = partitions;
+    this.remaining = partitions.size();
+  }
+
+  /**
+   * Return the partitioned query or null if the query can not be partitioned.
+   * <p>
+   * Partitioning requires a single (not embedded) integer id property and no
+   * firstRow/maxRows. The id range is determined by a min/max query using the
+   * same predicates.
+   * </p>
+   */
+  static <T> PartitionedQuery<T> of(SpiEbeanServer server, SpiQuery<T> query, int partitions) {
+    List<SpiQuery<T>> list = partition(query, partitions);
+    return list == null ? null : new PartitionedQuery<>(server, list);
+  }
+
+  private static <T> List<SpiQuery<T>> partition(SpiQuery<T> query, int partitions) {
+    if (partitions < 2 || query.getMaxRows() > 0 || query.getFirstRow() > 0 || query.isRawSql()) {
+      return null;
+    }
+    BeanDescriptor<T> desc = query.getBeanDescriptor();
+    BeanProperty idProperty = desc.getIdProperty();
+    if (idProperty == null || idProperty.isEmbedded() || !isIntegerType(idProperty.getPropertyType())) {
+      return null;
+    }
+    String idName = idProperty.getName();
+    Number min = aggregate(query, "min(" + idName + ")").findSingleAttribute();
+    Number max = aggregate(query, "max(" + idName + ")").findSingleAttribute();
+    if (min == null || max == null) {
+      // no rows
+      return null;
+    }
+    long lower = min.longValue();
+    long upper = max.longValue();
+    long span = upper - lower + 1;
+    if (span < partitions) {
+      partitions = (int) span;
+      if (partitions < 2) {
+        return null;
+      }
+    }
+    long step = span / partitions;
+    Class<?> idType = idProperty.getPropertyType();
+    List<SpiQuery<T>> list = new ArrayList<>(partitions);
+    for (int i = 0; i < partitions; i++) {
+      long from = lower + i * step;
+      SpiQuery<T> copy = copy(query);
+      if (i == partitions - 1) {
+        copy.where().between(idName, idValue(idType, from), idValue(idType, upper));
+      } else {
+        copy.where().ge(idName, idValue(idType, from)).lt(idName, idValue(idType, from + step));
+      }
+      list.add(copy);
+    }
+    return list;
+  }
+
+  private static <T> SpiQuery<T> aggregate(SpiQuery<T> query, String aggregate) {
+    SpiQuery<T> copy = copy(query);
+    copy.getDetail().clear();
+    copy.select(aggregate);
+    copy.setOrderBy((OrderBy<T>) null);
+    return copy;
+  }
+
+  private static <T> SpiQuery<T> copy(SpiQuery<T> query) {
+    SpiQuery<T> copy = query.copy();
+    // each partition uses its own transaction
+    copy.usingTransaction(null);
+    return copy;
+  }
+
+  private static boolean isIntegerType(Class<?> type) {
+    return type == Long.class || type == long.class
+      || type == Integer.class || type == int.class
+      || type == Short.class || type == short.class;
+  }
+
+  private static Object idValue(Class<?> idType, long value) {
+    if (idType == Integer.class || idType == int.class) {
+      return (int) value;
+    } else if (idType == Short.class || idType == short.class) {
+      return (short) value;
+    }
+    return value;
+  }
+
+  /**
+   * Start executing the partitions.
+   */
+  PartitionedQuery<T> start() {
+    ExecutorService executor = Executors.newFixedThreadPool(partitions.size(), new DaemonThreadFactory("ebean-partition-"));
+    for (SpiQuery<T> partition : partitions) {
+      executor.execute(() -> run(partition));
+    }
+    // threads terminate when their partition completes
+    executor.shutdown();
+    return this;
+  }
+
+  /**
+   * Process all the beans with the consumer (in the calling thread).
+   */
+  void findEach(Consumer<T> consumer) {
+    try {
+      while (hasNext()) {
+        consumer.accept(next());
+      }
+    } finally {
+      close();
+    }
+  }
+
+  /**
+   * Close cancelling any partitions that have not completed.
+   */
+  void close() {
+    if (remaining > 0) {
+      cancel();
+    }
+  }
+
+  /**
+   * Cancel all the partitions.
+   */
+  void cancel() {
+    if (cancelled.compareAndSet(false, true)) {
+      for (SpiQuery<T> partition : partitions) {
+        partition.cancel();
+      }
+      queue.clear();
+    }
+  }
+
+  private void run(SpiQuery<T> partition) {
+    try {
+      if (!cancelled.get()) {
+        // skip when cancelled before the partition started
+        server.findEachWhile(partition, this::offer, null);
+      }
+    } catch (RuntimeException e) {
+      if (!cancelled.get()) {
+        error = e;
+        cancel();
+      }
+    } finally {
+      offer(END);
+    }
+  }
+
+  /**
+   * Offer to the queue waiting for space unless cancelled.
+   */
+  private boolean offer(Object item) {
+    try {
+      while (!cancelled.get()) {
+        if (queue.offer(item, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean hasNext() {
+    while (next == null) {
+      checkError();
+      if (remaining == 0 || cancelled.get()) {
+        return false;
+      }
+      Object item = poll();
+      if (item == END) {
+        remaining--;
+      } else if (item != null) {
+        next = (T) item;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T bean = next;
+    next = null;
+    return bean;
+  }
+
+  /**
+   * Poll the queue with a timeout such that failures and cancellation are detected.
+   */
+  private Object poll() {
+    try {
+      return queue.poll(OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      cancel();
+      // restore the interrupted status (so client can check for that)
+      Thread.currentThread().interrupt();
+      throw new PersistenceException(e);
+    }
+  }
+
+  private void checkError() {
+    RuntimeException e = error;
+    if (e != null) {
+      throw e;
+    }
+  }
+}
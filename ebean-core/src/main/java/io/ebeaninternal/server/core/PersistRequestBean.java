@@ -14,6 +14,7 @@ import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.api.SpiProfileTransactionEvent;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.api.TransactionEvent;
+import io.ebeaninternal.api.UpdatePlanKey;
 import io.ebeaninternal.server.cache.CacheChangeSet;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.BeanManager;
@@ -49,6 +50,14 @@ import java.util.Set;
  */
 public final class PersistRequestBean<T> extends PersistRequest implements BeanPersistRequest<T>, DocStoreUpdate, PreGetterCallback, SpiProfileTransactionEvent {
 
+  /**
+   * Update plan key flags (bits prior to the property mask).
+   */
+  private static final long PLAN_LOADED = 1;
+  private static final long PLAN_VERSION = 2;
+  private static final long PLAN_PUBLISH = 4;
+  private static final int PLAN_HEADER_BITS = 3;
+
   private final BeanManager<T> beanManager;
 
   private final BeanDescriptor<T> beanDescriptor;
@@ -153,6 +162,11 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
    */
   private boolean skipBatchForTopLevel;
 
+  /**
+   * Flag set when the insert is part of a bulk insert (cache and listeners notified per table).
+   */
+  private boolean bulkInsert;
+
   /**
    * Flag set when batch mode is turned on for a persist cascade.
    */
@@ -409,6 +423,22 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
     skipBatchForTopLevel = true;
   }
 
+  /**
+   * Set when this insert is part of a bulk insert.
+   * <p>
+   * The L2 cache and listeners are then notified once per table rather than per bean.
+   */
+  public void setBulkInsert() {
+    bulkInsert = true;
+  }
+
+  /**
+   * Return true if this insert is part of a bulk insert.
+   */
+  public boolean isBulkInsert() {
+    return bulkInsert;
+  }
+
   @Override
   public boolean isBatchThisRequest() {
     return !skipBatchForTopLevel && super.isBatchThisRequest();
@@ -935,6 +965,7 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
     }
     addPostCommitListeners();
     notifyCacheOnPostExecute();
+    transaction.getEvent().addPersistTable(beanDescriptor.getBaseTable());
     if (isLogSummary()) {
       logSummary();
     }
@@ -1009,7 +1040,7 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
    */
   private void addPostCommitListeners() {
     TransactionEvent event = transaction.getEvent();
-    if (event != null && isNotifyListeners()) {
+    if (event != null && !bulkInsert && isNotifyListeners()) {
       event.addListenerNotify(this);
     }
   }
@@ -1111,7 +1142,7 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
    */
   private void notifyCacheOnPostExecute() {
     postExecute = true;
-    if (notifyCache && complete) {
+    if (notifyCache && complete && !bulkInsert) {
       // add cache notification (on batch persist)
       TransactionEvent event = transaction.getEvent();
       if (event != null) {
@@ -1125,7 +1156,7 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
    */
   private void notifyCacheOnComplete() {
     complete = true;
-    if (notifyCache && postExecute) {
+    if (notifyCache && postExecute && !bulkInsert) {
       // add cache notification (on non-batch persist)
       TransactionEvent event = transaction.getEvent();
       if (event != null) {
@@ -1194,24 +1225,28 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
 
   /**
    * Return the key for an update persist request.
-   */
-  public String getUpdatePlanHash() {
-    StringBuilder key;
-    if (determineUpdateAllLoadedProperties()) {
-      key = intercept.getLoadedPropertyKey();
+   * <p>
+   * The first bits are flags for loaded properties mode, version and publish followed by the
+   * bit mask of the loaded or dirty properties.
+   */
+  public UpdatePlanKey getUpdatePlanKey() {
+    boolean allLoaded = determineUpdateAllLoadedProperties();
+    int bits = PLAN_HEADER_BITS + (allLoaded ? intercept.getPropertyLength() : intercept.getDirtyMaskBits());
+    long[] mask = new long[(bits + 63) >>> 6];
+    if (allLoaded) {
+      mask[0] |= PLAN_LOADED;
+      intercept.setLoadedMask(mask, PLAN_HEADER_BITS);
     } else {
-      key = intercept.getDirtyPropertyKey();
+      intercept.setDirtyMask(mask, PLAN_HEADER_BITS);
     }
     BeanProperty versionProperty = beanDescriptor.getVersionProperty();
-    if (versionProperty != null) {
-      if (intercept.isLoadedProperty(versionProperty.getPropertyIndex())) {
-        key.append('v');
-      }
+    if (versionProperty != null && intercept.isLoadedProperty(versionProperty.getPropertyIndex())) {
+      mask[0] |= PLAN_VERSION;
     }
     if (publish) {
-      key.append('p');
+      mask[0] |= PLAN_PUBLISH;
     }
-    return key.toString();
+    return new UpdatePlanKey(mask);
   }
 
   /**
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.core;
 
+import io.ebean.BulkInsertOptions;
 import io.ebean.CallableSql;
 import io.ebean.MergeOptions;
 import io.ebean.Query;
@@ -25,6 +26,11 @@ public interface Persister {
    */
   int merge(BeanDescriptor<?> desc, EntityBean entityBean, MergeOptions options, SpiTransaction transaction);
 
+  /**
+   * Bulk insert the beans.
+   */
+  void bulkInsert(List<EntityBean> beans, BulkInsertOptions options, SpiTransaction transaction);
+
   /**
    * Update the bean.
    */
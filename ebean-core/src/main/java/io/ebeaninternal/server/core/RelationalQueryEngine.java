@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.core;
 
 
+import io.ebean.ColumnBatch;
 import io.ebean.RowConsumer;
 import io.ebean.RowMapper;
 import io.ebean.SqlRow;
@@ -57,6 +58,11 @@ public interface RelationalQueryEngine {
    */
   void findEachRow(RelationalQueryRequest request, RowConsumer mapper);
 
+  /**
+   * Find column batches via consumer.
+   */
+  void findColumnarBatches(RelationalQueryRequest request, int batchSize, Consumer<ColumnBatch> consumer);
+
   /**
    * Collect SQL query execution statistics.
    */
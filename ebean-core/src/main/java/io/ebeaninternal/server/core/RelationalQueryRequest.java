@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.core;
 
+import io.ebean.ColumnBatch;
 import io.ebean.RowConsumer;
 import io.ebean.RowMapper;
 import io.ebean.SqlQuery;
@@ -61,6 +62,12 @@ public final class RelationalQueryRequest extends AbstractSqlQueryRequest {
     return true;
   }
 
+  boolean findColumnarBatches(int batchSize, Consumer<ColumnBatch> consumer) {
+    flushJdbcBatchOnQuery();
+    queryEngine.findColumnarBatches(this, batchSize, consumer);
+    return true;
+  }
+
   <T> List<T> findListMapper(RowMapper<T> mapper) {
     flushJdbcBatchOnQuery();
     return queryEngine.findListMapper(this, mapper);
@@ -161,4 +168,8 @@ public final class RelationalQueryRequest extends AbstractSqlQueryRequest {
     }
   }
 
+  public void mapColumnBatches(int batchSize, Consumer<ColumnBatch> consumer) throws SQLException {
+    rows += readColumnBatches(batchSize, consumer);
+  }
+
 }
@@ -4,9 +4,11 @@ import io.ebean.QueryIterator;
 import io.ebean.Version;
 import io.ebean.event.BeanQueryRequest;
 import io.ebeaninternal.api.SpiQuery;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeanservice.docstore.api.DocQueryRequest;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -89,6 +91,11 @@ public interface SpiOrmQueryRequest<T> extends BeanQueryRequest<T>, DocQueryRequ
    */
   void findEach(int batch, Consumer<List<T>> batchConsumer);
 
+  /**
+   * Execute the query writing the results as a JSON array.
+   */
+  void findJson(SpiJsonWriter writer) throws IOException;
+
   /**
    * Execute the find returning a QueryIterator and visitor pattern.
    */
@@ -0,0 +1,114 @@
+package io.ebeaninternal.server.core;
+
+import io.ebean.bean.CallOrigin;
+import io.ebeaninternal.server.util.StackFrames;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * CallOriginFactory using StackWalker that stops after maxCallStack non-ebean frames.
+ * <p>
+ * The frames are hashed from their class name, method name and line number without creating
+ * StackTraceElements and the resulting CallStack is cached by that hash. Repeated call sites
+ * then return the cached CallStack.
+ * </p>
+ */
+final class StackWalkerCallOriginFactory implements CallOriginFactory {
+
+  /**
+   * Number of cached call stacks (power of 2).
+   */
+  private static final int CACHE_SIZE = 1024;
+
+  private static final long MIX = 0x9E3779B97F4A7C15L;
+
+  private final int maxCallStack;
+
+  /**
+   * Direct mapped cache of CallStack by frame hash.
+   */
+  private final AtomicReferenceArray<Entry> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+  private final ThreadLocal<Frames> frames;
+
+  StackWalkerCallOriginFactory(int maxCallStack) {
+    this.maxCallStack = Math.max(maxCallStack, 1);
+    this.frames = ThreadLocal.withInitial(() -> new Frames(this.maxCallStack));
+  }
+
+  @Override
+  public CallOrigin createCallOrigin() {
+    Frames walk = frames.get();
+    try {
+      StackFrames.walk(walk);
+      if (walk.count == 0) {
+        // this should not really happen
+        throw new IllegalStateException("No stack frames outside of ebean?");
+      }
+      long hash = walk.hash;
+      int slot = (int) (hash ^ (hash >>> 32)) & (CACHE_SIZE - 1);
+      Entry entry = cache.get(slot);
+      if (entry != null && entry.hash == hash) {
+        return entry.origin;
+      }
+      CallOrigin origin = DefaultCallOriginFactory.createCallStack(walk.toTrace());
+      cache.set(slot, new Entry(hash, origin));
+      return origin;
+    } finally {
+      walk.reset();
+    }
+  }
+
+  private static final class Entry {
+
+    final long hash;
+    final CallOrigin origin;
+
+    Entry(long hash, CallOrigin origin) {
+      this.hash = hash;
+      this.origin = origin;
+    }
+  }
+
+  /**
+   * Collects the hash and frames of a walk (reused per thread).
+   */
+  private static final class Frames extends StackFrames.Visitor {
+
+    final Object[] frames;
+    int count;
+    long hash;
+
+    Frames(int maxCallStack) {
+      this.frames = new Object[maxCallStack];
+    }
+
+    @Override
+    protected boolean visit(Object frame, String className, String methodName, int lineNumber) {
+      if (count == 0 && DefaultCallOriginFactory.ignore(className, methodName)) {
+        // skip the leading ebean frames
+        return true;
+      }
+      frames[count++] = frame;
+      hash = (hash ^ className.hashCode()) * MIX;
+      hash = (hash ^ methodName.hashCode()) * MIX;
+      hash = (hash ^ lineNumber) * MIX;
+      return count < frames.length;
+    }
+
+    StackTraceElement[] toTrace() {
+      StackTraceElement[] trace = new StackTraceElement[count];
+      for (int i = 0; i < count; i++) {
+        trace[i] = StackFrames.toStackTraceElement(frames[i]);
+      }
+      return trace;
+    }
+
+    void reset() {
+      Arrays.fill(frames, 0, count, null);
+      count = 0;
+      hash = 0;
+    }
+  }
+}
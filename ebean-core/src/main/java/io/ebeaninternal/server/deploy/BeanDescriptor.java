@@ -47,11 +47,13 @@ import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.api.SpiUpdatePlan;
+import io.ebeaninternal.api.UpdatePlanKey;
 import io.ebeaninternal.api.TransactionEventTable.TableIUD;
 import io.ebeaninternal.api.json.SpiJsonReader;
 import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.cache.CacheChangeSet;
 import io.ebeaninternal.server.cache.CachedBeanData;
+import io.ebeaninternal.server.cache.CachedBeanSchema;
 import io.ebeaninternal.server.cache.CachedManyIds;
 import io.ebeaninternal.server.core.CacheOptions;
 import io.ebeaninternal.server.core.DefaultSqlUpdate;
@@ -111,6 +113,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -123,9 +126,9 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
 
   private static final Logger logger = LoggerFactory.getLogger(BeanDescriptor.class);
 
-  private final ConcurrentHashMap<String, SpiUpdatePlan> updatePlanCache = new ConcurrentHashMap<>();
+  private final UpdatePlanCache updatePlanCache;
 
-  private final ConcurrentHashMap<CQueryPlanKey, CQueryPlan> queryPlanCache = new ConcurrentHashMap<>();
+  private final QueryPlanCache queryPlanCache;
 
   private final ConcurrentHashMap<String, ElPropertyValue> elCache = new ConcurrentHashMap<>();
 
@@ -207,6 +210,11 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
    */
   private final boolean readAuditing;
 
+  /**
+   * The proportion of reads that are audited (1 for all reads).
+   */
+  private final double readAuditSampleRate;
+
   private final boolean draftable;
 
   private final boolean draftableElement;
@@ -302,6 +310,12 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
    */
   private final BeanProperty[] propertiesNonTransient;
   final BeanProperty[] propertiesIndex;
+
+  /**
+   * The properties held in the bean cache by position of the cacheSchema.
+   */
+  private final BeanProperty[] propertiesCache;
+  private final CachedBeanSchema cacheSchema;
   private final BeanProperty[] propertiesGenInsert;
   private final BeanProperty[] propertiesGenUpdate;
   private final List<BeanProperty[]> propertiesUnique = new ArrayList<>();
@@ -349,6 +363,8 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
 
   public BeanDescriptor(BeanDescriptorMap owner, DeployBeanDescriptor<T> deploy) {
     this.owner = owner;
+    this.queryPlanCache = owner.createQueryPlanCache();
+    this.updatePlanCache = owner.createUpdatePlanCache();
     this.multiValueSupported = owner.isMultiValueSupported();
     this.entityType = deploy.getEntityType();
     this.properties = deploy.getProperties();
@@ -379,6 +395,7 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     this.concurrencyMode = deploy.getConcurrencyMode();
     this.indexDefinitions = deploy.getIndexDefinitions();
     this.readAuditing = deploy.isReadAuditing();
+    this.readAuditSampleRate = deploy.getReadAuditSampleRate();
     this.draftable = deploy.isDraftable();
     this.draftableElement = deploy.isDraftableElement();
     this.historySupport = deploy.isHistorySupport();
@@ -431,6 +448,8 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     this.idOnlyReference = isIdOnlyReference(propertiesBaseScalar);
     boolean noRelationships = propertiesOne.length + propertiesMany.length == 0;
     this.cacheSharableBeans = noRelationships && deploy.getCacheOptions().isReadOnly();
+    this.propertiesCache = initPropertiesCache();
+    this.cacheSchema = initCacheSchema();
     this.cacheHelp = new BeanDescriptorCacheHelp<>(this, owner.getCacheManager(), deploy.getCacheOptions(), cacheSharableBeans, propertiesOneImported);
     this.jsonHelp = initJsonHelp();
     this.draftHelp = new BeanDescriptorDraftHelp<>(this);
@@ -469,6 +488,33 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     }
   }
 
+  /**
+   * Return the properties held in the bean cache (id, non-many and element collections).
+   */
+  private BeanProperty[] initPropertiesCache() {
+    List<BeanProperty> list = new ArrayList<>();
+    if (idProperty != null) {
+      list.add(idProperty);
+    }
+    Collections.addAll(list, propertiesNonMany);
+    for (BeanPropertyAssocMany<?> many : propertiesMany) {
+      if (many.isElementCollection()) {
+        list.add(many);
+      }
+    }
+    return list.toArray(new BeanProperty[0]);
+  }
+
+  private CachedBeanSchema initCacheSchema() {
+    String[] names = new String[propertiesCache.length];
+    Class<?>[] types = new Class<?>[propertiesCache.length];
+    for (int i = 0; i < propertiesCache.length; i++) {
+      names[i] = propertiesCache[i].getName();
+      types[i] = propertiesCache[i].getPropertyType();
+    }
+    return CachedBeanSchema.register(names, types);
+  }
+
   public boolean isJacksonCorePresent() {
     return owner.isJacksonCorePresent();
   }
@@ -1489,12 +1535,15 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
    * Prepare the read audit of a findFutureList() query.
    */
   public void readAuditFutureList(SpiQuery<T> spiQuery) {
-    if (isReadAuditing()) {
+    if (isReadAuditSampled()) {
       ReadEvent event = new ReadEvent(fullName);
       // prepare in the foreground thread while we have the user context
       // information (query is processed/executed later in bg thread)
       readAuditPrepare(event);
       spiQuery.setFutureFetchAudit(event);
+    } else if (readAuditing) {
+      // excluded by the sample rate
+      spiQuery.setDisableReadAuditing();
     }
   }
 
@@ -1565,7 +1614,7 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
   }
 
   void queryPlanInit(QueryPlanInit request, List<MetaQueryPlan> list) {
-    for (CQueryPlan queryPlan : queryPlanCache.values()) {
+    for (CQueryPlan queryPlan : queryPlanCache.plans()) {
       if (request.includeHash(queryPlan.getHash())) {
         queryPlan.queryPlanInit(request.getThresholdMicros());
         list.add(queryPlan.createMeta(null, null));
@@ -1578,7 +1627,7 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
    */
   public void visitMetrics(MetricVisitor visitor) {
     iudMetrics.visit(visitor);
-    for (CQueryPlan queryPlan : queryPlanCache.values()) {
+    for (CQueryPlan queryPlan : queryPlanCache.plans()) {
       if (!queryPlan.isEmptyStats()) {
         visitor.visitQuery(queryPlan.getSnapshot(visitor.isReset()));
       }
@@ -1589,7 +1638,7 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
    * Reset the statistics on all the query plans.
    */
   public void clearQueryStatistics() {
-    for (CQueryPlan queryPlan : queryPlanCache.values()) {
+    for (CQueryPlan queryPlan : queryPlanCache.plans()) {
       queryPlan.resetStatistics();
     }
   }
@@ -1598,7 +1647,7 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
    * Trim query plans not used since the passed in epoch time.
    */
   void trimQueryPlans(long unusedSince) {
-    queryPlanCache.values().removeIf(queryPlan -> queryPlan.getLastQueryTime() < unusedSince);
+    queryPlanCache.trim(unusedSince);
   }
 
   /**
@@ -1620,16 +1669,16 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
   }
 
   /**
-   * Get a UpdatePlan for a given hash.
+   * Get a UpdatePlan for a given key.
    */
-  public SpiUpdatePlan getUpdatePlan(String key) {
+  public SpiUpdatePlan getUpdatePlan(UpdatePlanKey key) {
     return updatePlanCache.get(key);
   }
 
   /**
-   * Add a UpdatePlan to the cache with a given hash.
+   * Add a UpdatePlan to the cache with a given key.
    */
-  public void putUpdatePlan(String key, SpiUpdatePlan plan) {
+  public void putUpdatePlan(UpdatePlanKey key, SpiUpdatePlan plan) {
     updatePlanCache.put(key, plan);
   }
 
@@ -1893,7 +1942,7 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
       if (d != null) {
         Object shareableBean = d.getSharableBean();
         if (shareableBean != null) {
-          if (isReadAuditing()) {
+          if (isReadAuditSampled()) {
             readAuditBean("ref", "", shareableBean);
           }
           return (T) shareableBean;
@@ -2740,6 +2789,11 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     return EntityType.SQL == entityType;
   }
 
+  @Override
+  public boolean isJsonRowWrite() {
+    return propertiesTransient.length == 0 && unmappedJson == null && beanPostLoad == null;
+  }
+
   /**
    * Return the DB comment for the base table.
    */
@@ -2821,6 +2875,13 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     return readAuditing;
   }
 
+  /**
+   * Return true if read auditing is on and this read is included by the read audit sample rate.
+   */
+  public boolean isReadAuditSampled() {
+    return readAuditing && (readAuditSampleRate >= 1D || ThreadLocalRandom.current().nextDouble() < readAuditSampleRate);
+  }
+
   @Override
   public boolean isSoftDelete() {
     return softDelete;
@@ -3305,6 +3366,20 @@ public class BeanDescriptor<T> implements BeanType<T>, STreeType {
     return propertiesNonMany;
   }
 
+  /**
+   * Properties held in the bean cache by position of the cache schema.
+   */
+  public BeanProperty[] propertiesCache() {
+    return propertiesCache;
+  }
+
+  /**
+   * Return the schema of the bean cache data.
+   */
+  public CachedBeanSchema getCacheSchema() {
+    return cacheSchema;
+  }
+
   /**
    * All Assoc Many's for this descriptor.
    */
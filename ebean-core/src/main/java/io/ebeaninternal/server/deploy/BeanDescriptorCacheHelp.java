@@ -617,7 +617,7 @@ final class BeanDescriptorCacheHelp<T> {
         if (beanLog.isTraceEnabled()) {
           beanLog.trace("   GET {}({}) - hit shared bean", cacheName, id);
         }
-        if (desc.isReadAuditing()) {
+        if (desc.isReadAuditSampled()) {
           desc.readAuditBean("l2", "", bean);
         }
         return (T) bean;
@@ -671,7 +671,7 @@ final class BeanDescriptorCacheHelp<T> {
     }
 
     CachedBeanDataToBean.load(desc, bean, data, context);
-    if (desc.isReadAuditing()) {
+    if (desc.isReadAuditSampled()) {
       desc.readAuditBean("l2", "", bean);
     }
     return bean;
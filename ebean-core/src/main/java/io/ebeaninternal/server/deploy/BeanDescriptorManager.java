@@ -24,6 +24,8 @@ import io.ebean.event.changelog.ChangeLogRegister;
 import io.ebean.meta.MetaQueryPlan;
 import io.ebean.meta.MetricVisitor;
 import io.ebean.meta.QueryPlanInit;
+import io.ebean.metric.CountMetric;
+import io.ebean.metric.MetricFactory;
 import io.ebean.plugin.BeanType;
 import io.ebean.util.AnnotationUtil;
 import io.ebeaninternal.api.ConcurrencyMode;
@@ -136,6 +138,14 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
   private final String asOfViewSuffix;
   private final boolean jacksonCorePresent;
   private final int queryPlanTTLSeconds;
+
+  private final QueryPlanCacheBudget queryPlanCacheBudget;
+
+  private final int updatePlanCacheMaxSize;
+
+  private final CountMetric updatePlanHitCount;
+
+  private final CountMetric updatePlanMissCount;
   private int entityBeanCount;
   private List<BeanDescriptor<?>> immutableDescriptorList;
 
@@ -170,6 +180,10 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
     this.multiValueBind = config.getMultiValueBind();
     this.idBinderFactory = new IdBinderFactory(databasePlatform.isIdInExpandedForm(), multiValueBind);
     this.queryPlanTTLSeconds = this.config.getQueryPlanTTLSeconds();
+    this.queryPlanCacheBudget = new QueryPlanCacheBudget(this.config.getQueryPlanCacheMaxBytes());
+    this.updatePlanCacheMaxSize = this.config.getUpdatePlanCacheMaxSize();
+    this.updatePlanHitCount = MetricFactory.get().createCountMetric("update.plan.cache.hit");
+    this.updatePlanMissCount = MetricFactory.get().createCountMetric("update.plan.cache.miss");
     this.asOfViewSuffix = getAsOfViewSuffix(databasePlatform, this.config);
     String versionsBetweenSuffix = getVersionsBetweenSuffix(databasePlatform, this.config);
     this.readAnnotations = new ReadAnnotations(config.getGeneratedPropertyFactory(), asOfViewSuffix, versionsBetweenSuffix, this.config);
@@ -195,6 +209,16 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
     this.jacksonCorePresent = config.isJacksonCorePresent();
   }
 
+  @Override
+  public QueryPlanCache createQueryPlanCache() {
+    return queryPlanCacheBudget.createCache();
+  }
+
+  @Override
+  public UpdatePlanCache createUpdatePlanCache() {
+    return new UpdatePlanCache(updatePlanCacheMaxSize, updatePlanHitCount, updatePlanMissCount);
+  }
+
   @Override
   public boolean isJacksonCorePresent() {
     return jacksonCorePresent;
@@ -1519,6 +1543,9 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
   }
 
   public void visitMetrics(MetricVisitor visitor) {
+    queryPlanCacheBudget.visitMetrics(visitor);
+    updatePlanHitCount.visit(visitor);
+    updatePlanMissCount.visit(visitor);
     for (BeanDescriptor<?> desc : immutableDescriptorList) {
       desc.visitMetrics(visitor);
     }
@@ -27,6 +27,16 @@ public interface BeanDescriptorMap {
    */
   DatabaseConfig getConfig();
 
+  /**
+   * Create the query plan cache for a bean type (bounded by a shared memory budget).
+   */
+  QueryPlanCache createQueryPlanCache();
+
+  /**
+   * Create the update plan cache for a bean type.
+   */
+  UpdatePlanCache createUpdatePlanCache();
+
   /**
    * Return the Cache Manager.
    */
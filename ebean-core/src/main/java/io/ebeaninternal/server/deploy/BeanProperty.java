@@ -1447,9 +1447,27 @@ public class BeanProperty implements ElPropertyValue, Property, STreeProperty {
     }
   }
 
+  @Override
+  public boolean isJsonRowWrite() {
+    return scalarType != null;
+  }
+
+  @Override
+  public void jsonWriteRow(DbReadContext ctx, SpiJsonWriter writeJson, boolean include) throws SQLException, IOException {
+    if (!ctx.isRawSql() && !isLoadProperty(ctx.isDraftQuery())) {
+      // not included in the select
+      return;
+    }
+    Object value = read(ctx);
+    if (include) {
+      jsonWriteValue(writeJson, value);
+    }
+  }
+
   /**
    * JSON write the property value.
    */
+  @Override
   public void jsonWriteValue(SpiJsonWriter writeJson, Object value) throws IOException {
     if (!jsonSerialize) {
       return;
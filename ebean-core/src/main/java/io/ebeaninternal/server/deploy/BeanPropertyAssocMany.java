@@ -833,6 +833,11 @@ public class BeanPropertyAssocMany<T> extends BeanPropertyAssoc<T> implements ST
     return null != targetDescriptor.getId(otherBean);
   }
 
+  @Override
+  public boolean isJsonRowWrite() {
+    return false;
+  }
+
   /**
    * Skip JSON write value for ToMany property.
    */
@@ -778,6 +778,31 @@ public class BeanPropertyAssocOne<T> extends BeanPropertyAssoc<T> implements STr
     }
   }
 
+  /**
+   * Only the foreign key is read with the join to the target being a separate node.
+   */
+  @Override
+  public boolean isJsonRowWrite() {
+    return !embedded && !oneToOneExported && targetInheritInfo == null && !targetIdBinder.isComplexId();
+  }
+
+  @Override
+  public void jsonWriteRow(DbReadContext ctx, SpiJsonWriter writeJson, boolean include) throws SQLException, IOException {
+    if (!ctx.isRawSql() && !isLoadProperty(ctx.isDraftQuery())) {
+      return;
+    }
+    Object id = targetIdBinder.read(ctx);
+    if (include && jsonSerialize) {
+      if (id == null) {
+        writeJson.writeNullField(name);
+      } else {
+        writeJson.writeStartObject(name);
+        targetDescriptor.getIdProperty().jsonWriteValue(writeJson, id);
+        writeJson.writeEndObject();
+      }
+    }
+  }
+
   /**
    * Just write the Id property of the ToOne property.
    */
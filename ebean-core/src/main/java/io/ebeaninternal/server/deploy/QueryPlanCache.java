@@ -0,0 +1,135 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebeaninternal.api.CQueryPlanKey;
+import io.ebeaninternal.server.query.CQueryPlan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Query plan cache for a bean type bounded by the shared QueryPlanCacheBudget.
+ * <p>
+ * Each entry tracks a hit count and last access time used to choose which plans to evict.
+ * These are updated without synchronisation and are approximate under concurrent use.
+ * </p>
+ */
+final class QueryPlanCache {
+
+  private final ConcurrentHashMap<CQueryPlanKey, Entry> map = new ConcurrentHashMap<>();
+
+  private final QueryPlanCacheBudget budget;
+
+  QueryPlanCache(QueryPlanCacheBudget budget) {
+    this.budget = budget;
+  }
+
+  /**
+   * Return the query plan for the given key or null if not in the cache.
+   */
+  CQueryPlan get(CQueryPlanKey key) {
+    Entry entry = map.get(key);
+    if (entry == null) {
+      budget.miss();
+      return null;
+    }
+    budget.hit();
+    entry.hit();
+    return entry.plan;
+  }
+
+  /**
+   * Put the query plan into the cache evicting plans if the budget is exceeded.
+   */
+  void put(CQueryPlanKey key, CQueryPlan plan) {
+    Entry entry = new Entry(key, plan);
+    Entry replaced = map.put(key, entry);
+    budget.add(replaced == null ? entry.bytes : entry.bytes - replaced.bytes);
+    budget.evictIfRequired();
+  }
+
+  /**
+   * Return the number of query plans in the cache.
+   */
+  int size() {
+    return map.size();
+  }
+
+  /**
+   * Return all the query plans.
+   */
+  Collection<CQueryPlan> plans() {
+    List<CQueryPlan> plans = new ArrayList<>(map.size());
+    for (Entry entry : map.values()) {
+      plans.add(entry.plan);
+    }
+    return plans;
+  }
+
+  /**
+   * Remove query plans not used since the passed in epoch time.
+   */
+  void trim(long unusedSince) {
+    for (Entry entry : map.values()) {
+      if (entry.plan.getLastQueryTime() < unusedSince) {
+        entry.evict();
+      }
+    }
+  }
+
+  void collectEntries(List<Entry> entries) {
+    entries.addAll(map.values());
+  }
+
+  final class Entry {
+
+    private final CQueryPlanKey key;
+
+    private final CQueryPlan plan;
+
+    private final int bytes;
+
+    private int hits;
+
+    private long lastAccess;
+
+    Entry(CQueryPlanKey key, CQueryPlan plan) {
+      this.key = key;
+      this.plan = plan;
+      this.bytes = plan.memoryEstimate();
+      this.lastAccess = System.currentTimeMillis();
+    }
+
+    int hits() {
+      return hits;
+    }
+
+    long lastAccess() {
+      return lastAccess;
+    }
+
+    void hit() {
+      hits++;
+      lastAccess = System.currentTimeMillis();
+    }
+
+    /**
+     * Halve the hit count.
+     */
+    void age() {
+      hits >>>= 1;
+    }
+
+    /**
+     * Remove this entry from the cache returning true if it was removed.
+     */
+    boolean evict() {
+      if (map.remove(key, this)) {
+        budget.add(-bytes);
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebean.meta.MetricVisitor;
+import io.ebean.metric.CountMetric;
+import io.ebean.metric.MetricFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Memory budget shared by the query plan caches of all bean types.
+ * <p>
+ * When the estimated memory used by the query plans exceeds the max bytes the plans with
+ * the lowest hit count (then least recently used) are evicted until the memory used is
+ * below 80% of the max. The hit counts are then halved such that plans that were used
+ * heavily in the past but no longer can be evicted.
+ * </p>
+ */
+final class QueryPlanCacheBudget {
+
+  private final List<QueryPlanCache> caches = new CopyOnWriteArrayList<>();
+
+  private final ReentrantLock evictLock = new ReentrantLock();
+
+  private final AtomicLong usedBytes = new AtomicLong();
+
+  private final long maxBytes;
+
+  private final long targetBytes;
+
+  private final CountMetric hitCount;
+
+  private final CountMetric missCount;
+
+  private final CountMetric evictCount;
+
+  /**
+   * Create with the given max bytes (0 for no limit).
+   */
+  QueryPlanCacheBudget(long maxBytes) {
+    this.maxBytes = maxBytes;
+    this.targetBytes = maxBytes * 80 / 100;
+    MetricFactory factory = MetricFactory.get();
+    this.hitCount = factory.createCountMetric("query.plan.cache.hit");
+    this.missCount = factory.createCountMetric("query.plan.cache.miss");
+    this.evictCount = factory.createCountMetric("query.plan.cache.evict");
+  }
+
+  /**
+   * Create a query plan cache that uses this budget.
+   */
+  QueryPlanCache createCache() {
+    QueryPlanCache cache = new QueryPlanCache(this);
+    caches.add(cache);
+    return cache;
+  }
+
+  /**
+   * Return the estimated bytes used by all the query plans.
+   */
+  long usedBytes() {
+    return usedBytes.get();
+  }
+
+  void hit() {
+    hitCount.increment();
+  }
+
+  void miss() {
+    missCount.increment();
+  }
+
+  /**
+   * Adjust the estimated memory used (negative for plans removed).
+   */
+  void add(long bytes) {
+    usedBytes.addAndGet(bytes);
+  }
+
+  /**
+   * Evict query plans if the max bytes has been exceeded.
+   * <p>
+   * Only one thread performs eviction at a time with other threads continuing without waiting.
+   */
+  void evictIfRequired() {
+    if (maxBytes <= 0 || usedBytes.get() <= maxBytes || !evictLock.tryLock()) {
+      return;
+    }
+    try {
+      List<QueryPlanCache.Entry> entries = new ArrayList<>();
+      for (QueryPlanCache cache : caches) {
+        cache.collectEntries(entries);
+      }
+      // sort on a copy of the usage as it is concurrently updated
+      List<Candidate> candidates = new ArrayList<>(entries.size());
+      for (QueryPlanCache.Entry entry : entries) {
+        candidates.add(new Candidate(entry));
+      }
+      candidates.sort(Comparator.comparingInt((Candidate c) -> c.hits).thenComparingLong(c -> c.lastAccess));
+      int evicted = 0;
+      for (Candidate candidate : candidates) {
+        if (usedBytes.get() <= targetBytes) {
+          break;
+        }
+        if (candidate.entry.evict()) {
+          evicted++;
+        }
+      }
+      evictCount.add(evicted);
+      for (QueryPlanCache.Entry entry : entries) {
+        entry.age();
+      }
+    } finally {
+      evictLock.unlock();
+    }
+  }
+
+  void visitMetrics(MetricVisitor visitor) {
+    hitCount.visit(visitor);
+    missCount.visit(visitor);
+    evictCount.visit(visitor);
+  }
+
+  private static final class Candidate {
+
+    final QueryPlanCache.Entry entry;
+    final int hits;
+    final long lastAccess;
+
+    Candidate(QueryPlanCache.Entry entry) {
+      this.entry = entry;
+      this.hits = entry.hits();
+      this.lastAccess = entry.lastAccess();
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebean.metric.CountMetric;
+import io.ebeaninternal.api.SpiUpdatePlan;
+import io.ebeaninternal.api.UpdatePlanKey;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Update plan cache for a bean type keyed by the dirty property bit mask.
+ * <p>
+ * When the max size is exceeded the least recently used plans are evicted until
+ * the size is 80% of the max size.
+ * </p>
+ */
+final class UpdatePlanCache {
+
+  private final ConcurrentHashMap<UpdatePlanKey, SpiUpdatePlan> map = new ConcurrentHashMap<>();
+
+  private final ReentrantLock evictLock = new ReentrantLock();
+
+  private final int maxSize;
+
+  private final int targetSize;
+
+  private final CountMetric hitCount;
+
+  private final CountMetric missCount;
+
+  /**
+   * Create with the max size (0 for no limit) and shared hit and miss metrics.
+   */
+  UpdatePlanCache(int maxSize, CountMetric hitCount, CountMetric missCount) {
+    this.maxSize = maxSize;
+    this.targetSize = maxSize * 80 / 100;
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+  }
+
+  /**
+   * Return the update plan for the given key or null if not in the cache.
+   */
+  SpiUpdatePlan get(UpdatePlanKey key) {
+    SpiUpdatePlan plan = map.get(key);
+    if (plan == null) {
+      missCount.increment();
+    } else {
+      hitCount.increment();
+    }
+    return plan;
+  }
+
+  /**
+   * Put the update plan into the cache evicting plans if the max size is exceeded.
+   */
+  void put(UpdatePlanKey key, SpiUpdatePlan plan) {
+    map.put(key, plan);
+    if (maxSize > 0 && map.size() > maxSize) {
+      evict();
+    }
+  }
+
+  /**
+   * Return the number of update plans in the cache.
+   */
+  int size() {
+    return map.size();
+  }
+
+  /**
+   * Evict the least recently used plans. Other threads continue without waiting.
+   */
+  private void evict() {
+    if (!evictLock.tryLock()) {
+      return;
+    }
+    try {
+      // sort on a copy of the last used time as it is concurrently updated
+      List<Candidate> candidates = new ArrayList<>(map.size());
+      for (Map.Entry<UpdatePlanKey, SpiUpdatePlan> entry : map.entrySet()) {
+        candidates.add(new Candidate(entry.getKey(), entry.getValue()));
+      }
+      candidates.sort(Comparator.comparingLong(c -> c.lastUsed));
+      for (Candidate candidate : candidates) {
+        if (map.size() <= targetSize) {
+          break;
+        }
+        map.remove(candidate.key, candidate.plan);
+      }
+    } finally {
+      evictLock.unlock();
+    }
+  }
+
+  private static final class Candidate {
+
+    final UpdatePlanKey key;
+    final SpiUpdatePlan plan;
+    final long lastUsed;
+
+    Candidate(UpdatePlanKey key, SpiUpdatePlan plan) {
+      this.key = key;
+      this.plan = plan;
+      this.lastUsed = Math.max(plan.getTimeCreated(), plan.getTimeLastUsed());
+    }
+  }
+}
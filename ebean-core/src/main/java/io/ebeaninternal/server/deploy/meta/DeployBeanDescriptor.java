@@ -276,6 +276,23 @@ public class DeployBeanDescriptor<T> {
     return readAuditing;
   }
 
+  /**
+   * Return the read audit sample rate for this entity bean (1 to audit all reads).
+   */
+  public double getReadAuditSampleRate() {
+    Map<String, Double> sampleRates = config.getReadAuditSampleRates();
+    if (sampleRates != null) {
+      Double rate = sampleRates.get(getFullName());
+      if (rate == null) {
+        rate = sampleRates.get(beanType.getSimpleName());
+      }
+      if (rate != null) {
+        return Math.max(Math.min(rate, 1D), 0D);
+      }
+    }
+    return 1D;
+  }
+
   public void setDbComment(String dbComment) {
     this.dbComment = dbComment;
   }
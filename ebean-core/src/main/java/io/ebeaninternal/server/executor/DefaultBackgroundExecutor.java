@@ -1,10 +1,13 @@
 package io.ebeaninternal.server.executor;
 
 import io.ebeaninternal.api.SpiBackgroundExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -12,16 +15,53 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * The default implementation of the BackgroundExecutor.
+ * <p>
+ * Scheduled tasks always run on the (small) schedule pool. With thread per task mode the
+ * submitted tasks (query futures, post commit notification etc) which can block on JDBC
+ * each run on their own virtual thread rather than the schedule pool. When the JVM does
+ * not support virtual threads the submitted tasks stay on the bounded schedule pool.
+ * </p>
  */
 public class DefaultBackgroundExecutor implements SpiBackgroundExecutor {
 
+  private static final Logger logger = LoggerFactory.getLogger(DefaultBackgroundExecutor.class);
+
   private final ScheduledExecutorService executor;
 
+  private final ExecutorService taskExecutor;
+
+  private final int shutdownWaitSeconds;
+
   /**
    * Construct the default implementation of BackgroundExecutor.
    */
   public DefaultBackgroundExecutor(int schedulePoolSize, int shutdownWaitSeconds, String namePrefix) {
+    this(schedulePoolSize, shutdownWaitSeconds, namePrefix, false);
+  }
+
+  /**
+   * Construct with threadPerTask true to execute submitted tasks using a virtual thread per task.
+   */
+  public DefaultBackgroundExecutor(int schedulePoolSize, int shutdownWaitSeconds, String namePrefix, boolean threadPerTask) {
     this.executor = new DaemonScheduleThreadPool(schedulePoolSize, shutdownWaitSeconds, namePrefix);
+    this.taskExecutor = threadPerTask ? initTaskExecutor(namePrefix) : executor;
+    this.shutdownWaitSeconds = shutdownWaitSeconds;
+  }
+
+  private ExecutorService initTaskExecutor(String namePrefix) {
+    ExecutorService threadPerTask = TaskExecutors.newThreadPerTask(namePrefix + "-task-");
+    if (threadPerTask == null) {
+      logger.warn("backgroundExecutorVirtualThreads is set but virtual threads are not supported by this JVM, using the schedule pool for background tasks");
+      return executor;
+    }
+    return threadPerTask;
+  }
+
+  /**
+   * Return true if submitted tasks run using a thread per task.
+   */
+  boolean isThreadPerTask() {
+    return taskExecutor != executor;
   }
 
   /**
@@ -64,7 +104,7 @@ public class DefaultBackgroundExecutor implements SpiBackgroundExecutor {
 
   @Override
   public <T> Future<T> submit(Callable<T> task) {
-    return executor.submit(wrapMDC(task));
+    return taskExecutor.submit(wrapMDC(task));
   }
 
   /**
@@ -72,7 +112,7 @@ public class DefaultBackgroundExecutor implements SpiBackgroundExecutor {
    */
   @Override
   public Future<?> submit(Runnable task) {
-    return executor.submit(wrapMDC(task));
+    return taskExecutor.submit(wrapMDC(task));
   }
 
   @Override
@@ -112,7 +152,23 @@ public class DefaultBackgroundExecutor implements SpiBackgroundExecutor {
 
   @Override
   public void shutdown() {
+    if (taskExecutor != executor) {
+      shutdownTasks();
+    }
     executor.shutdown();
   }
 
+  private void shutdownTasks() {
+    taskExecutor.shutdown();
+    try {
+      if (!taskExecutor.awaitTermination(shutdownWaitSeconds, TimeUnit.SECONDS)) {
+        logger.info("Shutdown wait timeout exceeded. Terminating running background tasks");
+        taskExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      taskExecutor.shutdownNow();
+    }
+  }
+
 }
@@ -0,0 +1,55 @@
+package io.ebeaninternal.server.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the executor used for (potentially blocking) background tasks.
+ * <p>
+ * When running on a JVM that supports virtual threads this is a virtual thread per task
+ * executor. The virtual thread API is accessed reflectively as it is not available at
+ * compile time.
+ * </p>
+ */
+final class TaskExecutors {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskExecutors.class);
+
+  private TaskExecutors() {
+  }
+
+  /**
+   * Return a virtual thread per task executor or null if virtual threads are not supported.
+   */
+  static ExecutorService newThreadPerTask(String namePrefix) {
+    ThreadFactory factory = virtualThreadFactory(namePrefix);
+    if (factory != null) {
+      try {
+        Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        return (ExecutorService) method.invoke(null, factory);
+      } catch (Exception e) {
+        log.debug("Virtual thread per task executor not supported", e);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Return a virtual ThreadFactory or null if virtual threads are not supported.
+   */
+  static ThreadFactory virtualThreadFactory(String namePrefix) {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      builder = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+}
@@ -26,6 +26,7 @@ import io.ebean.search.MultiMatch;
 import io.ebean.search.TextCommonTerms;
 import io.ebean.search.TextQueryString;
 import io.ebean.search.TextSimple;
+import io.ebean.text.json.JsonWriteOptions;
 import io.ebeaninternal.api.ManyWhereJoins;
 import io.ebeaninternal.api.NaturalKeyQueryData;
 import io.ebeaninternal.api.SpiExpression;
@@ -36,6 +37,8 @@ import io.ebeaninternal.api.SpiJunction;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -441,6 +444,21 @@ public class DefaultExpressionList<T> implements SpiExpressionList<T> {
     query.findEach(batch, consumer);
   }
 
+  @Override
+  public void findEachParallel(int partitions, Consumer<T> consumer) {
+    query.findEachParallel(partitions, consumer);
+  }
+
+  @Override
+  public void findJson(Writer writer, JsonWriteOptions options) {
+    query.findJson(writer, options);
+  }
+
+  @Override
+  public void findJson(OutputStream outputStream, JsonWriteOptions options) {
+    query.findJson(outputStream, options);
+  }
+
   @Override
   public void findEachWhile(Predicate<T> consumer) {
     query.findEachWhile(consumer);
@@ -25,6 +25,7 @@ import io.ebean.search.MultiMatch;
 import io.ebean.search.TextCommonTerms;
 import io.ebean.search.TextQueryString;
 import io.ebean.search.TextSimple;
+import io.ebean.text.json.JsonWriteOptions;
 import io.ebeaninternal.api.ManyWhereJoins;
 import io.ebeaninternal.api.NaturalKeyQueryData;
 import io.ebeaninternal.api.SpiExpression;
@@ -34,6 +35,8 @@ import io.ebeaninternal.api.SpiJunction;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.Timestamp;
 import java.util.Collection;
@@ -451,6 +454,21 @@ class JunctionExpression<T> implements SpiJunction<T>, SpiExpression, Expression
     exprList.findEach(batch, consumer);
   }
 
+  @Override
+  public void findEachParallel(int partitions, Consumer<T> consumer) {
+    exprList.findEachParallel(partitions, consumer);
+  }
+
+  @Override
+  public void findJson(Writer writer, JsonWriteOptions options) {
+    exprList.findJson(writer, options);
+  }
+
+  @Override
+  public void findJson(OutputStream outputStream, JsonWriteOptions options) {
+    exprList.findJson(outputStream, options);
+  }
+
   @Override
   public void findEachWhile(Predicate<T> consumer) {
     exprList.findEachWhile(consumer);
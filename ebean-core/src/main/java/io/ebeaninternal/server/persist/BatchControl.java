@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.persist;
 
+import io.ebean.config.DatabaseTracer;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.server.core.PersistRequest;
 import io.ebeaninternal.server.core.PersistRequestBean;
@@ -61,6 +62,11 @@ public final class BatchControl {
 
   private final SpiTransaction transaction;
 
+  /**
+   * Tracer for batch flush spans (can be null).
+   */
+  private final DatabaseTracer tracer;
+
   /**
    * The size at which the batch queue will flush. This should be close to the
    * number of statements that are batched into a single PreparedStatement. This
@@ -76,6 +82,11 @@ public final class BatchControl {
 
   private boolean batchFlushOnMixed = true;
 
+  /**
+   * If true execute batched inserts using multi-row insert statements.
+   */
+  private boolean multiRowInsert;
+
   /**
    * Size of the largest buffer.
    */
@@ -86,8 +97,9 @@ public final class BatchControl {
   /**
    * Create for a given transaction, PersistExecute, default size and getGeneratedKeys.
    */
-  public BatchControl(SpiTransaction t, int batchSize, boolean getGenKeys) {
+  public BatchControl(SpiTransaction t, int batchSize, boolean getGenKeys, DatabaseTracer tracer) {
     this.transaction = t;
+    this.tracer = tracer;
     this.batchSize = batchSize;
     this.getGeneratedKeys = getGenKeys;
     transaction.setBatchControl(this);
@@ -107,6 +119,20 @@ public final class BatchControl {
     this.batchFlushOnMixed = flushBatchOnMixed;
   }
 
+  /**
+   * Set to true to execute batched inserts using multi-row insert statements.
+   */
+  public void setMultiRowInsert(boolean multiRowInsert) {
+    this.multiRowInsert = multiRowInsert;
+  }
+
+  /**
+   * Return true if batched inserts should use multi-row insert statements.
+   */
+  public boolean isMultiRowInsert() {
+    return multiRowInsert;
+  }
+
   /**
    * Set the size of batch execution.
    * <p>
@@ -270,10 +296,27 @@ public final class BatchControl {
   }
 
   private void flushBuffer(boolean reset) throws BatchedSqlException {
-    flushQueue(queues[0]);
-    flushInternal(reset);
-    flushQueue(queues[1]);
-    flushQueue(queues[2]);
+    DatabaseTracer.Span span = (tracer == null || isEmpty()) ? null : traceFlush();
+    try {
+      flushQueue(queues[0]);
+      flushInternal(reset);
+      flushQueue(queues[1]);
+      flushQueue(queues[2]);
+    } catch (BatchedSqlException | RuntimeException e) {
+      if (span != null) {
+        span.error(e);
+      }
+      throw e;
+    } finally {
+      if (span != null) {
+        span.end();
+      }
+    }
+  }
+
+  private DatabaseTracer.Span traceFlush() {
+    return tracer.start(DatabaseTracer.Kind.BATCH_FLUSH, "txn.batch.flush")
+      .attribute(DatabaseTracer.BATCH, persistedBeans.size());
   }
 
   private void flushQueue(Queue queue) throws BatchedSqlException {
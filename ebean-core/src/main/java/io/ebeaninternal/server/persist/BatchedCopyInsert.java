@@ -0,0 +1,94 @@
+package io.ebeaninternal.server.persist;
+
+import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+import io.ebeaninternal.server.type.DataBindCopy;
+import io.ebeaninternal.server.type.DataBindRow;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Batched inserts executed using Postgres <code>COPY ... FROM STDIN</code>.
+ * <p>
+ * The bind values of each row are buffered and on execute encoded in the COPY text
+ * format and streamed to the database. The id values must be known prior (assigned
+ * from a sequence or supplied) as COPY does not return generated keys.
+ * </p>
+ */
+public final class BatchedCopyInsert extends BatchedRows {
+
+  /**
+   * Size of the buffered rows that are written to the COPY at a time.
+   */
+  private static final int WRITE_SIZE = 64 * 1024;
+
+  private final DataTimeZone dataTimeZone;
+
+  private final Connection connection;
+
+  /**
+   * Create given the copy sql.
+   */
+  public BatchedCopyInsert(String copySql, SpiTransaction transaction, DataTimeZone dataTimeZone) {
+    super(false, copySql, transaction);
+    this.dataTimeZone = dataTimeZone;
+    this.connection = transaction.getInternalConnection();
+  }
+
+  /**
+   * Return the COPY sql given the (single row) insert sql.
+   */
+  public static String copySql(String insertSql) {
+    int valuesPos = insertSql.lastIndexOf(" values (");
+    return "copy " + insertSql.substring("insert into ".length(), valuesPos) + " from stdin";
+  }
+
+  @Override
+  void executeStatement(boolean getGeneratedKeys) throws SQLException {
+    checkRows();
+    try {
+      long count = copy();
+      if (count != rows.size()) {
+        throw new SQLException("Invalid state on copy, rows:" + count + " != " + rows.size());
+      }
+      for (BatchPostExecute postExecute : list) {
+        postExecute.checkRowCount(1);
+      }
+      results = new int[list.size()];
+      Arrays.fill(results, 1);
+    } finally {
+      rows.clear();
+    }
+  }
+
+  private long copy() throws SQLException {
+    CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(getSql());
+    try {
+      DataBindCopy dataBind = new DataBindCopy(dataTimeZone);
+      for (DataBindRow row : rows) {
+        row.bindTo(dataBind);
+        dataBind.endRow();
+        if (dataBind.length() > WRITE_SIZE) {
+          write(copyIn, dataBind);
+        }
+      }
+      write(copyIn, dataBind);
+      return copyIn.endCopy();
+    } finally {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    }
+  }
+
+  private void write(CopyIn copyIn, DataBindCopy dataBind) throws SQLException {
+    byte[] bytes = dataBind.flush();
+    if (bytes.length > 0) {
+      copyIn.writeToCopy(bytes, 0, bytes.length);
+    }
+  }
+}
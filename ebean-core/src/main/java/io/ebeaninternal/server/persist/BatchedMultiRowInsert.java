@@ -0,0 +1,125 @@
+package io.ebeaninternal.server.persist;
+
+import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+import io.ebeaninternal.server.type.DataBind;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Batched inserts executed using multi-row insert statements.
+ * <p>
+ * The bind values of each row are buffered and on execute the rows are bound to
+ * <code>insert into ... values (...),(...)</code> statements. The number of rows
+ * per statement is determined by the max bind parameters of the platform.
+ * </p>
+ */
+public final class BatchedMultiRowInsert extends BatchedRows {
+
+  /**
+   * Max rows per statement (Sql Server limit on the values clause).
+   */
+  private static final int MAX_ROWS = 1000;
+
+  /**
+   * Creates the PreparedStatement for the multi-row insert sql.
+   */
+  @FunctionalInterface
+  public interface Prepare {
+    PreparedStatement prepare(String sql) throws SQLException;
+  }
+
+  private final Prepare prepare;
+
+  private final DataTimeZone dataTimeZone;
+
+  private final Connection connection;
+
+  private final int maxBind;
+
+  /**
+   * Create given the single row insert sql and max bind parameters per statement.
+   */
+  public BatchedMultiRowInsert(Prepare prepare, boolean isGenKeys, String sql, SpiTransaction transaction,
+                               DataTimeZone dataTimeZone, int maxBind) {
+    super(isGenKeys, sql, transaction);
+    this.prepare = prepare;
+    this.dataTimeZone = dataTimeZone;
+    this.connection = transaction.getInternalConnection();
+    this.maxBind = maxBind;
+  }
+
+  /**
+   * Return the multi-row version of the given single row insert sql.
+   */
+  static String multiRowSql(String sql, int rowCount) {
+    String values = sql.substring(sql.lastIndexOf(" values (") + 8);
+    StringBuilder sb = new StringBuilder(sql.length() + (values.length() + 1) * (rowCount - 1));
+    sb.append(sql);
+    for (int i = 1; i < rowCount; i++) {
+      sb.append(',').append(values);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Return the number of rows per statement given the number of bind values per row.
+   */
+  static int rowsPerStatement(int maxBind, int bindPerRow) {
+    return Math.max(1, Math.min(MAX_ROWS, maxBind / Math.max(1, bindPerRow)));
+  }
+
+  @Override
+  void executeStatement(boolean getGeneratedKeys) throws SQLException {
+    checkRows();
+    try {
+      int perStatement = rowsPerStatement(maxBind, rows.get(0).size());
+      for (int start = 0; start < rows.size(); start += perStatement) {
+        int end = Math.min(rows.size(), start + perStatement);
+        execute(start, end, getGeneratedKeys && isGenKeys);
+      }
+      results = new int[list.size()];
+      Arrays.fill(results, 1);
+    } finally {
+      rows.clear();
+    }
+  }
+
+  private void execute(int start, int end, boolean getGeneratedKeys) throws SQLException {
+    int rowCount = end - start;
+    String multiSql = multiRowSql(getSql(), rowCount);
+    if (transaction.isLogSql()) {
+      transaction.logSql(multiSql);
+    }
+    try (PreparedStatement pstmt = prepare.prepare(multiSql)) {
+      DataBind dataBind = new DataBind(dataTimeZone, pstmt, connection);
+      for (int i = start; i < end; i++) {
+        rows.get(i).bindTo(dataBind);
+      }
+      int count = dataBind.executeUpdate();
+      if (count != rowCount && count != Statement.SUCCESS_NO_INFO) {
+        throw new SQLException("Invalid state on multi-row insert, rows:" + count + " != " + rowCount);
+      }
+      for (int i = start; i < end; i++) {
+        list.get(i).checkRowCount(1);
+      }
+      if (getGeneratedKeys) {
+        int index = start;
+        try (ResultSet rset = pstmt.getGeneratedKeys()) {
+          while (index < end && rset.next()) {
+            list.get(index++).setGeneratedKey(rset.getObject(1));
+          }
+        }
+        if (index != end) {
+          // the driver does not return a generated key per row
+          throw new SQLException("Invalid state on multi-row insert, generated keys:" + (index - start) + " != " + rowCount);
+        }
+      }
+    }
+  }
+}
@@ -32,21 +32,21 @@ public class BatchedPstmt implements SpiProfileTransactionEvent {
   /**
    * True if an insert that uses generated keys.
    */
-  private final boolean isGenKeys;
+  final boolean isGenKeys;
 
   /**
    * The list of BatchPostExecute used to perform post processing.
    */
-  private final List<BatchPostExecute> list = new ArrayList<>();
+  final List<BatchPostExecute> list = new ArrayList<>();
 
   private final String sql;
 
-  private final SpiTransaction transaction;
+  final SpiTransaction transaction;
 
   private long profileStart;
   private long timedStart;
 
-  private int[] results;
+  int[] results;
 
   private List<InputStream> inputStreams;
 
@@ -61,6 +61,15 @@ public class BatchedPstmt implements SpiProfileTransactionEvent {
     this.transaction = transaction;
   }
 
+  /**
+   * Create without an underlying statement (statements are created on execute).
+   */
+  BatchedPstmt(boolean isGenKeys, String sql, SpiTransaction transaction) {
+    this.isGenKeys = isGenKeys;
+    this.sql = sql;
+    this.transaction = transaction;
+  }
+
   /**
    * Return the number of batched statements.
    */
@@ -120,10 +129,7 @@ public class BatchedPstmt implements SpiProfileTransactionEvent {
     }
     timedStart = System.nanoTime();
     profileStart = transaction.profileOffset();
-    executeAndCheckRowCounts();
-    if (isGenKeys && getGeneratedKeys) {
-      getGeneratedKeys();
-    }
+    executeStatement(getGeneratedKeys);
     postExecute();
     addTimingMetrics();
     list.clear();
@@ -162,6 +168,16 @@ public class BatchedPstmt implements SpiProfileTransactionEvent {
     }
   }
 
+  /**
+   * Execute the batch checking row counts and reading generated keys if required.
+   */
+  void executeStatement(boolean getGeneratedKeys) throws SQLException {
+    executeAndCheckRowCounts();
+    if (isGenKeys && getGeneratedKeys) {
+      getGeneratedKeys();
+    }
+  }
+
   private void executeAndCheckRowCounts() throws SQLException {
     try {
       results = pstmt.executeBatch();
@@ -0,0 +1,49 @@
+package io.ebeaninternal.server.persist;
+
+import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.server.type.DataBindRow;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batched inserts where the bind values of each row are buffered and the statement
+ * is created and bound on execute.
+ */
+public abstract class BatchedRows extends BatchedPstmt {
+
+  final List<DataBindRow> rows = new ArrayList<>();
+
+  BatchedRows(boolean isGenKeys, String sql, SpiTransaction transaction) {
+    super(isGenKeys, sql, transaction);
+  }
+
+  @Override
+  public PreparedStatement getStatement(BatchPostExecute postExecute) {
+    list.add(postExecute);
+    return null;
+  }
+
+  /**
+   * Add the buffered bind values of a row.
+   */
+  public void addRow(DataBindRow row) {
+    rows.add(row);
+  }
+
+  /**
+   * Check the buffered rows match the batched requests.
+   */
+  void checkRows() throws SQLException {
+    if (rows.size() != list.size()) {
+      throw new SQLException("Invalid state on batched rows, rows:" + rows.size() + " != " + list.size());
+    }
+  }
+
+  @Override
+  public void close() {
+    rows.clear();
+  }
+}
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.persist;
 
+import io.ebean.config.DatabaseTracer;
 import io.ebean.meta.MetricVisitor;
 import io.ebean.metric.MetricFactory;
 import io.ebean.metric.TimedMetricMap;
@@ -33,14 +34,17 @@ final class DefaultPersistExecute implements PersistExecute {
 
   private final TimedMetricMap sqlCallMetric;
 
+  private final DatabaseTracer tracer;
+
   /**
    * Construct this DmlPersistExecute.
    */
-  DefaultPersistExecute(Binder binder, int defaultBatchSize) {
+  DefaultPersistExecute(Binder binder, int defaultBatchSize, DatabaseTracer tracer) {
     this.exeOrmUpdate = new ExeOrmUpdate(binder);
     this.exeUpdateSql = new ExeUpdateSql(binder);
     this.exeCallableSql = new ExeCallableSql(binder);
     this.defaultBatchSize = defaultBatchSize;
+    this.tracer = tracer;
     this.ormUpdateMetric = MetricFactory.get().createTimedMetricMap("orm.update.");
     this.sqlUpdateMetric = MetricFactory.get().createTimedMetricMap("sql.update.");
     this.sqlCallMetric = MetricFactory.get().createTimedMetricMap("sql.call.");
@@ -72,7 +76,7 @@ final class DefaultPersistExecute implements PersistExecute {
   public BatchControl createBatchControl(SpiTransaction t) {
 
     // create a BatchControl and set its defaults
-    return new BatchControl(t, defaultBatchSize, true);
+    return new BatchControl(t, defaultBatchSize, true, tracer);
   }
 
   /**
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.persist;
 
+import io.ebean.BulkInsertOptions;
 import io.ebean.CallableSql;
 import io.ebean.MergeOptions;
 import io.ebean.Query;
@@ -10,12 +11,14 @@ import io.ebean.bean.BeanCollection;
 import io.ebean.bean.BeanCollection.ModifyListenMode;
 import io.ebean.bean.EntityBean;
 import io.ebean.bean.PersistenceContext;
+import io.ebean.config.DatabaseTracer;
 import io.ebean.event.BeanPersistController;
 import io.ebean.meta.MetricVisitor;
 import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.api.SpiSqlUpdate;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.api.SpiUpdate;
+import io.ebeaninternal.api.TransactionEvent;
 import io.ebeaninternal.server.core.PersistRequest;
 import io.ebeaninternal.server.core.PersistRequest.Type;
 import io.ebeaninternal.server.core.PersistRequestBean;
@@ -37,6 +40,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -70,10 +74,10 @@ public final class DefaultPersister implements Persister {
 
   private final BeanDescriptorManager beanDescriptorManager;
 
-  public DefaultPersister(SpiEbeanServer server, Binder binder, BeanDescriptorManager descMgr) {
+  public DefaultPersister(SpiEbeanServer server, Binder binder, BeanDescriptorManager descMgr, DatabaseTracer tracer) {
     this.server = server;
     this.beanDescriptorManager = descMgr;
-    this.persistExecute = new DefaultPersistExecute(binder, server.getServerConfig().getPersistBatchSize());
+    this.persistExecute = new DefaultPersistExecute(binder, server.getServerConfig().getPersistBatchSize(), tracer);
   }
 
   @Override
@@ -376,6 +380,42 @@ public final class DefaultPersister implements Persister {
     return deleteRequest(createDeleteRequest(detailBean, t, deleteMode.persistType()));
   }
 
+  /**
+   * Bulk insert the beans using batch mode.
+   * <p>
+   * The inserts use COPY when supported by the platform. The L2 cache and listeners are
+   * notified once per table via the transaction event rather than per bean.
+   */
+  @Override
+  public void bulkInsert(List<EntityBean> beans, BulkInsertOptions options, SpiTransaction transaction) {
+
+    boolean batchMode = transaction.isBatchMode();
+    int batchSize = transaction.getBatchSize();
+    transaction.setBatchMode(true);
+    transaction.setBatchSize(options.batchSize());
+
+    Set<BeanDescriptor<?>> inserted = new LinkedHashSet<>();
+    try {
+      for (EntityBean bean : beans) {
+        PersistRequestBean<?> request = createRequest(bean, transaction, PersistRequest.Type.INSERT);
+        if (!request.isSkipReference()) {
+          request.setBulkInsert();
+          insert(request);
+          inserted.add(request.getBeanDescriptor());
+        }
+      }
+      transaction.flush();
+    } finally {
+      transaction.setBatchSize(batchSize);
+      transaction.setBatchMode(batchMode);
+    }
+
+    TransactionEvent event = transaction.getEvent();
+    for (BeanDescriptor<?> desc : inserted) {
+      event.add(desc.getBaseTable(), true, false, false);
+    }
+  }
+
   @Override
   public int merge(BeanDescriptor<?> desc, EntityBean bean, MergeOptions options, SpiTransaction transaction) {
 
@@ -4,6 +4,8 @@ import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.server.core.PersistRequestBean;
 import io.ebeaninternal.server.deploy.BeanProperty;
 import io.ebeaninternal.server.lib.Str;
+import io.ebeaninternal.server.persist.BatchedCopyInsert;
+import io.ebeaninternal.server.persist.BatchedMultiRowInsert;
 import io.ebeaninternal.server.persist.BatchedPstmt;
 import io.ebeaninternal.server.persist.BatchedPstmtHolder;
 import io.ebeaninternal.server.persist.dmlbind.BindableRequest;
@@ -275,4 +277,44 @@ public abstract class DmlHandler implements PersistHandler, BindableRequest {
     return stmt;
   }
 
+  /**
+   * Return the multi-row insert batch for the given (single row) insert sql.
+   */
+  BatchedMultiRowInsert getMultiRowBatch(SpiTransaction t, String sql, PersistRequestBean<?> request, boolean genKeys, int maxBind) throws SQLException {
+    BatchedPstmtHolder batch = t.getBatchControl().getPstmtHolder();
+    BatchedPstmt existing = batch.getBatchedPstmt(sql);
+    if (existing instanceof BatchedMultiRowInsert) {
+      batchedPstmt = existing;
+      batchedStatus = existing.isEmpty() ? BATCHED_FIRST : BATCHED;
+      existing.getStatement(request);
+      return (BatchedMultiRowInsert) existing;
+    }
+    batchedStatus = BATCHED_FIRST;
+    BatchedMultiRowInsert multiRow = new BatchedMultiRowInsert(multiSql -> getPstmt(t, multiSql, genKeys), genKeys, sql, t, persistRequest.getDataTimeZone(), maxBind);
+    batchedPstmt = multiRow;
+    batch.addStmt(multiRow, request);
+    return multiRow;
+  }
+
+
+  /**
+   * Return the COPY batch for the given (single row) insert sql.
+   */
+  BatchedCopyInsert getCopyBatch(SpiTransaction t, String sql, PersistRequestBean<?> request) throws SQLException {
+    BatchedPstmtHolder batch = t.getBatchControl().getPstmtHolder();
+    String copySql = BatchedCopyInsert.copySql(sql);
+    BatchedPstmt existing = batch.getBatchedPstmt(copySql);
+    if (existing != null) {
+      batchedPstmt = existing;
+      batchedStatus = existing.isEmpty() ? BATCHED_FIRST : BATCHED;
+      existing.getStatement(request);
+      return (BatchedCopyInsert) existing;
+    }
+    batchedStatus = BATCHED_FIRST;
+    BatchedCopyInsert copy = new BatchedCopyInsert(copySql, t, persistRequest.getDataTimeZone());
+    batchedPstmt = copy;
+    batch.addStmt(copy, request);
+    return copy;
+  }
+
 }
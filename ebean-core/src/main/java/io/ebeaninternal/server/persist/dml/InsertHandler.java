@@ -5,6 +5,8 @@ import io.ebean.util.JdbcClose;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.server.core.PersistRequestBean;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.persist.BatchedRows;
+import io.ebeaninternal.server.type.DataBindRow;
 
 import javax.persistence.OptimisticLockException;
 import javax.persistence.PersistenceException;
@@ -41,6 +43,11 @@ public class InsertHandler extends DmlHandler {
    */
   private boolean useSelectLastInsertedId;
 
+  /**
+   * Set when the insert is executed as part of a multi-row insert or COPY.
+   */
+  private BatchedRows batchedRows;
+
   /**
    * Create to handle the insert execution.
    */
@@ -88,6 +95,20 @@ public class InsertHandler extends DmlHandler {
     // get the appropriate sql
     sql = meta.getSql(withId, persistRequest.isPublish());
 
+    if (persistRequest.isBatched()) {
+      if (persistRequest.isBulkInsert() && meta.isCopyInsert(withId, persistRequest.isPublish(), useGeneratedKeys)) {
+        bindRow(getCopyBatch(t, sql, persistRequest), bean, withId);
+        return;
+      }
+      if (t.getBatchControl().isMultiRowInsert()) {
+        int maxBind = meta.multiRowInsertMaxBind(withId, persistRequest.isPublish(), useGeneratedKeys);
+        if (maxBind > 0) {
+          bindRow(getMultiRowBatch(t, sql, persistRequest, useGeneratedKeys, maxBind), bean, withId);
+          return;
+        }
+      }
+    }
+
     PreparedStatement pstmt;
     if (persistRequest.isBatched()) {
       pstmt = getPstmtBatch(t, sql, persistRequest, useGeneratedKeys);
@@ -102,6 +123,29 @@ public class InsertHandler extends DmlHandler {
     logSql(sql);
   }
 
+  /**
+   * Buffer the bind values of this row for execution using a multi-row insert or COPY.
+   */
+  private void bindRow(BatchedRows batchedRows, EntityBean bean, boolean withId) throws SQLException {
+    this.batchedRows = batchedRows;
+    dataBind = new DataBindRow(persistRequest.getDataTimeZone());
+    meta.bind(this, bean, withId, persistRequest.isPublish());
+    // log the sql of the batched rows (COPY rather than insert)
+    logSql(batchedRows.getSql());
+  }
+
+  /**
+   * Add the buffered row to the multi-row insert or COPY or add the JDBC batch.
+   */
+  @Override
+  public void addBatch() throws SQLException {
+    if (batchedRows != null) {
+      batchedRows.addRow((DataBindRow) dataBind);
+    } else {
+      super.addBatch();
+    }
+  }
+
   /**
    * Check with useGeneratedKeys to get appropriate PreparedStatement.
    */
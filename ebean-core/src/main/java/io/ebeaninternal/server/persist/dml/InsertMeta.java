@@ -50,8 +50,17 @@ final class InsertMeta {
 
   private final Platform platform;
 
+  private final int multiRowInsertMaxBind;
+
+  private final boolean multiRowInsertGeneratedKeys;
+
+  private final boolean copyInsert;
+
   InsertMeta(DatabasePlatform dbPlatform, BeanDescriptor<?> desc, Bindable shadowFKey, BindableId id, BindableList all) {
     this.platform = dbPlatform.getPlatform();
+    this.multiRowInsertMaxBind = dbPlatform.getMultiRowInsertMaxBind();
+    this.multiRowInsertGeneratedKeys = dbPlatform.isMultiRowInsertGeneratedKeys();
+    this.copyInsert = dbPlatform.isCopyInsert();
     this.discriminator = getDiscriminator(desc);
     this.id = id;
     this.all = all;
@@ -122,6 +131,23 @@ final class InsertMeta {
     return supportsGetGeneratedKeys;
   }
 
+  /**
+   * Return the max bind parameters for a multi-row insert or 0 if multi-row insert can not be used.
+   */
+  int multiRowInsertMaxBind(boolean withId, boolean publish, boolean useGeneratedKeys) {
+    if (useGeneratedKeys && !multiRowInsertGeneratedKeys || !withId && noColumnsForInsert(!publish)) {
+      return 0;
+    }
+    return multiRowInsertMaxBind;
+  }
+
+  /**
+   * Return true if the insert can use COPY (bulk insert) which requires no generated keys.
+   */
+  boolean isCopyInsert(boolean withId, boolean publish, boolean useGeneratedKeys) {
+    return copyInsert && !useGeneratedKeys && (withId || !noColumnsForInsert(!publish));
+  }
+
   /**
    * Return true if the Id can be derived from other property values.
    */
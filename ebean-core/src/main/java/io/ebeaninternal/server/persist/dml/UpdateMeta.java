@@ -3,6 +3,7 @@ package io.ebeaninternal.server.persist.dml;
 import io.ebean.bean.EntityBean;
 import io.ebeaninternal.api.ConcurrencyMode;
 import io.ebeaninternal.api.SpiUpdatePlan;
+import io.ebeaninternal.api.UpdatePlanKey;
 import io.ebeaninternal.server.core.PersistRequestBean;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.persist.dmlbind.Bindable;
@@ -54,7 +55,7 @@ final class UpdateMeta extends BaseMeta {
 
   private SpiUpdatePlan getDynamicUpdatePlan(PersistRequestBean<?> persistRequest) {
 
-    String key = persistRequest.getUpdatePlanHash();
+    UpdatePlanKey key = persistRequest.getUpdatePlanKey();
 
     // check if we can use a cached UpdatePlan
     BeanDescriptor<?> beanDescriptor = persistRequest.getBeanDescriptor();
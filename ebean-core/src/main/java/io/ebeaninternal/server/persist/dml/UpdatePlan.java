@@ -3,6 +3,7 @@ package io.ebeaninternal.server.persist.dml;
 import io.ebean.bean.EntityBean;
 import io.ebeaninternal.api.ConcurrencyMode;
 import io.ebeaninternal.api.SpiUpdatePlan;
+import io.ebeaninternal.api.UpdatePlanKey;
 import io.ebeaninternal.server.persist.dmlbind.Bindable;
 
 import java.sql.SQLException;
@@ -12,7 +13,7 @@ import java.sql.SQLException;
  */
 class UpdatePlan implements SpiUpdatePlan {
 
-  private final String key;
+  private final UpdatePlanKey key;
 
   private final ConcurrencyMode mode;
 
@@ -36,7 +37,7 @@ class UpdatePlan implements SpiUpdatePlan {
   /**
    * Create a UpdatePlan with a given key.
    */
-  UpdatePlan(String key, ConcurrencyMode mode, String sql, Bindable set) {
+  UpdatePlan(UpdatePlanKey key, ConcurrencyMode mode, String sql, Bindable set) {
     this.emptySetClause = (sql == null);
     this.key = key;
     this.mode = mode;
@@ -80,7 +81,7 @@ class UpdatePlan implements SpiUpdatePlan {
    * Return the key.
    */
   @Override
-  public String getKey() {
+  public UpdatePlanKey getKey() {
     return key;
   }
 
@@ -0,0 +1,56 @@
+package io.ebeaninternal.server.profile;
+
+import io.ebean.meta.MetricVisitor;
+import io.ebean.metric.CountMetricStats;
+import io.ebean.metric.GaugeMetric;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Gauge metric reading the current value from a supplier (nothing to reset).
+ */
+class DGaugeMetric implements GaugeMetric {
+
+  private final String name;
+
+  private final LongSupplier supplier;
+
+  DGaugeMetric(String name, LongSupplier supplier) {
+    this.name = name;
+    this.supplier = supplier;
+  }
+
+  @Override
+  public long get() {
+    return supplier.getAsLong();
+  }
+
+  @Override
+  public void visit(MetricVisitor visitor) {
+    long val = supplier.getAsLong();
+    if (val > 0) {
+      visitor.visitCount(new DGaugeMetricStats(name, val));
+    }
+  }
+
+  private static class DGaugeMetricStats implements CountMetricStats {
+
+    private final String name;
+    private final long value;
+
+    private DGaugeMetricStats(String name, long value) {
+      this.name = name;
+      this.value = value;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public long getCount() {
+      return value;
+    }
+  }
+}
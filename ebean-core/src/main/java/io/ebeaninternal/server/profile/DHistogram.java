@@ -0,0 +1,196 @@
+package io.ebeaninternal.server.profile;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock free fixed memory log-linear histogram of values (typically micros).
+ * <p>
+ * Each power of 2 range is split into 16 linear sub buckets giving a worst case relative
+ * error of about 6% (values below 32 are exact). Values are clamped at 2^36 (about 19 hours
+ * in micros) giving 528 buckets.
+ * </p>
+ * <p>
+ * Values are recorded into a single stripe until contention is detected (a failed compare and
+ * set) and then striped by thread with each stripe allocated on first use.
+ * </p>
+ * <p>
+ * Memory: each stripe is 528 longs (about 4.2KB) so an uncontended metric uses about 4.2KB
+ * (nothing until the first value is recorded) and a contended metric at most 8 stripes (about
+ * 34KB, the number of stripes is 2 x cores limited to 8).
+ * </p>
+ */
+final class DHistogram {
+
+  /**
+   * Number of linear sub buckets per power of 2 (as bits).
+   */
+  private static final int SUB_BITS = 4;
+
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+
+  private static final long MAX_VALUE = (1L << 36) - 1;
+
+  static final int BUCKETS = index(MAX_VALUE) + 1;
+
+  private static final int STRIPES = stripes();
+
+  private static int stripes() {
+    int cores = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+    return Integer.highestOneBit(Math.max(cores, 1) * 2 - 1);
+  }
+
+  private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+
+  /**
+   * Set when contention is detected on the first stripe.
+   */
+  private volatile boolean contended;
+
+  /**
+   * Return the bucket index for the given value.
+   */
+  static int index(long value) {
+    if (value <= 0) {
+      return 0;
+    }
+    if (value > MAX_VALUE) {
+      value = MAX_VALUE;
+    }
+    int shift = Math.max(63 - SUB_BITS - Long.numberOfLeadingZeros(value), 0);
+    return (int) (value >>> shift) + (shift << SUB_BITS);
+  }
+
+  /**
+   * Return the highest value that maps to the given bucket index.
+   */
+  static long highestValue(int index) {
+    int shift = Math.max((index >>> SUB_BITS) - 1, 0);
+    long lowest = (long) (index - (shift << SUB_BITS)) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  /**
+   * Record a value.
+   */
+  void add(long value) {
+    add(value, 1);
+  }
+
+  /**
+   * Record a value for the given number of times.
+   */
+  void add(long value, int times) {
+    int index = index(value);
+    if (!contended) {
+      AtomicLongArray first = stripe(0);
+      long count = first.get(index);
+      if (first.compareAndSet(index, count, count + times)) {
+        return;
+      }
+      contended = true;
+    }
+    stripe((int) Thread.currentThread().getId() & (STRIPES - 1)).getAndAdd(index, times);
+  }
+
+  /**
+   * Return the number of allocated stripes.
+   */
+  int stripeCount() {
+    int count = 0;
+    for (int i = 0; i < STRIPES; i++) {
+      if (stripes.get(i) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private AtomicLongArray stripe(int slot) {
+    AtomicLongArray stripe = stripes.get(slot);
+    if (stripe == null) {
+      stripes.compareAndSet(slot, null, new AtomicLongArray(BUCKETS));
+      stripe = stripes.get(slot);
+    }
+    return stripe;
+  }
+
+  /**
+   * Reset all the buckets.
+   */
+  void reset() {
+    for (int i = 0; i < STRIPES; i++) {
+      AtomicLongArray stripe = stripes.get(i);
+      if (stripe != null) {
+        for (int j = 0; j < BUCKETS; j++) {
+          stripe.set(j, 0);
+        }
+      }
+    }
+  }
+
+  /**
+   * Return the merged bucket counts of all the stripes potentially resetting them.
+   */
+  Snapshot snapshot(boolean reset, long max) {
+    long[] counts = new long[BUCKETS];
+    for (int i = 0; i < STRIPES; i++) {
+      AtomicLongArray stripe = stripes.get(i);
+      if (stripe != null) {
+        for (int j = 0; j < BUCKETS; j++) {
+          counts[j] += reset ? stripe.getAndSet(j, 0) : stripe.get(j);
+        }
+      }
+    }
+    return new Snapshot(counts, max);
+  }
+
+  /**
+   * Collected bucket counts used to determine percentiles.
+   */
+  static final class Snapshot {
+
+    private final long[] counts;
+    private final long max;
+    private final long total;
+
+    Snapshot(long[] counts, long max) {
+      this.counts = counts;
+      this.max = max;
+      long sum = 0;
+      for (long count : counts) {
+        sum += count;
+      }
+      this.total = sum;
+    }
+
+    /**
+     * Return the total count of recorded values.
+     */
+    long total() {
+      return total;
+    }
+
+    /**
+     * Return the value at the given percentile (0 to 100).
+     * <p>
+     * This is the highest value of the bucket (limited by the max) such that it is accurate
+     * to the bucket resolution.
+     * </p>
+     */
+    long percentile(double percentile) {
+      if (total == 0) {
+        return 0;
+      }
+      long rank = Math.max((long) Math.ceil(Math.min(percentile, 100D) / 100D * total), 1);
+      long cumulative = 0;
+      for (int i = 0; i < counts.length; i++) {
+        cumulative += counts[i];
+        if (cumulative >= rank) {
+          return Math.min(highestValue(i), max);
+        }
+      }
+      return max;
+    }
+  }
+}
@@ -2,11 +2,14 @@ package io.ebeaninternal.server.profile;
 
 import io.ebean.ProfileLocation;
 import io.ebean.metric.CountMetric;
+import io.ebean.metric.GaugeMetric;
 import io.ebean.metric.MetricFactory;
 import io.ebean.metric.QueryPlanMetric;
 import io.ebean.metric.TimedMetric;
 import io.ebean.metric.TimedMetricMap;
 
+import java.util.function.LongSupplier;
+
 /**
  * Default metric factory implementation.
  */
@@ -27,6 +30,11 @@ public class DMetricFactory implements MetricFactory {
     return new DCountMetric(name);
   }
 
+  @Override
+  public GaugeMetric createGaugeMetric(String name, LongSupplier supplier) {
+    return new DGaugeMetric(name, supplier);
+  }
+
   @Override
   public QueryPlanMetric createQueryPlanMetric(Class<?> type, String label, ProfileLocation profileLocation, String sql) {
     return new DQueryPlanMetric(new DQueryPlanMeta(type, label, profileLocation, sql), new DTimedMetric(label));
@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.profile;
 
 import io.ebean.ProfileLocation;
+import io.ebeaninternal.server.util.StackFrames;
 
 /**
  * Default profile location that uses stack trace.
@@ -92,6 +93,11 @@ class DProfileLocation implements ProfileLocation {
   }
 
   private String create() {
+    if (StackFrames.isAvailable()) {
+      FirstFrame first = new FirstFrame();
+      StackFrames.walk(first);
+      return first.element == null ? UNKNOWN : withLineNumber(first.element.toString());
+    }
     // relatively expensive but we only do it once per profile location
     StackTraceElement[] trace = Thread.currentThread().getStackTrace();
     for (int i = 3; i < trace.length; i++) {
@@ -102,6 +108,23 @@ class DProfileLocation implements ProfileLocation {
     return UNKNOWN;
   }
 
+  /**
+   * Find the first frame outside of ebean.
+   */
+  private static final class FirstFrame extends StackFrames.Visitor {
+
+    StackTraceElement element;
+
+    @Override
+    protected boolean visit(Object frame, String className, String methodName, int lineNumber) {
+      if (className.startsWith(IO_EBEAN)) {
+        return true;
+      }
+      element = StackFrames.toStackTraceElement(frame);
+      return false;
+    }
+  }
+
   private String withLineNumber(String traceLine) {
     if (lineNumber == 0) {
       return traceLine;
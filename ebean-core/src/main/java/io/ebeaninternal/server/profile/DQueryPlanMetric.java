@@ -102,5 +102,10 @@ class DQueryPlanMetric implements QueryPlanMetric {
     public long getMean() {
       return stats.getMean();
     }
+
+    @Override
+    public long getPercentile(double percentile) {
+      return stats.getPercentile(percentile);
+    }
   }
 }
@@ -19,7 +19,13 @@ class DTimeMetricStats implements TimedMetricStats {
 
   private final long max;
 
+  private final DHistogram.Snapshot histogram;
+
   DTimeMetricStats(String name, boolean collected, long count, long total, long max) {
+    this(name, collected, count, total, max, null, false);
+  }
+
+  DTimeMetricStats(String name, boolean collected, long count, long total, long max, DHistogram histogram, boolean reset) {
     this.name = name;
     this.collected = collected;
     this.count = count;
@@ -27,6 +33,7 @@ class DTimeMetricStats implements TimedMetricStats {
     // collection is racy so sanitize the max value if it has not been set
     // this most likely would happen when count = 1 so max = mean
     this.max = max != Long.MIN_VALUE ? max : (count < 1 ? 0 : Math.round(total / count));
+    this.histogram = histogram == null ? null : histogram.snapshot(reset, this.max);
   }
 
   @Override
@@ -38,6 +45,9 @@ class DTimeMetricStats implements TimedMetricStats {
     sb.append("count:").append(count)
       .append(" total:").append(total)
       .append(" max:").append(max);
+    if (histogram != null) {
+      sb.append(" p99:").append(histogram.percentile(99));
+    }
     if (location != null) {
       sb.append(" loc:").append(location);
     }
@@ -101,4 +111,12 @@ class DTimeMetricStats implements TimedMetricStats {
     return (count < 1) ? 0L : Math.round((double)(total / count));
   }
 
+  /**
+   * Return the value at the given percentile from the histogram.
+   */
+  @Override
+  public long getPercentile(double percentile) {
+    return histogram == null ? -1 : histogram.percentile(percentile);
+  }
+
 }
@@ -10,6 +10,7 @@ import java.util.concurrent.atomic.LongAdder;
  * Used to collect timed execution statistics.
  * <p>
  * It is intended for high concurrent updates to the statistics and relatively infrequent reads.
+ * Along with count, total and max a histogram is collected to support percentiles.
  * </p>
  */
 class DTimedMetric implements TimedMetric {
@@ -22,6 +23,8 @@ class DTimedMetric implements TimedMetric {
 
   private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
 
+  private final DHistogram histogram = new DHistogram();
+
   private boolean collected;
 
   DTimedMetric(String name) {
@@ -36,6 +39,7 @@ class DTimedMetric implements TimedMetric {
       count.add(batch);
       total.add(totalMicros);
       max.accumulate(mean);
+      histogram.add(mean, batch);
     }
   }
 
@@ -52,6 +56,7 @@ class DTimedMetric implements TimedMetric {
     count.increment();
     total.add(value);
     max.accumulate(value);
+    histogram.add(value);
   }
 
   @Override
@@ -67,6 +72,7 @@ class DTimedMetric implements TimedMetric {
     max.reset();
     count.reset();
     total.reset();
+    histogram.reset();
   }
 
   @Override
@@ -88,9 +94,9 @@ class DTimedMetric implements TimedMetric {
   private DTimeMetricStats getStatistics(boolean reset) {
     try {
       if (reset) {
-        return new DTimeMetricStats(name, collected, count.sumThenReset(), total.sumThenReset(), max.getThenReset());
+        return new DTimeMetricStats(name, collected, count.sumThenReset(), total.sumThenReset(), max.getThenReset(), histogram, true);
       } else {
-        return new DTimeMetricStats(name, collected, count.sum(), total.sum(), max.get());
+        return new DTimeMetricStats(name, collected, count.sum(), total.sum(), max.get(), histogram, false);
       }
     } finally {
       collected = true;
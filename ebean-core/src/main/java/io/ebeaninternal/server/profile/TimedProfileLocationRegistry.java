@@ -1,15 +1,14 @@
 package io.ebeaninternal.server.profile;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Global registry of the TimedProfileLocation instances created.
  */
 public class TimedProfileLocationRegistry {
 
-  private static final List<TimedProfileLocation> list = Collections.synchronizedList(new ArrayList<>());
+  private static final List<TimedProfileLocation> list = new CopyOnWriteArrayList<>();
 
   /**
    * Register the timed profile location instance.
@@ -0,0 +1,172 @@
+package io.ebeaninternal.server.query;
+
+import io.ebean.core.type.ScalarType;
+import io.ebeaninternal.server.deploy.BeanProperty;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adjusts the JDBC fetch size of a findEach / findStream ResultSet.
+ * <p>
+ * The initial fetch size is derived from an estimate of the row width (from the selected
+ * columns) such that a fetch is roughly 64KB. As each fetch worth of rows is consumed
+ * the fetch size is doubled when the rows were consumed quickly (fewer round trips) and
+ * halved when the consumer is slow (less memory held waiting to be consumed). The fetch
+ * size is bounded such that a single fetch is at most around 2MB.
+ * </p>
+ */
+final class AdaptiveFetchSize {
+
+  static final int MIN_FETCH_SIZE = 10;
+
+  static final int MAX_FETCH_SIZE = 5000;
+
+  private static final int TARGET_BYTES = 64 * 1024;
+
+  private static final int MAX_BYTES = 2 * 1024 * 1024;
+
+  private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+  private static final long SLOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private static final int DEFAULT_WIDTH = 16;
+
+  private final int maxFetchSize;
+
+  private int fetchSize;
+
+  private int rows;
+
+  private long batchStart;
+
+  private ResultSet resultSet;
+
+  AdaptiveFetchSize(int rowWidth) {
+    int width = Math.max(rowWidth, 1);
+    this.maxFetchSize = bound(MAX_BYTES / width);
+    this.fetchSize = Math.min(maxFetchSize, bound(TARGET_BYTES / width));
+  }
+
+  private static int bound(int size) {
+    return Math.max(MIN_FETCH_SIZE, Math.min(MAX_FETCH_SIZE, size));
+  }
+
+  /**
+   * Return the current fetch size.
+   */
+  int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * The query has been executed, start measuring.
+   */
+  void start(ResultSet resultSet) {
+    this.resultSet = resultSet;
+    this.batchStart = System.nanoTime();
+  }
+
+  /**
+   * A row has been read from the ResultSet.
+   */
+  void onRow() {
+    if (++rows >= fetchSize) {
+      long now = System.nanoTime();
+      adjust(now - batchStart);
+      batchStart = now;
+    }
+  }
+
+  /**
+   * Adjust the fetch size given the time taken to fetch and consume the last batch of rows.
+   */
+  void adjust(long elapsedNanos) {
+    rows = 0;
+    int newSize = fetchSize;
+    if (elapsedNanos < FAST_NANOS) {
+      newSize = Math.min(maxFetchSize, fetchSize * 2);
+    } else if (elapsedNanos > SLOW_NANOS) {
+      newSize = Math.max(MIN_FETCH_SIZE, fetchSize / 2);
+    }
+    if (newSize != fetchSize) {
+      if (resultSet != null) {
+        try {
+          resultSet.setFetchSize(newSize);
+        } catch (SQLException e) {
+          // driver does not support changing the fetch size, stop adjusting
+          resultSet = null;
+          rows = Integer.MIN_VALUE;
+          return;
+        }
+      }
+      fetchSize = newSize;
+    }
+  }
+
+  /**
+   * Return the estimated width in bytes of the column(s) for the given property.
+   */
+  static int columnWidth(STreeProperty property) {
+    if (property == null) {
+      return 0;
+    }
+    if (property instanceof STreePropertyAssocOne) {
+      // imported foreign key
+      return 8;
+    }
+    if (property.isEmbedded()) {
+      return 4 * DEFAULT_WIDTH;
+    }
+    ScalarType<?> scalarType = property.getScalarType();
+    if (scalarType == null) {
+      return DEFAULT_WIDTH;
+    }
+    switch (scalarType.getJdbcType()) {
+      case Types.BIT:
+      case Types.BOOLEAN:
+      case Types.TINYINT:
+      case Types.SMALLINT:
+        return 2;
+      case Types.INTEGER:
+      case Types.REAL:
+      case Types.DATE:
+        return 4;
+      case Types.BIGINT:
+      case Types.DOUBLE:
+      case Types.FLOAT:
+      case Types.TIME:
+      case Types.TIMESTAMP:
+        return 8;
+      case Types.CHAR:
+      case Types.VARCHAR:
+      case Types.NCHAR:
+      case Types.NVARCHAR:
+        return varcharWidth(property);
+      case Types.CLOB:
+      case Types.NCLOB:
+      case Types.BLOB:
+      case Types.LONGVARCHAR:
+      case Types.LONGNVARCHAR:
+      case Types.LONGVARBINARY:
+      case Types.VARBINARY:
+      case Types.OTHER:
+        return 256;
+      default:
+        return DEFAULT_WIDTH;
+    }
+  }
+
+  private static int varcharWidth(STreeProperty property) {
+    if (property instanceof BeanProperty) {
+      int dbLength = ((BeanProperty) property).getDbLength();
+      if (dbLength > 0) {
+        // assume strings are on average half the max length
+        return Math.max(1, Math.min(dbLength, 512) / 2);
+      }
+    }
+    return 32;
+  }
+}
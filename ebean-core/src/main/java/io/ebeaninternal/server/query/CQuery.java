@@ -16,6 +16,7 @@ import io.ebeaninternal.api.SpiProfileTransactionEvent;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.api.SpiQuery.Mode;
 import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.autotune.ProfilingListener;
 import io.ebeaninternal.server.core.OrmQueryRequest;
 import io.ebeaninternal.server.core.SpiOrmQueryRequest;
@@ -29,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.PersistenceException;
+import java.io.IOException;
 import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -194,6 +196,21 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
    */
   private List<Object> auditIds;
 
+  /**
+   * Adaptive fetch size for findIterate (can be null).
+   */
+  private AdaptiveFetchSize adaptiveFetchSize;
+
+  /**
+   * When true use autoCommit false on an autoCommit connection such that the fetch size is honoured.
+   */
+  private boolean cursorMode;
+
+  /**
+   * The connection autoCommit was turned off on (to restore on close).
+   */
+  private Connection cursorConnection;
+
   /**
    * Create the Sql select based on the request.
    */
@@ -330,6 +347,21 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
     return true;
   }
 
+  /**
+   * Use an adaptive fetch size for findIterate returning the initial fetch size.
+   */
+  int adaptiveFetchSize() {
+    adaptiveFetchSize = new AdaptiveFetchSize(queryPlan.getSqlTree().rowWidthEstimate());
+    return adaptiveFetchSize.getFetchSize();
+  }
+
+  /**
+   * Set to use autoCommit false with an implicit transaction such that the fetch size is honoured (Postgres).
+   */
+  void setCursorMode(boolean cursorMode) {
+    this.cursorMode = cursorMode;
+  }
+
   ResultSet prepareResultSet(boolean forwardOnlyHint) throws SQLException {
     lock.lock();
     try {
@@ -361,9 +393,18 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
       }
       if (query.getBufferFetchSizeHint() > 0) {
         pstmt.setFetchSize(query.getBufferFetchSizeHint());
+        if (cursorMode && !t.isExplicit() && conn.getAutoCommit()) {
+          // fetch size is only honoured with autoCommit false
+          conn.setAutoCommit(false);
+          cursorConnection = conn;
+        }
       }
       bindLog = predicates.bind(queryPlan.bindEncryptedProperties(pstmt, conn));
-      return pstmt.executeQuery();
+      ResultSet resultSet = pstmt.executeQuery();
+      if (adaptiveFetchSize != null) {
+        adaptiveFetchSize.start(resultSet);
+      }
+      return resultSet;
     } finally {
       lock.unlock();
     }
@@ -393,6 +434,15 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
     }
     JdbcClose.close(pstmt);
     pstmt = null;
+    if (cursorConnection != null) {
+      try {
+        cursorConnection.rollback();
+        cursorConnection.setAutoCommit(true);
+      } catch (SQLException e) {
+        logger.error("Error restoring autoCommit", e);
+      }
+      cursorConnection = null;
+    }
   }
 
   /**
@@ -493,6 +543,9 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
     }
 
     rowCount++;
+    if (adaptiveFetchSize != null) {
+      adaptiveFetchSize.onRow();
+    }
     dataReader.resetColumnPosition();
     return true;
   }
@@ -568,6 +621,24 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
     return collection;
   }
 
+  /**
+   * Return true if the rows can be written directly as JSON (no many join and no beans required).
+   */
+  boolean isJsonRowWrite() {
+    return manyProperty == null && rootNode.isJsonRowWrite();
+  }
+
+  /**
+   * Read the rows writing each one directly as a JSON object (without building beans).
+   */
+  void readJson(SpiJsonWriter writer) throws SQLException, IOException {
+    while (!cancelled && moveToNextRow()) {
+      rootNode.jsonWriteRow(this, writer);
+      loadedBeanCount++;
+    }
+    updateExecutionStatisticsIterator();
+  }
+
   /**
    * Update execution stats and check for slow query.
    */
@@ -581,11 +652,13 @@ public class CQuery<T> implements DbReadContext, CancelableQuery, SpiProfileTran
    */
   void updateExecutionStatisticsIterator() {
     updateStatistics();
+    request.traceRows(rowCount);
   }
 
   private void updateStatistics() {
     try {
       executionTimeMicros = (System.nanoTime() - startNano) / 1000L;
+      request.collectTenantQuery(executionTimeMicros);
       if (autoTuneProfiling) {
         profilingListener.collectQueryInfo(objectGraphNode, loadedBeanCount, executionTimeMicros);
       }
@@ -8,10 +8,12 @@ import io.ebean.bean.EntityBean;
 import io.ebean.bean.ObjectGraphNode;
 import io.ebean.config.DatabaseConfig;
 import io.ebean.config.dbplatform.DatabasePlatform;
+import io.ebean.text.json.JsonIOException;
 import io.ebean.util.JdbcClose;
 import io.ebean.util.StringHelper;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.core.DiffHelp;
 import io.ebeaninternal.server.core.OrmQueryRequest;
 import io.ebeaninternal.server.core.SpiResultSet;
@@ -22,6 +24,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.PersistenceException;
+import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -45,6 +48,10 @@ public class CQueryEngine {
 
   private final boolean forwardOnlyHintOnFindIterate;
 
+  private final boolean autoCommitFalseOnFindIterate;
+
+  private final boolean adaptiveFetchSizeFindEach;
+
   private final CQueryBuilder queryBuilder;
 
   private final CQueryHistorySupport historySupport;
@@ -56,6 +63,8 @@ public class CQueryEngine {
     this.defaultFetchSizeFindEach = config.getJdbcFetchSizeFindEach();
     this.defaultFetchSizeFindList = config.getJdbcFetchSizeFindList();
     this.forwardOnlyHintOnFindIterate = dbPlatform.isForwardOnlyHintOnFindIterate();
+    this.autoCommitFalseOnFindIterate = dbPlatform.isAutoCommitFalseOnFindIterate();
+    this.adaptiveFetchSizeFindEach = config.isJdbcFetchSizeAdaptive() && !forwardOnlyHintOnFindIterate;
     this.historySupport = new CQueryHistorySupport(dbPlatform.getHistorySupport(), asOfTableMapping, config.getAsOfSysPeriod());
     this.queryBuilder = new CQueryBuilder(dbPlatform, binder, historySupport, new CQueryDraftSupport(draftTableMap));
   }
@@ -200,9 +209,12 @@ public class CQueryEngine {
     CQuery<T> cquery = queryBuilder.buildQuery(request);
     request.setCancelableQuery(cquery);
     try {
-      if (defaultFetchSizeFindEach > 0) {
+      if (adaptiveFetchSizeFindEach && request.getQuery().getBufferFetchSizeHint() == 0) {
+        request.setDefaultFetchBuffer(cquery.adaptiveFetchSize());
+      } else if (defaultFetchSizeFindEach > 0) {
         request.setDefaultFetchBuffer(defaultFetchSizeFindEach);
       }
+      cquery.setCursorMode(autoCommitFalseOnFindIterate);
       if (!cquery.prepareBindExecuteQueryForwardOnly(forwardOnlyHintOnFindIterate)) {
         // query has been cancelled already
         logger.trace("Future fetch already cancelled");
@@ -243,6 +255,50 @@ public class CQueryEngine {
     }
   }
 
+  /**
+   * Write the query rows directly as JSON without building beans.
+   * <p>
+   * Returns false (without executing the query) if beans are required due to a fetch
+   * of a many, inheritance, secondary (fetch) queries, read auditing, bean visitors etc.
+   * </p>
+   */
+  public <T> boolean findJson(OrmQueryRequest<T> request, SpiJsonWriter writer) {
+    CQuery<T> cquery = queryBuilder.buildQuery(request);
+    if (!writer.isRowWrite() || request.isAuditReads() || request.getSecondaryQueriesMinBatchSize() != -1
+      || !cquery.isJsonRowWrite()) {
+      return false;
+    }
+    request.setCancelableQuery(cquery);
+    try {
+      if (adaptiveFetchSizeFindEach && request.getQuery().getBufferFetchSizeHint() == 0) {
+        request.setDefaultFetchBuffer(cquery.adaptiveFetchSize());
+      } else if (defaultFetchSizeFindEach > 0) {
+        request.setDefaultFetchBuffer(defaultFetchSizeFindEach);
+      }
+      cquery.setCursorMode(autoCommitFalseOnFindIterate);
+      if (!cquery.prepareBindExecuteQueryForwardOnly(forwardOnlyHintOnFindIterate)) {
+        // query has been cancelled already
+        logger.trace("Future fetch already cancelled");
+        return true;
+      }
+      if (request.isLogSql()) {
+        logSql(cquery);
+      }
+      cquery.readJson(writer);
+      if (request.isLogSummary()) {
+        logFindManySummary(cquery);
+      }
+      return true;
+
+    } catch (SQLException e) {
+      throw cquery.createPersistenceException(e);
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    } finally {
+      cquery.close();
+    }
+  }
+
   /**
    * Execute the find versions query returning version beans.
    */
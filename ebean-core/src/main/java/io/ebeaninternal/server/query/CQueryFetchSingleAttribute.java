@@ -117,6 +117,7 @@ class CQueryFetchSingleAttribute implements SpiProfileTransactionEvent {
 
       executionTimeMicros = (System.nanoTime() - startNano) / 1000L;
       request.slowQueryCheck(executionTimeMicros, rowCount);
+      request.collectTenantQuery(executionTimeMicros);
       if (queryPlan.executionTime(executionTimeMicros)) {
         queryPlan.captureBindForQueryPlan(predicates, executionTimeMicros);
       }
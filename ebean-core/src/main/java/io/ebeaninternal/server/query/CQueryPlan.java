@@ -325,6 +325,16 @@ public class CQueryPlan implements SpiQueryPlan {
     return stats.getSnapshot(reset);
   }
 
+  /**
+   * Return an estimate of the memory in bytes used by this query plan.
+   * <p>
+   * The sql strings dominate with the plan key and SqlTree taken as proportional to the sql.
+   */
+  public int memoryEstimate() {
+    int chars = sql.length() + (logWhereSql == null ? 0 : logWhereSql.length());
+    return 1024 + chars * 6;
+  }
+
   /**
    * Return the time this query plan was last used.
    */
@@ -126,6 +126,11 @@ public final class CQueryPlanStats {
       return metrics.getMean();
     }
 
+    @Override
+    public long getPercentile(double percentile) {
+      return metrics.getPercentile(percentile);
+    }
+
     @Override
     public String getHash() {
       return queryPlan.getHash();
@@ -126,6 +126,7 @@ class CQueryRowCount implements SpiProfileTransactionEvent {
 
       executionTimeMicros = (System.nanoTime() - startNano) / 1000L;
       request.slowQueryCheck(executionTimeMicros, rowCount);
+      request.collectTenantQuery(executionTimeMicros);
       if (queryPlan.executionTime(executionTimeMicros)) {
         queryPlan.captureBindForQueryPlan(predicates, executionTimeMicros);
       }
@@ -93,6 +93,7 @@ class CQueryUpdate implements SpiProfileTransactionEvent {
 
       long executionTimeMicros = (System.nanoTime() - startNano) / 1000L;
       request.slowQueryCheck(executionTimeMicros, rowCount);
+      request.collectTenantQuery(executionTimeMicros);
       if (queryPlan.executionTime(executionTimeMicros)) {
         queryPlan.captureBindForQueryPlan(predicates, executionTimeMicros);
       }
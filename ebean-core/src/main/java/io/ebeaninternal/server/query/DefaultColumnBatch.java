@@ -0,0 +1,392 @@
+package io.ebeaninternal.server.query;
+
+import io.ebean.ColumnBatch;
+import io.ebean.core.type.DataReader;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ColumnBatch reading the rows of a ResultSet into column vectors.
+ * <p>
+ * The vectors, null bitmaps and dictionaries are allocated once and reused for each batch.
+ * Integer and floating point columns are read as primitives directly from the ResultSet
+ * (no boxing) with the other columns read via the DataReader (taking into account the
+ * DataTimeZone for timestamps).
+ * </p>
+ */
+public final class DefaultColumnBatch implements ColumnBatch {
+
+  private final ResultSet resultSet;
+
+  private final DataReader dataReader;
+
+  private final int capacity;
+
+  private final Column[] columns;
+
+  private int size;
+
+  private boolean done;
+
+  /**
+   * Create for the ResultSet with the given max rows per batch.
+   */
+  public DefaultColumnBatch(ResultSet resultSet, DataReader dataReader, int capacity) throws SQLException {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("batchSize must be greater than 0 but was " + capacity);
+    }
+    this.resultSet = resultSet;
+    this.dataReader = dataReader;
+    this.capacity = capacity;
+    ResultSetMetaData metaData = resultSet.getMetaData();
+    this.columns = new Column[metaData.getColumnCount()];
+    for (int i = 0; i < columns.length; i++) {
+      int pos = i + 1;
+      String label = metaData.getColumnLabel(pos);
+      if (label == null) {
+        label = metaData.getColumnName(pos);
+      }
+      columns[i] = createColumn(label, pos, metaData.getColumnType(pos), capacity);
+    }
+  }
+
+  private static Column createColumn(String name, int pos, int jdbcType, int capacity) {
+    switch (jdbcType) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.BIGINT:
+        return new LongColumn(name, pos, capacity);
+      case Types.REAL:
+      case Types.FLOAT:
+      case Types.DOUBLE:
+        return new DoubleColumn(name, pos, capacity);
+      case Types.CHAR:
+      case Types.VARCHAR:
+      case Types.LONGVARCHAR:
+      case Types.NCHAR:
+      case Types.NVARCHAR:
+      case Types.LONGNVARCHAR:
+        return new StringColumn(name, capacity);
+      case Types.TIMESTAMP:
+        return new TimestampColumn(name, capacity);
+      default:
+        return new ObjectColumn(name, capacity);
+    }
+  }
+
+  /**
+   * Read the next batch of rows returning false when there are no more rows.
+   */
+  public boolean read() throws SQLException {
+    size = 0;
+    if (done) {
+      return false;
+    }
+    for (Column column : columns) {
+      column.reset();
+    }
+    while (size < capacity) {
+      if (!resultSet.next()) {
+        done = true;
+        break;
+      }
+      dataReader.resetColumnPosition();
+      for (Column column : columns) {
+        column.read(resultSet, dataReader, size);
+      }
+      size++;
+    }
+    return size > 0;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public int columnCount() {
+    return columns.length;
+  }
+
+  @Override
+  public String columnName(int column) {
+    return columns[column].name;
+  }
+
+  @Override
+  public Type columnType(int column) {
+    return columns[column].type;
+  }
+
+  @Override
+  public boolean isNull(int column, int row) {
+    return (columns[column].nulls[row >>> 6] & (1L << row)) != 0;
+  }
+
+  @Override
+  public long[] nulls(int column) {
+    return columns[column].nulls;
+  }
+
+  @Override
+  public long[] longs(int column) {
+    Column col = columns[column];
+    if (col instanceof LongColumn) {
+      return ((LongColumn) col).values;
+    } else if (col instanceof TimestampColumn) {
+      return ((TimestampColumn) col).values;
+    }
+    throw notType(col, "LONG or TIMESTAMP");
+  }
+
+  @Override
+  public double[] doubles(int column) {
+    Column col = columns[column];
+    if (col instanceof DoubleColumn) {
+      return ((DoubleColumn) col).values;
+    }
+    throw notType(col, "DOUBLE");
+  }
+
+  @Override
+  public int[] dictionaryCodes(int column) {
+    return stringColumn(column).codes;
+  }
+
+  @Override
+  public List<String> dictionary(int column) {
+    return stringColumn(column).dictionaryView;
+  }
+
+  @Override
+  public Object[] objects(int column) {
+    Column col = columns[column];
+    if (col instanceof ObjectColumn) {
+      return ((ObjectColumn) col).values;
+    }
+    throw notType(col, "OBJECT");
+  }
+
+  @Override
+  public long getLong(int column, int row) {
+    return longs(column)[row];
+  }
+
+  @Override
+  public double getDouble(int column, int row) {
+    return doubles(column)[row];
+  }
+
+  @Override
+  public String getString(int column, int row) {
+    StringColumn col = stringColumn(column);
+    return isNull(column, row) ? null : col.dictionary.get(col.codes[row]);
+  }
+
+  @Override
+  public Object getObject(int column, int row) {
+    return isNull(column, row) ? null : columns[column].get(row);
+  }
+
+  private StringColumn stringColumn(int column) {
+    Column col = columns[column];
+    if (col instanceof StringColumn) {
+      return (StringColumn) col;
+    }
+    throw notType(col, "STRING");
+  }
+
+  private IllegalStateException notType(Column col, String expected) {
+    return new IllegalStateException("Column " + col.name + " is " + col.type + " not " + expected);
+  }
+
+  /**
+   * A column vector with null bitmap.
+   */
+  private abstract static class Column {
+
+    final String name;
+    final Type type;
+    final long[] nulls;
+
+    Column(String name, Type type, int capacity) {
+      this.name = name;
+      this.type = type;
+      this.nulls = new long[(capacity + 63) >>> 6];
+    }
+
+    void reset() {
+      Arrays.fill(nulls, 0L);
+    }
+
+    void setNull(int row) {
+      nulls[row >>> 6] |= 1L << row;
+    }
+
+    abstract void read(ResultSet resultSet, DataReader dataReader, int row) throws SQLException;
+
+    abstract Object get(int row);
+  }
+
+  private static final class LongColumn extends Column {
+
+    final int pos;
+    final long[] values;
+
+    LongColumn(String name, int pos, int capacity) {
+      super(name, Type.LONG, capacity);
+      this.pos = pos;
+      this.values = new long[capacity];
+    }
+
+    @Override
+    void read(ResultSet resultSet, DataReader dataReader, int row) throws SQLException {
+      dataReader.incrementPos(1);
+      values[row] = resultSet.getLong(pos);
+      if (resultSet.wasNull()) {
+        setNull(row);
+      }
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+  }
+
+  private static final class DoubleColumn extends Column {
+
+    final int pos;
+    final double[] values;
+
+    DoubleColumn(String name, int pos, int capacity) {
+      super(name, Type.DOUBLE, capacity);
+      this.pos = pos;
+      this.values = new double[capacity];
+    }
+
+    @Override
+    void read(ResultSet resultSet, DataReader dataReader, int row) throws SQLException {
+      dataReader.incrementPos(1);
+      values[row] = resultSet.getDouble(pos);
+      if (resultSet.wasNull()) {
+        setNull(row);
+      }
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+  }
+
+  private static final class StringColumn extends Column {
+
+    final int[] codes;
+    final List<String> dictionary = new ArrayList<>();
+    final List<String> dictionaryView = Collections.unmodifiableList(dictionary);
+    final Map<String, Integer> lookup = new HashMap<>();
+
+    StringColumn(String name, int capacity) {
+      super(name, Type.STRING, capacity);
+      this.codes = new int[capacity];
+    }
+
+    @Override
+    void reset() {
+      super.reset();
+      dictionary.clear();
+      lookup.clear();
+    }
+
+    @Override
+    void read(ResultSet resultSet, DataReader dataReader, int row) throws SQLException {
+      String value = dataReader.getString();
+      if (value == null) {
+        setNull(row);
+        codes[row] = -1;
+      } else {
+        Integer code = lookup.get(value);
+        if (code == null) {
+          code = dictionary.size();
+          dictionary.add(value);
+          lookup.put(value, code);
+        }
+        codes[row] = code;
+      }
+    }
+
+    @Override
+    Object get(int row) {
+      return dictionary.get(codes[row]);
+    }
+  }
+
+  private static final class TimestampColumn extends Column {
+
+    final long[] values;
+
+    TimestampColumn(String name, int capacity) {
+      super(name, Type.TIMESTAMP, capacity);
+      this.values = new long[capacity];
+    }
+
+    @Override
+    void read(ResultSet resultSet, DataReader dataReader, int row) throws SQLException {
+      Timestamp value = dataReader.getTimestamp();
+      if (value == null) {
+        setNull(row);
+        values[row] = 0;
+      } else {
+        values[row] = value.getTime();
+      }
+    }
+
+    @Override
+    Object get(int row) {
+      return new Timestamp(values[row]);
+    }
+  }
+
+  private static final class ObjectColumn extends Column {
+
+    final Object[] values;
+
+    ObjectColumn(String name, int capacity) {
+      super(name, Type.OBJECT, capacity);
+      this.values = new Object[capacity];
+    }
+
+    @Override
+    void reset() {
+      super.reset();
+      Arrays.fill(values, null);
+    }
+
+    @Override
+    void read(ResultSet resultSet, DataReader dataReader, int row) throws SQLException {
+      Object value = dataReader.getObject();
+      if (value == null) {
+        setNull(row);
+      }
+      values[row] = value;
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+  }
+}
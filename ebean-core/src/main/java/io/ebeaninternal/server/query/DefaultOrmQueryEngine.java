@@ -7,6 +7,7 @@ import io.ebean.bean.EntityBean;
 import io.ebean.event.BeanFindController;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.core.OrmQueryEngine;
 import io.ebeaninternal.server.core.OrmQueryRequest;
 import io.ebeaninternal.server.core.SpiResultSet;
@@ -109,6 +110,12 @@ public class DefaultOrmQueryEngine implements OrmQueryEngine {
     return queryEngine.findIterate(request);
   }
 
+  @Override
+  public <T> boolean findJson(OrmQueryRequest<T> request, SpiJsonWriter writer) {
+    flushJdbcBatchOnQuery(request);
+    return queryEngine.findJson(request, writer);
+  }
+
   @Override
   public <T> List<Version<T>> findVersions(OrmQueryRequest<T> request) {
 
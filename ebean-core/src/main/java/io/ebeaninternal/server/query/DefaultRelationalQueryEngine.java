@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.query;
 
+import io.ebean.ColumnBatch;
 import io.ebean.RowConsumer;
 import io.ebean.RowMapper;
 import io.ebean.SqlRow;
@@ -71,6 +72,7 @@ public class DefaultRelationalQueryEngine implements RelationalQueryEngine {
       request.logSummary();
 
     } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
 
     } finally {
@@ -89,6 +91,7 @@ public class DefaultRelationalQueryEngine implements RelationalQueryEngine {
       request.logSummary();
 
     } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
 
     } finally {
@@ -105,6 +108,7 @@ public class DefaultRelationalQueryEngine implements RelationalQueryEngine {
       return value;
 
     } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
 
     } finally {
@@ -121,6 +125,7 @@ public class DefaultRelationalQueryEngine implements RelationalQueryEngine {
       return list;
 
     } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
 
     } finally {
@@ -136,6 +141,23 @@ public class DefaultRelationalQueryEngine implements RelationalQueryEngine {
       request.logSummary();
 
     } catch (Exception e) {
+      request.traceError(e);
+      throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
+
+    } finally {
+      request.close();
+    }
+  }
+
+  @Override
+  public void findColumnarBatches(RelationalQueryRequest request, int batchSize, Consumer<ColumnBatch> consumer) {
+    try {
+      request.executeSql(binder, SpiQuery.Type.ITERATE);
+      request.mapColumnBatches(batchSize, consumer);
+      request.logSummary();
+
+    } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
 
     } finally {
@@ -163,6 +185,7 @@ public class DefaultRelationalQueryEngine implements RelationalQueryEngine {
       return list;
 
     } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
 
     } finally {
@@ -192,6 +215,7 @@ public class DefaultRelationalQueryEngine implements RelationalQueryEngine {
       return value;
 
     } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
 
     } finally {
@@ -213,6 +237,7 @@ public class DefaultRelationalQueryEngine implements RelationalQueryEngine {
       return rows;
 
     } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
 
     } finally {
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.query;
 
+import io.ebean.ColumnBatch;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.server.core.DtoQueryRequest;
 import io.ebeaninternal.server.persist.Binder;
@@ -28,6 +29,7 @@ public class DtoQueryEngine {
       return rows;
 
     } catch (Throwable e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
     } finally {
       request.close();
@@ -41,6 +43,7 @@ public class DtoQueryEngine {
         consumer.accept(request.readNextBean());
       }
     } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
     } finally {
       request.close();
@@ -63,6 +66,19 @@ public class DtoQueryEngine {
         consumer.accept(buffer);
       }
     } catch (Exception e) {
+      request.traceError(e);
+      throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
+    } finally {
+      request.close();
+    }
+  }
+
+  public <T> void findColumnarBatches(DtoQueryRequest<T> request, int batchSize, Consumer<ColumnBatch> consumer) {
+    try {
+      request.executeSql(binder, SpiQuery.Type.ITERATE);
+      request.readColumnBatches(batchSize, consumer);
+    } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
     } finally {
       request.close();
@@ -78,6 +94,7 @@ public class DtoQueryEngine {
         }
       }
     } catch (Exception e) {
+      request.traceError(e);
       throw new PersistenceException(errMsg(e.getMessage(), request.getSql()), e);
 
     } finally {
@@ -2,9 +2,12 @@ package io.ebeaninternal.server.query;
 
 import io.ebean.core.type.ScalarDataReader;
 import io.ebean.core.type.ScalarType;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.deploy.DbReadContext;
 import io.ebeaninternal.server.deploy.DbSqlContext;
 
+import java.io.IOException;
+import java.sql.SQLException;
 import java.util.List;
 
 /**
@@ -91,4 +94,25 @@ public interface STreeProperty extends ScalarDataReader<Object> {
    */
   void appendFrom(DbSqlContext ctx, SqlJoinType joinType);
 
+  /**
+   * Return true if the property can be read from the row and written directly as JSON.
+   */
+  default boolean isJsonRowWrite() {
+    return false;
+  }
+
+  /**
+   * Read the property from the row writing it as JSON when include is true.
+   */
+  default void jsonWriteRow(DbReadContext ctx, SpiJsonWriter writer, boolean include) throws SQLException, IOException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * JSON write the property value.
+   */
+  default void jsonWriteValue(SpiJsonWriter writer, Object value) throws IOException {
+    throw new UnsupportedOperationException();
+  }
+
 }
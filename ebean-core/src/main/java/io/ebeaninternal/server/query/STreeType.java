@@ -37,6 +37,12 @@ public interface STreeType {
    */
   boolean isRawSqlBased();
 
+  /**
+   * Return true if query rows can be written directly as JSON without building the bean
+   * (no transient properties, unmapped JSON or BeanPostLoad).
+   */
+  boolean isJsonRowWrite();
+
   /**
    * Return the soft delete predicate using the given table alias.
    */
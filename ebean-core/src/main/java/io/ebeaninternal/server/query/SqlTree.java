@@ -149,6 +149,13 @@ class SqlTree {
     return rootNode.isSingleProperty();
   }
 
+  /**
+   * Return the estimated width in bytes of each row.
+   */
+  int rowWidthEstimate() {
+    return rootNode.rowWidthEstimate();
+  }
+
   /**
    * Return the tables that are joined in this query.
    */
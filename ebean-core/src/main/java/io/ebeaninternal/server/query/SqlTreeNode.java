@@ -4,9 +4,11 @@ import io.ebean.Version;
 import io.ebean.bean.EntityBean;
 import io.ebean.core.type.ScalarDataReader;
 import io.ebeaninternal.api.SpiQuery;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.deploy.DbReadContext;
 import io.ebeaninternal.server.deploy.DbSqlContext;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
@@ -92,4 +94,25 @@ interface SqlTreeNode {
    * Add dependent tables to the given set.
    */
   void dependentTables(Set<String> tables);
+
+  /**
+   * Return the estimated width in bytes of a row read by this node (including children).
+   */
+  default int rowWidthEstimate() {
+    return 0;
+  }
+
+  /**
+   * Return true if rows can be written directly as JSON (without building beans).
+   */
+  default boolean isJsonRowWrite() {
+    return false;
+  }
+
+  /**
+   * Read the node from the current row writing it as JSON when include is true.
+   */
+  default void jsonWriteRow(DbReadContext ctx, SpiJsonWriter writer, boolean include) throws SQLException, IOException {
+    throw new UnsupportedOperationException();
+  }
 }
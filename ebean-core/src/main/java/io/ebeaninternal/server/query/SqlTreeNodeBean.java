@@ -8,12 +8,14 @@ import io.ebean.core.type.ScalarDataReader;
 import io.ebean.util.SplitName;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.api.SpiQuery.Mode;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.deploy.DbReadContext;
 import io.ebeaninternal.server.deploy.DbSqlContext;
 import io.ebeaninternal.server.deploy.InheritInfo;
 import io.ebeaninternal.server.deploy.TableJoin;
 import io.ebeaninternal.server.deploy.id.IdBinder;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.List;
@@ -191,6 +193,79 @@ class SqlTreeNodeBean implements SqlTreeNode {
     }
   }
 
+  @Override
+  public int rowWidthEstimate() {
+    int width = readId ? AdaptiveFetchSize.columnWidth(idBinder.getBeanProperty()) : 0;
+    for (STreeProperty property : properties) {
+      width += AdaptiveFetchSize.columnWidth(property);
+    }
+    for (SqlTreeNode child : children) {
+      width += child.rowWidthEstimate();
+    }
+    return width;
+  }
+
+  @Override
+  public boolean isJsonRowWrite() {
+    if (inheritInfo != null || lazyLoadParent != null || temporalVersions || !desc.isJsonRowWrite()) {
+      return false;
+    }
+    if (readId && idBinder.isComplexId()) {
+      return false;
+    }
+    for (STreeProperty property : properties) {
+      if (!property.isJsonRowWrite()) {
+        return false;
+      }
+    }
+    for (SqlTreeNode child : children) {
+      if (!child.isJsonRowWrite()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Read the row writing the bean as a JSON object (or null when the id is null).
+   * <p>
+   * The columns are always read (in select order) with include false for the parts
+   * not written to the JSON.
+   * </p>
+   */
+  @Override
+  public void jsonWriteRow(DbReadContext ctx, SpiJsonWriter writer, boolean include) throws SQLException, IOException {
+    String key = null;
+    if (nodeBeanProp != null) {
+      // a joined ToOne, check it is included by the parent path
+      key = nodeBeanProp.getName();
+      include = include && writer.isIncludeProperty(SplitName.parent(prefix), key);
+    }
+    Object id = readId ? idBinder.read(ctx) : null;
+    if (readId && id == null) {
+      // the bean is null
+      if (include) {
+        writer.writeNullField(key);
+      }
+      include = false;
+    }
+    if (include) {
+      writer.writeStartObject(key);
+      if (readId && writer.isIncludeProperty(prefix, idBinder.getIdProperty())) {
+        idBinder.getBeanProperty().jsonWriteValue(writer, id);
+      }
+    }
+    for (STreeProperty property : properties) {
+      property.jsonWriteRow(ctx, writer, include && writer.isIncludeProperty(prefix, property.getName()));
+    }
+    for (SqlTreeNode child : children) {
+      child.jsonWriteRow(ctx, writer, include);
+    }
+    if (include) {
+      writer.writeEndObject();
+    }
+  }
+
   /**
    * Load that takes into account inheritance.
    */
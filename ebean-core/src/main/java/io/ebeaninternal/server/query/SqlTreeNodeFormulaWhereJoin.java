@@ -4,6 +4,7 @@ import io.ebean.Version;
 import io.ebean.bean.EntityBean;
 import io.ebean.core.type.ScalarType;
 import io.ebeaninternal.api.SpiQuery;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.deploy.DbReadContext;
 import io.ebeaninternal.server.deploy.DbSqlContext;
 
@@ -99,6 +100,16 @@ class SqlTreeNodeFormulaWhereJoin implements SqlTreeNode {
     return null;
   }
 
+  @Override
+  public boolean isJsonRowWrite() {
+    return true;
+  }
+
+  @Override
+  public void jsonWriteRow(DbReadContext ctx, SpiJsonWriter writer, boolean include) {
+    // nothing to do here
+  }
+
   @Override
   public boolean hasMany() {
     return true;
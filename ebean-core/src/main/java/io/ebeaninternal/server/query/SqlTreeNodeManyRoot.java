@@ -23,6 +23,11 @@ final class SqlTreeNodeManyRoot extends SqlTreeNodeBean {
     return true;
   }
 
+  @Override
+  public boolean isJsonRowWrite() {
+    return false;
+  }
+
   @Override
   public EntityBean load(DbReadContext cquery, EntityBean parentBean, EntityBean contextParent) throws SQLException {
     // pass in null for parentBean because added to a collection rather than set to the parentBean
@@ -5,6 +5,7 @@ import io.ebean.bean.EntityBean;
 import io.ebean.core.type.ScalarType;
 import io.ebean.util.SplitName;
 import io.ebeaninternal.api.SpiQuery;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.deploy.DbReadContext;
 import io.ebeaninternal.server.deploy.DbSqlContext;
 import io.ebeaninternal.server.deploy.TableJoin;
@@ -144,6 +145,16 @@ class SqlTreeNodeManyWhereJoin implements SqlTreeNode {
     return null;
   }
 
+  @Override
+  public boolean isJsonRowWrite() {
+    return true;
+  }
+
+  @Override
+  public void jsonWriteRow(DbReadContext ctx, SpiJsonWriter writer, boolean include) {
+    // nothing to do here
+  }
+
   @Override
   public boolean hasMany() {
     return true;
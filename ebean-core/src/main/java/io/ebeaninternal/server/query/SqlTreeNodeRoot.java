@@ -3,10 +3,12 @@ package io.ebeaninternal.server.query;
 import io.ebean.Version;
 import io.ebean.bean.EntityBean;
 import io.ebeaninternal.api.SpiQuery;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.deploy.DbReadContext;
 import io.ebeaninternal.server.deploy.DbSqlContext;
 import io.ebeaninternal.server.deploy.TableJoin;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.List;
@@ -45,6 +47,11 @@ final class SqlTreeNodeRoot extends SqlTreeNodeBean implements SqlTreeRoot {
     return load(ctx, null, null);
   }
 
+  @Override
+  public void jsonWriteRow(DbReadContext ctx, SpiJsonWriter writer) throws SQLException, IOException {
+    jsonWriteRow(ctx, writer, true);
+  }
+
   /**
    * Read the version bean.
    */
@@ -3,8 +3,10 @@ package io.ebeaninternal.server.query;
 import io.ebean.Version;
 import io.ebean.bean.EntityBean;
 import io.ebean.core.type.ScalarDataReader;
+import io.ebeaninternal.api.json.SpiJsonWriter;
 import io.ebeaninternal.server.deploy.DbReadContext;
 
+import java.io.IOException;
 import java.sql.SQLException;
 
 /**
@@ -31,4 +33,14 @@ interface SqlTreeRoot {
    */
   ScalarDataReader<?> getSingleAttributeReader();
 
+  /**
+   * Return true if rows can be written directly as JSON (without building beans).
+   */
+  boolean isJsonRowWrite();
+
+  /**
+   * Read the current row writing it as a JSON object.
+   */
+  void jsonWriteRow(DbReadContext ctx, SpiJsonWriter writer) throws SQLException, IOException;
+
 }
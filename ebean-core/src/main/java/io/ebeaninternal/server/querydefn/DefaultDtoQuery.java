@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.querydefn;
 
+import io.ebean.ColumnBatch;
 import io.ebean.DtoQuery;
 import io.ebean.ProfileLocation;
 import io.ebean.Transaction;
@@ -107,6 +108,11 @@ public class DefaultDtoQuery<T> implements SpiDtoQuery<T> {
     server.findDtoEach(this, batch, consumer);
   }
 
+  @Override
+  public void findColumnarBatches(int batchSize, Consumer<ColumnBatch> consumer) {
+    server.findDtoColumnarBatches(this, batchSize, consumer);
+  }
+
   @Override
   public void findEachWhile(Predicate<T> consumer) {
     server.findDtoEachWhile(this, consumer);
@@ -32,6 +32,7 @@ import io.ebean.bean.PersistenceContext;
 import io.ebean.event.BeanQueryRequest;
 import io.ebean.event.readaudit.ReadEvent;
 import io.ebean.plugin.BeanType;
+import io.ebean.text.json.JsonWriteOptions;
 import io.ebeaninternal.api.BindParams;
 import io.ebeaninternal.api.CQueryPlanKey;
 import io.ebeaninternal.api.CacheIdLookup;
@@ -64,6 +65,10 @@ import io.ebeaninternal.server.rawsql.SpiRawSql;
 import io.ebeaninternal.server.transaction.ExternalJdbcTransaction;
 
 import javax.persistence.PersistenceException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -1567,6 +1572,26 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
     server.findEach(this, batch, consumer, transaction);
   }
 
+  @Override
+  public void findEachParallel(int partitions, Consumer<T> consumer) {
+    server.findEachParallel(this, partitions, consumer, transaction);
+  }
+
+  @Override
+  public void findJson(Writer writer, JsonWriteOptions options) {
+    server.findJson(this, writer, options, transaction);
+  }
+
+  @Override
+  public void findJson(OutputStream outputStream, JsonWriteOptions options) {
+    server.findJson(this, new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), options, transaction);
+  }
+
+  @Override
+  public Stream<T> findStreamParallel(int partitions) {
+    return server.findStreamParallel(this, partitions, transaction);
+  }
+
   @Override
   public QueryIterator<T> findIterate() {
     return server.findIterate(this, transaction);
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.querydefn;
 
+import io.ebean.ColumnBatch;
 import io.ebean.RowConsumer;
 import io.ebean.RowMapper;
 import io.ebean.SqlQuery;
@@ -98,6 +99,11 @@ public class DefaultRelationalQuery implements SpiSqlQuery {
     server.findEachRow(this, consumer);
   }
 
+  @Override
+  public void findColumnarBatches(int batchSize, Consumer<ColumnBatch> consumer) {
+    server.findColumnarBatches(this, batchSize, consumer);
+  }
+
   @Override
   public SqlRow findOne() {
     return server.findOne(this, null);
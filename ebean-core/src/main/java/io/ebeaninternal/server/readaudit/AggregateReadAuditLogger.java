@@ -0,0 +1,267 @@
+package io.ebeaninternal.server.readaudit;
+
+import io.ebean.event.readaudit.ReadAuditLogger;
+import io.ebean.event.readaudit.ReadAuditQueryPlan;
+import io.ebean.event.readaudit.ReadEvent;
+import io.ebean.plugin.Plugin;
+import io.ebean.plugin.SpiServer;
+import io.ebeaninternal.server.executor.DaemonScheduleThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReadAuditLogger that aggregates read events over a time window before sending them to the underlying logger.
+ * <p>
+ * Read events with the same bean type, query key (query plan) and user id are merged into a single
+ * event with the ids de-duplicated. The aggregated events are sent to the underlying logger by a
+ * periodic task (on its own thread) and at shutdown. When the number of ids held reaches the maximum
+ * the events are sent early bounding the memory used by a busy window. The source, user ip address, user context and event
+ * time are taken from the first event of the window and the bind log is only kept when all the
+ * merged events have the same bind log.
+ * </p>
+ * <p>
+ * The query plans are sent to the underlying logger immediately.
+ * </p>
+ */
+public final class AggregateReadAuditLogger implements ReadAuditLogger, Plugin {
+
+  private static final Logger logger = LoggerFactory.getLogger(AggregateReadAuditLogger.class);
+
+  private final ReadAuditLogger delegate;
+
+  private final long windowMillis;
+
+  private final int maxIds;
+
+  private Map<Key, Aggregate> aggregates = new LinkedHashMap<>();
+
+  /**
+   * The number of ids (and aggregates) held.
+   */
+  private int idCount;
+
+  /**
+   * Set when an early flush has been requested and not yet run.
+   */
+  private boolean flushPending;
+
+  private DaemonScheduleThreadPool executor;
+
+  /**
+   * Create with the underlying logger, time window and maximum number of ids held.
+   */
+  public AggregateReadAuditLogger(ReadAuditLogger delegate, long windowMillis, int maxIds) {
+    this.delegate = delegate;
+    this.windowMillis = windowMillis;
+    this.maxIds = maxIds;
+  }
+
+  @Override
+  public void configure(SpiServer server) {
+    if (delegate instanceof Plugin) {
+      ((Plugin) delegate).configure(server);
+    }
+    // own thread such that flushing is not delayed by other background tasks
+    executor = new DaemonScheduleThreadPool(1, 10, "ebean-readaudit-" + server.getName());
+    executor.scheduleWithFixedDelay(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void online(boolean online) {
+    if (delegate instanceof Plugin) {
+      ((Plugin) delegate).online(online);
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+    flush();
+    if (delegate instanceof Plugin) {
+      ((Plugin) delegate).shutdown();
+    }
+  }
+
+  @Override
+  public void queryPlan(ReadAuditQueryPlan queryPlan) {
+    delegate.queryPlan(queryPlan);
+  }
+
+  @Override
+  public void auditBean(ReadEvent readBean) {
+    if (add(readBean)) {
+      flushEarly();
+    }
+  }
+
+  @Override
+  public void auditMany(ReadEvent readMany) {
+    if (add(readMany)) {
+      flushEarly();
+    }
+  }
+
+  /**
+   * Add the event returning true if the maximum ids is reached and an early flush is required.
+   */
+  private synchronized boolean add(ReadEvent event) {
+    Key key = new Key(event);
+    Aggregate aggregate = aggregates.get(key);
+    if (aggregate == null) {
+      aggregate = new Aggregate(event);
+      aggregates.put(key, aggregate);
+      idCount += 1 + aggregate.size();
+    } else {
+      idCount += aggregate.add(event);
+    }
+    if (idCount >= maxIds && !flushPending) {
+      flushPending = true;
+      return true;
+    }
+    return false;
+  }
+
+  private void flushEarly() {
+    DaemonScheduleThreadPool executor = this.executor;
+    if (executor == null || executor.isShutdown()) {
+      flush();
+    } else {
+      executor.execute(this::flush);
+    }
+  }
+
+  /**
+   * Send the aggregated read events to the underlying logger.
+   */
+  void flush() {
+    Map<Key, Aggregate> flushing;
+    synchronized (this) {
+      if (aggregates.isEmpty()) {
+        return;
+      }
+      flushing = aggregates;
+      aggregates = new LinkedHashMap<>();
+      idCount = 0;
+      flushPending = false;
+    }
+    for (Aggregate aggregate : flushing.values()) {
+      try {
+        aggregate.send(delegate);
+      } catch (Exception e) {
+        logger.error("Error logging aggregated read audit event", e);
+      }
+    }
+  }
+
+  /**
+   * The bean type, query key and user id the read events are aggregated by.
+   */
+  private static final class Key {
+
+    private final String beanType;
+    private final String queryKey;
+    private final String userId;
+
+    Key(ReadEvent event) {
+      this.beanType = event.getBeanType();
+      this.queryKey = event.getQueryKey();
+      this.userId = event.getUserId();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Key)) return false;
+      Key that = (Key) o;
+      return Objects.equals(beanType, that.beanType)
+        && Objects.equals(queryKey, that.queryKey)
+        && Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = Objects.hashCode(beanType);
+      result = 92821 * result + Objects.hashCode(queryKey);
+      return 92821 * result + Objects.hashCode(userId);
+    }
+  }
+
+  /**
+   * The read events aggregated for a key.
+   */
+  private static final class Aggregate {
+
+    private final ReadEvent first;
+
+    private final Set<Object> ids = new LinkedHashSet<>();
+
+    private String bindLog;
+
+    private boolean many;
+
+    Aggregate(ReadEvent first) {
+      this.first = first;
+      this.bindLog = first.getBindLog();
+      addIds(first);
+    }
+
+    /**
+     * Add the event returning the number of ids added.
+     */
+    int add(ReadEvent event) {
+      if (bindLog != null && !bindLog.equals(event.getBindLog())) {
+        bindLog = null;
+      }
+      int before = ids.size();
+      addIds(event);
+      return ids.size() - before;
+    }
+
+    int size() {
+      return ids.size();
+    }
+
+    private void addIds(ReadEvent event) {
+      Object id = event.getId();
+      if (id != null) {
+        ids.add(id);
+      } else {
+        many = true;
+        List<Object> readIds = event.getIds();
+        if (readIds != null) {
+          ids.addAll(readIds);
+        }
+      }
+    }
+
+    void send(ReadAuditLogger delegate) {
+      ReadEvent event = new ReadEvent();
+      event.setSource(first.getSource());
+      event.setUserId(first.getUserId());
+      event.setUserIpAddress(first.getUserIpAddress());
+      event.setUserContext(first.getUserContext());
+      event.setEventTime(first.getEventTime());
+      event.setBeanType(first.getBeanType());
+      event.setQueryKey(first.getQueryKey());
+      event.setBindLog(bindLog);
+      if (!many && ids.size() == 1) {
+        event.setId(ids.iterator().next());
+        delegate.auditBean(event);
+      } else {
+        event.setIds(new ArrayList<>(ids));
+        delegate.auditMany(event);
+      }
+    }
+  }
+}
@@ -434,6 +434,20 @@ public class WriteJson implements SpiJsonWriter {
     createWriteBean(desc, bean).write(this);
   }
 
+  @Override
+  public boolean isRowWrite() {
+    return visitors == null || visitors.isEmpty();
+  }
+
+  @Override
+  public boolean isIncludeProperty(String path, String propertyName) {
+    if (fetchPath == null) {
+      return true;
+    }
+    Set<String> includeProps = fetchPath.getProperties(path);
+    return includeProps == null || includeProps.isEmpty() || includeProps.contains("*") || includeProps.contains(propertyName);
+  }
+
   private <T> WriteBean createWriteBean(BeanDescriptor<T> desc, EntityBean bean) {
 
     String path = pathStack.peekWithNull();
@@ -0,0 +1,212 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.event.changelog.ChangeSet;
+import io.ebean.metric.CountMetric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Append only file of change sets used when the change log queue is full.
+ * <p>
+ * Each change set is written as a length prefixed serialized record and read back in order.
+ * Once all the records have been read the file is truncated. A file left with records (at
+ * shutdown) is compacted to the records not yet read and those are read on the next start.
+ * </p>
+ * <p>
+ * Reading only allows the change log classes, JDK classes and the (non JDK) id types of the
+ * entity beans such as embedded ids.
+ * </p>
+ */
+final class ChangeLogSpill {
+
+  private static final Logger logger = LoggerFactory.getLogger(ChangeLogSpill.class);
+
+  private final File file;
+
+  private final RandomAccessFile raf;
+
+  private final CountMetric dropped;
+
+  private final Set<String> idTypes;
+
+  private long readPos;
+
+  private long writePos;
+
+  private volatile boolean active;
+
+  ChangeLogSpill(File file, CountMetric dropped, Set<String> idTypes) throws IOException {
+    this.file = file;
+    this.dropped = dropped;
+    this.idTypes = idTypes;
+    this.raf = new RandomAccessFile(file, "rw");
+    this.writePos = raf.length();
+    this.active = writePos > 0;
+    if (active) {
+      logger.info("Change log spill file {} has {} bytes to deliver", file, writePos);
+    }
+  }
+
+  /**
+   * Return true if there are spilled change sets to read.
+   */
+  boolean isActive() {
+    return active;
+  }
+
+  /**
+   * Append the change set returning false if it could not be written (and was dropped).
+   */
+  boolean append(ChangeSet changeSet) {
+    byte[] bytes;
+    try {
+      bytes = serialize(changeSet);
+    } catch (IOException e) {
+      dropped.increment();
+      logger.error("Unable to spill change set " + changeSet, e);
+      return false;
+    }
+    synchronized (this) {
+      try {
+        raf.seek(writePos);
+        raf.writeInt(bytes.length);
+        raf.write(bytes);
+        writePos += 4 + bytes.length;
+        active = true;
+        return true;
+      } catch (IOException e) {
+        dropped.increment();
+        logger.error("Error writing change set to spill file " + file, e);
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Read up to max change sets in the order they were spilled.
+   */
+  synchronized List<ChangeSet> read(int max) {
+    List<ChangeSet> list = new ArrayList<>();
+    try {
+      while (list.size() < max && readPos + 4 <= writePos) {
+        raf.seek(readPos);
+        int length = raf.readInt();
+        if (length < 0 || readPos + 4 + length > writePos) {
+          logger.error("Ignoring partial record at {} of change log spill file {}", readPos, file);
+          readPos = writePos;
+          break;
+        }
+        byte[] bytes = new byte[length];
+        raf.readFully(bytes);
+        readPos += 4 + length;
+        try {
+          list.add(deserialize(bytes));
+        } catch (IOException | ClassNotFoundException e) {
+          dropped.increment();
+          logger.error("Unable to read spilled change set from " + file, e);
+        }
+      }
+      if (readPos >= writePos) {
+        raf.setLength(0);
+        readPos = 0;
+        writePos = 0;
+        active = false;
+      }
+    } catch (IOException e) {
+      logger.error("Error reading change log spill file " + file + " discarding remaining change sets", e);
+      readPos = 0;
+      writePos = 0;
+      active = false;
+    }
+    return list;
+  }
+
+  /**
+   * Close the file removing it when empty or otherwise compacting it to the unread records.
+   */
+  synchronized void close() {
+    try {
+      if (readPos > 0 && readPos < writePos) {
+        compact();
+      }
+      raf.close();
+      if (writePos == 0 && !file.delete()) {
+        logger.debug("Unable to delete change log spill file {}", file);
+      }
+    } catch (IOException e) {
+      logger.error("Error closing change log spill file " + file, e);
+    }
+  }
+
+  /**
+   * Move the unread records to the start of the file such that already delivered
+   * change sets are not read again on the next start.
+   */
+  private void compact() throws IOException {
+    byte[] buffer = new byte[8192];
+    long from = readPos;
+    long to = 0;
+    while (from < writePos) {
+      int length = (int) Math.min(buffer.length, writePos - from);
+      raf.seek(from);
+      raf.readFully(buffer, 0, length);
+      raf.seek(to);
+      raf.write(buffer, 0, length);
+      from += length;
+      to += length;
+    }
+    raf.setLength(to);
+    readPos = 0;
+    writePos = to;
+  }
+
+  private static byte[] serialize(ChangeSet changeSet) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+    try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+      out.writeObject(changeSet);
+    }
+    return buffer.toByteArray();
+  }
+
+  private ChangeSet deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ChangeSetInputStream(new ByteArrayInputStream(bytes), idTypes)) {
+      return (ChangeSet) in.readObject();
+    }
+  }
+
+  /**
+   * Only allows the change log, standard JDK value types and the id types to be read.
+   */
+  private static final class ChangeSetInputStream extends ObjectInputStream {
+
+    private final Set<String> idTypes;
+
+    ChangeSetInputStream(InputStream in, Set<String> idTypes) throws IOException {
+      super(in);
+      this.idTypes = idTypes;
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+      String name = desc.getName();
+      if (name.startsWith("io.ebean.event.changelog.") || name.startsWith("java.") || idTypes.contains(name)) {
+        return super.resolveClass(desc);
+      }
+      throw new InvalidClassException(name, "Not allowed in change log spill file");
+    }
+  }
+}
@@ -0,0 +1,311 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.event.changelog.ChangeLogListener;
+import io.ebean.event.changelog.ChangeSet;
+import io.ebean.meta.MetricVisitor;
+import io.ebean.metric.CountMetric;
+import io.ebean.metric.GaugeMetric;
+import io.ebean.metric.MetricFactory;
+import io.ebean.metric.TimedMetric;
+import io.ebeaninternal.server.executor.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Delivers change sets to the ChangeLogListener in batches from a bounded queue processed by a single thread.
+ * <p>
+ * Change sets are collected into batches by size and time (batch window). When the queue is full
+ * and a spill directory is set the change sets are appended to a spill file and delivered once the
+ * queue has drained. While there are spilled change sets new change sets are also spilled such
+ * that they are delivered in order. Without a spill directory the committing thread blocks.
+ * </p>
+ * <p>
+ * Metrics are collected for the latency from commit to delivered, the current queue depth and
+ * the number of spilled and dropped change sets.
+ * </p>
+ * <p>
+ * Change sets are only queued or spilled while running (checked under the read lock) such that
+ * once shutdown holds the write lock the remaining change sets are all delivered by the thread.
+ * Change sets submitted after that are delivered in the calling thread.
+ * </p>
+ */
+final class ChangeLogStage {
+
+  private static final Logger logger = LoggerFactory.getLogger(ChangeLogStage.class);
+
+  private static final long POLL_MILLIS = 100;
+
+  private final ChangeLogListener listener;
+
+  private final BlockingQueue<Item> queue;
+
+  private final int batchSize;
+
+  private final long batchWindowNanos;
+
+  private final int shutdownWaitSeconds;
+
+  private final TimedMetric latency;
+
+  private final GaugeMetric depth;
+
+  private final CountMetric spilled;
+
+  private final CountMetric dropped;
+
+  private final ChangeLogSpill spill;
+
+  private final Thread thread;
+
+  private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+  private volatile boolean running = true;
+
+  /**
+   * Create the stage (not started).
+   *
+   * @param listener            The listener change sets are delivered to
+   * @param name                The database name (used for the thread and spill file)
+   * @param capacity            The capacity of the bounded queue
+   * @param batchSize           The maximum number of change sets delivered together
+   * @param batchWindowMillis   Time to wait collecting change sets into a batch
+   * @param spillDirectory      Directory for the spill file (null to block when full)
+   * @param shutdownWaitSeconds Time to wait at shutdown for queued change sets to be delivered
+   * @param idTypes             The non JDK id types (embedded ids) allowed when reading the spill file
+   */
+  ChangeLogStage(ChangeLogListener listener, String name, int capacity, int batchSize, long batchWindowMillis,
+                 String spillDirectory, int shutdownWaitSeconds, Set<String> idTypes) {
+    this.listener = listener;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = Math.max(batchSize, 1);
+    this.batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(batchWindowMillis);
+    this.shutdownWaitSeconds = shutdownWaitSeconds;
+    MetricFactory metricFactory = MetricFactory.get();
+    this.latency = metricFactory.createTimedMetric("txn.changelog");
+    this.depth = metricFactory.createGaugeMetric("txn.changelog.depth", queue::size);
+    this.spilled = metricFactory.createCountMetric("txn.changelog.spilled");
+    this.dropped = metricFactory.createCountMetric("txn.changelog.dropped");
+    this.spill = initSpill(spillDirectory, name, idTypes);
+    this.thread = new DaemonThreadFactory("ebean-changelog-" + name + "-").newThread(this::run);
+  }
+
+  private ChangeLogSpill initSpill(String spillDirectory, String name, Set<String> idTypes) {
+    if (spillDirectory == null) {
+      return null;
+    }
+    File dir = new File(spillDirectory);
+    if (!dir.exists() && !dir.mkdirs()) {
+      logger.error("Unable to create change log spill directory {} so blocking when the queue is full", dir);
+      return null;
+    }
+    try {
+      return new ChangeLogSpill(new File(dir, "ebean-changelog-" + name + ".spill"), dropped, idTypes);
+    } catch (IOException e) {
+      logger.error("Unable to open change log spill file so blocking when the queue is full", e);
+      return null;
+    }
+  }
+
+  /**
+   * Start the thread delivering the change sets.
+   */
+  ChangeLogStage start() {
+    thread.start();
+    return this;
+  }
+
+  /**
+   * Add the change set to the queue spilling or blocking if the queue is full.
+   */
+  void submit(ChangeSet changeSet) {
+    Item item = new Item(changeSet);
+    if (!(spill == null ? put(item) : offerOrSpill(item))) {
+      // shutting down so deliver in the calling thread
+      deliver(Collections.singletonList(item));
+    }
+  }
+
+  /**
+   * Add to the queue or spill file while running returning false if shutting down.
+   */
+  private boolean offerOrSpill(Item item) {
+    runningLock.readLock().lock();
+    try {
+      if (!running) {
+        return false;
+      }
+      if (spill.isActive() || !queue.offer(item)) {
+        if (spill.append(item.changeSet)) {
+          spilled.increment();
+        }
+      }
+      return true;
+    } finally {
+      runningLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Wait for space in the queue while running returning false if not queued.
+   */
+  private boolean put(Item item) {
+    try {
+      while (running) {
+        runningLock.readLock().lock();
+        try {
+          if (running && queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            return true;
+          }
+        } finally {
+          runningLock.readLock().unlock();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  /**
+   * Stop delivering after draining the queue (and spill file) waiting at most the shutdown wait.
+   */
+  void shutdown() {
+    runningLock.writeLock().lock();
+    try {
+      running = false;
+    } finally {
+      runningLock.writeLock().unlock();
+    }
+    try {
+      thread.join(TimeUnit.SECONDS.toMillis(shutdownWaitSeconds));
+      if (thread.isAlive()) {
+        logger.info("Shutdown wait timeout exceeded for change log with {} change sets queued", queue.size());
+        thread.interrupt();
+        // the thread delivers the batch it has in flight before it ends
+        thread.join(TimeUnit.SECONDS.toMillis(shutdownWaitSeconds));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // change sets left when the thread was interrupted
+    List<Item> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      deliver(remaining);
+    }
+    if (spill != null) {
+      while (spill.isActive()) {
+        deliverSpilled();
+      }
+      spill.close();
+    }
+  }
+
+  void visitMetrics(MetricVisitor visitor) {
+    latency.visit(visitor);
+    depth.visit(visitor);
+    spilled.visit(visitor);
+    dropped.visit(visitor);
+  }
+
+  private boolean isSpilled() {
+    return spill != null && spill.isActive();
+  }
+
+  private void run() {
+    List<Item> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty() || isSpilled()) {
+      try {
+        Item first = queue.poll(isSpilled() ? 0 : POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          batch.add(first);
+          collect(batch);
+          deliver(batch);
+          batch.clear();
+        } else if (isSpilled()) {
+          deliverSpilled();
+        }
+      } catch (InterruptedException e) {
+        logger.debug("Change log delivery interrupted");
+        if (!batch.isEmpty()) {
+          // deliver the change sets already collected into the batch
+          deliver(batch);
+        }
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Collect more change sets into the batch up to the batch size waiting at most the batch window.
+   */
+  private void collect(List<Item> batch) throws InterruptedException {
+    queue.drainTo(batch, batchSize - batch.size());
+    if (batchWindowNanos > 0) {
+      long deadline = System.nanoTime() + batchWindowNanos;
+      while (running && batch.size() < batchSize) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return;
+        }
+        Item next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+        if (next == null) {
+          return;
+        }
+        batch.add(next);
+        queue.drainTo(batch, batchSize - batch.size());
+      }
+    }
+  }
+
+  private void deliverSpilled() {
+    List<ChangeSet> changeSets = spill.read(batchSize);
+    if (!changeSets.isEmpty()) {
+      log(changeSets);
+    }
+  }
+
+  private void deliver(List<Item> batch) {
+    List<ChangeSet> changeSets = new ArrayList<>(batch.size());
+    for (Item item : batch) {
+      changeSets.add(item.changeSet);
+    }
+    log(changeSets);
+    long now = System.nanoTime();
+    for (Item item : batch) {
+      latency.add((now - item.startNanos) / 1000L);
+    }
+  }
+
+  private void log(List<ChangeSet> changeSets) {
+    try {
+      listener.logBatch(changeSets);
+    } catch (Throwable e) {
+      logger.error("Error logging batch of " + changeSets.size() + " change sets", e);
+    }
+  }
+
+  private static final class Item {
+
+    final ChangeSet changeSet;
+
+    final long startNanos = System.nanoTime();
+
+    Item(ChangeSet changeSet) {
+      this.changeSet = changeSet;
+    }
+  }
+}
@@ -228,7 +228,10 @@ public final class DefaultPersistenceContext implements PersistenceContext {
 
   private static class ClassContext {
 
-    private final Map<Object, Object> map = new HashMap<>();
+    /**
+     * Specialised by id type on first put (null until then).
+     */
+    private IdMap map;
 
     private Set<Object> deleteSet;
 
@@ -257,7 +260,7 @@ public final class DefaultPersistenceContext implements PersistenceContext {
      */
     private boolean isTransfer() {
       // map not added to and has some original/parent beans
-      return map.isEmpty() && initialSize > 0;
+      return isEmpty() && initialSize > 0;
     }
 
     private ClassContext transferParent() {
@@ -275,17 +278,35 @@ public final class DefaultPersistenceContext implements PersistenceContext {
      * Return true if grown above the reset limit size of 1000.
      */
     private boolean resetLimit() {
-      return map.size() > 1000;
+      return mapSize() > 1000;
     }
 
     @Override
     public String toString() {
-      return "size:" + map.size();
+      return "size:" + mapSize();
+    }
+
+    private int mapSize() {
+      return map == null ? 0 : map.size();
+    }
+
+    private boolean isEmpty() {
+      return map == null || map.isEmpty();
+    }
+
+    private IdMap map(Object id) {
+      if (map == null) {
+        map = IdMap.forId(id);
+      }
+      return map;
     }
 
     private Object get(Object id) {
       Object bean = (parent == null) ? null : parent.get(id);
-      return bean != null ? bean : map.get(id);
+      if (bean != null || map == null) {
+        return bean;
+      }
+      return map.get(id);
     }
 
     private WithOption getWithOption(Object id) {
@@ -303,24 +324,28 @@ public final class DefaultPersistenceContext implements PersistenceContext {
         return existingValue;
       }
       // put the new value and return null indicating the put was successful
-      map.put(id, bean);
+      map(id).put(id, bean);
       return null;
     }
 
     private void put(Object id, Object b) {
-      map.put(id, b);
+      map(id).put(id, b);
     }
 
     private int size() {
-      return map.size() + initialSize;
+      return mapSize() + initialSize;
     }
 
     private void clear() {
-      map.clear();
+      if (map != null) {
+        map.clear();
+      }
     }
 
     private void remove(Object id) {
-      map.remove(id);
+      if (map != null) {
+        map.remove(id);
+      }
     }
 
     private void deleted(Object id) {
@@ -328,17 +353,19 @@ public final class DefaultPersistenceContext implements PersistenceContext {
         deleteSet = new HashSet<>();
       }
       deleteSet.add(id);
-      map.remove(id);
+      remove(id);
     }
 
     /**
      * Add the dirty beans to the list.
      */
     void dirtyBeans(List<Object> list) {
-      for (Object value : map.values()) {
-        if (((EntityBean) value)._ebean_getIntercept().isDirty()) {
-          list.add(value);
-        }
+      if (map != null) {
+        map.forEachValue(value -> {
+          if (((EntityBean) value)._ebean_getIntercept().isDirty()) {
+            list.add(value);
+          }
+        });
       }
     }
   }
@@ -0,0 +1,67 @@
+package io.ebeaninternal.server.transaction;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Map of id value to bean used by the persistence context for a single bean type.
+ * <p>
+ * Implementations are specialised by id type such that Long, Integer and UUID ids
+ * do not need a HashMap.Node per bean or hashing via Object.hashCode().
+ * </p>
+ */
+interface IdMap {
+
+  /**
+   * Return a map specialised for the type of the given id value.
+   */
+  static IdMap forId(Object id) {
+    if (id instanceof Long) {
+      return new LongIdMap(Long.class);
+    }
+    if (id instanceof Integer) {
+      return new LongIdMap(Integer.class);
+    }
+    if (id instanceof UUID) {
+      return new UuidIdMap();
+    }
+    return new ObjectIdMap();
+  }
+
+  /**
+   * Return the bean for the given id or null.
+   */
+  Object get(Object id);
+
+  /**
+   * Put the bean for the given id.
+   */
+  void put(Object id, Object bean);
+
+  /**
+   * Remove the bean for the given id.
+   */
+  void remove(Object id);
+
+  /**
+   * Return the number of beans held.
+   */
+  int size();
+
+  /**
+   * Return true if no beans are held.
+   */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Remove all the beans.
+   */
+  void clear();
+
+  /**
+   * Visit each of the beans.
+   */
+  void forEachValue(Consumer<Object> consumer);
+}
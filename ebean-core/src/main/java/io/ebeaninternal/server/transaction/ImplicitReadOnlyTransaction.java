@@ -68,6 +68,11 @@ class ImplicitReadOnlyTransaction implements SpiTransaction, TxnProfileEventCode
 
   private ProfileLocation profileLocation;
 
+  /**
+   * The read replica the connection is from (can be null).
+   */
+  private ReadReplica replica;
+
   /**
    * Create without a tenantId.
    */
@@ -89,6 +94,14 @@ class ImplicitReadOnlyTransaction implements SpiTransaction, TxnProfileEventCode
     this.tenantId = tenantId;
   }
 
+  /**
+   * Create with a connection from a read replica.
+   */
+  ImplicitReadOnlyTransaction(TransactionManager manager, Connection connection, ReadReplica replica) {
+    this(manager, connection);
+    this.replica = replica;
+  }
+
   @Override
   public long getStartNanoTime() {
     // not used on read only transaction
@@ -322,6 +335,10 @@ class ImplicitReadOnlyTransaction implements SpiTransaction, TxnProfileEventCode
   public void setGetGeneratedKeys(boolean getGeneratedKeys) {
   }
 
+  @Override
+  public void setMultiRowInsert(boolean multiRowInsert) {
+  }
+
   @Override
   public void setFlushOnMixed(boolean batchFlushOnMixed) {
   }
@@ -521,7 +538,10 @@ class ImplicitReadOnlyTransaction implements SpiTransaction, TxnProfileEventCode
     }
     connection = null;
     active = false;
-    manager.collectMetricReadOnly((System.nanoTime() - startNanos) / 1000L);
+    if (replica != null) {
+      replica.release(startNanos);
+    }
+    manager.collectMetricReadOnly((System.nanoTime() - startNanos) / 1000L, tenantId);
   }
 
   /**
@@ -5,6 +5,7 @@ import io.ebean.TransactionCallback;
 import io.ebean.annotation.DocStoreMode;
 import io.ebean.bean.PersistenceContext;
 import io.ebean.config.DatabaseConfig;
+import io.ebean.config.DatabaseTracer;
 import io.ebean.config.dbplatform.DatabasePlatform.OnQueryOnly;
 import io.ebean.event.changelog.BeanChange;
 import io.ebean.event.changelog.ChangeSet;
@@ -131,6 +132,8 @@ class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
 
   private Boolean batchFlushOnMixed;
 
+  private boolean batchMultiRowInsert;
+
   private final String logPrefix;
 
   private Object tenantId;
@@ -600,6 +603,14 @@ class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
     }
   }
 
+  @Override
+  public void setMultiRowInsert(boolean multiRowInsert) {
+    this.batchMultiRowInsert = multiRowInsert;
+    if (batchControl != null) {
+      batchControl.setMultiRowInsert(multiRowInsert);
+    }
+  }
+
   @Override
   public void setFlushOnMixed(boolean batchFlushOnMixed) {
     this.batchFlushOnMixed = batchFlushOnMixed;
@@ -762,6 +773,9 @@ class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
     if (batchFlushOnMixed != null) {
       batchControl.setBatchFlushOnMixed(batchFlushOnMixed);
     }
+    if (batchMultiRowInsert) {
+      batchControl.setMultiRowInsert(true);
+    }
   }
 
   /**
@@ -991,7 +1005,7 @@ class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
       } else if (label != null) {
         manager.collectMetricNamed(exeMicros, label);
       }
-      manager.collectMetric(exeMicros);
+      manager.collectMetric(exeMicros, tenantId);
       if (profileStream != null) {
         profileStream.end(manager);
       }
@@ -1002,9 +1016,21 @@ class JdbcTransaction implements SpiTransaction, TxnProfileEventCodes {
    * Batch flush, jdbc commit, trigger registered TransactionCallbacks, notify l2 cache etc.
    */
   private void flushCommitAndNotify() throws SQLException {
-    preCommit();
-    performCommit();
-    postCommit();
+    DatabaseTracer.Span span = (manager == null) ? null : manager.traceCommit(label);
+    try {
+      preCommit();
+      performCommit();
+      postCommit();
+    } catch (SQLException | RuntimeException e) {
+      if (span != null) {
+        span.error(e);
+      }
+      throw e;
+    } finally {
+      if (span != null) {
+        span.end();
+      }
+    }
   }
 
   @Override
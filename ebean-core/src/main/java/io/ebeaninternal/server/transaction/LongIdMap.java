@@ -0,0 +1,165 @@
+package io.ebeaninternal.server.transaction;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Open addressing IdMap for Long or Integer ids keyed by the primitive long value.
+ * <p>
+ * Ids that are not of the exact key type are held in a fallback map such that
+ * Long 1 and Integer 1 remain distinct keys (as per HashMap semantics).
+ * </p>
+ */
+final class LongIdMap implements IdMap {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final Class<?> keyType;
+
+  private long[] keys;
+
+  private Object[] values;
+
+  private int size;
+
+  private int resizeAt;
+
+  private ObjectIdMap fallback;
+
+  LongIdMap(Class<?> keyType) {
+    this.keyType = keyType;
+    init(INITIAL_CAPACITY);
+  }
+
+  private void init(int capacity) {
+    keys = new long[capacity];
+    values = new Object[capacity];
+    resizeAt = capacity * 3 / 4;
+  }
+
+  private boolean isKeyType(Object id) {
+    return id.getClass() == keyType;
+  }
+
+  private static long key(Object id) {
+    return ((Number) id).longValue();
+  }
+
+  private static int mix(long key) {
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    return (int) key;
+  }
+
+  /**
+   * Return the slot holding the key or the empty slot where it would be inserted.
+   */
+  private int slot(long key) {
+    int mask = keys.length - 1;
+    int index = mix(key) & mask;
+    while (values[index] != null && keys[index] != key) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  @Override
+  public Object get(Object id) {
+    if (!isKeyType(id)) {
+      return fallback == null ? null : fallback.get(id);
+    }
+    return values[slot(key(id))];
+  }
+
+  @Override
+  public void put(Object id, Object bean) {
+    if (bean == null) {
+      remove(id);
+    } else if (!isKeyType(id)) {
+      if (fallback == null) {
+        fallback = new ObjectIdMap();
+      }
+      fallback.put(id, bean);
+    } else {
+      long key = key(id);
+      int index = slot(key);
+      if (values[index] == null) {
+        keys[index] = key;
+        if (++size > resizeAt) {
+          values[index] = bean;
+          resize();
+          return;
+        }
+      }
+      values[index] = bean;
+    }
+  }
+
+  private void resize() {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    init(oldKeys.length * 2);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldValues[i] != null) {
+        int index = slot(oldKeys[i]);
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  @Override
+  public void remove(Object id) {
+    if (!isKeyType(id)) {
+      if (fallback != null) {
+        fallback.remove(id);
+      }
+      return;
+    }
+    int index = slot(key(id));
+    if (values[index] == null) {
+      return;
+    }
+    values[index] = null;
+    size--;
+    // shift back following entries of the probe sequence
+    int mask = keys.length - 1;
+    int gap = index;
+    int next = (index + 1) & mask;
+    while (values[next] != null) {
+      int ideal = mix(keys[next]) & mask;
+      if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+        keys[gap] = keys[next];
+        values[gap] = values[next];
+        values[next] = null;
+        gap = next;
+      }
+      next = (next + 1) & mask;
+    }
+  }
+
+  @Override
+  public int size() {
+    return size + (fallback == null ? 0 : fallback.size());
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(values, null);
+    size = 0;
+    fallback = null;
+  }
+
+  @Override
+  public void forEachValue(Consumer<Object> consumer) {
+    for (Object value : values) {
+      if (value != null) {
+        consumer.accept(value);
+      }
+    }
+    if (fallback != null) {
+      fallback.forEachValue(consumer);
+    }
+  }
+}
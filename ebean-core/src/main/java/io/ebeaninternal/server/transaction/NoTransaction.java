@@ -266,6 +266,10 @@ class NoTransaction implements SpiTransaction {
   public void setGetGeneratedKeys(boolean getGeneratedKeys) {
   }
 
+  @Override
+  public void setMultiRowInsert(boolean multiRowInsert) {
+  }
+
   @Override
   public void setFlushOnMixed(boolean batchFlushOnMixed) {
   }
@@ -0,0 +1,43 @@
+package io.ebeaninternal.server.transaction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * IdMap for general id types (like embedded ids and String ids) backed by a HashMap.
+ */
+final class ObjectIdMap implements IdMap {
+
+  private final Map<Object, Object> map = new HashMap<>();
+
+  @Override
+  public Object get(Object id) {
+    return map.get(id);
+  }
+
+  @Override
+  public void put(Object id, Object bean) {
+    map.put(id, bean);
+  }
+
+  @Override
+  public void remove(Object id) {
+    map.remove(id);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public void clear() {
+    map.clear();
+  }
+
+  @Override
+  public void forEachValue(Consumer<Object> consumer) {
+    map.values().forEach(consumer);
+  }
+}
@@ -0,0 +1,107 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.config.PostCommitBackPressure;
+import io.ebean.meta.MetricVisitor;
+import io.ebeaninternal.server.cache.CacheChangeSet;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Post commit processing using bounded queues.
+ * <p>
+ * When L2 cache notification is not performed in the foreground the first stage applies the
+ * L2 cache changes. Tables touched by the transactions in a batch are invalidated once for the
+ * batch. The second stage notifies persist listeners, the cluster and the document store
+ * (in commit order).
+ * </p>
+ */
+final class PostCommitPipeline {
+
+  private final PostCommitStage<PostCommitProcessing> cacheStage;
+
+  private final PostCommitStage<PostCommitProcessing> notifyStage;
+
+  private final TransactionManager manager;
+
+  private final Runnable clearCache;
+
+  private final int shutdownWaitSeconds;
+
+  PostCommitPipeline(TransactionManager manager, int capacity, long batchWindowMillis, PostCommitBackPressure backPressure,
+                     Runnable clearCache, int shutdownWaitSeconds) {
+    this.manager = manager;
+    this.clearCache = clearCache;
+    this.shutdownWaitSeconds = shutdownWaitSeconds;
+    this.notifyStage = new PostCommitStage<>("notify", capacity, batchWindowMillis, backPressure, this::notifyListeners, null).start();
+    if (manager.notifyL2CacheInForeground) {
+      this.cacheStage = null;
+    } else {
+      this.cacheStage = new PostCommitStage<>("cache", capacity, batchWindowMillis, backPressure, this::processCacheChanges, this::dropCacheChanges).start();
+    }
+  }
+
+  /**
+   * Submit the post commit processing for a transaction.
+   */
+  void submit(PostCommitProcessing postCommit) {
+    if (cacheStage != null) {
+      cacheStage.submit(postCommit);
+    } else {
+      notifyStage.submit(postCommit);
+    }
+  }
+
+  /**
+   * Shutdown processing any queued events.
+   */
+  void shutdown() {
+    if (cacheStage != null) {
+      cacheStage.shutdown(shutdownWaitSeconds);
+    }
+    notifyStage.shutdown(shutdownWaitSeconds);
+  }
+
+  void visitMetrics(MetricVisitor visitor) {
+    if (cacheStage != null) {
+      cacheStage.visitMetrics(visitor);
+    }
+    notifyStage.visitMetrics(visitor);
+  }
+
+  private void processCacheChanges(List<PostCommitProcessing> batch) {
+    Set<String> touched = new HashSet<>();
+    List<CacheChangeSet> changes = new ArrayList<>(batch.size());
+    for (PostCommitProcessing postCommit : batch) {
+      CacheChangeSet changeSet = postCommit.cacheChanges(touched);
+      if (changeSet != null) {
+        changes.add(changeSet);
+      }
+    }
+    if (!touched.isEmpty()) {
+      manager.processTouchedTables(touched);
+    }
+    for (CacheChangeSet changeSet : changes) {
+      changeSet.apply();
+    }
+    for (PostCommitProcessing postCommit : batch) {
+      notifyStage.submit(postCommit);
+    }
+  }
+
+  /**
+   * The cache stage is full so clear the L2 caches rather than apply the changes.
+   */
+  private void dropCacheChanges(PostCommitProcessing postCommit) {
+    clearCache.run();
+    notifyStage.submit(postCommit);
+  }
+
+  private void notifyListeners(List<PostCommitProcessing> batch) {
+    for (PostCommitProcessing postCommit : batch) {
+      postCommit.notifyListeners();
+    }
+  }
+}
@@ -131,12 +131,40 @@ final class PostCommitProcessing {
       if (!manager.notifyL2CacheInForeground) {
         processCacheChanges();
       }
-      localPersistListenersNotify();
-      notifyCluster();
-      processDocStoreUpdates();
+      notifyListeners();
     };
   }
 
+  /**
+   * Notify persist listeners, cluster and document store.
+   */
+  void notifyListeners() {
+    localPersistListenersNotify();
+    notifyCluster();
+    processDocStoreUpdates();
+  }
+
+  /**
+   * Build the L2 cache changes adding the touched tables to the given set.
+   * <p>
+   * Used when processing a batch of transactions such that the touched tables are
+   * processed once for the batch.
+   * </p>
+   */
+  CacheChangeSet cacheChanges(Set<String> touchedTables) {
+    CacheChangeSet cacheChanges = event.buildCacheChanges(manager);
+    if (cacheChanges != null) {
+      Set<String> touched = cacheChanges.touchedTables();
+      if (touched != null && !touched.isEmpty()) {
+        touchedTables.addAll(touched);
+        if (remoteTransactionEvent != null) {
+          remoteTransactionEvent.addRemoteTableMod(new RemoteTableMod(touched));
+        }
+      }
+    }
+    return cacheChanges;
+  }
+
   /**
    * Apply the changes to the L2 caches.
    */
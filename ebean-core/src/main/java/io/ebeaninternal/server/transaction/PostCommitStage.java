@@ -0,0 +1,250 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.config.PostCommitBackPressure;
+import io.ebean.meta.MetricVisitor;
+import io.ebean.metric.CountMetric;
+import io.ebean.metric.GaugeMetric;
+import io.ebean.metric.MetricFactory;
+import io.ebean.metric.TimedMetric;
+import io.ebeaninternal.server.executor.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * A stage of post commit processing with a bounded queue processed by a single thread.
+ * <p>
+ * The thread drains the queue processing the events in batches (optionally waiting for a
+ * batching window such that more events are processed together). When the queue is full
+ * the back pressure determines if the committing thread blocks, runs the processing itself
+ * or drops the event.
+ * </p>
+ * <p>
+ * Metrics are collected for the latency from commit to processed and for the current
+ * queue depth.
+ * </p>
+ * <p>
+ * Events are only added to the queue while running (checked under the read lock) such that
+ * once shutdown holds the write lock no more events are queued and the remaining queued events
+ * are all processed. Events submitted after that are processed in the calling thread.
+ * </p>
+ */
+final class PostCommitStage<E> {
+
+  private static final Logger logger = LoggerFactory.getLogger(PostCommitStage.class);
+
+  private static final long POLL_MILLIS = 100;
+
+  private final String name;
+
+  private final BlockingQueue<Item<E>> queue;
+
+  private final int maxBatch;
+
+  private final long batchWindowMillis;
+
+  private final PostCommitBackPressure backPressure;
+
+  private final Consumer<List<E>> processor;
+
+  private final Consumer<E> onDrop;
+
+  private final TimedMetric latency;
+
+  private final GaugeMetric depth;
+
+  private final CountMetric dropped;
+
+  private final Thread thread;
+
+  private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+  private volatile boolean running = true;
+
+  /**
+   * Create the stage (not started).
+   *
+   * @param name              The name of the stage (used for the thread and metrics)
+   * @param capacity          The capacity of the bounded queue
+   * @param batchWindowMillis Time to wait collecting events into a batch
+   * @param backPressure      The behaviour when the queue is full
+   * @param processor         Processes a batch of events
+   * @param onDrop            Handles an event that is dropped (CLEAR_CACHE back pressure)
+   */
+  PostCommitStage(String name, int capacity, long batchWindowMillis, PostCommitBackPressure backPressure,
+                  Consumer<List<E>> processor, Consumer<E> onDrop) {
+    this.name = name;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.maxBatch = capacity;
+    this.batchWindowMillis = batchWindowMillis;
+    this.backPressure = backPressure;
+    this.processor = processor;
+    this.onDrop = onDrop;
+    MetricFactory metricFactory = MetricFactory.get();
+    this.latency = metricFactory.createTimedMetric("txn.postcommit." + name);
+    this.depth = metricFactory.createGaugeMetric("txn.postcommit." + name + ".depth", queue::size);
+    this.dropped = metricFactory.createCountMetric("txn.postcommit." + name + ".dropped");
+    this.thread = new DaemonThreadFactory("ebean-postcommit-" + name + "-").newThread(this::run);
+  }
+
+  /**
+   * Start the thread processing the queue.
+   */
+  PostCommitStage<E> start() {
+    thread.start();
+    return this;
+  }
+
+  /**
+   * Add the event to the queue applying back pressure if the queue is full.
+   */
+  void submit(E event) {
+    Item<E> item = new Item<>(event);
+    if (offer(item)) {
+      return;
+    }
+    if (running) {
+      switch (backPressure) {
+        case CLEAR_CACHE:
+          if (onDrop != null) {
+            dropped.increment();
+            onDrop.accept(event);
+            return;
+          }
+          break;
+        case CALLER_RUNS:
+          break;
+        default:
+          if (put(item)) {
+            return;
+          }
+      }
+    }
+    // queue full or shutting down so process in the calling thread
+    process(Collections.singletonList(item));
+  }
+
+  /**
+   * Add to the queue if running and there is space returning true if queued.
+   */
+  private boolean offer(Item<E> item) {
+    runningLock.readLock().lock();
+    try {
+      return running && queue.offer(item);
+    } finally {
+      runningLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Wait for space in the queue while running returning false if not queued.
+   */
+  private boolean put(Item<E> item) {
+    try {
+      while (running) {
+        runningLock.readLock().lock();
+        try {
+          if (running && queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            return true;
+          }
+        } finally {
+          runningLock.readLock().unlock();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  /**
+   * Stop processing after draining the queue waiting at most waitSeconds.
+   */
+  void shutdown(int waitSeconds) {
+    runningLock.writeLock().lock();
+    try {
+      running = false;
+    } finally {
+      runningLock.writeLock().unlock();
+    }
+    try {
+      thread.join(TimeUnit.SECONDS.toMillis(waitSeconds));
+      if (thread.isAlive()) {
+        logger.info("Shutdown wait timeout exceeded for post commit stage {} with {} events queued", name, queue.size());
+        thread.interrupt();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // events left when the thread was interrupted
+    List<Item<E>> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      process(remaining);
+    }
+  }
+
+  void visitMetrics(MetricVisitor visitor) {
+    latency.visit(visitor);
+    depth.visit(visitor);
+    dropped.visit(visitor);
+  }
+
+  private void run() {
+    List<Item<E>> batch = new ArrayList<>();
+    while (running || !queue.isEmpty()) {
+      try {
+        Item<E> first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          if (batchWindowMillis > 0 && running) {
+            Thread.sleep(batchWindowMillis);
+          }
+          batch.add(first);
+          queue.drainTo(batch, maxBatch - 1);
+          process(batch);
+          batch.clear();
+        }
+      } catch (InterruptedException e) {
+        logger.debug("Post commit stage {} interrupted", name);
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private void process(List<Item<E>> batch) {
+    List<E> events = new ArrayList<>(batch.size());
+    for (Item<E> item : batch) {
+      events.add(item.event);
+    }
+    try {
+      processor.accept(events);
+    } catch (Throwable e) {
+      logger.error("Error in post commit processing stage " + name, e);
+    }
+    long now = System.nanoTime();
+    for (Item<E> item : batch) {
+      latency.add((now - item.startNanos) / 1000L);
+    }
+  }
+
+  private static final class Item<E> {
+
+    final E event;
+
+    final long startNanos = System.nanoTime();
+
+    Item(E event) {
+      this.event = event;
+    }
+  }
+}
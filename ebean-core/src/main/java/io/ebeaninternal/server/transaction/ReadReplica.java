@@ -0,0 +1,143 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.datasource.DataSourcePool;
+import io.ebean.meta.MetricVisitor;
+import io.ebean.metric.CountMetric;
+import io.ebean.metric.MetricFactory;
+import io.ebean.metric.TimedMetric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A read replica DataSource with its outstanding query count, latency EWMA and circuit breaker.
+ */
+final class ReadReplica {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReadReplica.class);
+
+  /**
+   * Weight given to the latest latency sample.
+   */
+  private static final double EWMA_ALPHA = 0.2;
+
+  /**
+   * Consecutive connection failures that open the circuit.
+   */
+  private static final int FAILURE_THRESHOLD = 3;
+
+  /**
+   * Time the circuit stays open before allowing a trial connection.
+   */
+  private static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  private final String name;
+
+  private final DataSource dataSource;
+
+  private final AtomicInteger outstanding = new AtomicInteger();
+
+  private final AtomicInteger failures = new AtomicInteger();
+
+  private final TimedMetric queryMetric;
+
+  private final CountMetric failureMetric;
+
+  /**
+   * Latency EWMA in micros. Concurrent updates can lose a sample which is fine for an estimate.
+   */
+  private volatile double ewmaMicros;
+
+  private volatile boolean open;
+
+  private volatile long openUntilNanos;
+
+  ReadReplica(String name, DataSource dataSource) {
+    this.name = name;
+    this.dataSource = dataSource;
+    MetricFactory metricFactory = MetricFactory.get();
+    this.queryMetric = metricFactory.createTimedMetric("txn.replica." + name);
+    this.failureMetric = metricFactory.createCountMetric("txn.replica." + name + ".failure");
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  /**
+   * Return true if the circuit is closed (or half open after the open period).
+   */
+  boolean isAvailable(long nowNanos) {
+    return !open || nowNanos - openUntilNanos >= 0;
+  }
+
+  /**
+   * Return the load score used to pick the replica (lower is better).
+   */
+  double score() {
+    return (outstanding.get() + 1) * Math.max(ewmaMicros, 1.0);
+  }
+
+  /**
+   * Return a connection incrementing the outstanding count or null if the connection failed.
+   */
+  Connection acquire() {
+    try {
+      Connection connection = dataSource.getConnection();
+      failures.set(0);
+      open = false;
+      outstanding.incrementAndGet();
+      return connection;
+    } catch (SQLException | RuntimeException e) {
+      failureMetric.increment();
+      if (failures.incrementAndGet() >= FAILURE_THRESHOLD) {
+        openUntilNanos = System.nanoTime() + OPEN_NANOS;
+        open = true;
+        logger.warn("Read replica {} unavailable for {} secs after {} failures", name, TimeUnit.NANOSECONDS.toSeconds(OPEN_NANOS), failures.get(), e);
+      } else {
+        logger.debug("Read replica {} failed to provide connection", name, e);
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Release after the query completes collecting the latency.
+   */
+  void release(long startNanos) {
+    outstanding.decrementAndGet();
+    long micros = (System.nanoTime() - startNanos) / 1000L;
+    double ewma = ewmaMicros;
+    ewmaMicros = (ewma == 0) ? micros : ewma + EWMA_ALPHA * (micros - ewma);
+    queryMetric.add(micros);
+  }
+
+  int outstanding() {
+    return outstanding.get();
+  }
+
+  double ewmaMicros() {
+    return ewmaMicros;
+  }
+
+  void visitMetrics(MetricVisitor visitor) {
+    queryMetric.visit(visitor);
+    failureMetric.visit(visitor);
+  }
+
+  void shutdown() {
+    if (dataSource instanceof DataSourcePool) {
+      ((DataSourcePool) dataSource).shutdown();
+    }
+  }
+}
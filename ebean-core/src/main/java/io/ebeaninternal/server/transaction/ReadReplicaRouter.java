@@ -0,0 +1,161 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.meta.MetricVisitor;
+import io.ebean.metric.CountMetric;
+import io.ebean.metric.MetricFactory;
+import io.ebeaninternal.api.TransactionEvent;
+import io.ebeaninternal.api.TransactionEventTable;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes implicit read only transactions across read replicas.
+ * <p>
+ * The replica with the least outstanding queries weighted by latency EWMA is chosen skipping
+ * replicas with an open circuit. After a commit the modified tables are pinned to the primary
+ * for a window (the expected replication lag) such that reads after writes see the written data.
+ * </p>
+ */
+final class ReadReplicaRouter {
+
+  private final ReadReplica[] replicas;
+
+  private final long pinNanos;
+
+  /**
+   * Pinned until nanoTime per (upper case) table.
+   */
+  private final Map<String, Long> pinnedTables = new ConcurrentHashMap<>();
+
+  private final AtomicInteger next = new AtomicInteger();
+
+  private final CountMetric pinnedMetric;
+
+  private final CountMetric unavailableMetric;
+
+  /**
+   * Pinned until nanoTime for any table (used when the query tables are not known).
+   */
+  private volatile long pinnedUntil;
+
+  private volatile boolean pinned;
+
+  ReadReplicaRouter(List<DataSource> dataSources, int pinMillis) {
+    this.replicas = new ReadReplica[dataSources.size()];
+    for (int i = 0; i < replicas.length; i++) {
+      replicas[i] = new ReadReplica("replica" + i, dataSources.get(i));
+    }
+    this.pinNanos = TimeUnit.MILLISECONDS.toNanos(pinMillis);
+    MetricFactory metricFactory = MetricFactory.get();
+    this.pinnedMetric = metricFactory.createCountMetric("txn.replica.pinned");
+    this.unavailableMetric = metricFactory.createCountMetric("txn.replica.unavailable");
+  }
+
+  /**
+   * Return the number of replicas.
+   */
+  int size() {
+    return replicas.length;
+  }
+
+  /**
+   * Pin the tables modified by the committed transaction to the primary.
+   */
+  void pin(TransactionEvent event) {
+    if (pinNanos <= 0) {
+      return;
+    }
+    long until = System.nanoTime() + pinNanos;
+    boolean touched = false;
+    TransactionEventTable eventTables = event.getEventTables();
+    if (eventTables != null) {
+      for (TransactionEventTable.TableIUD tableIUD : eventTables.values()) {
+        pinnedTables.put(tableIUD.getTableName(), until);
+        touched = true;
+      }
+    }
+    Set<String> persistTables = event.getPersistTables();
+    if (persistTables != null) {
+      for (String table : persistTables) {
+        pinnedTables.put(table.toUpperCase(), until);
+        touched = true;
+      }
+    }
+    if (touched) {
+      pinnedUntil = until;
+      pinned = true;
+    }
+  }
+
+  /**
+   * Return true if reads of the tables should use the primary (any of the tables is pinned).
+   *
+   * @param tables The tables the query reads (base and joined tables) or null when not known
+   */
+  boolean isPinned(Set<String> tables) {
+    if (!pinned) {
+      return false;
+    }
+    long now = System.nanoTime();
+    if (tables == null) {
+      return now - pinnedUntil < 0;
+    }
+    for (String table : tables) {
+      // event tables are upper case
+      Long until = pinnedTables.get(table.toUpperCase());
+      if (until != null && now - until < 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Return the replica to use or null if the read should use the primary.
+   */
+  ReadReplica select(Set<String> tables) {
+    if (isPinned(tables)) {
+      pinnedMetric.increment();
+      return null;
+    }
+    long now = System.nanoTime();
+    int start = Math.abs(next.getAndIncrement() % replicas.length);
+    ReadReplica best = null;
+    double bestScore = Double.MAX_VALUE;
+    for (int i = 0; i < replicas.length; i++) {
+      // rotate the start such that ties are spread across the replicas
+      ReadReplica replica = replicas[(start + i) % replicas.length];
+      if (replica.isAvailable(now)) {
+        double score = replica.score();
+        if (score < bestScore) {
+          best = replica;
+          bestScore = score;
+        }
+      }
+    }
+    if (best == null) {
+      unavailableMetric.increment();
+    }
+    return best;
+  }
+
+  void visitMetrics(MetricVisitor visitor) {
+    for (ReadReplica replica : replicas) {
+      replica.visitMetrics(visitor);
+    }
+    pinnedMetric.visit(visitor);
+    unavailableMetric.visit(visitor);
+  }
+
+  void shutdown() {
+    for (ReadReplica replica : replicas) {
+      replica.shutdown();
+    }
+  }
+}
@@ -6,6 +6,7 @@ import io.ebeaninternal.api.SpiTransaction;
 import javax.persistence.PersistenceException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Set;
 
 /**
  * Creates transactions with implementations for basic mode and multi-tenancy mode.
@@ -25,6 +26,16 @@ abstract class TransactionFactory {
    */
   abstract SpiTransaction createReadOnlyTransaction(Object tenantId);
 
+  /**
+   * Return a new query only transaction for a query of the given tables.
+   *
+   * @param tenantId The tenantId for lazy loading queries.
+   * @param tables   The tables the query reads (used to route to read replicas), null when not known.
+   */
+  SpiTransaction createReadOnlyTransaction(Object tenantId, Set<String> tables) {
+    return createReadOnlyTransaction(tenantId);
+  }
+
   /**
    * Return a new transaction.
    */
@@ -0,0 +1,43 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebeaninternal.api.SpiTransaction;
+
+import java.sql.Connection;
+import java.util.Set;
+
+/**
+ * Aware of read replica autoCommit based DataSources.
+ * <p>
+ * Implicit query only transactions use a replica chosen by the router. Reads of tables
+ * recently modified (and reads when no replica is available) use the primary DataSource.
+ * </p>
+ */
+class TransactionFactoryBasicWithReplicas extends TransactionFactoryBasic {
+
+  private final ReadReplicaRouter router;
+
+  TransactionFactoryBasicWithReplicas(TransactionManager manager, DataSourceSupplier dataSourceSupplier, ReadReplicaRouter router) {
+    super(manager, dataSourceSupplier);
+    this.router = router;
+  }
+
+  @Override
+  public SpiTransaction createReadOnlyTransaction(Object tenantId) {
+    return createReadOnlyTransaction(tenantId, null);
+  }
+
+  @Override
+  SpiTransaction createReadOnlyTransaction(Object tenantId, Set<String> tables) {
+    for (int i = 0; i < router.size(); i++) {
+      ReadReplica replica = router.select(tables);
+      if (replica == null) {
+        break;
+      }
+      Connection connection = replica.acquire();
+      if (connection != null) {
+        return new ImplicitReadOnlyTransaction(manager, connection, replica);
+      }
+    }
+    return super.createReadOnlyTransaction(tenantId);
+  }
+}
@@ -8,13 +8,15 @@ import io.ebean.config.CurrentTenantProvider;
 class TransactionFactoryBuilder {
 
   /**
-   * Build and return based on multi-tenancy and read only DataSource.
+   * Build and return based on multi-tenancy, read replicas and read only DataSource.
    */
-  static TransactionFactory build(TransactionManager manager, DataSourceSupplier dataSourceSupplier, CurrentTenantProvider tenantProvider) {
+  static TransactionFactory build(TransactionManager manager, DataSourceSupplier dataSourceSupplier, CurrentTenantProvider tenantProvider, ReadReplicaRouter replicaRouter) {
 
     boolean hasReadOnlyDataSource = dataSourceSupplier.getReadOnlyDataSource() != null;
     if (tenantProvider == null) {
-      if (hasReadOnlyDataSource) {
+      if (replicaRouter != null) {
+        return new TransactionFactoryBasicWithReplicas(manager, dataSourceSupplier, replicaRouter);
+      } else if (hasReadOnlyDataSource) {
         return new TransactionFactoryBasicWithRead(manager, dataSourceSupplier);
       } else {
         return new TransactionFactoryBasic(manager, dataSourceSupplier);
@@ -42,7 +42,9 @@ class TransactionFactoryTenant extends TransactionFactory {
         // tenantId not set (by lazy loading) so get current tenantId
         tenantId = tenantProvider.currentId();
       }
+      long startNanos = System.nanoTime();
       connection = dataSourceSupplier.getConnection(tenantId);
+      manager.collectConnectionWait(tenantId, startNanos);
       SpiTransaction transaction = manager.createTransaction(explicit, connection);
       transaction.setTenantId(tenantId);
       return transaction;
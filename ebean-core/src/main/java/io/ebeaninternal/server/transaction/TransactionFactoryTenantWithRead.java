@@ -31,7 +31,9 @@ class TransactionFactoryTenantWithRead extends TransactionFactoryTenant {
         // tenantId not set (by lazy loading) so get current tenantId
         tenantId = tenantProvider.currentId();
       }
+      long startNanos = System.nanoTime();
       connection = dataSourceSupplier.getReadOnlyConnection(tenantId);
+      manager.collectConnectionWait(tenantId, startNanos);
       return new ImplicitReadOnlyTransaction(manager, connection, tenantId);
 
     } catch (PersistenceException ex) {
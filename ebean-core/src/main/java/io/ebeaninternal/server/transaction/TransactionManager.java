@@ -9,6 +9,8 @@ import io.ebean.bean.PersistenceContext;
 import io.ebean.cache.ServerCacheNotification;
 import io.ebean.cache.ServerCacheNotify;
 import io.ebean.config.CurrentTenantProvider;
+import io.ebean.config.DatabaseConfig;
+import io.ebean.config.DatabaseTracer;
 import io.ebean.config.dbplatform.DatabasePlatform;
 import io.ebean.config.dbplatform.DatabasePlatform.OnQueryOnly;
 import io.ebean.event.changelog.ChangeLogListener;
@@ -26,12 +28,16 @@ import io.ebeaninternal.api.SpiLogger;
 import io.ebeaninternal.api.SpiProfileHandler;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.api.SpiTransactionManager;
+import io.ebeaninternal.api.TenantMetrics;
 import io.ebeaninternal.api.TransactionEvent;
 import io.ebeaninternal.api.TransactionEventTable;
 import io.ebeaninternal.api.TransactionEventTable.TableIUD;
 import io.ebeaninternal.server.cache.CacheChangeSet;
 import io.ebeaninternal.server.cluster.ClusterManager;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.BeanDescriptorManager;
+import io.ebeaninternal.server.deploy.BeanProperty;
+import io.ebeaninternal.server.deploy.BeanPropertyAssocOne;
 import io.ebeaninternal.server.profile.TimedProfileLocation;
 import io.ebeaninternal.server.profile.TimedProfileLocationRegistry;
 import io.ebeanservice.docstore.api.DocStoreTransaction;
@@ -44,6 +50,7 @@ import javax.persistence.PersistenceException;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -93,6 +100,11 @@ public class TransactionManager implements SpiTransactionManager {
 
   private final BackgroundExecutor backgroundExecutor;
 
+  /**
+   * Bounded staged post commit processing (null to use the background executor).
+   */
+  private final PostCommitPipeline postCommitPipeline;
+
   private final ClusterManager clusterManager;
 
   private final String serverName;
@@ -128,6 +140,11 @@ public class TransactionManager implements SpiTransactionManager {
    */
   private final boolean changeLogAsync;
 
+  /**
+   * Batched change log delivery (can be null).
+   */
+  private final ChangeLogStage changeLogStage;
+
   final boolean notifyL2CacheInForeground;
 
   private final boolean viewInvalidation;
@@ -136,6 +153,21 @@ public class TransactionManager implements SpiTransactionManager {
 
   private final TransactionFactory transactionFactory;
 
+  /**
+   * Routes implicit read only transactions across read replicas (can be null).
+   */
+  private final ReadReplicaRouter replicaRouter;
+
+  /**
+   * Per tenant metrics (can be null).
+   */
+  private final TenantMetrics tenantMetrics;
+
+  /**
+   * Tracer for commit spans (can be null).
+   */
+  private final DatabaseTracer databaseTracer;
+
   private final SpiLogManager logManager;
   private final SpiLogger txnLogger;
   private final boolean txnDebug;
@@ -176,6 +208,7 @@ public class TransactionManager implements SpiTransactionManager {
     this.changeLogPrepare = options.descMgr.getChangeLogPrepare();
     this.changeLogListener = options.descMgr.getChangeLogListener();
     this.changeLogAsync = options.config.isChangeLogAsync();
+    this.changeLogStage = initChangeLogStage(options.config);
     this.clusterManager = options.clusterManager;
     this.serverName = options.config.getName();
     this.scopeManager = options.scopeManager;
@@ -186,23 +219,73 @@ public class TransactionManager implements SpiTransactionManager {
     this.docStoreActive = options.config.getDocStoreConfig().isActive();
     this.docStoreUpdateProcessor = options.docStoreUpdateProcessor;
     this.profileHandler = options.profileHandler;
+    this.tenantMetrics = options.tenantMetrics;
+    this.databaseTracer = options.databaseTracer;
     this.bulkEventListenerMap = new BulkEventListenerMap(options.config.getBulkTableEventListeners());
     this.prefix = "";
     this.externalTransPrefix = "e";
     this.onQueryOnly = initOnQueryOnly(options.config.getDatabasePlatform().getOnQueryOnly());
 
     CurrentTenantProvider tenantProvider = options.config.getCurrentTenantProvider();
-    this.transactionFactory = TransactionFactoryBuilder.build(this, dataSourceSupplier, tenantProvider);
+    this.replicaRouter = initReplicaRouter(options.config, tenantProvider);
+    this.transactionFactory = TransactionFactoryBuilder.build(this, dataSourceSupplier, tenantProvider, replicaRouter);
 
     MetricFactory metricFactory = MetricFactory.get();
     this.txnMain = metricFactory.createTimedMetric("txn.main");
     this.txnReadOnly = metricFactory.createTimedMetric("txn.readonly");
     this.txnNamed = metricFactory.createTimedMetricMap("txn.named.");
+    this.postCommitPipeline = initPostCommitPipeline(options.config);
     // Add gauges for db pool size
 
     scopeManager.register(this);
   }
 
+  private ReadReplicaRouter initReplicaRouter(DatabaseConfig config, CurrentTenantProvider tenantProvider) {
+    List<DataSource> replicas = config.getReadReplicaDataSources();
+    if (replicas == null || replicas.isEmpty() || tenantProvider != null) {
+      return null;
+    }
+    return new ReadReplicaRouter(replicas, config.getReadReplicaPinMillis());
+  }
+
+  private ChangeLogStage initChangeLogStage(DatabaseConfig config) {
+    int queueSize = config.getChangeLogQueueSize();
+    if (queueSize <= 0 || !changeLogAsync || changeLogListener == null) {
+      return null;
+    }
+    return new ChangeLogStage(changeLogListener, config.getName(), queueSize, config.getChangeLogBatchSize(),
+      config.getChangeLogBatchWindowMillis(), config.getChangeLogSpillDirectory(), config.getBackgroundExecutorShutdownSecs(),
+      changeLogIdTypes()).start();
+  }
+
+  /**
+   * Return the id types (including the embedded id property types) that may be read from the change log spill file.
+   */
+  private Set<String> changeLogIdTypes() {
+    Set<String> types = new HashSet<>();
+    for (BeanDescriptor<?> desc : beanDescriptorManager.getBeanDescriptorList()) {
+      BeanProperty idProperty = desc.getIdProperty();
+      if (idProperty != null) {
+        types.add(idProperty.getPropertyType().getName());
+        if (idProperty.isEmbedded()) {
+          for (BeanProperty property : ((BeanPropertyAssocOne<?>) idProperty).getTargetDescriptor().propertiesBaseScalar()) {
+            types.add(property.getPropertyType().getName());
+          }
+        }
+      }
+    }
+    return types;
+  }
+
+  private PostCommitPipeline initPostCommitPipeline(DatabaseConfig config) {
+    int queueSize = config.getPostCommitQueueSize();
+    if (queueSize <= 0) {
+      return null;
+    }
+    return new PostCommitPipeline(this, queueSize, config.getPostCommitBatchWindowMillis(), config.getPostCommitBackPressure(),
+      () -> server.getServerCacheManager().clearAll(), config.getBackgroundExecutorShutdownSecs());
+  }
+
   /**
    * Create a new scoped transaction.
    */
@@ -254,7 +337,16 @@ public class TransactionManager implements SpiTransactionManager {
   }
 
   public void shutdown(boolean shutdownDataSource, boolean deregisterDriver) {
+    if (postCommitPipeline != null) {
+      postCommitPipeline.shutdown();
+    }
+    if (changeLogStage != null) {
+      changeLogStage.shutdown();
+    }
     if (shutdownDataSource) {
+      if (replicaRouter != null) {
+        replicaRouter.shutdown();
+      }
       dataSourceSupplier.shutdown(deregisterDriver);
     }
   }
@@ -390,6 +482,13 @@ public class TransactionManager implements SpiTransactionManager {
     return transactionFactory.createReadOnlyTransaction(tenantId);
   }
 
+  /**
+   * Create a new Transaction for a query of the given tables (can use a read replica).
+   */
+  public SpiTransaction createReadOnlyTransaction(Object tenantId, Set<String> tables) {
+    return transactionFactory.createReadOnlyTransaction(tenantId, tables);
+  }
+
   /**
    * Create a new transaction.
    */
@@ -469,15 +568,29 @@ public class TransactionManager implements SpiTransactionManager {
         txnLogger.debug(transaction.getLogPrefix() + "Commit");
       }
 
+      if (replicaRouter != null) {
+        replicaRouter.pin(transaction.getEvent());
+      }
       PostCommitProcessing postCommit = new PostCommitProcessing(clusterManager, this, transaction);
       postCommit.notifyLocalCache();
-      backgroundExecutor.execute(postCommit.backgroundNotify());
+      postCommit(postCommit);
 
     } catch (Exception ex) {
       logger.error("NotifyOfCommit failed. L2 Cache potentially not notified.", ex);
     }
   }
 
+  /**
+   * Perform the remaining post commit processing via the pipeline or background executor.
+   */
+  private void postCommit(PostCommitProcessing postCommit) {
+    if (postCommitPipeline != null) {
+      postCommitPipeline.submit(postCommit);
+    } else {
+      backgroundExecutor.execute(postCommit.backgroundNotify());
+    }
+  }
+
   public void externalModification(TransactionEventTable tableEvent) {
     SpiTransaction t = getActive();
     if (t != null) {
@@ -491,10 +604,13 @@ public class TransactionManager implements SpiTransactionManager {
 
     TransactionEvent event = new TransactionEvent();
     event.add(tableEvents);
+    if (replicaRouter != null) {
+      replicaRouter.pin(event);
+    }
 
     PostCommitProcessing postCommit = new PostCommitProcessing(clusterManager, this, event);
     postCommit.notifyLocalCache();
-    backgroundExecutor.execute(postCommit.backgroundNotify());
+    postCommit(postCommit);
   }
 
   /**
@@ -547,7 +663,10 @@ public class TransactionManager implements SpiTransactionManager {
     // can set userId, userIpAddress & userContext if desired
     if (changeLogPrepare.prepare(changeSet)) {
 
-      if (changeLogAsync) {
+      if (changeLogStage != null) {
+        // delivered in batches by the change log stage
+        changeLogStage.submit(changeSet);
+      } else if (changeLogAsync) {
         // call the log method in background
         backgroundExecutor.execute(() -> changeLogListener.log(changeSet));
       } else {
@@ -577,15 +696,41 @@ public class TransactionManager implements SpiTransactionManager {
   /**
    * Collect execution time for an explicit transaction.
    */
-  void collectMetric(long exeMicros) {
+  void collectMetric(long exeMicros, Object tenantId) {
     txnMain.add(exeMicros);
+    if (tenantMetrics != null) {
+      tenantMetrics.addTransaction(tenantId, exeMicros);
+    }
   }
 
   /**
    * Collect execution time for implicit read only transaction.
    */
-  void collectMetricReadOnly(long exeMicros) {
+  void collectMetricReadOnly(long exeMicros, Object tenantId) {
     txnReadOnly.add(exeMicros);
+    if (tenantMetrics != null) {
+      tenantMetrics.addTransaction(tenantId, exeMicros);
+    }
+  }
+
+  /**
+   * Start a commit span returning null when not tracing.
+   */
+  DatabaseTracer.Span traceCommit(String label) {
+    if (databaseTracer == null) {
+      return null;
+    }
+    return databaseTracer.start(DatabaseTracer.Kind.COMMIT, label == null ? "txn.commit" : "txn.commit." + label)
+      .attribute(DatabaseTracer.DB_NAME, serverName);
+  }
+
+  /**
+   * Collect the time waiting to obtain a connection for a tenant.
+   */
+  void collectConnectionWait(Object tenantId, long startNanos) {
+    if (tenantMetrics != null) {
+      tenantMetrics.addConnectionWait(tenantId, (System.nanoTime() - startNanos) / 1000L);
+    }
   }
 
   /**
@@ -599,6 +744,15 @@ public class TransactionManager implements SpiTransactionManager {
     txnMain.visit(visitor);
     txnReadOnly.visit(visitor);
     txnNamed.visit(visitor);
+    if (replicaRouter != null) {
+      replicaRouter.visitMetrics(visitor);
+    }
+    if (postCommitPipeline != null) {
+      postCommitPipeline.visitMetrics(visitor);
+    }
+    if (changeLogStage != null) {
+      changeLogStage.visitMetrics(visitor);
+    }
     for (TimedProfileLocation timedLocation : TimedProfileLocationRegistry.registered()) {
       timedLocation.visit(visitor);
     }
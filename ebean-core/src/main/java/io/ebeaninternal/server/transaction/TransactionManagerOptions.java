@@ -3,9 +3,11 @@ package io.ebeaninternal.server.transaction;
 import io.ebean.BackgroundExecutor;
 import io.ebean.cache.ServerCacheNotify;
 import io.ebean.config.DatabaseConfig;
+import io.ebean.config.DatabaseTracer;
 import io.ebean.plugin.SpiServer;
 import io.ebeaninternal.api.SpiLogManager;
 import io.ebeaninternal.api.SpiProfileHandler;
+import io.ebeaninternal.api.TenantMetrics;
 import io.ebeaninternal.server.cluster.ClusterManager;
 import io.ebeaninternal.server.core.ClockService;
 import io.ebeaninternal.server.deploy.BeanDescriptorManager;
@@ -31,12 +33,15 @@ public class TransactionManagerOptions {
   final TableModState tableModState;
   final ServerCacheNotify cacheNotify;
   final ClockService clockService;
+  final TenantMetrics tenantMetrics;
+  final DatabaseTracer databaseTracer;
 
 
   public TransactionManagerOptions(SpiServer server, boolean notifyL2CacheInForeground, DatabaseConfig config, TransactionScopeManager scopeManager, ClusterManager clusterManager,
                                    BackgroundExecutor backgroundExecutor, DocStoreUpdateProcessor docStoreUpdateProcessor,
                                    BeanDescriptorManager descMgr, DataSourceSupplier dataSourceSupplier, SpiProfileHandler profileHandler,
-                                   SpiLogManager logManager, TableModState tableModState, ServerCacheNotify cacheNotify, ClockService clockService) {
+                                   SpiLogManager logManager, TableModState tableModState, ServerCacheNotify cacheNotify, ClockService clockService,
+                                   TenantMetrics tenantMetrics, DatabaseTracer databaseTracer) {
     this.server = server;
     this.notifyL2CacheInForeground = notifyL2CacheInForeground;
     this.config = config;
@@ -51,6 +56,8 @@ public class TransactionManagerOptions {
     this.tableModState = tableModState;
     this.cacheNotify = cacheNotify;
     this.clockService = clockService;
+    this.tenantMetrics = tenantMetrics;
+    this.databaseTracer = databaseTracer;
   }
 
 }
@@ -0,0 +1,163 @@
+package io.ebeaninternal.server.transaction;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Open addressing IdMap for UUID ids keyed by the two long values of the UUID.
+ */
+final class UuidIdMap implements IdMap {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private long[] msbs;
+
+  private long[] lsbs;
+
+  private Object[] values;
+
+  private int size;
+
+  private int resizeAt;
+
+  private ObjectIdMap fallback;
+
+  UuidIdMap() {
+    init(INITIAL_CAPACITY);
+  }
+
+  private void init(int capacity) {
+    msbs = new long[capacity];
+    lsbs = new long[capacity];
+    values = new Object[capacity];
+    resizeAt = capacity * 3 / 4;
+  }
+
+  private static int mix(long msb, long lsb) {
+    long key = msb ^ (lsb * 0x9e3779b97f4a7c15L);
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    return (int) key;
+  }
+
+  /**
+   * Return the slot holding the key or the empty slot where it would be inserted.
+   */
+  private int slot(long msb, long lsb) {
+    int mask = values.length - 1;
+    int index = mix(msb, lsb) & mask;
+    while (values[index] != null && (msbs[index] != msb || lsbs[index] != lsb)) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private int slot(UUID id) {
+    return slot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+  }
+
+  @Override
+  public Object get(Object id) {
+    if (!(id instanceof UUID)) {
+      return fallback == null ? null : fallback.get(id);
+    }
+    return values[slot((UUID) id)];
+  }
+
+  @Override
+  public void put(Object id, Object bean) {
+    if (bean == null) {
+      remove(id);
+    } else if (!(id instanceof UUID)) {
+      if (fallback == null) {
+        fallback = new ObjectIdMap();
+      }
+      fallback.put(id, bean);
+    } else {
+      UUID uuid = (UUID) id;
+      int index = slot(uuid);
+      if (values[index] == null) {
+        msbs[index] = uuid.getMostSignificantBits();
+        lsbs[index] = uuid.getLeastSignificantBits();
+        if (++size > resizeAt) {
+          values[index] = bean;
+          resize();
+          return;
+        }
+      }
+      values[index] = bean;
+    }
+  }
+
+  private void resize() {
+    long[] oldMsbs = msbs;
+    long[] oldLsbs = lsbs;
+    Object[] oldValues = values;
+    init(oldValues.length * 2);
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != null) {
+        int index = slot(oldMsbs[i], oldLsbs[i]);
+        msbs[index] = oldMsbs[i];
+        lsbs[index] = oldLsbs[i];
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  @Override
+  public void remove(Object id) {
+    if (!(id instanceof UUID)) {
+      if (fallback != null) {
+        fallback.remove(id);
+      }
+      return;
+    }
+    int index = slot((UUID) id);
+    if (values[index] == null) {
+      return;
+    }
+    values[index] = null;
+    size--;
+    // shift back following entries of the probe sequence
+    int mask = values.length - 1;
+    int gap = index;
+    int next = (index + 1) & mask;
+    while (values[next] != null) {
+      int ideal = mix(msbs[next], lsbs[next]) & mask;
+      if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+        msbs[gap] = msbs[next];
+        lsbs[gap] = lsbs[next];
+        values[gap] = values[next];
+        values[next] = null;
+        gap = next;
+      }
+      next = (next + 1) & mask;
+    }
+  }
+
+  @Override
+  public int size() {
+    return size + (fallback == null ? 0 : fallback.size());
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(values, null);
+    size = 0;
+    fallback = null;
+  }
+
+  @Override
+  public void forEachValue(Consumer<Object> consumer) {
+    for (Object value : values) {
+      if (value != null) {
+        consumer.accept(value);
+      }
+    }
+    if (fallback != null) {
+      fallback.forEachValue(consumer);
+    }
+  }
+}
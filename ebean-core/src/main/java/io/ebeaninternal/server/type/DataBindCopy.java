@@ -0,0 +1,286 @@
+package io.ebeaninternal.server.type;
+
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Calendar;
+
+/**
+ * DataBind that encodes the bind values as rows in the Postgres COPY text format.
+ * <p>
+ * Columns are tab separated, rows are newline terminated and null is written as <code>\N</code>.
+ * Timestamps are written with the offset of the DataTimeZone (or the JVM default time zone)
+ * matching the behaviour of binding via a PreparedStatement.
+ * </p>
+ */
+public final class DataBindCopy extends DataBind {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final StringBuilder buffer = new StringBuilder(8192);
+
+  private final ZoneId zoneId;
+
+  private final ZoneId dateZoneId;
+
+  public DataBindCopy(DataTimeZone dataTimeZone) {
+    super(dataTimeZone, null, null);
+    this.zoneId = zoneId(dataTimeZone.getTimeZone());
+    this.dateZoneId = zoneId(dataTimeZone.getDateTimeZone());
+  }
+
+  private static ZoneId zoneId(Calendar calendar) {
+    return calendar == null ? null : calendar.getTimeZone().toZoneId();
+  }
+
+  /**
+   * End the current row.
+   */
+  public void endRow() {
+    buffer.append('\n');
+    pos = 0;
+  }
+
+  /**
+   * Return the length of the buffered rows.
+   */
+  public int length() {
+    return buffer.length();
+  }
+
+  /**
+   * Return the buffered rows as bytes (UTF-8) and reset the buffer.
+   */
+  public byte[] flush() {
+    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+    buffer.setLength(0);
+    return bytes;
+  }
+
+  @Override
+  public void close() {
+    buffer.setLength(0);
+  }
+
+  @Override
+  public int executeUpdate() throws SQLException {
+    throw new SQLException("Not supported on COPY encoding");
+  }
+
+  private StringBuilder column() {
+    if (pos++ > 0) {
+      buffer.append('\t');
+    }
+    return buffer;
+  }
+
+  private void escaped(String value) {
+    StringBuilder sb = column();
+    escape(sb, value);
+  }
+
+  private static void escape(StringBuilder sb, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char ch = value.charAt(i);
+      switch (ch) {
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          sb.append(ch);
+      }
+    }
+  }
+
+  private void bytes(byte[] bytes) {
+    // bytea hex format with the backslash escaped for COPY
+    StringBuilder sb = column().append("\\\\x");
+    for (byte b : bytes) {
+      sb.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+    }
+  }
+
+  private void timestamp(Timestamp v) {
+    ZoneId zone = zoneId != null ? zoneId : ZoneId.systemDefault();
+    column().append(v.toInstant().atZone(zone).toOffsetDateTime());
+  }
+
+  @Override
+  public void setObject(Object value) {
+    if (value == null) {
+      column().append("\\N");
+    } else if (value instanceof Timestamp) {
+      timestamp((Timestamp) value);
+    } else if (value instanceof byte[]) {
+      bytes((byte[]) value);
+    } else if (value instanceof Object[]) {
+      setArray(null, (Object[]) value);
+    } else {
+      escaped(value.toString());
+    }
+  }
+
+  @Override
+  public void setObject(Object value, int sqlType) {
+    setObject(value);
+  }
+
+  @Override
+  public void setNull(int jdbcType) {
+    column().append("\\N");
+  }
+
+  @Override
+  public void setString(String s) {
+    if (s == null) {
+      column().append("\\N");
+    } else {
+      escaped(s);
+    }
+  }
+
+  @Override
+  public void setInt(int i) {
+    column().append(i);
+  }
+
+  @Override
+  public void setLong(long i) {
+    column().append(i);
+  }
+
+  @Override
+  public void setShort(short i) {
+    column().append(i);
+  }
+
+  @Override
+  public void setFloat(float i) {
+    column().append(i);
+  }
+
+  @Override
+  public void setDouble(double i) {
+    column().append(i);
+  }
+
+  @Override
+  public void setBigDecimal(BigDecimal v) {
+    column().append(v.toPlainString());
+  }
+
+  @Override
+  public void setDate(java.sql.Date v) {
+    if (dateZoneId == null) {
+      column().append(v);
+    } else {
+      column().append(Instant.ofEpochMilli(v.getTime()).atZone(dateZoneId).toLocalDate());
+    }
+  }
+
+  @Override
+  public void setTimestamp(Timestamp v) {
+    timestamp(v);
+  }
+
+  @Override
+  public void setTime(Time v) {
+    if (zoneId == null) {
+      column().append(v);
+    } else {
+      column().append(Instant.ofEpochMilli(v.getTime()).atZone(zoneId).toLocalTime());
+    }
+  }
+
+  @Override
+  public void setBoolean(boolean v) {
+    column().append(v ? 't' : 'f');
+  }
+
+  @Override
+  public void setBytes(byte[] v) {
+    bytes(v);
+  }
+
+  @Override
+  public void setByte(byte v) {
+    column().append(v);
+  }
+
+  @Override
+  public void setChar(char v) {
+    escaped(String.valueOf(v));
+  }
+
+  @Override
+  public void setBinaryStream(InputStream inputStream, long length) throws SQLException {
+    try (InputStream is = inputStream) {
+      ByteArrayOutputStream os = new ByteArrayOutputStream((int) Math.max(32, Math.min(length, Integer.MAX_VALUE)));
+      byte[] buf = new byte[8192];
+      int len;
+      while ((len = is.read(buf)) != -1) {
+        os.write(buf, 0, len);
+      }
+      bytes(os.toByteArray());
+    } catch (IOException e) {
+      throw new SQLException("Error reading InputStream for COPY", e);
+    }
+  }
+
+  @Override
+  public void setBlob(byte[] bytes) {
+    bytes(bytes);
+  }
+
+  @Override
+  public void setClob(String content) {
+    escaped(content);
+  }
+
+  /**
+   * Write the elements as an array literal like <code>{"a","b",NULL}</code>.
+   */
+  @Override
+  public void setArray(String arrayType, Object[] elements) {
+    StringBuilder literal = new StringBuilder().append('{');
+    for (int i = 0; i < elements.length; i++) {
+      if (i > 0) {
+        literal.append(',');
+      }
+      Object element = elements[i];
+      if (element == null) {
+        literal.append("NULL");
+      } else {
+        literal.append('"');
+        String value = element.toString();
+        for (int j = 0; j < value.length(); j++) {
+          char ch = value.charAt(j);
+          if (ch == '"' || ch == '\\') {
+            literal.append('\\');
+          }
+          literal.append(ch);
+        }
+        literal.append('"');
+      }
+    }
+    escaped(literal.append('}').toString());
+  }
+}
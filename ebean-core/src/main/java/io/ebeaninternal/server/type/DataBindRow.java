@@ -0,0 +1,168 @@
+package io.ebeaninternal.server.type;
+
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataBind that buffers the bind values of a row such that they can later be bound
+ * to a statement (used with multi-row insert).
+ */
+public final class DataBindRow extends DataBind {
+
+  /**
+   * A buffered bind value.
+   */
+  @FunctionalInterface
+  interface Value {
+    void bind(DataBind dataBind) throws SQLException;
+  }
+
+  private final List<Value> values = new ArrayList<>();
+
+  public DataBindRow(DataTimeZone dataTimeZone) {
+    super(dataTimeZone, null, null);
+  }
+
+  /**
+   * Return the number of bind values in the row.
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * Bind the buffered values to the given DataBind (at its current position).
+   */
+  public void bindTo(DataBind dataBind) throws SQLException {
+    for (Value value : values) {
+      value.bind(dataBind);
+    }
+  }
+
+  private void add(Value value) {
+    pos++;
+    values.add(value);
+  }
+
+  @Override
+  public void close() {
+    values.clear();
+  }
+
+  @Override
+  public int executeUpdate() throws SQLException {
+    throw new SQLException("Not supported on buffered row");
+  }
+
+  @Override
+  public void setObject(Object value) {
+    add(b -> b.setObject(value));
+  }
+
+  @Override
+  public void setObject(Object value, int sqlType) {
+    add(b -> b.setObject(value, sqlType));
+  }
+
+  @Override
+  public void setNull(int jdbcType) {
+    add(b -> b.setNull(jdbcType));
+  }
+
+  @Override
+  public void setString(String s) {
+    add(b -> b.setString(s));
+  }
+
+  @Override
+  public void setInt(int i) {
+    add(b -> b.setInt(i));
+  }
+
+  @Override
+  public void setLong(long i) {
+    add(b -> b.setLong(i));
+  }
+
+  @Override
+  public void setShort(short i) {
+    add(b -> b.setShort(i));
+  }
+
+  @Override
+  public void setFloat(float i) {
+    add(b -> b.setFloat(i));
+  }
+
+  @Override
+  public void setDouble(double i) {
+    add(b -> b.setDouble(i));
+  }
+
+  @Override
+  public void setBigDecimal(BigDecimal v) {
+    add(b -> b.setBigDecimal(v));
+  }
+
+  @Override
+  public void setDate(java.sql.Date v) {
+    add(b -> b.setDate(v));
+  }
+
+  @Override
+  public void setTimestamp(Timestamp v) {
+    add(b -> b.setTimestamp(v));
+  }
+
+  @Override
+  public void setTime(Time v) {
+    add(b -> b.setTime(v));
+  }
+
+  @Override
+  public void setBoolean(boolean v) {
+    add(b -> b.setBoolean(v));
+  }
+
+  @Override
+  public void setBytes(byte[] v) {
+    add(b -> b.setBytes(v));
+  }
+
+  @Override
+  public void setByte(byte v) {
+    add(b -> b.setByte(v));
+  }
+
+  @Override
+  public void setChar(char v) {
+    add(b -> b.setChar(v));
+  }
+
+  @Override
+  public void setBinaryStream(InputStream inputStream, long length) {
+    add(b -> b.setBinaryStream(inputStream, length));
+  }
+
+  @Override
+  public void setBlob(byte[] bytes) {
+    add(b -> b.setBlob(bytes));
+  }
+
+  @Override
+  public void setClob(String content) {
+    add(b -> b.setClob(content));
+  }
+
+  @Override
+  public void setArray(String arrayType, Object[] elements) {
+    add(b -> b.setArray(arrayType, elements));
+  }
+}
@@ -0,0 +1,132 @@
+package io.ebeaninternal.server.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Walk the stack frames of the current thread using StackWalker when available (Java 9+).
+ * <p>
+ * Unlike <code>Thread.getStackTrace()</code> the frames are walked lazily such that the walk
+ * can stop early and no StackTraceElement is created unless asked for. The StackWalker is
+ * accessed via method handles as this code is compiled for Java 8.
+ * </p>
+ */
+public final class StackFrames {
+
+  private static final MethodHandle WALK;
+  private static final MethodHandle CLASS_NAME;
+  private static final MethodHandle METHOD_NAME;
+  private static final MethodHandle LINE_NUMBER;
+  private static final MethodHandle TO_ELEMENT;
+
+  static {
+    MethodHandle walk = null;
+    MethodHandle className = null;
+    MethodHandle methodName = null;
+    MethodHandle lineNumber = null;
+    MethodHandle toElement = null;
+    try {
+      Class<?> walkerClass = Class.forName("java.lang.StackWalker");
+      Class<?> frameClass = Class.forName("java.lang.StackWalker$StackFrame");
+      Object walker = walkerClass.getMethod("getInstance").invoke(null);
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      walk = lookup.findVirtual(walkerClass, "walk", MethodType.methodType(Object.class, Function.class))
+        .bindTo(walker)
+        .asType(MethodType.methodType(Object.class, Visitor.class));
+      className = frameHandle(lookup, frameClass, "getClassName", String.class);
+      methodName = frameHandle(lookup, frameClass, "getMethodName", String.class);
+      lineNumber = frameHandle(lookup, frameClass, "getLineNumber", int.class);
+      toElement = frameHandle(lookup, frameClass, "toStackTraceElement", StackTraceElement.class);
+    } catch (Exception e) {
+      // Java 8 so use Thread.getStackTrace()
+      walk = null;
+    }
+    WALK = walk;
+    CLASS_NAME = className;
+    METHOD_NAME = methodName;
+    LINE_NUMBER = lineNumber;
+    TO_ELEMENT = toElement;
+  }
+
+  private static MethodHandle frameHandle(MethodHandles.Lookup lookup, Class<?> frameClass, String name, Class<?> returnType) throws ReflectiveOperationException {
+    return lookup.findVirtual(frameClass, name, MethodType.methodType(returnType))
+      .asType(MethodType.methodType(returnType, Object.class));
+  }
+
+  private StackFrames() {
+  }
+
+  /**
+   * Return true if StackWalker is available.
+   */
+  public static boolean isAvailable() {
+    return WALK != null;
+  }
+
+  /**
+   * Walk the stack frames of the current thread (requires {@link #isAvailable()}).
+   */
+  public static void walk(Visitor visitor) {
+    try {
+      Object ignored = (Object) WALK.invokeExact(visitor);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Return the StackTraceElement for the given frame.
+   */
+  public static StackTraceElement toStackTraceElement(Object frame) {
+    try {
+      return (StackTraceElement) TO_ELEMENT.invokeExact(frame);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Visits the stack frames from the top of the stack.
+   */
+  public abstract static class Visitor implements Function<Stream<?>, Object> {
+
+    /**
+     * Visit a frame returning false to stop walking.
+     *
+     * @param frame      The StackFrame (can be converted via {@link StackFrames#toStackTraceElement(Object)})
+     * @param className  The class name of the frame
+     * @param methodName The method name of the frame
+     * @param lineNumber The line number of the frame
+     */
+    protected abstract boolean visit(Object frame, String className, String methodName, int lineNumber);
+
+    @Override
+    public final Object apply(Stream<?> frames) {
+      try {
+        Iterator<?> it = frames.iterator();
+        while (it.hasNext()) {
+          Object frame = it.next();
+          String className = (String) CLASS_NAME.invokeExact(frame);
+          String methodName = (String) METHOD_NAME.invokeExact(frame);
+          int lineNumber = (int) LINE_NUMBER.invokeExact(frame);
+          if (!visit(frame, className, methodName, lineNumber)) {
+            break;
+          }
+        }
+        return null;
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
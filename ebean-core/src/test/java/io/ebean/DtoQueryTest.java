@@ -66,6 +66,28 @@ public class DtoQueryTest extends BaseTestCase {
     assertSql(sql.get(0)).contains("select id, name from o_customer where id > ?");
   }
 
+  @Test
+  public void dto_findColumnarBatches() {
+
+    ResetBasicData.reset();
+
+    List<DCust> list = server().findDto(DCust.class, "select id, name from o_customer order by id").findList();
+
+    server().findDto(DCust.class, "select id, name from o_customer order by id")
+      .findColumnarBatches(100, batch -> {
+        batchCount.incrementAndGet();
+        assertThat(batch.columnName(0)).isEqualToIgnoringCase("id");
+        for (int row = 0; row < batch.size(); row++) {
+          DCust cust = list.get(rowCount.getAndIncrement());
+          assertThat(batch.getLong(0, row)).isEqualTo(cust.getId().longValue());
+          assertThat(batch.getString(1, row)).isEqualTo(cust.getName());
+        }
+      });
+
+    assertThat(batchCount.get()).isEqualTo(1);
+    assertThat(rowCount.get()).isEqualTo(list.size());
+  }
+
   @Test
   public void dto_findEachWhile_constructorMatch() {
 
@@ -9,9 +9,14 @@ import org.tests.model.basic.ResetBasicData;
 import org.junit.Test;
 
 import java.sql.Date;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertFalse;
@@ -44,6 +49,27 @@ public class EntityBeanInterceptTest extends BaseTestCase {
 
   }
 
+  @Test
+  public void setDirtyMask_expect_sameMaskForSameDirtyProperties() {
+
+    EBasic basic = new EBasic();
+    basic.setName("a");
+    EBasic other = new EBasic();
+    other.setName("b");
+
+    EntityBeanIntercept ebi = ebi(basic);
+    long[] mask = new long[(ebi.getDirtyMaskBits() + 63) >>> 6];
+    ebi.setDirtyMask(mask, 0);
+    long[] otherMask = new long[mask.length];
+    ebi(other).setDirtyMask(otherMask, 0);
+    assertThat(mask).isEqualTo(otherMask);
+
+    other.setDescription("c");
+    long[] changedMask = new long[mask.length];
+    ebi(other).setDirtyMask(changedMask, 0);
+    assertThat(changedMask).isNotEqualTo(mask);
+  }
+
   @Test
   public void isPartial_when_new() {
 
@@ -117,6 +143,29 @@ public class EntityBeanInterceptTest extends BaseTestCase {
     assertTrue(ebi.isLoadedProperty(contactsPos));
   }
 
+  @Test
+  public void lazyLoad_reference_concurrent() throws Exception {
+    ResetBasicData.reset();
+    Customer first = DB.find(Customer.class).setMaxRows(1).orderBy("id").findOne();
+
+    Customer ref = DB.getReference(Customer.class, first.getId());
+    assertThat(ebi(ref).isReference()).isTrue();
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Callable<String>> tasks = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        tasks.add(ref::getName);
+      }
+      for (Future<String> future : executor.invokeAll(tasks)) {
+        assertThat(future.get()).isEqualTo(first.getName());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(ebi(ref).isLoaded()).isTrue();
+  }
+
   private int findProperty(String name, EntityBeanIntercept eb) {
     final String[] names = eb.getOwner()._ebean_getPropertyNames();
     for (int i = 0; i < names.length; i++) {
@@ -9,6 +9,7 @@ import org.junit.Test;
 import java.util.Properties;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -81,6 +82,9 @@ public class ServerConfigTest {
     props.setProperty("queryPlan.capturePeriodSecs", "42");
     props.setProperty("queryPlan.captureMaxTimeMillis", "560");
     props.setProperty("queryPlan.captureMaxCount", "7");
+    props.setProperty("readAuditAggregateWindowMillis", "5000");
+    props.setProperty("readAuditAggregateMaxIds", "500");
+    props.setProperty("readAuditSampleRates", "Customer:0.1,org.example.Order:0.5");
 
     serverConfig.loadFromProperties(props);
 
@@ -120,6 +124,10 @@ public class ServerConfigTest {
 
     assertThat(serverConfig.getMappingLocations()).containsExactly("classpath:/foo","bar");
 
+    assertEquals(5000, serverConfig.getReadAuditAggregateWindowMillis());
+    assertEquals(500, serverConfig.getReadAuditAggregateMaxIds());
+    assertThat(serverConfig.getReadAuditSampleRates()).containsEntry("Customer", 0.1D).containsEntry("org.example.Order", 0.5D);
+
     serverConfig.setPersistBatch(PersistBatch.NONE);
     serverConfig.setPersistBatchOnCascade(PersistBatch.NONE);
 
@@ -143,6 +151,25 @@ public class ServerConfigTest {
     assertEquals("r0,orgs", serverConfig.getEnabledL2Regions());
   }
 
+  @Test
+  public void loadReadAuditSampleRates_invalid_expect_illegalArgument() {
+
+    assertInvalidSampleRates("Customer:abc");
+    assertInvalidSampleRates("Customer:1.5");
+    assertInvalidSampleRates("Customer:-0.1");
+    assertInvalidSampleRates("Customer");
+    assertInvalidSampleRates(":0.5");
+  }
+
+  private void assertInvalidSampleRates(String sampleRates) {
+    Properties props = new Properties();
+    props.setProperty("readAuditSampleRates", sampleRates);
+
+    assertThatThrownBy(() -> new ServerConfig().loadFromProperties(props))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("readAuditSampleRates");
+  }
+
   @Test
   public void test_defaults() {
 
@@ -164,6 +191,7 @@ public class ServerConfigTest {
     assertEquals(600, serverConfig.getQueryPlanCapturePeriodSecs());
     assertEquals(10000L, serverConfig.getQueryPlanCaptureMaxTimeMillis());
     assertEquals(10, serverConfig.getQueryPlanCaptureMaxCount());
+    assertEquals(10000, serverConfig.getReadAuditAggregateMaxIds());
 
     serverConfig.setLoadModuleInfo(false);
     assertFalse(serverConfig.isAutoLoadModuleInfo());
@@ -3,7 +3,9 @@ package io.ebeaninternal.api;
 import io.ebean.AutoTune;
 import io.ebean.BackgroundExecutor;
 import io.ebean.BeanState;
+import io.ebean.BulkInsertOptions;
 import io.ebean.CallableSql;
+import io.ebean.ColumnBatch;
 import io.ebean.DocumentStore;
 import io.ebean.DtoQuery;
 import io.ebean.ExpressionFactory;
@@ -35,6 +37,7 @@ import io.ebean.annotation.TxIsolation;
 import io.ebean.bean.BeanCollection;
 import io.ebean.bean.CallOrigin;
 import io.ebean.cache.ServerCacheManager;
+import io.ebean.config.DatabaseTracer;
 import io.ebean.config.ServerConfig;
 import io.ebean.config.dbplatform.DatabasePlatform;
 import io.ebean.event.readaudit.ReadAuditLogger;
@@ -45,6 +48,7 @@ import io.ebean.plugin.Property;
 import io.ebean.plugin.SpiServer;
 import io.ebean.text.csv.CsvReader;
 import io.ebean.text.json.JsonContext;
+import io.ebean.text.json.JsonWriteOptions;
 import io.ebeaninternal.server.core.SpiResultSet;
 import io.ebeaninternal.server.core.timezone.DataTimeZone;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
@@ -54,6 +58,7 @@ import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
 import javax.persistence.OptimisticLockException;
 import javax.persistence.PersistenceException;
 import javax.sql.DataSource;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.time.Clock;
 import java.util.Collection;
@@ -251,6 +256,11 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
     return null;
   }
 
+  @Override
+  public SpiTransaction createReadOnlyTransaction(Object tenantId, Set<String> tables) {
+    return null;
+  }
+
   @Override
   public void remoteTransactionEvent(RemoteTransactionEvent event) {
   }
@@ -449,10 +459,27 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
   public <T> void findDtoEach(SpiDtoQuery<T> query, int batch, Consumer<List<T>> consumer) {
   }
 
+  @Override
+  public <T> void findDtoColumnarBatches(SpiDtoQuery<T> query, int batchSize, Consumer<ColumnBatch> consumer) {
+  }
+
   @Override
   public <T> void findDtoEachWhile(SpiDtoQuery<T> query, Predicate<T> consumer) {
   }
 
+  @Override
+  public <T> void findEachParallel(SpiQuery<T> query, int partitions, Consumer<T> consumer, Transaction transaction) {
+  }
+
+  @Override
+  public <T> void findJson(SpiQuery<T> query, Writer writer, JsonWriteOptions options, Transaction transaction) {
+  }
+
+  @Override
+  public <T> Stream<T> findStreamParallel(SpiQuery<T> query, int partitions, Transaction transaction) {
+    return null;
+  }
+
   @Override
   public <T> List<T> findDtoList(SpiDtoQuery<T> query) {
     return null;
@@ -507,6 +534,10 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
   public void findEachRow(SpiSqlQuery query, RowConsumer consumer) {
   }
 
+  @Override
+  public void findColumnarBatches(SpiSqlQuery query, int batchSize, Consumer<ColumnBatch> consumer) {
+  }
+
   @Override
   public SqlQuery sqlQuery(String sql) {
     return null;
@@ -985,10 +1016,31 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
   public void insertAll(Collection<?> beans, Transaction transaction) {
   }
 
+  @Override
+  public void bulkInsert(Collection<?> beans) {
+  }
+
+  @Override
+  public void bulkInsert(Collection<?> beans, BulkInsertOptions options) {
+  }
+
+  @Override
+  public void bulkInsert(Collection<?> beans, BulkInsertOptions options, Transaction transaction) {
+  }
+
   @Override
   public void slowQueryCheck(long executionTimeMicros, int rowCount, SpiQuery<?> query) {
   }
 
+  @Override
+  public void collectTenantQuery(Object tenantId, long executionTimeMicros) {
+  }
+
+  @Override
+  public DatabaseTracer getDatabaseTracer() {
+    return null;
+  }
+
   @Override
   public Set<Property> checkUniqueness(Object bean) {
     return Collections.emptySet();
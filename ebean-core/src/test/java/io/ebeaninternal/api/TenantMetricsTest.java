@@ -0,0 +1,92 @@
+package io.ebeaninternal.api;
+
+import io.ebean.meta.AbstractMetricVisitor;
+import io.ebean.meta.MetaCountMetric;
+import io.ebean.meta.MetaQueryMetric;
+import io.ebean.meta.MetaTimedMetric;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TenantMetricsTest {
+
+  static class Collect extends AbstractMetricVisitor {
+
+    final Map<String, MetaTimedMetric> timed = new LinkedHashMap<>();
+    final Map<String, Long> counts = new LinkedHashMap<>();
+
+    Collect(boolean reset) {
+      super(reset, true, true, true);
+    }
+
+    @Override
+    public void visitTimed(MetaTimedMetric metric) {
+      timed.put(metric.getName(), metric);
+    }
+
+    @Override
+    public void visitQuery(MetaQueryMetric metric) {
+    }
+
+    @Override
+    public void visitCount(MetaCountMetric metric) {
+      counts.put(metric.getName(), metric.getCount());
+    }
+  }
+
+  @Test
+  public void visit_perTenant() {
+
+    TenantMetrics metrics = new TenantMetrics(2);
+    metrics.addQuery("a", 100);
+    metrics.addQuery("a", 300);
+    metrics.addTransaction("a", 500);
+    metrics.addConnectionWait("b", 20);
+    metrics.addCache("b", 3, 1);
+
+    Collect collect = new Collect(false);
+    metrics.visitMetrics(collect);
+
+    MetaTimedMetric query = collect.timed.get("tenant.a.query");
+    assertThat(query.getCount()).isEqualTo(2);
+    assertThat(query.getTotal()).isEqualTo(400);
+    assertThat(query.getMax()).isEqualTo(300);
+    assertThat(query.getMean()).isEqualTo(200);
+    assertThat(collect.timed.get("tenant.a.txn").getTotal()).isEqualTo(500);
+    assertThat(collect.timed.get("tenant.b.connection").getTotal()).isEqualTo(20);
+    assertThat(collect.counts.get("tenant.b.l2.hit")).isEqualTo(3);
+    assertThat(collect.counts.get("tenant.b.l2.miss")).isEqualTo(1);
+    assertThat(collect.timed).doesNotContainKey("tenant.other.query");
+  }
+
+  @Test
+  public void visit_topTenants_otherBucket() {
+
+    TenantMetrics metrics = new TenantMetrics(2);
+    metrics.addQuery("a", 1000);
+    metrics.addQuery("b", 10);
+    metrics.addQuery("c", 500);
+    metrics.addQuery("d", 20);
+    // beyond 2N candidates so recorded as other
+    metrics.addQuery("e", 5);
+    metrics.addQuery(null, 1);
+
+    Collect collect = new Collect(true);
+    metrics.visitMetrics(collect);
+
+    assertThat(collect.timed).containsOnlyKeys("tenant.a.query", "tenant.c.query", "tenant.other.query");
+    MetaTimedMetric other = collect.timed.get("tenant.other.query");
+    assertThat(other.getCount()).isEqualTo(4);
+    assertThat(other.getTotal()).isEqualTo(36);
+    assertThat(other.getMax()).isEqualTo(20);
+
+    // b and d dropped making room for e
+    metrics.addQuery("e", 2000);
+    collect = new Collect(true);
+    metrics.visitMetrics(collect);
+    assertThat(collect.timed).containsOnlyKeys("tenant.e.query");
+  }
+}
@@ -16,9 +16,14 @@ import org.tests.model.embedded.EPerson;
 import org.junit.Test;
 
 import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class CacheBeanDataTest extends BaseTestCase {
 
@@ -49,6 +54,7 @@ public class CacheBeanDataTest extends BaseTestCase {
 
 
     assertNotNull(cacheData);
+    assertSame(desc.getCacheSchema(), cacheData.getSchema());
 
     Customer newCustomer = new Customer();
     newCustomer.setId(c.getId());
@@ -74,6 +80,35 @@ public class CacheBeanDataTest extends BaseTestCase {
   }
 
 
+  @Test
+  public void update_byPosition() {
+
+    BeanDescriptor<Customer> desc = spiEbeanServer().getBeanDescriptor(Customer.class);
+
+    Customer c = new Customer();
+    c.setId(98990);
+    c.setName("Rob");
+
+    CachedBeanData cacheData = CachedBeanDataFromBean.extract(desc, (EntityBean) c);
+    assertFalse(cacheData.isLoaded("smallnote"));
+
+    Map<String, Object> changes = new HashMap<>();
+    changes.put("smallnote", "updated");
+    CachedBeanData updated = cacheData.update(changes, 2);
+
+    assertSame(desc.getCacheSchema(), updated.getSchema());
+    assertEquals(2, updated.getVersion());
+    assertTrue(updated.isLoaded("smallnote"));
+    assertEquals("updated", updated.getData("smallnote"));
+    assertEquals("Rob", updated.getData("name"));
+
+    // unknown property falls back to a schema by name
+    changes.put("notAProperty", "x");
+    CachedBeanData adhoc = cacheData.update(changes, 3);
+    assertEquals("x", adhoc.getData("notAProperty"));
+    assertEquals("Rob", adhoc.getData("name"));
+  }
+
   @Test
   public void extract_load_withEmbeddedBean() {
 
@@ -0,0 +1,49 @@
+package io.ebeaninternal.server.cache;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachedBeanSchemaTest {
+
+  @Test
+  public void register_expect_foundByVersion() {
+    String[] names = {"id", "registered"};
+    CachedBeanSchema schema = CachedBeanSchema.register(names, new Class<?>[]{Long.class, String.class});
+
+    assertThat(schema.isRegistered()).isTrue();
+    assertThat(CachedBeanSchema.register(names, new Class<?>[]{Long.class, String.class})).isSameAs(schema);
+    assertThat(CachedBeanSchema.forVersion(schema.getVersion())).isSameAs(schema);
+  }
+
+  @Test
+  public void of_expect_notRegistered() {
+    CachedBeanSchema schema = CachedBeanSchema.of(new String[]{"adhoc", "names"});
+
+    assertThat(schema.isRegistered()).isFalse();
+    assertThat(schema.position("names")).isEqualTo(1);
+    assertThat(CachedBeanSchema.forVersion(schema.getVersion())).isNull();
+  }
+
+  @Test
+  public void adhocData_expect_notRegistered() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("adhocName", "rob");
+    CachedBeanData data = new CachedBeanData(null, null, map, 1);
+    CachedBeanData updated = data.update(singleChange("adhocOther", "x"), 2);
+
+    assertThat(updated.getData("adhocName")).isEqualTo("rob");
+    assertThat(updated.getData("adhocOther")).isEqualTo("x");
+    assertThat(CachedBeanSchema.forVersion(data.getSchema().getVersion())).isNull();
+    assertThat(CachedBeanSchema.forVersion(updated.getSchema().getVersion())).isNull();
+  }
+
+  private static Map<String, Object> singleChange(String name, Object value) {
+    Map<String, Object> changes = new LinkedHashMap<>();
+    changes.put(name, value);
+    return changes;
+  }
+}
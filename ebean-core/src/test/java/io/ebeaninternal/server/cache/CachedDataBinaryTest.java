@@ -0,0 +1,144 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.bean.EntityBean;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.transaction.DefaultPersistenceContext;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.ResetBasicData;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CachedDataBinaryTest extends BaseTestCase {
+
+  @Test
+  public void beanData_roundTrip() throws IOException {
+
+    Map<String, Object> embedded = new LinkedHashMap<>();
+    embedded.put("line1", "12 Main St");
+
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("name", "rob");
+    map.put("nothing", null);
+    map.put("content", new byte[]{1, 2, 3});
+    map.put("count", -42L);
+    map.put("uid", UUID.randomUUID());
+    map.put("address", new CachedBeanData(null, null, embedded, 0));
+    map.put("parent", new CachedBeanId("P", "99"));
+
+    CachedBeanData write = new CachedBeanData(null, "C", map, System.currentTimeMillis());
+    CachedBeanData read = CachedDataBinary.readBeanData(in(out(write)));
+
+    assertEquals(write.getVersion(), read.getVersion());
+    assertEquals(write.getWhenCreated(), read.getWhenCreated());
+    assertEquals("C", read.getDiscValue());
+    assertEquals("rob", read.getData("name"));
+    assertTrue(read.isLoaded("nothing"));
+    assertNull(read.getData("nothing"));
+    assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) read.getData("content"));
+    assertEquals(-42L, read.getData("count"));
+    assertEquals(map.get("uid"), read.getData("uid"));
+    assertEquals(embedded, ((CachedBeanData) read.getData("address")).getData());
+    CachedBeanId parent = (CachedBeanId) read.getData("parent");
+    assertEquals("P", parent.getDiscValue());
+    assertEquals("99", parent.getId());
+  }
+
+  @Test
+  public void manyIds_roundTrip() throws IOException {
+
+    List<Object> ids = new ArrayList<>(Arrays.asList(1L, 2L, 300000L));
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    CachedDataBinary.writeManyIds(new DataOutputStream(os), new CachedManyIds(ids));
+
+    CachedManyIds read = CachedDataBinary.readManyIds(in(os.toByteArray()));
+    assertEquals(ids, read.getIdList());
+  }
+
+  @Test
+  public void javaSerialized_detectedAsStale() throws IOException {
+
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("name", "rob");
+    CachedBeanData data = new CachedBeanData(null, null, map, 1);
+
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    ObjectOutputStream oos = new ObjectOutputStream(os);
+    data.writeExternal(oos);
+    oos.close();
+
+    assertNull(CachedDataBinary.readBeanData(in(os.toByteArray())));
+  }
+
+  @Test
+  public void unknownSchema_detectedAsStale() throws IOException {
+
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(os);
+    out.writeByte(CachedDataBinary.VERSION);
+    CachedDataBinary.writeVarLong(out, 1);
+    CachedDataBinary.writeVarLong(out, System.currentTimeMillis());
+    CachedDataBinary.writeVarInt(out, 0);
+    // schema version not registered (e.g. written by a different deployment)
+    out.writeLong(0x5eedL);
+    CachedDataBinary.writeVarInt(out, 0);
+    CachedDataBinary.writeVarInt(out, 1);
+    CachedDataBinary.writeVarLong(out, 0);
+    out.close();
+
+    assertNull(CachedDataBinary.readBeanData(in(os.toByteArray())));
+  }
+
+  @Test
+  public void fullBean() throws IOException {
+
+    ResetBasicData.reset();
+
+    Customer customer = Ebean.find(Customer.class)
+      .order().asc("id")
+      .setMaxRows(1).findList().get(0);
+
+    BeanDescriptor<Customer> desc = getBeanDescriptor(Customer.class);
+    CachedBeanData extract = CachedBeanDataFromBean.extract(desc, (EntityBean) customer);
+
+    CachedBeanData read = CachedDataBinary.readBeanData(in(out(extract)));
+    assertEquals(extract.getData(), read.getData());
+    assertTrue(read.getSchema() == desc.getCacheSchema());
+
+    Customer loadCustomer = new Customer();
+    CachedBeanDataToBean.load(desc, (EntityBean) loadCustomer, read, new DefaultPersistenceContext());
+
+    assertEquals(customer.getVersion(), loadCustomer.getVersion());
+    assertEquals(customer.getId(), loadCustomer.getId());
+    assertEquals(customer.getName(), loadCustomer.getName());
+    assertEquals(customer.getStatus(), loadCustomer.getStatus());
+  }
+
+  private byte[] out(CachedBeanData data) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    CachedDataBinary.writeBeanData(new DataOutputStream(os), data);
+    return os.toByteArray();
+  }
+
+  private DataInputStream in(byte[] bytes) {
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+}
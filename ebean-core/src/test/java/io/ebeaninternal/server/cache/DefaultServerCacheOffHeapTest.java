@@ -0,0 +1,157 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.cache.ServerCacheConfig;
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheType;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefaultServerCacheOffHeapTest {
+
+  private DefaultServerCacheOffHeap createCache(OffHeapStore store) {
+    return createCache(store, 0);
+  }
+
+  private DefaultServerCacheOffHeap createCache(OffHeapStore store, int maxIdleSecs) {
+
+    ServerCacheOptions cacheOptions = new ServerCacheOptions();
+    cacheOptions.setMaxSize(10);
+    cacheOptions.setMaxSecsToLive(600);
+    cacheOptions.setMaxIdleSecs(maxIdleSecs);
+
+    ServerCacheConfig con = new ServerCacheConfig(ServerCacheType.BEAN, "foo", null, cacheOptions, null, null);
+    return new DefaultServerCacheOffHeap(new DefaultServerCacheConfig(con), store);
+  }
+
+  private CachedBeanData data(int i) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("name", "name" + i);
+    map.put("count", (long) i);
+    return new CachedBeanData(null, null, map, i);
+  }
+
+  @Test
+  public void get_whenEvictedFromHeap_expect_readFromOffHeap() {
+
+    DefaultServerCacheOffHeap cache = createCache(new OffHeapStore(1024 * 1024));
+    for (int i = 0; i < 100; i++) {
+      cache.put(i, data(i));
+    }
+    assertThat(cache.map.size()).isEqualTo(10);
+    assertThat(cache.size()).isEqualTo(100);
+
+    for (int i = 0; i < 100; i++) {
+      CachedBeanData read = (CachedBeanData) cache.get(i);
+      assertThat(read).isNotNull();
+      assertThat(read.getVersion()).isEqualTo(i);
+      assertThat(read.getData("name")).isEqualTo("name" + i);
+    }
+    assertThat(cache.getHitCount()).isEqualTo(100);
+    assertThat(cache.getOffHeapHitCount()).isGreaterThanOrEqualTo(90);
+  }
+
+  @Test
+  public void remove_expect_removedFromBothTiers() {
+
+    DefaultServerCacheOffHeap cache = createCache(new OffHeapStore(1024 * 1024));
+    for (int i = 0; i < 20; i++) {
+      cache.put(i, data(i));
+    }
+    cache.remove(0);
+    cache.remove(19);
+    assertThat(cache.get(0)).isNull();
+    assertThat(cache.get(19)).isNull();
+    assertThat(cache.size()).isEqualTo(18);
+
+    cache.clear();
+    assertThat(cache.get(5)).isNull();
+    assertThat(cache.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void remove_whenOnlyOffHeap_expect_notPromoted() {
+
+    DefaultServerCacheOffHeap cache = createCache(new OffHeapStore(1024 * 1024));
+    for (int i = 0; i < 100; i++) {
+      cache.put(i, data(i));
+    }
+    // evicted from the heap tier, invalidate and expect a miss
+    assertThat(cache.map.containsKey(0)).isFalse();
+    cache.remove(0);
+    assertThat(cache.get(0)).isNull();
+    assertThat(cache.map.containsKey(0)).isFalse();
+  }
+
+  @Test
+  public void get_whenIdleOffHeap_expect_miss() throws InterruptedException {
+
+    DefaultServerCacheOffHeap cache = createCache(new OffHeapStore(1024 * 1024), 1);
+    for (int i = 0; i < 100; i++) {
+      cache.put(i, data(i));
+    }
+    assertThat(cache.map.containsKey(0)).isFalse();
+    Thread.sleep(1100);
+
+    assertThat(cache.get(0)).isNull();
+    assertThat(cache.getOffHeapHitCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void put_nonBeanData_expect_onHeapOnly() {
+
+    DefaultServerCacheOffHeap cache = createCache(new OffHeapStore(1024 * 1024));
+    cache.put("A", data(1));
+    cache.put("A", "notBeanData");
+    for (int i = 0; i < 20; i++) {
+      cache.put("K" + i, "V" + i);
+    }
+    // never the replaced bean data from the off heap tier
+    Object value = cache.get("A");
+    assertThat(value == null || "notBeanData".equals(value)).isTrue();
+  }
+
+  @Test
+  public void runEviction_whenSlabRecycled_expect_purged() {
+
+    // 2 slabs of 1024 bytes
+    DefaultServerCacheOffHeap cache = createCache(new OffHeapStore(100));
+    for (int i = 0; i < 200; i++) {
+      cache.put(i, data(i));
+    }
+    assertThat(cache.size()).isEqualTo(200);
+
+    cache.runEviction();
+    assertThat(cache.size()).isLessThan(200);
+    assertThat(cache.get(199)).isNotNull();
+  }
+
+  @Test
+  public void store_put_whenTooLarge() {
+
+    OffHeapStore store = new OffHeapStore(100);
+    assertThat(store.capacity()).isEqualTo(2048);
+    assertThat(store.put(new byte[2000])).isEqualTo(-1);
+
+    long address = store.put(new byte[]{1, 2, 3});
+    assertThat(store.isValid(address)).isTrue();
+    assertThat(store.get(address)).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void store_get_whenRecycled_expect_null() {
+
+    // 2 slabs of 1024 bytes
+    OffHeapStore store = new OffHeapStore(100);
+    long first = store.put(new byte[1000]);
+    store.put(new byte[1000]);
+    // recycles the first slab
+    store.put(new byte[1000]);
+
+    assertThat(store.isValid(first)).isFalse();
+    assertThat(store.get(first)).isNull();
+  }
+}
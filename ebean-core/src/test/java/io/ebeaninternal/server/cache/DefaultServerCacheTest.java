@@ -5,7 +5,13 @@ import io.ebean.cache.ServerCacheOptions;
 import io.ebean.cache.ServerCacheType;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class DefaultServerCacheTest {
 
@@ -61,5 +67,90 @@ public class DefaultServerCacheTest {
     assertEquals(0, cache.size());
   }
 
+  @Test
+  public void testMaxSize_enforcedOnPut() {
+
+    DefaultServerCache cache = createCache();
+    for (int i = 0; i < 1000; i++) {
+      cache.put("K" + i, i);
+    }
+    assertEquals(100, cache.size());
+    assertEquals(900, cache.getStatistics(false).getEvictCount());
+  }
+
+  @Test
+  public void testMaxSize_frequentlyReadRetained() {
+
+    DefaultServerCache cache = createCache();
+    for (int i = 0; i < 50; i++) {
+      cache.put("Hot" + i, i);
+    }
+    for (int j = 0; j < 5; j++) {
+      for (int i = 0; i < 50; i++) {
+        cache.get("Hot" + i);
+      }
+    }
+    for (int i = 0; i < 1000; i++) {
+      cache.put("Cold" + i, i);
+    }
+    assertEquals(100, cache.size());
+    for (int i = 0; i < 50; i++) {
+      assertNotNull(cache.get("Hot" + i));
+    }
+  }
+
+  @Test
+  public void testClear_thenPut() {
 
+    DefaultServerCache cache = createCache();
+    for (int i = 0; i < 200; i++) {
+      cache.put("K" + i, i);
+    }
+    cache.clear();
+    assertEquals(0, cache.size());
+    for (int i = 0; i < 200; i++) {
+      cache.put("K" + i, i);
+    }
+    assertEquals(100, cache.size());
+  }
+
+  @Test
+  public void testConcurrentPutAndClear_evictionSizeMatchesMap() throws InterruptedException {
+
+    DefaultServerCache cache = createCache();
+    int threads = 4;
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> workers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      final int offset = t;
+      Thread worker = new Thread(() -> {
+        await(start);
+        for (int i = 0; i < 20_000; i++) {
+          // overlapping keys such that puts race on the same key
+          cache.put("K" + ((i + offset) % 150), i);
+          if (i % 1000 == offset) {
+            cache.clear();
+          }
+        }
+      });
+      worker.start();
+      workers.add(worker);
+    }
+    start.countDown();
+    for (Thread worker : workers) {
+      worker.join();
+    }
+
+    TinyLfuCacheEviction eviction = (TinyLfuCacheEviction) cache.eviction;
+    assertEquals(cache.size(), eviction.size());
+    assertTrue(cache.size() <= 100);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
 }
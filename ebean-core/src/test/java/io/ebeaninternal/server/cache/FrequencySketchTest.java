@@ -0,0 +1,44 @@
+package io.ebeaninternal.server.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FrequencySketchTest {
+
+  @Test
+  public void increment_frequency() {
+
+    FrequencySketch sketch = new FrequencySketch(100);
+    assertEquals(0, sketch.frequency("a"));
+    sketch.increment("a");
+    sketch.increment("a");
+    sketch.increment("a");
+    assertEquals(3, sketch.frequency("a"));
+  }
+
+  @Test
+  public void increment_saturates() {
+
+    FrequencySketch sketch = new FrequencySketch(100);
+    for (int i = 0; i < 40; i++) {
+      sketch.increment("a");
+    }
+    assertEquals(15, sketch.frequency("a"));
+  }
+
+  @Test
+  public void reset_halvesCounters() {
+
+    FrequencySketch sketch = new FrequencySketch(8);
+    for (int i = 0; i < 10; i++) {
+      sketch.increment("a");
+    }
+    // sample size of 80 triggers aging
+    for (int i = 0; i < 100; i++) {
+      sketch.increment("k" + i);
+    }
+    assertTrue(sketch.frequency("a") < 10);
+  }
+}
@@ -0,0 +1,52 @@
+package io.ebeaninternal.server.core;
+
+import io.ebean.Query;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.api.SpiQuery;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class PartitionedQueryTest {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void partitions_expect_executedConcurrently() {
+    int partitionCount = 4;
+    CountDownLatch started = new CountDownLatch(partitionCount);
+
+    SpiEbeanServer server = mock(SpiEbeanServer.class);
+    doAnswer(invocation -> {
+      started.countDown();
+      // only emits a bean when all the partitions are executing at the same time
+      if (started.await(10, TimeUnit.SECONDS)) {
+        Predicate<String> consumer = invocation.getArgument(1);
+        consumer.test(Thread.currentThread().getName());
+      }
+      return null;
+    }).when(server).findEachWhile(any(Query.class), any(Predicate.class), isNull());
+
+    List<SpiQuery<String>> partitions = new ArrayList<>();
+    for (int i = 0; i < partitionCount; i++) {
+      partitions.add(mock(SpiQuery.class));
+    }
+
+    List<String> threads = new ArrayList<>();
+    new PartitionedQuery<>(server, partitions).start().findEach(threads::add);
+
+    assertThat(threads).hasSize(partitionCount);
+    assertThat(new HashSet<>(threads)).hasSize(partitionCount);
+    assertThat(threads).allMatch(name -> name.startsWith("ebean-partition-"));
+  }
+}
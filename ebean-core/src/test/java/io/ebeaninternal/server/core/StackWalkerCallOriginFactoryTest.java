@@ -0,0 +1,43 @@
+package io.ebeaninternal.server.core;
+
+import io.ebean.bean.CallOrigin;
+import io.ebeaninternal.server.util.StackFrames;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class StackWalkerCallOriginFactoryTest {
+
+  @Before
+  public void checkAvailable() {
+    assumeTrue(StackFrames.isAvailable());
+  }
+
+  @Test
+  public void createCallOrigin_sameSite_cached() {
+
+    StackWalkerCallOriginFactory factory = new StackWalkerCallOriginFactory(5);
+
+    CallOrigin first = null;
+    for (int i = 0; i < 3; i++) {
+      CallOrigin origin = factory.createCallOrigin();
+      if (first == null) {
+        first = origin;
+      } else {
+        assertThat(origin).isSameAs(first);
+      }
+    }
+    // leading ebean frames skipped (this test is in an ebean package)
+    assertThat(first.getTopElement()).doesNotStartWith("io.ebean");
+    assertThat(first.getFullDescription().split("\n")).hasSizeLessThanOrEqualTo(5);
+  }
+
+  @Test
+  public void createCallOrigin_maxCallStack() {
+
+    CallOrigin origin = new StackWalkerCallOriginFactory(2).createCallOrigin();
+    assertThat(origin.getFullDescription().split("\n")).hasSize(2);
+  }
+}
@@ -122,6 +122,7 @@ public class BeanDescriptorTest extends BaseTestCase {
   private BeanDescriptorMap mockOwner() {
     BeanDescriptorMap owner = mock(BeanDescriptorMap.class);
     when(owner.createDocStoreBeanAdapter(any(), any())).thenReturn(mock(DocStoreBeanAdapter.class));
+    when(owner.createQueryPlanCache()).thenReturn(new QueryPlanCacheBudget(0).createCache());
     return owner;
   }
 
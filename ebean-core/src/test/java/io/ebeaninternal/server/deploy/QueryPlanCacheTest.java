@@ -0,0 +1,72 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebeaninternal.api.CQueryPlanKey;
+import io.ebeaninternal.server.query.CQueryPlan;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class QueryPlanCacheTest {
+
+  @Test
+  public void put_get() {
+    QueryPlanCache cache = new QueryPlanCacheBudget(0).createCache();
+    CQueryPlanKey key = mock(CQueryPlanKey.class);
+    CQueryPlan plan = plan(100);
+
+    assertThat(cache.get(key)).isNull();
+    cache.put(key, plan);
+    assertThat(cache.get(key)).isSameAs(plan);
+  }
+
+  @Test
+  public void put_replace_expect_usedBytesAdjusted() {
+    QueryPlanCacheBudget budget = new QueryPlanCacheBudget(0);
+    QueryPlanCache cache = budget.createCache();
+    CQueryPlanKey key = mock(CQueryPlanKey.class);
+
+    cache.put(key, plan(100));
+    cache.put(key, plan(300));
+    assertThat(budget.usedBytes()).isEqualTo(300);
+
+    cache.trim(Long.MAX_VALUE);
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(budget.usedBytes()).isEqualTo(0);
+  }
+
+  @Test
+  public void put_overBudget_expect_leastUsedEvictedAcrossCaches() {
+    QueryPlanCacheBudget budget = new QueryPlanCacheBudget(1000);
+    QueryPlanCache cache0 = budget.createCache();
+    QueryPlanCache cache1 = budget.createCache();
+
+    CQueryPlanKey hot0 = mock(CQueryPlanKey.class);
+    CQueryPlanKey hot1 = mock(CQueryPlanKey.class);
+    CQueryPlanKey cold = mock(CQueryPlanKey.class);
+    cache0.put(hot0, plan(300));
+    cache1.put(hot1, plan(300));
+    cache1.put(cold, plan(300));
+    for (int i = 0; i < 5; i++) {
+      cache0.get(hot0);
+      cache1.get(hot1);
+    }
+
+    // exceeds the budget so evict down to 80%
+    CQueryPlanKey newKey = mock(CQueryPlanKey.class);
+    cache0.put(newKey, plan(300));
+
+    assertThat(budget.usedBytes()).isLessThanOrEqualTo(800);
+    assertThat(cache0.get(hot0)).isNotNull();
+    assertThat(cache1.get(hot1)).isNotNull();
+    assertThat(cache1.get(cold)).isNull();
+  }
+
+  private static CQueryPlan plan(int bytes) {
+    CQueryPlan plan = mock(CQueryPlan.class);
+    when(plan.memoryEstimate()).thenReturn(bytes);
+    when(plan.getLastQueryTime()).thenReturn(0L);
+    return plan;
+  }
+}
@@ -0,0 +1,50 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebean.metric.CountMetric;
+import io.ebean.metric.MetricFactory;
+import io.ebeaninternal.api.SpiUpdatePlan;
+import io.ebeaninternal.api.UpdatePlanKey;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UpdatePlanCacheTest {
+
+  private final CountMetric hit = MetricFactory.get().createCountMetric("test.hit");
+
+  private final CountMetric miss = MetricFactory.get().createCountMetric("test.miss");
+
+  @Test
+  public void put_get_expect_hitMissCounted() {
+    UpdatePlanCache cache = new UpdatePlanCache(0, hit, miss);
+    SpiUpdatePlan plan = plan(1);
+
+    assertThat(cache.get(new UpdatePlanKey(new long[]{5}))).isNull();
+    cache.put(new UpdatePlanKey(new long[]{5}), plan);
+    assertThat(cache.get(new UpdatePlanKey(new long[]{5}))).isSameAs(plan);
+    assertThat(cache.get(new UpdatePlanKey(new long[]{5, 0}))).isNull();
+
+    assertThat(hit.get(false)).isEqualTo(1);
+    assertThat(miss.get(false)).isEqualTo(2);
+  }
+
+  @Test
+  public void put_overMaxSize_expect_leastRecentlyUsedEvicted() {
+    UpdatePlanCache cache = new UpdatePlanCache(10, hit, miss);
+    for (int i = 0; i < 11; i++) {
+      cache.put(new UpdatePlanKey(new long[]{i}), plan(i == 0 ? 1000 : i));
+    }
+    assertThat(cache.size()).isEqualTo(8);
+    // most recently used retained
+    assertThat(cache.get(new UpdatePlanKey(new long[]{0}))).isNotNull();
+    assertThat(cache.get(new UpdatePlanKey(new long[]{1}))).isNull();
+  }
+
+  private SpiUpdatePlan plan(long lastUsed) {
+    SpiUpdatePlan plan = mock(SpiUpdatePlan.class);
+    when(plan.getTimeLastUsed()).thenReturn(lastUsed);
+    return plan;
+  }
+}
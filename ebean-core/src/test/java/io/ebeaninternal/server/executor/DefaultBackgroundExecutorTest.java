@@ -5,10 +5,13 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.slf4j.MDC;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
 
 public class DefaultBackgroundExecutorTest {
 
@@ -36,6 +39,59 @@ public class DefaultBackgroundExecutorTest {
     assertThat(future2.get()).isEqualTo("Slow");
   }
 
+  @Test
+  public void threadPerTask_whenVirtualThreadsNotSupported_expect_schedulePool() {
+    assumeTrue(TaskExecutors.virtualThreadFactory("test") == null);
+
+    DefaultBackgroundExecutor es = new DefaultBackgroundExecutor(1, 2, "test", true);
+    assertThat(es.isThreadPerTask()).isFalse();
+    es.shutdown();
+  }
+
+  @Test
+  public void submit_threadPerTask_blockedTasksDoNotBlockSchedule() throws Exception {
+    assumeTrue(TaskExecutors.virtualThreadFactory("test") != null);
+
+    DefaultBackgroundExecutor es = new DefaultBackgroundExecutor(1, 2, "test", true);
+    assertThat(es.isThreadPerTask()).isTrue();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    // blocking tasks (like findFutureList waiting on JDBC) each get their own thread
+    Future<String> blocked0 = es.submit(() -> {
+      latch.await();
+      return "Blocked0";
+    });
+    Future<String> blocked1 = es.submit(() -> {
+      latch.await();
+      return "Blocked1";
+    });
+
+    ScheduledFuture<?> scheduled = es.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+    scheduled.get(1, TimeUnit.SECONDS);
+
+    assertThat(blocked0.get(1, TimeUnit.SECONDS)).isEqualTo("Blocked0");
+    assertThat(blocked1.get(1, TimeUnit.SECONDS)).isEqualTo("Blocked1");
+    es.shutdown();
+  }
+
+  @Test
+  public void shutdown_threadPerTask_slowCallable_expect_interrupted() throws Exception {
+
+    DefaultBackgroundExecutor es = new DefaultBackgroundExecutor(1, 1, "test", true);
+    final Future<String> future = es.submit(() -> {
+      try {
+        Thread.sleep(1500);
+        return "Slow";
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return "Interrupted";
+      }
+    });
+
+    es.shutdown();
+    assertThat(future.get()).isEqualTo("Interrupted");
+  }
+
   @Test
   public void shutdown_slowCallable_expect_interrupted() throws Exception {
 
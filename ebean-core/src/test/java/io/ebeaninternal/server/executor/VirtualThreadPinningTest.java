@@ -0,0 +1,190 @@
+package io.ebeaninternal.server.executor;
+
+import io.ebean.DB;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import io.ebean.cache.ServerCacheConfig;
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheType;
+import io.ebeaninternal.server.cache.DefaultServerCache;
+import io.ebeaninternal.server.cache.DefaultServerCacheConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.tests.model.basic.EBasic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Runs contended background work on virtual threads checking that no virtual thread is
+ * pinned (parks while holding a monitor).
+ * <p>
+ * Covers the server cache and, using the (H2) database, the query, lazy loading
+ * (EntityBeanIntercept and DLoadBeanContext) and commit paths including the connection pool.
+ * </p>
+ * <p>
+ * Requires a JDK with virtual threads that reports pinning via <code>-Djdk.tracePinnedThreads</code>
+ * (JDK 21 to 23, set by the pinned-threads profile) and is otherwise skipped.
+ * </p>
+ */
+public class VirtualThreadPinningTest {
+
+  private final PrintStream systemOut = System.out;
+
+  private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+  private DefaultBackgroundExecutor executor;
+
+  private Database database;
+
+  @Before
+  public void before() {
+    assumeTrue("requires virtual threads", TaskExecutors.virtualThreadFactory("test") != null);
+    assumeTrue("requires -Djdk.tracePinnedThreads", System.getProperty("jdk.tracePinnedThreads") != null);
+    executor = new DefaultBackgroundExecutor(1, 5, "pinned", true);
+    // initialise the database (and logging) before capturing System.out
+    database = DB.getDefault();
+    // pinned stack traces are printed to System.out
+    System.setOut(new PrintStream(captured, true));
+  }
+
+  @After
+  public void after() {
+    System.setOut(systemOut);
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void backgroundCacheWork_expect_notPinned() throws Exception {
+    DefaultServerCache cache = createCache();
+    assertNotPinned(offset -> {
+      for (int i = 0; i < 2000; i++) {
+        cache.put("K" + ((i + offset) % 500), i);
+        cache.get("K" + (i % 500));
+        if (i % 500 == offset) {
+          cache.clear();
+        }
+        if (i % 100 == 0) {
+          sleep(1);
+        }
+      }
+    });
+  }
+
+  @Test
+  public void query_expect_notPinned() throws Exception {
+    insert("pinned-query");
+    assertNotPinned(offset -> {
+      for (int i = 0; i < 20; i++) {
+        List<EBasic> list = database.find(EBasic.class).where().startsWith("name", "pinned-query").findList();
+        assertThat(list).isNotEmpty();
+        database.find(EBasic.class).where().startsWith("name", "pinned-query").findCount();
+      }
+    });
+  }
+
+  @Test
+  public void lazyLoad_expect_notPinned() throws Exception {
+    insert("pinned-lazy");
+    assertNotPinned(offset -> {
+      for (int i = 0; i < 20; i++) {
+        List<EBasic> list = database.find(EBasic.class)
+          .select("name")
+          .where().startsWith("name", "pinned-lazy")
+          .findList();
+        for (EBasic bean : list) {
+          // lazy loads description via the intercept and load bean context
+          bean.getDescription();
+        }
+      }
+    });
+  }
+
+  @Test
+  public void commit_expect_notPinned() throws Exception {
+    assertNotPinned(offset -> {
+      for (int i = 0; i < 20; i++) {
+        try (Transaction transaction = database.beginTransaction()) {
+          EBasic bean = new EBasic("pinned-commit-" + offset);
+          bean.setDescription("d" + i);
+          database.save(bean);
+          bean.setDescription("u" + i);
+          database.save(bean);
+          transaction.commit();
+        }
+      }
+    });
+  }
+
+  /**
+   * Run the task concurrently on 32 virtual threads asserting that no pinned thread is reported.
+   */
+  private void assertNotPinned(Task task) throws Exception {
+    assumeTrue("pinning not reported by this JDK", controlPinned());
+    captured.reset();
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < 32; t++) {
+      final int offset = t;
+      futures.add(executor.submit(() -> task.run(offset)));
+    }
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    System.out.flush();
+    assertThat(captured.toString()).isEmpty();
+  }
+
+  private void insert(String prefix) {
+    for (int i = 0; i < 5; i++) {
+      EBasic bean = new EBasic(prefix + i);
+      bean.setDescription("description" + i);
+      database.save(bean);
+    }
+  }
+
+  /**
+   * Return true if a virtual thread sleeping while holding a monitor is reported.
+   */
+  private boolean controlPinned() throws Exception {
+    captured.reset();
+    Object monitor = new Object();
+    executor.submit(() -> {
+      synchronized (monitor) {
+        sleep(10);
+      }
+    }).get(5, TimeUnit.SECONDS);
+    System.out.flush();
+    return captured.size() > 0;
+  }
+
+  private static DefaultServerCache createCache() {
+    ServerCacheOptions cacheOptions = new ServerCacheOptions();
+    cacheOptions.setMaxSize(100);
+    ServerCacheConfig con = new ServerCacheConfig(ServerCacheType.BEAN, "pinned", null, cacheOptions, null, null);
+    return new DefaultServerCache(new DefaultServerCacheConfig(con));
+  }
+
+  private interface Task {
+
+    void run(int offset);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
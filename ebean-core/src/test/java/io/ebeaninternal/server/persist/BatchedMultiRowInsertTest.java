@@ -0,0 +1,94 @@
+package io.ebeaninternal.server.persist;
+
+import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+import io.ebeaninternal.server.type.DataBindRow;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchedMultiRowInsertTest {
+
+  @Test
+  public void multiRowSql() {
+    String sql = "insert into e_basic (name, description) values (?,?)";
+    assertThat(BatchedMultiRowInsert.multiRowSql(sql, 1)).isEqualTo(sql);
+    assertThat(BatchedMultiRowInsert.multiRowSql(sql, 3)).isEqualTo(sql + ",(?,?),(?,?)");
+  }
+
+  @Test
+  public void rowsPerStatement() {
+    assertThat(BatchedMultiRowInsert.rowsPerStatement(2000, 7)).isEqualTo(285);
+    assertThat(BatchedMultiRowInsert.rowsPerStatement(10, 20)).isEqualTo(1);
+    assertThat(BatchedMultiRowInsert.rowsPerStatement(10_000, 1)).isEqualTo(1000);
+  }
+
+  @Test
+  public void executeStatement_generatedKeys_expect_keyPerRow() throws SQLException {
+    PreparedStatement pstmt = statement(3, 1L, 2L, 3L);
+    List<BatchPostExecute> requests = new ArrayList<>();
+    BatchedMultiRowInsert batch = batch(pstmt, requests, 3);
+
+    batch.executeStatement(true);
+
+    verify(requests.get(0)).setGeneratedKey(1L);
+    verify(requests.get(1)).setGeneratedKey(2L);
+    verify(requests.get(2)).setGeneratedKey(3L);
+  }
+
+  @Test
+  public void executeStatement_fewerGeneratedKeys_expect_exception() throws SQLException {
+    // driver only returns the last generated key
+    PreparedStatement pstmt = statement(3, 3L);
+    BatchedMultiRowInsert batch = batch(pstmt, new ArrayList<>(), 3);
+
+    assertThatThrownBy(() -> batch.executeStatement(true))
+      .isInstanceOf(SQLException.class)
+      .hasMessageContaining("generated keys:1 != 3");
+  }
+
+  private BatchedMultiRowInsert batch(PreparedStatement pstmt, List<BatchPostExecute> requests, int rows) {
+    SpiTransaction transaction = mock(SpiTransaction.class);
+    when(transaction.getInternalConnection()).thenReturn(mock(Connection.class));
+    DataTimeZone dataTimeZone = mock(DataTimeZone.class);
+
+    String sql = "insert into e_basic (name) values (?)";
+    BatchedMultiRowInsert batch = new BatchedMultiRowInsert(multiSql -> pstmt, true, sql, transaction, dataTimeZone, 100);
+    for (int i = 0; i < rows; i++) {
+      BatchPostExecute request = mock(BatchPostExecute.class);
+      requests.add(request);
+      batch.getStatement(request);
+      DataBindRow row = new DataBindRow(dataTimeZone);
+      row.setString("name" + i);
+      batch.addRow(row);
+    }
+    return batch;
+  }
+
+  private PreparedStatement statement(int rowCount, Object... keys) throws SQLException {
+    ResultSet rset = mock(ResultSet.class);
+    Boolean[] more = new Boolean[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      more[i] = i < keys.length - 1;
+    }
+    when(rset.next()).thenReturn(true, more);
+    when(rset.getObject(1)).thenReturn(keys[0], Arrays.copyOfRange(keys, 1, keys.length));
+
+    PreparedStatement pstmt = mock(PreparedStatement.class);
+    when(pstmt.executeUpdate()).thenReturn(rowCount);
+    when(pstmt.getGeneratedKeys()).thenReturn(rset);
+    return pstmt;
+  }
+}
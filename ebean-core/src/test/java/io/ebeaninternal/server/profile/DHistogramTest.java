@@ -0,0 +1,96 @@
+package io.ebeaninternal.server.profile;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DHistogramTest {
+
+  @Test
+  public void index_highestValue() {
+
+    for (long value = 0; value < 32; value++) {
+      assertThat(DHistogram.highestValue(DHistogram.index(value))).isEqualTo(value);
+    }
+    for (long value = 32; value < 1_000_000; value += 7) {
+      long highest = DHistogram.highestValue(DHistogram.index(value));
+      assertThat(highest).isGreaterThanOrEqualTo(value);
+      assertThat((double) (highest - value) / value).isLessThan(0.0625);
+    }
+    assertThat(DHistogram.index(-1)).isEqualTo(0);
+    assertThat(DHistogram.index(Long.MAX_VALUE)).isEqualTo(DHistogram.BUCKETS - 1);
+  }
+
+  @Test
+  public void percentile() {
+
+    DHistogram histogram = new DHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.add(i);
+    }
+    DHistogram.Snapshot snapshot = histogram.snapshot(true, 1000);
+    assertThat(snapshot.percentile(50)).isBetween(500L, 531L);
+    assertThat(snapshot.percentile(99)).isBetween(990L, 1000L);
+    assertThat(snapshot.percentile(100)).isEqualTo(1000L);
+
+    // reset so empty
+    assertThat(histogram.snapshot(false, 0).percentile(50)).isEqualTo(0);
+  }
+
+  @Test
+  public void add_singleThread_expect_singleStripe() {
+
+    DHistogram histogram = new DHistogram();
+    assertThat(histogram.stripeCount()).isEqualTo(0);
+    for (int i = 0; i < 1000; i++) {
+      histogram.add(i);
+    }
+    assertThat(histogram.stripeCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void add_concurrent_expect_allCounted() throws InterruptedException {
+
+    DHistogram histogram = new DHistogram();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          histogram.add(100);
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    // all recorded in the bucket of 100 (so the median is 100 given max 100)
+    DHistogram.Snapshot snapshot = histogram.snapshot(false, 100);
+    assertThat(snapshot.percentile(0.001)).isEqualTo(100);
+    assertThat(snapshot.total()).isEqualTo(40_000);
+  }
+
+  @Test
+  public void timedMetric_percentiles() {
+
+    DTimedMetric metric = new DTimedMetric("percentiles");
+    for (int i = 0; i < 99; i++) {
+      metric.add(10);
+    }
+    metric.add(5000);
+
+    DTimeMetricStats stats = metric.collect(false);
+    assertThat(stats.getPercentile(50)).isEqualTo(10);
+    assertThat(stats.getPercentile(99)).isEqualTo(10);
+    assertThat(stats.getPercentile(99.9)).isEqualTo(5000);
+
+    metric.addBatchSince(System.nanoTime(), 2);
+    stats = metric.collect(true);
+    assertThat(stats.getCount()).isEqualTo(102);
+    assertThat(metric.isEmpty()).isTrue();
+  }
+}
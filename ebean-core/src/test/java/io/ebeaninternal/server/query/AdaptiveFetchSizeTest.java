@@ -0,0 +1,56 @@
+package io.ebeaninternal.server.query;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveFetchSizeTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long SLOW = TimeUnit.SECONDS.toNanos(5);
+  private static final long NORMAL = TimeUnit.MILLISECONDS.toNanos(200);
+
+  @Test
+  public void initial_basedOnRowWidth() {
+    assertThat(new AdaptiveFetchSize(64).getFetchSize()).isEqualTo(1024);
+    assertThat(new AdaptiveFetchSize(1024).getFetchSize()).isEqualTo(64);
+  }
+
+  @Test
+  public void initial_bounded() {
+    assertThat(new AdaptiveFetchSize(0).getFetchSize()).isEqualTo(AdaptiveFetchSize.MAX_FETCH_SIZE);
+    assertThat(new AdaptiveFetchSize(1_000_000).getFetchSize()).isEqualTo(AdaptiveFetchSize.MIN_FETCH_SIZE);
+  }
+
+  @Test
+  public void adjust_fastConsumer_grows() {
+    AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(1024);
+    fetchSize.adjust(FAST);
+    assertThat(fetchSize.getFetchSize()).isEqualTo(128);
+    fetchSize.adjust(NORMAL);
+    assertThat(fetchSize.getFetchSize()).isEqualTo(128);
+  }
+
+  @Test
+  public void adjust_fastConsumer_boundedByBytes() {
+    AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(1024);
+    for (int i = 0; i < 20; i++) {
+      fetchSize.adjust(FAST);
+    }
+    // 2MB / 1024 bytes per row
+    assertThat(fetchSize.getFetchSize()).isEqualTo(2048);
+  }
+
+  @Test
+  public void adjust_slowConsumer_shrinks() {
+    AdaptiveFetchSize fetchSize = new AdaptiveFetchSize(1024);
+    fetchSize.adjust(SLOW);
+    assertThat(fetchSize.getFetchSize()).isEqualTo(32);
+    for (int i = 0; i < 10; i++) {
+      fetchSize.adjust(SLOW);
+    }
+    assertThat(fetchSize.getFetchSize()).isEqualTo(AdaptiveFetchSize.MIN_FETCH_SIZE);
+  }
+}
@@ -0,0 +1,147 @@
+package io.ebeaninternal.server.readaudit;
+
+import io.ebean.event.readaudit.ReadAuditLogger;
+import io.ebean.event.readaudit.ReadAuditQueryPlan;
+import io.ebean.event.readaudit.ReadEvent;
+import io.ebean.plugin.SpiServer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AggregateReadAuditLoggerTest {
+
+  @Test
+  public void auditMany_sameQueryAndUser_expect_aggregatedWithDistinctIds() {
+
+    CollectLogger collect = new CollectLogger();
+    AggregateReadAuditLogger logger = new AggregateReadAuditLogger(collect, 1000, 1000);
+
+    logger.auditMany(event("q1", "u1", "[1]", 1, 2, 3));
+    logger.auditMany(event("q1", "u1", "[2]", 2, 3, 4));
+    logger.auditMany(event("q1", "u2", "[1]", 1));
+    logger.auditMany(event("q2", "u1", "[1]", 5));
+    assertThat(collect.many).isEmpty();
+
+    logger.flush();
+
+    assertThat(collect.many).hasSize(3);
+    ReadEvent first = collect.many.get(0);
+    assertThat(first.getQueryKey()).isEqualTo("q1");
+    assertThat(first.getUserId()).isEqualTo("u1");
+    assertThat(first.getIds()).containsExactly(1, 2, 3, 4);
+    // bind log differs so not included
+    assertThat(first.getBindLog()).isNull();
+
+    assertThat(collect.many.get(1).getUserId()).isEqualTo("u2");
+    assertThat(collect.many.get(1).getBindLog()).isEqualTo("[1]");
+    assertThat(collect.many.get(2).getQueryKey()).isEqualTo("q2");
+
+    collect.many.clear();
+    logger.flush();
+    assertThat(collect.many).isEmpty();
+  }
+
+  @Test
+  public void auditBean_sameId_expect_singleBeanEvent() {
+
+    CollectLogger collect = new CollectLogger();
+    AggregateReadAuditLogger logger = new AggregateReadAuditLogger(collect, 1000, 1000);
+
+    logger.auditBean(new ReadEvent("Customer", "q1", "[1]", 1));
+    logger.auditBean(new ReadEvent("Customer", "q1", "[1]", 1));
+    logger.flush();
+
+    assertThat(collect.many).isEmpty();
+    assertThat(collect.beans).hasSize(1);
+    assertThat(collect.beans.get(0).getId()).isEqualTo(1);
+    assertThat(collect.beans.get(0).getBindLog()).isEqualTo("[1]");
+  }
+
+  @Test
+  public void shutdown_expect_flushed() {
+
+    CollectLogger collect = new CollectLogger();
+    AggregateReadAuditLogger logger = new AggregateReadAuditLogger(collect, 1000, 1000);
+
+    logger.auditBean(new ReadEvent("Customer", "q1", "[1]", 1));
+    logger.auditBean(new ReadEvent("Customer", "q1", "[2]", 2));
+    logger.shutdown();
+
+    assertThat(collect.many).hasSize(1);
+    assertThat(collect.many.get(0).getIds()).containsExactly(1, 2);
+  }
+
+  @Test
+  public void auditMany_maxIdsReached_expect_flushedEarly() {
+
+    CollectLogger collect = new CollectLogger();
+    AggregateReadAuditLogger logger = new AggregateReadAuditLogger(collect, 60_000, 6);
+
+    logger.auditMany(event("q1", "u1", "[1]", 1, 2, 3));
+    logger.auditMany(event("q1", "u1", "[1]", 1, 2, 3));
+    assertThat(collect.many).isEmpty();
+
+    logger.auditMany(event("q1", "u1", "[1]", 4, 5));
+    assertThat(collect.many).hasSize(1);
+    assertThat(collect.many.get(0).getIds()).containsExactly(1, 2, 3, 4, 5);
+
+    // the count is reset by the flush
+    logger.auditMany(event("q1", "u1", "[1]", 6, 7));
+    assertThat(collect.many).hasSize(1);
+  }
+
+  @Test
+  public void configured_maxIdsReached_expect_flushedByOwnThread() throws InterruptedException {
+
+    CollectLogger collect = new CollectLogger();
+    AggregateReadAuditLogger logger = new AggregateReadAuditLogger(collect, 60_000, 2);
+    SpiServer server = mock(SpiServer.class);
+    when(server.getName()).thenReturn("db");
+    logger.configure(server);
+    try {
+      logger.auditMany(event("q1", "u1", "[1]", 1, 2));
+      assertThat(collect.flushed.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(collect.thread).startsWith("ebean-readaudit-db");
+    } finally {
+      logger.shutdown();
+    }
+  }
+
+  private static ReadEvent event(String queryKey, String userId, String bindLog, Object... ids) {
+    ReadEvent event = new ReadEvent("Customer", queryKey, bindLog, new ArrayList<>(Arrays.asList(ids)));
+    event.setUserId(userId);
+    return event;
+  }
+
+  private static class CollectLogger implements ReadAuditLogger {
+
+    final List<ReadEvent> beans = new ArrayList<>();
+    final List<ReadEvent> many = new ArrayList<>();
+    final CountDownLatch flushed = new CountDownLatch(1);
+    volatile String thread;
+
+    @Override
+    public void queryPlan(ReadAuditQueryPlan queryPlan) {
+    }
+
+    @Override
+    public void auditBean(ReadEvent readBean) {
+      beans.add(readBean);
+    }
+
+    @Override
+    public void auditMany(ReadEvent readMany) {
+      many.add(readMany);
+      thread = Thread.currentThread().getName();
+      flushed.countDown();
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.event.changelog.BeanChange;
+import io.ebean.event.changelog.ChangeSet;
+import io.ebean.event.changelog.ChangeType;
+import io.ebean.metric.CountMetric;
+import io.ebean.metric.MetricFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChangeLogSpillTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private final CountMetric dropped = MetricFactory.get().createCountMetric("test.dropped");
+
+  @Test
+  public void close_afterPartialRead_expect_onlyUnreadOnRestart() throws Exception {
+    File file = new File(temp.getRoot(), "test.spill");
+    ChangeLogSpill spill = new ChangeLogSpill(file, dropped, Collections.emptySet());
+    for (int i = 0; i < 5; i++) {
+      assertThat(spill.append(new ChangeSet("t" + i, 0))).isTrue();
+    }
+    assertThat(txnIds(spill.read(2))).containsExactly("t0", "t1");
+    spill.close();
+
+    spill = new ChangeLogSpill(file, dropped, Collections.emptySet());
+    assertThat(spill.isActive()).isTrue();
+    assertThat(txnIds(spill.read(10))).containsExactly("t2", "t3", "t4");
+    assertThat(spill.isActive()).isFalse();
+    spill.close();
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  public void read_embeddedIdType_expect_allowedWhenRegistered() throws Exception {
+    File file = new File(temp.getRoot(), "test.spill");
+    ChangeLogSpill spill = new ChangeLogSpill(file, dropped, Collections.singleton(OrderLineId.class.getName()));
+    ChangeSet changeSet = new ChangeSet("t0", 0);
+    changeSet.addBeanChange(new BeanChange("order_line", null, new OrderLineId(42, 3), ChangeType.INSERT, "{}"));
+    spill.append(changeSet);
+
+    List<ChangeSet> read = spill.read(10);
+    assertThat(read).hasSize(1);
+    assertThat(read.get(0).getChanges().get(0).getId()).isEqualTo(new OrderLineId(42, 3));
+    spill.close();
+  }
+
+  @Test
+  public void read_unknownIdType_expect_dropped() throws Exception {
+    File file = new File(temp.getRoot(), "test.spill");
+    ChangeLogSpill spill = new ChangeLogSpill(file, dropped, Collections.emptySet());
+    ChangeSet changeSet = new ChangeSet("t0", 0);
+    changeSet.addBeanChange(new BeanChange("order_line", null, new OrderLineId(42, 3), ChangeType.INSERT, "{}"));
+    spill.append(changeSet);
+    spill.append(new ChangeSet("t1", 0));
+
+    assertThat(txnIds(spill.read(10))).containsExactly("t1");
+    spill.close();
+  }
+
+  private static List<String> txnIds(List<ChangeSet> changeSets) {
+    List<String> ids = new ArrayList<>();
+    for (ChangeSet changeSet : changeSets) {
+      ids.add(changeSet.getTxnId());
+    }
+    return ids;
+  }
+
+  static class OrderLineId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    final long orderId;
+    final int lineNo;
+
+    OrderLineId(long orderId, int lineNo) {
+      this.orderId = orderId;
+      this.lineNo = lineNo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof OrderLineId)) {
+        return false;
+      }
+      OrderLineId other = (OrderLineId) o;
+      return orderId == other.orderId && lineNo == other.lineNo;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(orderId) * 31 + lineNo;
+    }
+  }
+}
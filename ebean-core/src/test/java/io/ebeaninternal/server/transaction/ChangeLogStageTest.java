@@ -0,0 +1,237 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.event.changelog.ChangeLogListener;
+import io.ebean.event.changelog.ChangeSet;
+import io.ebean.meta.MetaCountMetric;
+import io.ebean.meta.MetaQueryMetric;
+import io.ebean.meta.MetaTimedMetric;
+import io.ebean.meta.MetricVisitor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChangeLogStageTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void submit_batchWindow_expect_deliveredTogether() {
+
+    BatchListener listener = new BatchListener(null, null);
+    ChangeLogStage stage = new ChangeLogStage(listener, "test", 10, 10, 50, null, 5, Collections.emptySet()).start();
+
+    stage.submit(changeSet("a"));
+    stage.submit(changeSet("b"));
+    stage.submit(changeSet("c"));
+    stage.shutdown();
+
+    assertThat(listener.batches).hasSize(1);
+    assertThat(listener.batches.get(0)).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  public void submit_batchSize_expect_splitIntoBatches() throws InterruptedException {
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    BatchListener listener = new BatchListener(blocked, release);
+    ChangeLogStage stage = new ChangeLogStage(listener, "test", 10, 2, 0, null, 5, Collections.emptySet()).start();
+
+    stage.submit(changeSet("slow"));
+    assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+    stage.submit(changeSet("a"));
+    stage.submit(changeSet("b"));
+    stage.submit(changeSet("c"));
+    release.countDown();
+    stage.shutdown();
+
+    assertThat(listener.ids()).containsExactly("slow", "a", "b", "c");
+    for (List<String> batch : listener.batches) {
+      assertThat(batch.size()).isLessThanOrEqualTo(2);
+    }
+  }
+
+  @Test
+  public void submit_whenFull_expect_spilledAndDeliveredInOrder() throws InterruptedException {
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    BatchListener listener = new BatchListener(blocked, release);
+    File dir = temp.getRoot();
+    ChangeLogStage stage = new ChangeLogStage(listener, "test", 1, 10, 0, dir.getAbsolutePath(), 5, Collections.emptySet()).start();
+
+    stage.submit(changeSet("slow"));
+    assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+    stage.submit(changeSet("queued"));
+    // queue is full so these are spilled
+    stage.submit(changeSet("s1"));
+    stage.submit(changeSet("s2"));
+    assertThat(new File(dir, "ebean-changelog-test.spill").length()).isGreaterThan(0);
+
+    release.countDown();
+    stage.shutdown();
+
+    assertThat(listener.ids()).containsExactly("slow", "queued", "s1", "s2");
+    assertThat(new File(dir, "ebean-changelog-test.spill")).doesNotExist();
+  }
+
+  @Test
+  public void shutdown_whenCollectingBatch_expect_inFlightDelivered() throws InterruptedException {
+
+    BatchListener listener = new BatchListener(null, null);
+    // long batch window such that the thread is still collecting when interrupted at shutdown
+    ChangeLogStage stage = new ChangeLogStage(listener, "test", 10, 10, 10_000, null, 1, Collections.emptySet()).start();
+
+    stage.submit(changeSet("a"));
+    stage.submit(changeSet("b"));
+    awaitQueueEmpty(stage);
+    stage.shutdown();
+
+    assertThat(listener.ids()).containsExactly("a", "b");
+  }
+
+  @Test
+  public void visitMetrics_expect_currentQueueDepth() throws InterruptedException {
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    BatchListener listener = new BatchListener(blocked, release);
+    ChangeLogStage stage = new ChangeLogStage(listener, "test", 10, 10, 0, null, 5, Collections.emptySet()).start();
+
+    stage.submit(changeSet("slow"));
+    assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+    stage.submit(changeSet("a"));
+    stage.submit(changeSet("b"));
+    stage.submit(changeSet("c"));
+
+    CountVisitor visitor = new CountVisitor();
+    stage.visitMetrics(visitor);
+    assertThat(visitor.counts.get("txn.changelog.depth")).isEqualTo(3L);
+
+    release.countDown();
+    stage.shutdown();
+
+    visitor = new CountVisitor();
+    stage.visitMetrics(visitor);
+    assertThat(visitor.counts).doesNotContainKey("txn.changelog.depth");
+    assertThat(listener.ids()).containsExactly("slow", "a", "b", "c");
+  }
+
+  /**
+   * Wait for the thread to take the queued change sets (into the batch it is collecting).
+   */
+  private static void awaitQueueEmpty(ChangeLogStage stage) throws InterruptedException {
+    for (int i = 0; i < 100; i++) {
+      CountVisitor visitor = new CountVisitor();
+      stage.visitMetrics(visitor);
+      if (!visitor.counts.containsKey("txn.changelog.depth")) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  private static ChangeSet changeSet(String txnId) {
+    return new ChangeSet(txnId, 0);
+  }
+
+  private static class BatchListener implements ChangeLogListener {
+
+    final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch blocked;
+    final CountDownLatch release;
+
+    BatchListener(CountDownLatch blocked, CountDownLatch release) {
+      this.blocked = blocked;
+      this.release = release;
+    }
+
+    @Override
+    public void logBatch(List<ChangeSet> changeSets) {
+      List<String> ids = new ArrayList<>();
+      for (ChangeSet changeSet : changeSets) {
+        ids.add(changeSet.getTxnId());
+      }
+      if (blocked != null && ids.contains("slow")) {
+        blocked.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      batches.add(ids);
+    }
+
+    @Override
+    public void log(ChangeSet changeSet) {
+      logBatch(Collections.singletonList(changeSet));
+    }
+
+    List<String> ids() {
+      List<String> all = new ArrayList<>();
+      for (List<String> batch : batches) {
+        all.addAll(batch);
+      }
+      return all;
+    }
+  }
+
+  private static class CountVisitor implements MetricVisitor {
+
+    final Map<String, Long> counts = new HashMap<>();
+
+    @Override
+    public boolean isReset() {
+      return false;
+    }
+
+    @Override
+    public boolean isCollectTransactionMetrics() {
+      return true;
+    }
+
+    @Override
+    public boolean isCollectQueryMetrics() {
+      return false;
+    }
+
+    @Override
+    public boolean isCollectL2Metrics() {
+      return false;
+    }
+
+    @Override
+    public void visitStart() {
+    }
+
+    @Override
+    public void visitTimed(MetaTimedMetric metric) {
+    }
+
+    @Override
+    public void visitQuery(MetaQueryMetric metric) {
+    }
+
+    @Override
+    public void visitCount(MetaCountMetric metric) {
+      counts.put(metric.getName(), metric.getCount());
+    }
+
+    @Override
+    public void visitEnd() {
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package io.ebeaninternal.server.transaction;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdMapTest {
+
+  @Test
+  public void forId() {
+    assertThat(IdMap.forId(1L)).isInstanceOf(LongIdMap.class);
+    assertThat(IdMap.forId(1)).isInstanceOf(LongIdMap.class);
+    assertThat(IdMap.forId(UUID.randomUUID())).isInstanceOf(UuidIdMap.class);
+    assertThat(IdMap.forId("a")).isInstanceOf(ObjectIdMap.class);
+  }
+
+  @Test
+  public void longIdMap_matchesHashMap() {
+    Random random = new Random(42);
+    List<Object> ids = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      ids.add((long) random.nextInt(3000) - 1000);
+    }
+    assertSameAsHashMap(new LongIdMap(Long.class), ids, random);
+  }
+
+  @Test
+  public void uuidIdMap_matchesHashMap() {
+    Random random = new Random(42);
+    List<Object> ids = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      ids.add(UUID.randomUUID());
+    }
+    List<Object> picks = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      picks.add(ids.get(random.nextInt(ids.size())));
+    }
+    assertSameAsHashMap(new UuidIdMap(), picks, random);
+  }
+
+  @Test
+  public void longIdMap_otherKeyTypesDistinct() {
+    LongIdMap map = new LongIdMap(Long.class);
+    map.put(1L, "long");
+    map.put(1, "int");
+    map.put("1", "string");
+
+    assertThat(map.size()).isEqualTo(3);
+    assertThat(map.get(1L)).isEqualTo("long");
+    assertThat(map.get(1)).isEqualTo("int");
+    assertThat(map.get("1")).isEqualTo("string");
+
+    map.remove(1);
+    assertThat(map.get(1)).isNull();
+    assertThat(map.get(1L)).isEqualTo("long");
+
+    List<Object> values = new ArrayList<>();
+    map.forEachValue(values::add);
+    assertThat(values).containsOnly("long", "string");
+
+    map.clear();
+    assertThat(map.isEmpty()).isTrue();
+    assertThat(map.get(1L)).isNull();
+  }
+
+  private void assertSameAsHashMap(IdMap idMap, List<Object> ids, Random random) {
+    Map<Object, Object> expected = new HashMap<>();
+    for (Object id : ids) {
+      if (random.nextInt(4) == 0) {
+        idMap.remove(id);
+        expected.remove(id);
+      } else {
+        Object bean = new Object();
+        idMap.put(id, bean);
+        expected.put(id, bean);
+      }
+      assertThat(idMap.size()).isEqualTo(expected.size());
+    }
+    for (Object id : ids) {
+      assertThat(idMap.get(id)).isSameAs(expected.get(id));
+    }
+    List<Object> values = new ArrayList<>();
+    idMap.forEachValue(values::add);
+    assertThat(values).containsOnlyElementsOf(expected.values());
+    assertThat(values).hasSize(expected.size());
+  }
+}
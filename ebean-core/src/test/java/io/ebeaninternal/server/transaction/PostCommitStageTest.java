@@ -0,0 +1,158 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.config.PostCommitBackPressure;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostCommitStageTest {
+
+  @Test
+  public void submit_batchWindow_expect_eventsProcessedTogether() {
+
+    List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    PostCommitStage<String> stage = new PostCommitStage<String>("test", 10, 50, PostCommitBackPressure.BLOCK, batches::add, null).start();
+
+    stage.submit("a");
+    stage.submit("b");
+    stage.submit("c");
+    stage.shutdown(5);
+
+    assertThat(batches).hasSize(1);
+    assertThat(batches.get(0)).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  public void submit_afterShutdown_expect_processedByCaller() {
+
+    List<String> processed = new ArrayList<>();
+    PostCommitStage<String> stage = new PostCommitStage<String>("test", 10, 0, PostCommitBackPressure.BLOCK, processed::addAll, null).start();
+    stage.shutdown(5);
+
+    stage.submit("a");
+    assertThat(processed).containsExactly("a");
+  }
+
+  @Test
+  public void submit_whenFull_callerRuns() throws InterruptedException {
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> processed = Collections.synchronizedList(new ArrayList<>());
+    PostCommitStage<String> stage = new PostCommitStage<String>("test", 1, 0, PostCommitBackPressure.CALLER_RUNS, events -> {
+      if (events.contains("slow")) {
+        blocked.countDown();
+        await(release);
+      }
+      processed.addAll(events);
+    }, null).start();
+
+    stage.submit("slow");
+    assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+    stage.submit("queued");
+    // queue is full so processed by this thread
+    stage.submit("caller");
+    assertThat(processed).containsExactly("caller");
+
+    release.countDown();
+    stage.shutdown(5);
+    assertThat(processed).containsExactly("caller", "slow", "queued");
+  }
+
+  @Test
+  public void submit_whenFull_clearCache_expect_dropped() throws InterruptedException {
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> dropped = new ArrayList<>();
+    PostCommitStage<String> stage = new PostCommitStage<String>("test", 1, 0, PostCommitBackPressure.CLEAR_CACHE, events -> {
+      if (events.contains("slow")) {
+        blocked.countDown();
+        await(release);
+      }
+    }, dropped::add).start();
+
+    stage.submit("slow");
+    assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+    stage.submit("queued");
+    stage.submit("drop");
+    assertThat(dropped).containsExactly("drop");
+
+    release.countDown();
+    stage.shutdown(5);
+  }
+
+  @Test
+  public void submit_racingShutdown_expect_allProcessed() throws InterruptedException {
+
+    AtomicInteger processed = new AtomicInteger();
+    PostCommitStage<Integer> stage = new PostCommitStage<Integer>("test", 10, 0, PostCommitBackPressure.BLOCK, events -> processed.addAndGet(events.size()), null).start();
+
+    CountDownLatch started = new CountDownLatch(4);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        started.countDown();
+        for (int i = 0; i < 1000; i++) {
+          stage.submit(i);
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    started.await();
+    stage.shutdown(5);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(processed.get()).isEqualTo(4000);
+  }
+
+  @Test
+  public void submit_whenFull_block_expect_releasedByShutdown() throws InterruptedException {
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> processed = Collections.synchronizedList(new ArrayList<>());
+    PostCommitStage<String> stage = new PostCommitStage<String>("test", 1, 0, PostCommitBackPressure.BLOCK, events -> {
+      if (events.contains("slow")) {
+        blocked.countDown();
+        await(release);
+      }
+      processed.addAll(events);
+    }, null).start();
+
+    stage.submit("slow");
+    assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+    stage.submit("queued");
+
+    Thread submitter = new Thread(() -> stage.submit("waiting"));
+    submitter.start();
+    Thread shutdown = new Thread(() -> stage.shutdown(5));
+    shutdown.start();
+
+    // no longer running so the waiting submitter processes its event
+    submitter.join(2000);
+    assertThat(submitter.isAlive()).isFalse();
+    assertThat(processed).containsExactly("waiting");
+
+    release.countDown();
+    shutdown.join(5000);
+    assertThat(processed).containsExactly("waiting", "slow", "queued");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
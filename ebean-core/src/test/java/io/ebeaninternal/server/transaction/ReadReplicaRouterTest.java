@@ -0,0 +1,142 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebeaninternal.api.TransactionEvent;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReadReplicaRouterTest {
+
+  private DataSource dataSource() throws SQLException {
+    DataSource dataSource = mock(DataSource.class);
+    when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+    return dataSource;
+  }
+
+  private DataSource failingDataSource() throws SQLException {
+    DataSource dataSource = mock(DataSource.class);
+    when(dataSource.getConnection()).thenThrow(new SQLException("down"));
+    return dataSource;
+  }
+
+  @Test
+  public void select_leastOutstanding() throws SQLException {
+
+    ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(dataSource(), dataSource()), 1000);
+
+    ReadReplica first = router.select(null);
+    assertThat(first.acquire()).isNotNull();
+    assertThat(first.outstanding()).isEqualTo(1);
+
+    // the other replica has no outstanding queries
+    ReadReplica second = router.select(null);
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.acquire()).isNotNull();
+    second.release(System.nanoTime() - 1_000_000L);
+    assertThat(second.acquire()).isNotNull();
+
+    first.release(System.nanoTime());
+    assertThat(first.outstanding()).isEqualTo(0);
+    assertThat(router.select(null)).isSameAs(first);
+  }
+
+  @Test
+  public void select_lowerLatency() throws SQLException {
+
+    ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(dataSource(), dataSource()), 1000);
+
+    ReadReplica slow = router.select(null);
+    slow.acquire();
+    slow.release(System.nanoTime() - 50_000_000L);
+    ReadReplica fast = router.select(null);
+    assertThat(fast).isNotSameAs(slow);
+    fast.acquire();
+    fast.release(System.nanoTime() - 1_000_000L);
+
+    assertThat(slow.ewmaMicros()).isGreaterThan(fast.ewmaMicros());
+    for (int i = 0; i < 4; i++) {
+      assertThat(router.select(null)).isSameAs(fast);
+    }
+  }
+
+  @Test
+  public void select_circuitOpen() throws SQLException {
+
+    ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(failingDataSource(), dataSource()), 1000);
+
+    ReadReplica failing = null;
+    for (int i = 0; i < 10 && failing == null; i++) {
+      ReadReplica replica = router.select(null);
+      if (replica.getName().equals("replica0")) {
+        failing = replica;
+      }
+    }
+    assertThat(failing).isNotNull();
+    for (int i = 0; i < 3; i++) {
+      assertThat(failing.acquire()).isNull();
+    }
+    assertThat(failing.isAvailable(System.nanoTime())).isFalse();
+    for (int i = 0; i < 4; i++) {
+      assertThat(router.select(null).getName()).isEqualTo("replica1");
+    }
+  }
+
+  @Test
+  public void pin() throws SQLException {
+
+    ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(dataSource(), dataSource()), 60_000);
+    assertThat(router.isPinned(singleton("o_customer"))).isFalse();
+    assertThat(router.isPinned(null)).isFalse();
+
+    TransactionEvent event = new TransactionEvent();
+    event.addPersistTable("o_customer");
+    event.add("o_order", true, false, false);
+    router.pin(event);
+
+    assertThat(router.isPinned(singleton("o_customer"))).isTrue();
+    assertThat(router.isPinned(singleton("o_order"))).isTrue();
+    assertThat(router.isPinned(singleton("o_product"))).isFalse();
+    // tables not known so pinned
+    assertThat(router.isPinned(null)).isTrue();
+
+    assertThat(router.select(singleton("o_customer"))).isNull();
+    assertThat(router.select(singleton("o_product"))).isNotNull();
+  }
+
+  @Test
+  public void pin_joinedTable() throws SQLException {
+
+    ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(dataSource(), dataSource()), 60_000);
+
+    TransactionEvent event = new TransactionEvent();
+    event.addPersistTable("o_customer");
+    router.pin(event);
+
+    // query on o_order joining o_customer is pinned by the joined table
+    assertThat(router.isPinned(new HashSet<>(Arrays.asList("o_order", "o_customer")))).isTrue();
+    assertThat(router.select(new HashSet<>(Arrays.asList("o_order", "o_customer")))).isNull();
+    assertThat(router.isPinned(new HashSet<>(Arrays.asList("o_order", "o_product")))).isFalse();
+  }
+
+  @Test
+  public void pin_expired() throws SQLException {
+
+    ReadReplicaRouter router = new ReadReplicaRouter(Arrays.asList(dataSource(), dataSource()), 0);
+
+    TransactionEvent event = new TransactionEvent();
+    event.addPersistTable("o_customer");
+    router.pin(event);
+
+    assertThat(router.isPinned(singleton("o_customer"))).isFalse();
+    assertThat(router.select(singleton("o_customer"))).isNotNull();
+  }
+}
@@ -0,0 +1,40 @@
+package io.ebeaninternal.server.type;
+
+import io.ebeaninternal.server.core.timezone.NoDataTimeZone;
+import io.ebeaninternal.server.persist.BatchedCopyInsert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataBindCopyTest {
+
+  @Test
+  public void encodeRow() {
+
+    DataBindCopy copy = new DataBindCopy(new NoDataTimeZone());
+    copy.setLong(42);
+    copy.setString("a\tb\\c\nd");
+    copy.setNull(Types.VARCHAR);
+    copy.setBoolean(true);
+    copy.setBigDecimal(new BigDecimal("1.50"));
+    copy.setBytes(new byte[]{0x0a, (byte) 0xff});
+    copy.endRow();
+    copy.setLong(43);
+    copy.setArray("varchar", new Object[]{"x\"y", null});
+    copy.endRow();
+
+    String rows = new String(copy.flush(), StandardCharsets.UTF_8);
+    assertThat(rows).isEqualTo("42\ta\\tb\\\\c\\nd\t\\N\tt\t1.50\t\\\\x0aff\n43\t{\"x\\\\\"y\",NULL}\n");
+    assertThat(copy.length()).isEqualTo(0);
+  }
+
+  @Test
+  public void copySql() {
+    String sql = "insert into e_basic (id, name, description) values (?,?,?)";
+    assertThat(BatchedCopyInsert.copySql(sql)).isEqualTo("copy e_basic (id, name, description) from stdin");
+  }
+}
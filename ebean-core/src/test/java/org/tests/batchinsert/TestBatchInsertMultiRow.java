@@ -0,0 +1,91 @@
+package org.tests.batchinsert;
+
+import io.ebean.BaseTestCase;
+import io.ebean.DB;
+import io.ebean.Transaction;
+import org.ebeantest.LoggedSqlCollector;
+import org.junit.Test;
+import org.tests.model.basic.EBasic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBatchInsertMultiRow extends BaseTestCase {
+
+  @Test
+  public void insert_withGeneratedKeys() {
+
+    List<EBasic> beans = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      beans.add(new EBasic("multiRow" + i));
+    }
+
+    try (Transaction transaction = DB.beginTransaction()) {
+      transaction.setBatchMode(true);
+      transaction.setBatchSize(10);
+      transaction.setMultiRowInsert(true);
+
+      LoggedSqlCollector.start();
+      DB.saveAll(beans);
+      transaction.commit();
+    }
+
+    // batch size 10 so 3 multi-row statements with 10, 10 and 5 row groups
+    List<String> multiRow = multiRowInserts(LoggedSqlCollector.stop());
+    assertThat(multiRow).hasSize(3);
+    assertThat(rowGroups(multiRow.get(0))).isEqualTo(10);
+    assertThat(rowGroups(multiRow.get(1))).isEqualTo(10);
+    assertThat(rowGroups(multiRow.get(2))).isEqualTo(5);
+
+    Integer previousId = null;
+    for (EBasic bean : beans) {
+      assertThat(bean.getId()).isNotNull();
+      if (previousId != null) {
+        // generated keys assigned in insert order
+        assertThat(bean.getId()).isGreaterThan(previousId);
+      }
+      previousId = bean.getId();
+      EBasic found = DB.find(EBasic.class, bean.getId());
+      assertThat(found.getName()).isEqualTo(bean.getName());
+    }
+  }
+
+  @Test
+  public void insert_withoutGeneratedKeys() {
+
+    List<EBasic> beans = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      beans.add(new EBasic("multiRowNoKeys" + i));
+    }
+
+    try (Transaction transaction = DB.beginTransaction()) {
+      transaction.setBatchMode(true);
+      transaction.setMultiRowInsert(true);
+      transaction.setGetGeneratedKeys(false);
+
+      LoggedSqlCollector.start();
+      DB.saveAll(beans);
+      transaction.commit();
+    }
+
+    List<String> multiRow = multiRowInserts(LoggedSqlCollector.stop());
+    assertThat(multiRow).hasSize(1);
+    assertThat(rowGroups(multiRow.get(0))).isEqualTo(5);
+
+    int count = DB.find(EBasic.class).where().startsWith("name", "multiRowNoKeys").findCount();
+    assertThat(count).isEqualTo(5);
+  }
+
+  private static List<String> multiRowInserts(List<String> sql) {
+    return sql.stream()
+      .filter(s -> s.contains("insert into e_basic") && s.contains("),("))
+      .collect(Collectors.toList());
+  }
+
+  private static int rowGroups(String sql) {
+    return sql.split("\\),\\(", -1).length;
+  }
+}
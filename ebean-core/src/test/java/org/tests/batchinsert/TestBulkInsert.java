@@ -0,0 +1,67 @@
+package org.tests.batchinsert;
+
+import io.ebean.BaseTestCase;
+import io.ebean.BulkInsertOptionsBuilder;
+import io.ebean.DB;
+import io.ebean.annotation.ForPlatform;
+import io.ebean.annotation.Platform;
+import org.ebeantest.LoggedSqlCollector;
+import org.junit.Test;
+import org.tests.model.basic.EBasic;
+import org.tests.model.basic.UUOne;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBulkInsert extends BaseTestCase {
+
+  @Test
+  public void bulkInsert() {
+
+    List<EBasic> beans = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      beans.add(new EBasic("bulkInsert" + i));
+    }
+
+    DB.bulkInsert(beans, new BulkInsertOptionsBuilder().setBatchSize(10).build());
+
+    for (EBasic bean : beans) {
+      assertThat(bean.getId()).isNotNull();
+    }
+    int count = DB.find(EBasic.class).where().startsWith("name", "bulkInsert").findCount();
+    assertThat(count).isEqualTo(25);
+  }
+
+  @ForPlatform(Platform.POSTGRES)
+  @Test
+  public void bulkInsert_postgres_expect_copy() {
+
+    List<UUOne> beans = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      UUOne bean = new UUOne("bulkCopy" + i, UUID.randomUUID());
+      if (i % 2 == 0) {
+        bean.setDescription("tab\tnewline\nbackslash\\ quote' " + i);
+      }
+      beans.add(bean);
+    }
+
+    LoggedSqlCollector.start();
+    DB.bulkInsert(beans, new BulkInsertOptionsBuilder().setBatchSize(10).build());
+    List<String> sql = LoggedSqlCollector.stop();
+
+    assertThat(sql).isNotEmpty();
+    assertThat(sql.get(0)).contains("copy uuone (").contains(") from stdin");
+    assertThat(sql).noneMatch(s -> s.contains("insert into uuone"));
+
+    for (UUOne bean : beans) {
+      UUOne found = DB.find(UUOne.class, bean.getId());
+      assertThat(found.getName()).isEqualTo(bean.getName());
+      assertThat(found.getDescription()).isEqualTo(bean.getDescription());
+    }
+    int nullCount = DB.find(UUOne.class).where().startsWith("name", "bulkCopy").isNull("description").findCount();
+    assertThat(nullCount).isEqualTo(12);
+  }
+}
@@ -0,0 +1,117 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.DB;
+import io.ebeantest.LoggedSql;
+import org.junit.Test;
+import org.tests.model.basic.Contact;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestQueryFindEachParallel extends BaseTestCase {
+
+  @Test
+  public void findEachParallel() {
+    ResetBasicData.reset();
+
+    List<Integer> expected = DB.find(Contact.class).findIds();
+
+    Set<Integer> ids = new TreeSet<>();
+    List<String> threads = new ArrayList<>();
+    LoggedSql.start();
+    DB.find(Contact.class)
+      .fetch("customer", "name")
+      .findEachParallel(3, contact -> {
+        // consumer is invoked by the calling thread
+        threads.add(Thread.currentThread().getName());
+        assertThat(ids.add(contact.getId())).isTrue();
+        assertThat(contact.getCustomer().getName()).isNotNull();
+      });
+
+    List<String> sql = LoggedSql.stop();
+    assertThat(ids).containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(threads).containsOnly(Thread.currentThread().getName());
+    // min and max id queries plus one query per partition
+    assertThat(sql).hasSize(5);
+    assertThat(sql.get(0)).contains("select min(t0.id)");
+    assertThat(sql.get(1)).contains("select max(t0.id)");
+    assertThat(sql.subList(2, 5)).allMatch(s -> s.contains("t0.id >= ? and t0.id < ?") || s.contains("t0.id between ? and ?"));
+  }
+
+  @Test
+  public void findEachParallel_withPredicates() {
+    ResetBasicData.reset();
+
+    List<Integer> expected = DB.find(Contact.class)
+      .where().isNotNull("customer.name")
+      .findIds();
+
+    Set<Integer> ids = new TreeSet<>();
+    DB.find(Contact.class)
+      .where().isNotNull("customer.name")
+      .findEachParallel(2, contact -> ids.add(contact.getId()));
+
+    assertThat(ids).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  public void findStreamParallel() {
+    ResetBasicData.reset();
+
+    List<Integer> expected = DB.find(Contact.class).findIds();
+
+    try (Stream<Contact> stream = DB.find(Contact.class).findStreamParallel(4)) {
+      List<Integer> ids = stream.map(Contact::getId).collect(Collectors.toList());
+      assertThat(ids).containsExactlyInAnyOrderElementsOf(expected);
+    }
+  }
+
+  @Test
+  public void findStreamParallel_closeEarly() {
+    ResetBasicData.reset();
+
+    try (Stream<Contact> stream = DB.find(Contact.class).findStreamParallel(4)) {
+      assertThat(stream.limit(2).count()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  public void findEachParallel_consumerThrows() {
+    ResetBasicData.reset();
+
+    AtomicInteger count = new AtomicInteger();
+    assertThatThrownBy(() -> DB.find(Contact.class)
+      .findEachParallel(3, contact -> {
+        if (count.incrementAndGet() == 2) {
+          throw new IllegalStateException("stop");
+        }
+      }))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("stop");
+
+    assertThat(count.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void findEachParallel_maxRows_notPartitioned() {
+    ResetBasicData.reset();
+
+    AtomicInteger count = new AtomicInteger();
+    DB.find(Customer.class)
+      .setMaxRows(2)
+      .findEachParallel(3, customer -> count.incrementAndGet());
+
+    assertThat(count.get()).isEqualTo(2);
+  }
+}
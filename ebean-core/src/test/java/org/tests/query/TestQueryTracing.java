@@ -0,0 +1,271 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Database;
+import io.ebean.DatabaseFactory;
+import io.ebean.QueryIterator;
+import io.ebean.Transaction;
+import io.ebean.config.ContainerConfig;
+import io.ebean.config.DatabaseConfig;
+import io.ebean.config.DatabaseTracer;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.tests.model.basic.EBasicVer;
+
+import javax.persistence.PersistenceException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestQueryTracing extends BaseTestCase {
+
+  private static final RecordingTracer tracer = new RecordingTracer();
+
+  private static Database database;
+
+  @BeforeClass
+  public static void create() {
+    DatabaseConfig config = new DatabaseConfig();
+    config.setName("withTracer");
+    config.setDdlExtra(false);
+
+    Properties properties = new Properties();
+    properties.setProperty("datasource.withTracer.username", "sa");
+    properties.setProperty("datasource.withTracer.password", "");
+    properties.setProperty("datasource.withTracer.databaseUrl", "jdbc:h2:mem:withTracer;");
+    properties.setProperty("datasource.withTracer.databaseDriver", "org.h2.Driver");
+
+    config.loadFromProperties(properties);
+    config.setContainerConfig(new ContainerConfig());
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.setDatabaseTracer(tracer);
+
+    config.addClass(EBasicVer.class);
+    database = DatabaseFactory.create(config);
+  }
+
+  @AfterClass
+  public static void shutdown() {
+    database.shutdown();
+  }
+
+  @Before
+  public void clear() {
+    tracer.spans.clear();
+  }
+
+  @Test
+  public void ormQuery_expect_span() {
+    database.save(new EBasicVer("traced"));
+    tracer.spans.clear();
+
+    List<EBasicVer> list = database.find(EBasicVer.class).where().eq("name", "traced").findList();
+    assertThat(list).hasSize(1);
+
+    RecordedSpan span = querySpan();
+    assertThat(span.name).isEqualTo("orm.EBasicVer.findList");
+    assertThat(span.ended).isTrue();
+    assertThat(span.error).isNull();
+    assertThat((String) span.attributes.get(DatabaseTracer.DB_STATEMENT)).contains("from e_basicver");
+    assertThat(span.attributes.get(DatabaseTracer.ROWS)).isEqualTo(1L);
+  }
+
+  @Test
+  public void ormQuery_whenFails_expect_spanWithError() {
+    assertThatThrownBy(() -> database.find(EBasicVer.class).where().raw("not_a_column = 1").findList())
+      .isInstanceOf(PersistenceException.class);
+
+    RecordedSpan span = querySpan();
+    assertThat(span.name).isEqualTo("orm.EBasicVer.findList");
+    assertThat(span.ended).isTrue();
+    assertThat(span.error).isInstanceOf(PersistenceException.class);
+    assertThat((String) span.attributes.get(DatabaseTracer.DB_STATEMENT)).contains("not_a_column");
+  }
+
+  @Test
+  public void sqlQuery_whenFails_expect_spanWithError() {
+    assertThatThrownBy(() -> database.sqlQuery("select * from not_a_table").findList())
+      .isInstanceOf(PersistenceException.class);
+
+    RecordedSpan span = querySpan();
+    assertThat(span.name).isEqualTo("sql.query");
+    assertThat(span.ended).isTrue();
+    assertThat(span.error).isNotNull();
+    assertThat(span.attributes.get(DatabaseTracer.DB_STATEMENT)).isEqualTo("select * from not_a_table");
+  }
+
+  @Test
+  public void findIterate_expect_spanWithRows() {
+    database.save(new EBasicVer("iterate"));
+    database.save(new EBasicVer("iterate"));
+    tracer.spans.clear();
+
+    int count = 0;
+    try (QueryIterator<EBasicVer> it = database.find(EBasicVer.class).where().eq("name", "iterate").findIterate()) {
+      while (it.hasNext()) {
+        it.next();
+        count++;
+      }
+    }
+    assertThat(count).isEqualTo(2);
+
+    RecordedSpan span = querySpan();
+    assertThat(span.name).isEqualTo("orm.EBasicVer.findIterate");
+    assertThat(span.ended).isTrue();
+    assertThat((String) span.attributes.get(DatabaseTracer.DB_STATEMENT)).contains("from e_basicver");
+    assertThat(span.attributes.get(DatabaseTracer.ROWS)).isEqualTo(2L);
+  }
+
+  @Test
+  public void lazyLoad_expect_span() {
+    database.save(new EBasicVer("lazy"));
+    EBasicVer bean = database.find(EBasicVer.class).select("name").where().eq("name", "lazy").findOne();
+    tracer.spans.clear();
+
+    assertThat(bean.getDescription()).isNull();
+
+    RecordedSpan span = span(DatabaseTracer.Kind.LAZY_LOAD);
+    assertThat(span.name).isEqualTo("lazy.EBasicVer");
+    assertThat(span.ended).isTrue();
+    assertThat(span.error).isNull();
+    assertThat(span.attributes.get(DatabaseTracer.BATCH)).isEqualTo(1L);
+  }
+
+  @Test
+  public void lazyLoad_whenFails_expect_spanWithError() {
+    database.save(new EBasicVer("lazyFail"));
+    EBasicVer bean = database.find(EBasicVer.class).select("name").where().eq("name", "lazyFail").findOne();
+    tracer.spans.clear();
+
+    database.sqlUpdate("alter table e_basicver rename to e_basicver_moved").execute();
+    try {
+      assertThatThrownBy(bean::getDescription).isInstanceOf(PersistenceException.class);
+    } finally {
+      database.sqlUpdate("alter table e_basicver_moved rename to e_basicver").execute();
+    }
+
+    RecordedSpan span = span(DatabaseTracer.Kind.LAZY_LOAD);
+    assertThat(span.name).isEqualTo("lazy.EBasicVer");
+    assertThat(span.ended).isTrue();
+    assertThat(span.error).isInstanceOf(PersistenceException.class);
+  }
+
+  @Test
+  public void batchFlushAndCommit_expect_spans() {
+    try (Transaction txn = database.beginTransaction()) {
+      txn.setBatchMode(true);
+      database.save(new EBasicVer("batch0"));
+      database.save(new EBasicVer("batch1"));
+      database.save(new EBasicVer("batch2"));
+      txn.commit();
+    }
+
+    RecordedSpan flush = span(DatabaseTracer.Kind.BATCH_FLUSH);
+    assertThat(flush.name).isEqualTo("txn.batch.flush");
+    assertThat(flush.ended).isTrue();
+    assertThat(flush.error).isNull();
+    assertThat(flush.attributes.get(DatabaseTracer.BATCH)).isEqualTo(3L);
+
+    RecordedSpan commit = span(DatabaseTracer.Kind.COMMIT);
+    assertThat(commit.name).isEqualTo("txn.commit");
+    assertThat(commit.ended).isTrue();
+    assertThat(commit.error).isNull();
+    assertThat(commit.attributes.get(DatabaseTracer.DB_NAME)).isEqualTo("withTracer");
+  }
+
+  @Test
+  public void batchFlushAndCommit_whenFails_expect_spansWithError() {
+    EBasicVer first = new EBasicVer("duplicate0");
+    first.setId(10_000);
+    EBasicVer second = new EBasicVer("duplicate1");
+    second.setId(10_000);
+
+    try (Transaction txn = database.beginTransaction()) {
+      txn.setBatchMode(true);
+      database.save(first);
+      database.save(second);
+      assertThatThrownBy(txn::commit).isInstanceOf(PersistenceException.class);
+    }
+
+    RecordedSpan flush = span(DatabaseTracer.Kind.BATCH_FLUSH);
+    assertThat(flush.ended).isTrue();
+    assertThat(flush.error).isNotNull();
+
+    RecordedSpan commit = span(DatabaseTracer.Kind.COMMIT);
+    assertThat(commit.ended).isTrue();
+    assertThat(commit.error).isNotNull();
+  }
+
+  private static RecordedSpan querySpan() {
+    return span(DatabaseTracer.Kind.QUERY);
+  }
+
+  private static RecordedSpan span(DatabaseTracer.Kind kind) {
+    List<RecordedSpan> spans = new ArrayList<>();
+    for (RecordedSpan span : tracer.spans) {
+      if (span.kind == kind) {
+        spans.add(span);
+      }
+    }
+    assertThat(spans).hasSize(1);
+    return spans.get(0);
+  }
+
+  private static class RecordingTracer implements DatabaseTracer {
+
+    final List<RecordedSpan> spans = new ArrayList<>();
+
+    @Override
+    public synchronized Span start(Kind kind, String name, long startNanos) {
+      RecordedSpan span = new RecordedSpan(kind, name);
+      spans.add(span);
+      return span;
+    }
+  }
+
+  private static class RecordedSpan implements DatabaseTracer.Span {
+
+    final DatabaseTracer.Kind kind;
+    final String name;
+    final Map<String, Object> attributes = new HashMap<>();
+    Throwable error;
+    boolean ended;
+
+    RecordedSpan(DatabaseTracer.Kind kind, String name) {
+      this.kind = kind;
+      this.name = name;
+    }
+
+    @Override
+    public DatabaseTracer.Span attribute(String key, String value) {
+      if (value != null) {
+        attributes.put(key, value);
+      }
+      return this;
+    }
+
+    @Override
+    public DatabaseTracer.Span attribute(String key, long value) {
+      attributes.put(key, value);
+      return this;
+    }
+
+    @Override
+    public void error(Throwable e) {
+      error = e;
+    }
+
+    @Override
+    public void end() {
+      ended = true;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.tests.query.sqlquery;
 
 import io.ebean.BaseTestCase;
+import io.ebean.ColumnBatch;
 import io.ebean.DB;
 import io.ebean.Ebean;
 import io.ebean.RowMapper;
@@ -193,6 +194,61 @@ public class SqlQueryTests extends BaseTestCase {
     assertThat(count.get()).isGreaterThan(0);
   }
 
+  @Test
+  public void findColumnarBatches() {
+
+    ResetBasicData.reset();
+
+    String sql = "select id, name, status, anniversary, cretime from o_customer order by id";
+    List<SqlRow> rows = DB.sqlQuery(sql).findList();
+
+    AtomicInteger rowCount = new AtomicInteger();
+    AtomicInteger batchCount = new AtomicInteger();
+
+    DB.sqlQuery(sql)
+      .findColumnarBatches(2, batch -> {
+        batchCount.incrementAndGet();
+        assertThat(batch.size()).isBetween(1, 2);
+        assertThat(batch.columnCount()).isEqualTo(5);
+        assertThat(batch.columnType(0)).isEqualTo(ColumnBatch.Type.LONG);
+        assertThat(batch.columnType(1)).isEqualTo(ColumnBatch.Type.STRING);
+        assertThat(batch.columnType(4)).isEqualTo(ColumnBatch.Type.TIMESTAMP);
+
+        for (int row = 0; row < batch.size(); row++) {
+          SqlRow sqlRow = rows.get(rowCount.getAndIncrement());
+          assertThat(batch.getLong(0, row)).isEqualTo(sqlRow.getLong("id"));
+          assertThat(batch.getString(1, row)).isEqualTo(sqlRow.getString("name"));
+          assertThat(batch.getString(2, row)).isEqualTo(sqlRow.getString("status"));
+          assertThat(batch.isNull(3, row)).isEqualTo(sqlRow.get("anniversary") == null);
+          if (!batch.isNull(4, row)) {
+            assertThat(batch.getLong(4, row)).isEqualTo(sqlRow.getTimestamp("cretime").getTime());
+          }
+        }
+      });
+
+    assertThat(rowCount.get()).isEqualTo(rows.size());
+    assertThat(batchCount.get()).isEqualTo((rows.size() + 1) / 2);
+  }
+
+  @Test
+  public void findColumnarBatches_dictionary() {
+
+    ResetBasicData.reset();
+
+    // cross join such that each status is repeated
+    String sql = "select c.status from o_customer c, o_customer c2";
+
+    DB.sqlQuery(sql)
+      .findColumnarBatches(100, batch -> {
+        assertThat(batch.dictionary(0).size()).isLessThan(batch.size());
+        for (int row = 0; row < batch.size(); row++) {
+          if (!batch.isNull(0, row)) {
+            assertThat(batch.dictionary(0).get(batch.dictionaryCodes(0)[row])).isEqualTo(batch.getString(0, row));
+          }
+        }
+      });
+  }
+
   @Test
   public void findOne_mapper_lambda() {
 
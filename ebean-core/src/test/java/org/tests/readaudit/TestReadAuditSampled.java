@@ -0,0 +1,126 @@
+package org.tests.readaudit;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Database;
+import io.ebean.DatabaseFactory;
+import io.ebean.FutureList;
+import io.ebean.config.DatabaseConfig;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.tests.model.basic.Country;
+import org.tests.model.basic.EBasicChangeLog;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestReadAuditSampled extends BaseTestCase {
+
+  private final TestReadAudit.TDReadAuditPrepare readAuditPrepare = new TestReadAudit.TDReadAuditPrepare();
+
+  private final TestReadAudit.TDReadAuditLogger readAuditLogger = new TestReadAudit.TDReadAuditLogger();
+
+  private Database server;
+
+  @Before
+  public void setup() {
+    server = createServer();
+
+    EBasicChangeLog bean = new EBasicChangeLog();
+    bean.setName("sampled");
+    bean.setShortDescription("sampled hello");
+    server.save(bean);
+
+    Country nz = new Country();
+    nz.setCode("NZ");
+    nz.setName("New Zealand");
+    server.save(nz);
+
+    readAuditLogger.resetCounters();
+    readAuditPrepare.resetCounters();
+  }
+
+  @After
+  public void shutdown() {
+    server.shutdown();
+  }
+
+  @Test
+  public void isReadAuditSampled() {
+    BeanDescriptor<Country> country = descriptor(Country.class);
+    BeanDescriptor<EBasicChangeLog> changeLog = descriptor(EBasicChangeLog.class);
+
+    for (int i = 0; i < 100; i++) {
+      // sample rate of 0 (by simple name)
+      assertThat(country.isReadAuditSampled()).isFalse();
+      // no sample rate so all reads are audited
+      assertThat(changeLog.isReadAuditSampled()).isTrue();
+    }
+    assertThat(country.isReadAuditing()).isTrue();
+  }
+
+  @Test
+  public void findList_sampledOut_expect_noReadEvents() {
+    List<Country> list = server.find(Country.class).findList();
+
+    assertThat(list).hasSize(1);
+    assertThat(readAuditPrepare.count).isEqualTo(0);
+    assertThat(readAuditLogger.many).isEmpty();
+  }
+
+  @Test
+  public void findFutureList_sampledOut_expect_readAuditDisabled() throws ExecutionException, InterruptedException {
+    FutureList<Country> futureList = server.find(Country.class)
+      .where().startsWith("name", "New")
+      .findFutureList();
+
+    List<Country> list = futureList.get();
+    assertThat(list).hasSize(1);
+    assertThat(readAuditPrepare.count).isEqualTo(0);
+    assertThat(readAuditLogger.plans).isEmpty();
+    assertThat(readAuditLogger.many).isEmpty();
+  }
+
+  @Test
+  public void findFutureList_sampled_expect_readEvent() throws ExecutionException, InterruptedException {
+    FutureList<EBasicChangeLog> futureList = server.find(EBasicChangeLog.class)
+      .where().startsWith("name", "sampled")
+      .findFutureList();
+
+    List<EBasicChangeLog> list = futureList.get();
+    assertThat(list).hasSize(1);
+    assertThat(readAuditPrepare.count).isEqualTo(1);
+    assertThat(readAuditLogger.many).hasSize(1);
+  }
+
+  private <T> BeanDescriptor<T> descriptor(Class<T> beanType) {
+    return ((SpiEbeanServer) server).getBeanDescriptor(beanType);
+  }
+
+  private Database createServer() {
+
+    DatabaseConfig config = new DatabaseConfig();
+    config.setName("h2other");
+    config.loadFromProperties();
+
+    config.setDdlGenerate(true);
+    config.setDdlRun(true);
+    config.setDdlExtra(false);
+
+    config.setDefaultServer(false);
+    config.setRegister(false);
+
+    config.addClass(Country.class);
+    config.addClass(EBasicChangeLog.class);
+
+    config.setReadAuditLogger(readAuditLogger);
+    config.setReadAuditPrepare(readAuditPrepare);
+    config.getReadAuditSampleRates().put("Country", 0D);
+
+    return DatabaseFactory.create(config);
+  }
+}
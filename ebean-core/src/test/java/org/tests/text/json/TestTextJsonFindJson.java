@@ -0,0 +1,100 @@
+package org.tests.text.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ebean.BaseTestCase;
+import io.ebean.DB;
+import io.ebean.Query;
+import io.ebean.text.PathProperties;
+import io.ebean.text.json.JsonWriteOptions;
+import org.junit.Test;
+import org.tests.model.basic.Address;
+import org.tests.model.basic.Order;
+import org.tests.model.basic.ResetBasicData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestTextJsonFindJson extends BaseTestCase {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  private String findJson(Query<?> query, JsonWriteOptions options) {
+    StringWriter writer = new StringWriter();
+    query.findJson(writer, options);
+    return writer.toString();
+  }
+
+  private <T> String toJson(Query<T> query, JsonWriteOptions options) {
+    List<T> list = query.findList();
+    return DB.json().toJson(list, options);
+  }
+
+  private void assertSameJson(String actual, String expected) throws IOException {
+    JsonNode actualNode = mapper.readTree(actual);
+    assertThat(actualNode.isArray()).isTrue();
+    assertThat(actualNode).isEqualTo(mapper.readTree(expected));
+  }
+
+  @Test
+  public void findJson_rows() throws IOException {
+    ResetBasicData.reset();
+
+    String json = findJson(DB.find(Address.class).orderBy().asc("id"), null);
+    assertThat(mapper.readTree(json).size()).isGreaterThan(0);
+    assertSameJson(json, toJson(DB.find(Address.class).orderBy().asc("id"), null));
+  }
+
+  @Test
+  public void findJson_rows_withJoin() throws IOException {
+    ResetBasicData.reset();
+
+    String json = findJson(DB.find(Address.class).fetch("country").orderBy().asc("id"), null);
+    assertThat(json).contains("\"country\":{\"code\":\"NZ\",\"name\":\"New Zealand\"}");
+    assertSameJson(json, toJson(DB.find(Address.class).fetch("country").orderBy().asc("id"), null));
+  }
+
+  @Test
+  public void findJson_rows_withPathProperties() throws IOException {
+    ResetBasicData.reset();
+
+    PathProperties paths = PathProperties.parse("line1,city,country(name)");
+    JsonWriteOptions options = JsonWriteOptions.pathProperties(paths);
+
+    String json = findJson(DB.find(Address.class).orderBy().asc("id"), options);
+    JsonNode first = mapper.readTree(json).get(0);
+    assertThat(first.has("id")).isFalse();
+    assertThat(first.has("line1")).isTrue();
+    assertThat(first.get("country").has("code")).isFalse();
+    assertThat(first.get("country").has("name")).isTrue();
+
+    Query<Address> query = DB.find(Address.class).orderBy().asc("id");
+    query.apply(paths);
+    assertSameJson(json, toJson(query, options));
+  }
+
+  @Test
+  public void findJson_beans_whenFetchMany() throws IOException {
+    ResetBasicData.reset();
+
+    String json = findJson(DB.find(Order.class).fetch("details").orderBy().asc("id"), null);
+    assertThat(json).contains("\"details\":[");
+    assertSameJson(json, toJson(DB.find(Order.class).fetch("details").orderBy().asc("id"), null));
+  }
+
+  @Test
+  public void findJson_outputStream() throws IOException {
+    ResetBasicData.reset();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DB.find(Address.class).where().eq("country.code", "NZ").findJson(out, null);
+
+    String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertSameJson(json, toJson(DB.find(Address.class).where().eq("country.code", "NZ").query(), null));
+  }
+}
@@ -0,0 +1,37 @@
+package io.ebean.jmh;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run the benchmarks writing the results as JSON (for comparing release to release).
+ * <p>
+ * Accepts the usual JMH command line options. Unless specified, results are
+ * written to <code>jmh-result.json</code> in JSON format.
+ * </p>
+ * <pre>{@code
+ *
+ *   java -jar target/benchmarks.jar QueryBenchmark -rff query-result.json
+ *
+ * }</pre>
+ */
+public class BenchmarkRunner {
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions cmdOptions = new CommandLineOptions(args);
+    OptionsBuilder builder = new OptionsBuilder();
+    if (!cmdOptions.getResultFormat().hasValue()) {
+      builder.resultFormat(ResultFormatType.JSON);
+    }
+    if (!cmdOptions.getResult().hasValue()) {
+      builder.result("jmh-result.json");
+    }
+    Options options = builder.parent(cmdOptions).build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,84 @@
+package io.ebean.jmh;
+
+import io.ebean.cache.ServerCacheConfig;
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheType;
+import io.ebeaninternal.server.cache.DefaultServerCache;
+import io.ebeaninternal.server.cache.DefaultServerCacheConfig;
+import org.example.jmh.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * L2 cache get and put under contention (DefaultServerCache) and findById via the bean cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheBenchmark {
+
+  private static final int KEYS = 20_000;
+
+  @State(Scope.Benchmark)
+  public static class CacheState {
+
+    DefaultServerCache cache;
+
+    String[] keys;
+
+    @Setup
+    public void setup() {
+      ServerCacheOptions options = new ServerCacheOptions();
+      options.setMaxSize(10_000);
+      ServerCacheConfig config = new ServerCacheConfig(ServerCacheType.BEAN, "jmh", "jmh", options, null, null);
+      cache = new DefaultServerCache(new DefaultServerCacheConfig(config));
+      keys = new String[KEYS];
+      for (int i = 0; i < KEYS; i++) {
+        keys[i] = "key" + i;
+        cache.put(keys[i], i);
+      }
+    }
+
+    String randomKey() {
+      return keys[ThreadLocalRandom.current().nextInt(KEYS)];
+    }
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(6)
+  public Object cacheGet(CacheState state) {
+    return state.cache.get(state.randomKey());
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(2)
+  public void cachePut(CacheState state) {
+    String key = state.randomKey();
+    state.cache.put(key, key);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Customer findById_beanCache(DatabaseState state) {
+    long id = ThreadLocalRandom.current().nextInt(DatabaseState.CUSTOMERS) + 1;
+    return state.database.find(Customer.class, id);
+  }
+}
@@ -0,0 +1,74 @@
+package io.ebean.jmh;
+
+import io.ebean.Database;
+import io.ebean.DatabaseFactory;
+import io.ebean.Transaction;
+import io.ebean.config.DatabaseConfig;
+import io.ebean.datasource.DataSourceConfig;
+import org.example.jmh.domain.Customer;
+import org.example.jmh.domain.Order;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * H2 in memory database shared by the benchmarks, seeded with customers and orders.
+ */
+@State(Scope.Benchmark)
+public class DatabaseState {
+
+  static final int CUSTOMERS = 1000;
+
+  static final int ORDERS_PER_CUSTOMER = 5;
+
+  Database database;
+
+  @Setup
+  public void setup() {
+    DataSourceConfig dataSource = new DataSourceConfig();
+    dataSource.setUsername("sa");
+    dataSource.setPassword("");
+    dataSource.setUrl("jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1");
+    dataSource.setDriver("org.h2.Driver");
+
+    DatabaseConfig config = new DatabaseConfig();
+    config.setName("jmh");
+    config.setDataSourceConfig(dataSource);
+    config.setDdlGenerate(true);
+    config.setDdlRun(true);
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.addClass(Customer.class);
+    config.addClass(Order.class);
+
+    database = DatabaseFactory.create(config);
+    seed();
+  }
+
+  private void seed() {
+    try (Transaction txn = database.beginTransaction()) {
+      txn.setBatchSize(100);
+      for (int i = 0; i < CUSTOMERS; i++) {
+        Customer customer = new Customer("customer" + i);
+        customer.setEmail("customer" + i + "@example.com");
+        customer.setStatus(Customer.Status.values()[i % 3]);
+        customer.setBirthDate(LocalDate.of(1970, 1, 1).plusDays(i));
+        customer.setCredit(i * 10L);
+        database.save(customer);
+        for (int j = 0; j < ORDERS_PER_CUSTOMER; j++) {
+          database.save(new Order(customer, BigDecimal.valueOf(i + j)));
+        }
+      }
+      txn.commit();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    database.shutdown(false, false);
+  }
+}
@@ -0,0 +1,95 @@
+package io.ebean.jmh;
+
+import io.ebean.ValuePair;
+import io.ebean.bean.EntityBean;
+import io.ebean.bean.EntityBeanIntercept;
+import org.example.jmh.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enhanced getter/setter interception and dirty checking via EntityBeanIntercept.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterceptBenchmark {
+
+  @State(Scope.Thread)
+  public static class InterceptState {
+
+    Customer customer;
+
+    EntityBeanIntercept intercept;
+
+    boolean flip;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      customer = new Customer("intercept");
+      customer.setEmail("intercept@example.com");
+      customer.setCredit(100);
+      intercept = ((EntityBean) customer)._ebean_getIntercept();
+      intercept.setLoaded();
+    }
+
+    /**
+     * Reset to loaded and modify name and credit (alternating values so the setters always see a change).
+     */
+    void modify() {
+      intercept.setLoaded();
+      flip = !flip;
+      customer.setName(flip ? "modified" : "intercept");
+      customer.setCredit(flip ? 200 : 100);
+    }
+  }
+
+  @Benchmark
+  public String getters_loaded(InterceptState state) {
+    Customer customer = state.customer;
+    customer.getCredit();
+    customer.getEmail();
+    return customer.getName();
+  }
+
+  @Benchmark
+  public boolean setters_newBean() {
+    Customer customer = new Customer("intercept");
+    customer.setEmail("intercept@example.com");
+    customer.setCredit(100);
+    return ((EntityBean) customer)._ebean_getIntercept().isNewOrDirty();
+  }
+
+  @Benchmark
+  public boolean setters_loadedBean(InterceptState state) {
+    state.modify();
+    return state.intercept.isDirty();
+  }
+
+  @Benchmark
+  public Set<String> dirtyPropertyNames(InterceptState state) {
+    state.modify();
+    return state.intercept.getDirtyPropertyNames();
+  }
+
+  @Benchmark
+  public Map<String, ValuePair> dirtyValues(InterceptState state) {
+    state.modify();
+    return state.intercept.getDirtyValues();
+  }
+}
@@ -0,0 +1,58 @@
+package io.ebean.jmh;
+
+import io.ebean.text.json.JsonContext;
+import org.example.jmh.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON write and read via DJsonContext.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class JsonState {
+
+    JsonContext json;
+
+    List<Customer> customers;
+
+    String customersJson;
+
+    @Setup
+    public void setup(DatabaseState state) {
+      json = state.database.json();
+      customers = state.database.find(Customer.class)
+        .where().le("id", 100)
+        .setUseCache(false)
+        .findList();
+      customersJson = json.toJson(customers);
+    }
+  }
+
+  @Benchmark
+  public String toJson_100(JsonState state) {
+    return state.json.toJson(state.customers);
+  }
+
+  @Benchmark
+  public List<Customer> toList_100(JsonState state) {
+    return state.json.toList(Customer.class, state.customersJson);
+  }
+}
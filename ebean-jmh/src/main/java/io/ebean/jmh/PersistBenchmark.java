@@ -0,0 +1,71 @@
+package io.ebean.jmh;
+
+import io.ebean.Transaction;
+import org.example.jmh.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC batch insert and update via BatchControl (rolled back to keep the data set stable).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistBenchmark {
+
+  @Param({"100"})
+  int rows;
+
+  @Param({"20", "100"})
+  int batchSize;
+
+  @Benchmark
+  public List<Customer> insertBatch(DatabaseState state) {
+    List<Customer> customers = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      Customer customer = new Customer("batch" + i);
+      customer.setEmail("batch" + i + "@example.com");
+      customers.add(customer);
+    }
+    try (Transaction txn = state.database.beginTransaction()) {
+      txn.setBatchSize(batchSize);
+      state.database.saveAll(customers);
+      txn.flush();
+      txn.rollback();
+    }
+    return customers;
+  }
+
+  @Benchmark
+  public List<Customer> updateBatch(DatabaseState state) {
+    List<Customer> customers = state.database.find(Customer.class)
+      .where().le("id", rows)
+      .setUseCache(false)
+      .findList();
+    try (Transaction txn = state.database.beginTransaction()) {
+      txn.setBatchSize(batchSize);
+      for (Customer customer : customers) {
+        customer.setCredit(customer.getCredit() + 1);
+      }
+      state.database.updateAll(customers);
+      txn.flush();
+      txn.rollback();
+    }
+    return customers;
+  }
+}
@@ -0,0 +1,63 @@
+package io.ebean.jmh;
+
+import io.ebean.Query;
+import io.ebeaninternal.api.SpiEbeanServer;
+import org.example.jmh.domain.Customer;
+import org.example.jmh.domain.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query plan building (CQueryBuilder) and ResultSet to bean hydration (SqlBeanLoad).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+
+  @Benchmark
+  public Object compileQuery(DatabaseState state) {
+    Query<Order> query = state.database.find(Order.class)
+      .fetch("customer", "name,email")
+      .where()
+      .gt("amount", 10)
+      .eq("customer.status", Customer.Status.ACTIVE)
+      .orderBy("id")
+      .query();
+    return ((SpiEbeanServer) state.database).compileQuery(query, null);
+  }
+
+  @Benchmark
+  public List<Customer> findList_100(DatabaseState state) {
+    return state.database.find(Customer.class)
+      .where().lt("id", 101)
+      .setUseCache(false)
+      .findList();
+  }
+
+  @Benchmark
+  public List<Order> findList_fetchJoin_100(DatabaseState state) {
+    return state.database.find(Order.class)
+      .fetch("customer")
+      .where().lt("id", 101)
+      .findList();
+  }
+
+  @Benchmark
+  public int findEach_all(DatabaseState state) {
+    int[] count = new int[1];
+    state.database.find(Order.class)
+      .findEach(order -> count[0]++);
+    return count[0];
+  }
+}
@@ -0,0 +1,115 @@
+package org.example.jmh.domain;
+
+import io.ebean.annotation.Cache;
+import io.ebean.annotation.WhenCreated;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import javax.persistence.Version;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Cache
+@Entity
+public class Customer {
+
+  public enum Status {
+    NEW,
+    ACTIVE,
+    INACTIVE
+  }
+
+  @Id
+  long id;
+
+  @Version
+  long version;
+
+  String name;
+
+  String email;
+
+  Status status;
+
+  LocalDate birthDate;
+
+  long credit;
+
+  @WhenCreated
+  Instant whenCreated;
+
+  @OneToMany(mappedBy = "customer")
+  List<Order> orders = new ArrayList<>();
+
+  public Customer(String name) {
+    this.name = name;
+    this.status = Status.NEW;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public void setId(long id) {
+    this.id = id;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(String email) {
+    this.email = email;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public void setStatus(Status status) {
+    this.status = status;
+  }
+
+  public LocalDate getBirthDate() {
+    return birthDate;
+  }
+
+  public void setBirthDate(LocalDate birthDate) {
+    this.birthDate = birthDate;
+  }
+
+  public long getCredit() {
+    return credit;
+  }
+
+  public void setCredit(long credit) {
+    this.credit = credit;
+  }
+
+  public Instant getWhenCreated() {
+    return whenCreated;
+  }
+
+  public List<Order> getOrders() {
+    return orders;
+  }
+}
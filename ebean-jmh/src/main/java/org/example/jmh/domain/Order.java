@@ -0,0 +1,63 @@
+package org.example.jmh.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "orders")
+public class Order {
+
+  @Id
+  long id;
+
+  @Version
+  long version;
+
+  @ManyToOne(optional = false)
+  Customer customer;
+
+  LocalDate orderDate;
+
+  BigDecimal amount;
+
+  String notes;
+
+  public Order(Customer customer, BigDecimal amount) {
+    this.customer = customer;
+    this.amount = amount;
+    this.orderDate = LocalDate.now();
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public Customer getCustomer() {
+    return customer;
+  }
+
+  public LocalDate getOrderDate() {
+    return orderDate;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public void setAmount(BigDecimal amount) {
+    this.amount = amount;
+  }
+
+  public String getNotes() {
+    return notes;
+  }
+
+  public void setNotes(String notes) {
+    this.notes = notes;
+  }
+}
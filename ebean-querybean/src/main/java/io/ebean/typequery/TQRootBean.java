@@ -25,11 +25,14 @@ import io.ebean.search.TextQueryString;
 import io.ebean.search.TextSimple;
 import io.ebean.service.SpiFetchGroupQuery;
 import io.ebean.text.PathProperties;
+import io.ebean.text.json.JsonWriteOptions;
 import io.ebeaninternal.api.SpiQueryFetch;
 import io.ebeaninternal.server.util.ArrayStack;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.Timestamp;
 import java.util.Collection;
@@ -1843,6 +1846,52 @@ public abstract class TQRootBean<T, R> {
     query.findEach(batch, consumer);
   }
 
+  /**
+   * Execute the query in parallel by splitting it into id range partitions.
+   * <p>
+   * The beans are passed to the consumer in the calling thread.
+   *
+   * @param partitions The number of partitions to execute in parallel
+   * @param consumer   The consumer used to process the queried beans
+   * @see Query#findEachParallel(int, Consumer)
+   */
+  public void findEachParallel(int partitions, Consumer<T> consumer) {
+    query.findEachParallel(partitions, consumer);
+  }
+
+  /**
+   * Execute the query writing the results as a JSON array to the writer.
+   *
+   * @param writer  The writer the JSON array is written to
+   * @param options The JSON write options (can be null)
+   * @see Query#findJson(Writer, JsonWriteOptions)
+   */
+  public void findJson(Writer writer, JsonWriteOptions options) {
+    query.findJson(writer, options);
+  }
+
+  /**
+   * Execute the query writing the results as a JSON array to the output stream.
+   *
+   * @param outputStream The output stream the JSON array is written to
+   * @param options      The JSON write options (can be null)
+   * @see Query#findJson(OutputStream, JsonWriteOptions)
+   */
+  public void findJson(OutputStream outputStream, JsonWriteOptions options) {
+    query.findJson(outputStream, options);
+  }
+
+  /**
+   * Execute the query in parallel by splitting it into id range partitions returning a Stream.
+   *
+   * @param partitions The number of partitions to execute in parallel
+   * @see Query#findStreamParallel(int)
+   */
+  @Nonnull
+  public Stream<T> findStreamParallel(int partitions) {
+    return query.findStreamParallel(partitions);
+  }
+
   /**
    * Execute the query using callbacks to a visitor to process the resulting
    * beans one at a time.
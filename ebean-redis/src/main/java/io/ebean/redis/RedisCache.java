@@ -13,6 +13,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ScanResult;
 import redis.clients.jedis.util.SafeEncoder;
@@ -35,6 +37,7 @@ class RedisCache implements ServerCache {
   private final String cacheKey;
   private final Encode keyEncode;
   private final Encode valueEncode;
+  private final int batchSize;
 
   private final TimedMetric metricGet;
   private final TimedMetric metricGetAll;
@@ -43,12 +46,15 @@ class RedisCache implements ServerCache {
   private final TimedMetric metricRemove;
   private final TimedMetric metricRemoveAll;
   private final TimedMetric metricClear;
+  private final TimedMetric metricPipeline;
+  private final CountMetric pipelineCommands;
   private final CountMetric hitCount;
   private final CountMetric missCount;
 
-  RedisCache(JedisPool jedisPool, ServerCacheConfig config, Encode valueEncode) {
+  RedisCache(JedisPool jedisPool, ServerCacheConfig config, Encode valueEncode, int batchSize) {
 
     this.jedisPool = jedisPool;
+    this.batchSize = batchSize;
     this.cacheKey = config.getCacheKey();
     this.keyEncode = new EncodePrefixKey(config.getCacheKey());
     this.valueEncode = valueEncode;
@@ -66,6 +72,8 @@ class RedisCache implements ServerCache {
     metricRemove = factory.createTimedMetric(pre + shortName + ".remove");
     metricRemoveAll = factory.createTimedMetric(pre + shortName + ".removeMany");
     metricClear = factory.createTimedMetric(pre + shortName + ".clear");
+    metricPipeline = factory.createTimedMetric(pre + shortName + ".pipeline");
+    pipelineCommands = factory.createCountMetric(pre + shortName + ".pipelineCommands");
   }
 
   @Override
@@ -79,6 +87,8 @@ class RedisCache implements ServerCache {
     metricRemove.visit(visitor);
     metricRemoveAll.visit(visitor);
     metricClear.visit(visitor);
+    metricPipeline.visit(visitor);
+    pipelineCommands.visit(visitor);
   }
 
   private byte[] key(Object id) {
@@ -112,13 +122,23 @@ class RedisCache implements ServerCache {
 
     List<Object> keyList = new ArrayList<>(keys);
     try (Jedis resource = jedisPool.getResource()) {
-      List<byte[]> valsAsBytes = resource.mget(keysAsBytes(keyList));
+      List<byte[]> valsAsBytes = mget(resource, keysAsBytes(keyList));
+      List<Object> staleKeys = null;
       for (int i = 0; i < keyList.size(); i++) {
-        Object val = valueDecode(valsAsBytes.get(i));
+        byte[] raw = valsAsBytes.get(i);
+        Object val = valueDecode(raw);
         if (val != null) {
           map.put(keyList.get(i), val);
+        } else if (raw != null) {
+          if (staleKeys == null) {
+            staleKeys = new ArrayList<>();
+          }
+          staleKeys.add(keyList.get(i));
         }
       }
+      if (staleKeys != null) {
+        del(resource, keysAsBytes(staleKeys));
+      }
       int hits = map.size();
       int miss = keys.size() - hits;
       if (hits > 0) {
@@ -136,11 +156,17 @@ class RedisCache implements ServerCache {
   public Object get(Object id) {
     long start = System.nanoTime();
     try (Jedis resource = jedisPool.getResource()) {
-      Object val = valueDecode(resource.get(key(id)));
+      byte[] key = key(id);
+      byte[] raw = resource.get(key);
+      Object val = valueDecode(raw);
       if (val != null) {
         hitCount.increment();
       } else {
         missCount.increment();
+        if (raw != null) {
+          // stale format or corrupt entry
+          resource.del(key);
+        }
       }
       metricGet.addSinceNanos(start);
       return val;
@@ -167,7 +193,7 @@ class RedisCache implements ServerCache {
         raw[pos++] = key(entry.getKey());
         raw[pos++] = value(entry.getValue());
       }
-      resource.mset(raw);
+      mset(resource, raw);
       metricPutAll.addSinceNanos(start);
     }
   }
@@ -185,11 +211,85 @@ class RedisCache implements ServerCache {
   public void removeAll(Set<Object> keys) {
     long start = System.nanoTime();
     try (Jedis resource = jedisPool.getResource()) {
-      resource.del(keysAsBytes(keys));
+      del(resource, keysAsBytes(keys));
       metricRemoveAll.addSinceNanos(start);
     }
   }
 
+  /**
+   * MGET the keys using a pipeline of chunked MGET commands when there are more keys than the batch size.
+   */
+  private List<byte[]> mget(Jedis resource, byte[][] keys) {
+    if (keys.length <= batchSize) {
+      return resource.mget(keys);
+    }
+    long start = System.nanoTime();
+    List<Response<List<byte[]>>> responses = new ArrayList<>();
+    Pipeline pipeline = resource.pipelined();
+    for (int from = 0; from < keys.length; from += batchSize) {
+      responses.add(pipeline.mget(chunk(keys, from, batchSize)));
+    }
+    pipeline.sync();
+    pipelineComplete(start, responses.size());
+
+    List<byte[]> values = new ArrayList<>(keys.length);
+    for (Response<List<byte[]>> response : responses) {
+      values.addAll(response.get());
+    }
+    return values;
+  }
+
+  /**
+   * MSET the key value pairs using a pipeline of chunked MSET commands when there are more keys than the batch size.
+   */
+  private void mset(Jedis resource, byte[][] keyValues) {
+    int chunkSize = batchSize * 2;
+    if (keyValues.length <= chunkSize) {
+      resource.mset(keyValues);
+      return;
+    }
+    long start = System.nanoTime();
+    int commands = 0;
+    Pipeline pipeline = resource.pipelined();
+    for (int from = 0; from < keyValues.length; from += chunkSize) {
+      pipeline.mset(chunk(keyValues, from, chunkSize));
+      commands++;
+    }
+    pipeline.sync();
+    pipelineComplete(start, commands);
+  }
+
+  /**
+   * DEL the keys using a pipeline of chunked DEL commands when there are more keys than the batch size.
+   */
+  private void del(Jedis resource, byte[][] keys) {
+    if (keys.length <= batchSize) {
+      resource.del(keys);
+      return;
+    }
+    long start = System.nanoTime();
+    int commands = 0;
+    Pipeline pipeline = resource.pipelined();
+    for (int from = 0; from < keys.length; from += batchSize) {
+      pipeline.del(chunk(keys, from, batchSize));
+      commands++;
+    }
+    pipeline.sync();
+    pipelineComplete(start, commands);
+  }
+
+  private void pipelineComplete(long startNanos, int commands) {
+    metricPipeline.addSinceNanos(startNanos);
+    pipelineCommands.add(commands);
+  }
+
+  private static byte[][] chunk(byte[][] source, int from, int size) {
+    int len = Math.min(size, source.length - from);
+    byte[][] chunk = new byte[len][];
+    System.arraycopy(source, from, chunk, 0, len);
+    return chunk;
+  }
+
   private byte[][] keysAsBytes(Collection<Object> keys) {
     byte[][] raw = new byte[keys.size()][];
     int pos = 0;
@@ -77,6 +77,8 @@ class RedisCacheFactory implements ServerCacheFactory {
 
   private final JedisPool jedisPool;
 
+  private final int batchSize;
+
   private final DaemonTopicRunner daemonTopicRunner;
 
   private final NearCacheNotify nearCacheNotify;
@@ -102,11 +104,13 @@ class RedisCacheFactory implements ServerCacheFactory {
     this.metricInTableMod = factory.createTimedMetric("l2a.inTableMod");
     this.metricInQueryCache = factory.createTimedMetric("l2a.inQueryCache");
     this.metricInNearCache = factory.createTimedMetric("l2a.inNearKeys");
+    RedisConfig redisConfig = getRedisConfig(config);
+    this.batchSize = redisConfig.getBatchSize();
     if (config.isDisableL2Cache()) {
       this.jedisPool = null;
       this.daemonTopicRunner = null;
     } else {
-      this.jedisPool = getJedisPool(config);
+      this.jedisPool = getJedisPool(config, redisConfig);
       this.daemonTopicRunner = new DaemonTopicRunner(jedisPool, new CacheDaemonTopic());
       daemonTopicRunner.run();
     }
@@ -115,18 +119,25 @@ class RedisCacheFactory implements ServerCacheFactory {
   /**
    * Return the JedisPool to use (only 1 at this stage).
    */
-  private JedisPool getJedisPool(DatabaseConfig config) {
+  private JedisPool getJedisPool(DatabaseConfig config, RedisConfig redisConfig) {
     JedisPool jedisPool = config.getServiceObject(JedisPool.class);
     if (jedisPool != null) {
       return jedisPool;
     }
+    log.info("using l2cache redis host {}:{}", redisConfig.getServer(), redisConfig.getPort());
+    return redisConfig.createPool();
+  }
+
+  /**
+   * Return the RedisConfig with properties applied.
+   */
+  private RedisConfig getRedisConfig(DatabaseConfig config) {
     RedisConfig redisConfig = config.getServiceObject(RedisConfig.class);
     if (redisConfig == null) {
       redisConfig = new RedisConfig();
     }
     redisConfig.loadProperties(config.getProperties());
-    log.info("using l2cache redis host {}:{}", redisConfig.getServer(), redisConfig.getPort());
-    return redisConfig.createPool();
+    return redisConfig;
   }
 
   @Override
@@ -169,27 +180,23 @@ class RedisCacheFactory implements ServerCacheFactory {
 
     switch (config.getType()) {
       case NATURAL_KEY:
-        return new RedisCache(jedisPool, config, encodeSerializable);
+        return new RedisCache(jedisPool, config, encodeSerializable, batchSize);
       case BEAN:
-        return new RedisCache(jedisPool, config, encodeBeanData);
+        return new RedisCache(jedisPool, config, encodeBeanData, batchSize);
       case COLLECTION_IDS:
-        return new RedisCache(jedisPool, config, encodeManyIdsData);
+        return new RedisCache(jedisPool, config, encodeManyIdsData, batchSize);
       default:
         throw new IllegalArgumentException("Unexpected cache type? " + config.getType());
     }
   }
 
   private ServerCache createQueryCache(ServerCacheConfig config) {
-    synchronized (this) {
-      RQueryCache cache = queryCaches.get(config.getCacheKey());
-      if (cache == null) {
-        logger.debug("create query cache [{}]", config.getCacheKey());
-        cache = new RQueryCache(new DefaultServerCacheConfig(config));
-        cache.periodicTrim(executor);
-        queryCaches.put(config.getCacheKey(), cache);
-      }
+    return queryCaches.computeIfAbsent(config.getCacheKey(), key -> {
+      logger.debug("create query cache [{}]", key);
+      RQueryCache cache = new RQueryCache(new DefaultServerCacheConfig(config));
+      cache.periodicTrim(executor);
       return cache;
-    }
+    });
   }
 
   @Override
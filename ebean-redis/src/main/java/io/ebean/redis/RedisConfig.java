@@ -32,6 +32,8 @@ public class RedisConfig {
 
   private boolean ssl;
 
+  private int batchSize = 500;
+
   /**
    * Return a new JedisPool based on the configuration.
    */
@@ -133,6 +135,28 @@ public class RedisConfig {
     this.ssl = ssl;
   }
 
+  /**
+   * Return the max number of keys per MGET, MSET or DEL command.
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Set the max number of keys per MGET, MSET or DEL command.
+   * <p>
+   * Larger getAll(), putAll() and removeAll() operations are split into chunks of
+   * this size and sent together using a pipeline (a single round trip).
+   *
+   * @throws IllegalArgumentException when the batch size is less than 1
+   */
+  public void setBatchSize(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Invalid redis batchSize " + batchSize + " expecting 1 or more");
+    }
+    this.batchSize = batchSize;
+  }
+
   public void loadProperties(Properties properties) {
     Reader reader = new Reader(properties);
     this.server = reader.get("ebean.redis.server", server);
@@ -146,6 +170,7 @@ public class RedisConfig {
     this.username = reader.get("ebean.redis.username", username);
     this.password = reader.get("ebean.redis.password", password);
     this.blockWhenExhausted = reader.getBool("ebean.redis.blockWhenExhausted", blockWhenExhausted);
+    setBatchSize(reader.getInt("ebean.redis.batchSize", batchSize));
   }
 
   private static class Reader {
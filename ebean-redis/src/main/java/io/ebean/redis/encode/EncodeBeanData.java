@@ -1,31 +1,34 @@
 package io.ebean.redis.encode;
 
 import io.ebeaninternal.server.cache.CachedBeanData;
+import io.ebeaninternal.server.cache.CachedDataBinary;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 
+/**
+ * Encode bean data using the compact versioned binary format.
+ * <p>
+ * Data in an older format or with an unknown schema (different deployment) decodes
+ * to null (a cache miss).
+ */
 public class EncodeBeanData implements Encode {
 
   @Override
   public byte[] encode(Object value) {
 
     try {
-      CachedBeanData data = (CachedBeanData) value;
-      ByteArrayOutputStream os = new ByteArrayOutputStream();
-      ObjectOutputStream oos = new ObjectOutputStream(os);
-
-      data.writeExternal(oos);
-      oos.flush();
-      oos.close();
-
+      ByteArrayOutputStream os = new ByteArrayOutputStream(128);
+      DataOutputStream out = new DataOutputStream(os);
+      CachedDataBinary.writeBeanData(out, (CachedBeanData) value);
+      out.flush();
       return os.toByteArray();
 
     } catch (IOException e) {
-      throw new RuntimeException("Failed to decode cache data", e);
+      throw new RuntimeException("Failed to encode cache data", e);
     }
   }
 
@@ -33,14 +36,9 @@ public class EncodeBeanData implements Encode {
   public Object decode(byte[] data) {
 
     try {
-      ByteArrayInputStream is = new ByteArrayInputStream(data);
-      ObjectInputStream ois = new ObjectInputStream(is);
+      return CachedDataBinary.readBeanData(new DataInputStream(new ByteArrayInputStream(data)));
 
-      CachedBeanData read = new CachedBeanData();
-      read.readExternal(ois);
-      return read;
-
-    } catch (ClassNotFoundException | IOException e) {
+    } catch (IOException e) {
       throw new RuntimeException("Failed to decode cache data", e);
     }
   }
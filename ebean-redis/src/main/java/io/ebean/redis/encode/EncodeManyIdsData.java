@@ -1,31 +1,33 @@
 package io.ebean.redis.encode;
 
+import io.ebeaninternal.server.cache.CachedDataBinary;
 import io.ebeaninternal.server.cache.CachedManyIds;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 
+/**
+ * Encode many ids using the compact versioned binary format.
+ * <p>
+ * Data in an older format decodes to null (a cache miss).
+ */
 public class EncodeManyIdsData implements Encode {
 
   @Override
   public byte[] encode(Object value) {
 
     try {
-      CachedManyIds data = (CachedManyIds) value;
-      ByteArrayOutputStream os = new ByteArrayOutputStream();
-      ObjectOutputStream oos = new ObjectOutputStream(os);
-
-      data.writeExternal(oos);
-      oos.flush();
-      oos.close();
-
+      ByteArrayOutputStream os = new ByteArrayOutputStream(64);
+      DataOutputStream out = new DataOutputStream(os);
+      CachedDataBinary.writeManyIds(out, (CachedManyIds) value);
+      out.flush();
       return os.toByteArray();
 
     } catch (IOException e) {
-      throw new RuntimeException("Failed to decode cache data", e);
+      throw new RuntimeException("Failed to encode cache data", e);
     }
   }
 
@@ -33,14 +35,9 @@ public class EncodeManyIdsData implements Encode {
   public Object decode(byte[] data) {
 
     try {
-      ByteArrayInputStream is = new ByteArrayInputStream(data);
-      ObjectInputStream ois = new ObjectInputStream(is);
+      return CachedDataBinary.readManyIds(new DataInputStream(new ByteArrayInputStream(data)));
 
-      CachedManyIds read = new CachedManyIds();
-      read.readExternal(ois);
-      return read;
-
-    } catch (ClassNotFoundException | IOException e) {
+    } catch (IOException e) {
       throw new RuntimeException("Failed to decode cache data", e);
     }
   }
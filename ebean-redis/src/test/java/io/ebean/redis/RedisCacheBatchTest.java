@@ -0,0 +1,50 @@
+package io.ebean.redis;
+
+import io.ebean.DB;
+import io.ebean.cache.ServerCacheConfig;
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheType;
+import io.ebean.redis.encode.EncodeManyIdsData;
+import io.ebeaninternal.server.cache.CachedManyIds;
+import org.junit.Test;
+import redis.clients.jedis.JedisPool;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RedisCacheBatchTest {
+
+  @Test
+  public void getAllPutAllRemoveAll_moreKeysThanBatchSize_expect_chunked() {
+    // ensure the redis test container is started
+    DB.getDefault();
+    JedisPool jedisPool = new RedisConfig().createPool();
+    try {
+      ServerCacheConfig config = new ServerCacheConfig(ServerCacheType.COLLECTION_IDS, "batchTest", "batchTest", new ServerCacheOptions(), null, null);
+      // batch size of 3 so 10 keys is 4 chunks with a partial last chunk
+      RedisCache cache = new RedisCache(jedisPool, config, new EncodeManyIdsData(), 3);
+
+      Map<Object, Object> keyValues = new LinkedHashMap<>();
+      for (int i = 0; i < 10; i++) {
+        keyValues.put(i, new CachedManyIds(Collections.singletonList(i * 10L)));
+      }
+      cache.putAll(keyValues);
+
+      Map<Object, Object> found = cache.getAll(keyValues.keySet());
+      assertThat(found.keySet()).containsExactlyElementsOf(keyValues.keySet());
+      for (int i = 0; i < 10; i++) {
+        assertThat(((CachedManyIds) found.get(i)).getIdList()).containsExactly(i * 10L);
+      }
+      assertThat(cache.getHitCount()).isEqualTo(10);
+
+      cache.removeAll(keyValues.keySet());
+      assertThat(cache.getAll(keyValues.keySet())).isEmpty();
+      assertThat(cache.getMissCount()).isEqualTo(10);
+    } finally {
+      jedisPool.close();
+    }
+  }
+}
@@ -5,6 +5,7 @@ import org.junit.Test;
 import java.util.Properties;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class RedisConfigTest {
 
@@ -21,6 +22,7 @@ public class RedisConfigTest {
     p.setProperty("ebean.redis.username", "un");
     p.setProperty("ebean.redis.password", "pw");
     p.setProperty("ebean.redis.ssl", "true");
+    p.setProperty("ebean.redis.batchSize", "100");
 
     RedisConfig config = new RedisConfig();
     config.loadProperties(p);
@@ -34,6 +36,7 @@ public class RedisConfigTest {
     assertThat(config.getUsername()).isEqualTo("un");
     assertThat(config.getPassword()).isEqualTo("pw");
     assertThat(config.isSsl()).isEqualTo(true);
+    assertThat(config.getBatchSize()).isEqualTo(100);
   }
 
   @Test
@@ -42,5 +45,18 @@ public class RedisConfigTest {
     assertThat(config.getUsername()).isNull();
     assertThat(config.getPassword()).isNull();
     assertThat(config.isSsl()).isEqualTo(false);
+    assertThat(config.getBatchSize()).isEqualTo(500);
+  }
+
+  @Test
+  public void setBatchSize_lessThanOne_expect_illegalArgument() {
+    RedisConfig config = new RedisConfig();
+    assertThatThrownBy(() -> config.setBatchSize(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> config.setBatchSize(-1)).isInstanceOf(IllegalArgumentException.class);
+
+    Properties p = new Properties();
+    p.setProperty("ebean.redis.batchSize", "0");
+    assertThatThrownBy(() -> config.loadProperties(p)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(config.getBatchSize()).isEqualTo(500);
   }
 }
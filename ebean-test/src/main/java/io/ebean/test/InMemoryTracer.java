@@ -0,0 +1,158 @@
+package io.ebean.test;
+
+import io.ebean.config.DatabaseTracer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DatabaseTracer that collects the ended spans in memory for use in tests.
+ * <pre>{@code
+ *
+ *   InMemoryTracer tracer = new InMemoryTracer();
+ *
+ *   DatabaseConfig config = new DatabaseConfig();
+ *   config.setDatabaseTracer(tracer);
+ *   ...
+ *
+ *   List<InMemoryTracer.TracedSpan> spans = tracer.getSpans(DatabaseTracer.Kind.QUERY);
+ *   assertThat(spans.get(0).getAttribute(DatabaseTracer.DB_STATEMENT)).contains("from customer");
+ *
+ * }</pre>
+ */
+public class InMemoryTracer implements DatabaseTracer {
+
+  private final List<TracedSpan> spans = new ArrayList<>();
+
+  @Override
+  public Span start(Kind kind, String name, long startNanos) {
+    return new TracedSpan(this, kind, name, startNanos);
+  }
+
+  private synchronized void add(TracedSpan span) {
+    spans.add(span);
+  }
+
+  /**
+   * Return the ended spans in the order they ended.
+   */
+  public synchronized List<TracedSpan> getSpans() {
+    return new ArrayList<>(spans);
+  }
+
+  /**
+   * Return the ended spans of the given kind.
+   */
+  public synchronized List<TracedSpan> getSpans(Kind kind) {
+    List<TracedSpan> list = new ArrayList<>();
+    for (TracedSpan span : spans) {
+      if (span.kind == kind) {
+        list.add(span);
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Clear the collected spans.
+   */
+  public synchronized void clear() {
+    spans.clear();
+  }
+
+  /**
+   * A span collected by the InMemoryTracer.
+   */
+  public static class TracedSpan implements Span {
+
+    private final InMemoryTracer tracer;
+    private final Kind kind;
+    private final String name;
+    private final long startNanos;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private long durationNanos = -1;
+    private Throwable error;
+
+    TracedSpan(InMemoryTracer tracer, Kind kind, String name, long startNanos) {
+      this.tracer = tracer;
+      this.kind = kind;
+      this.name = name;
+      this.startNanos = startNanos;
+    }
+
+    @Override
+    public String toString() {
+      return kind + " " + name + " " + attributes;
+    }
+
+    @Override
+    public Span attribute(String key, String value) {
+      if (value != null) {
+        attributes.put(key, value);
+      }
+      return this;
+    }
+
+    @Override
+    public Span attribute(String key, long value) {
+      attributes.put(key, value);
+      return this;
+    }
+
+    @Override
+    public void error(Throwable e) {
+      this.error = e;
+    }
+
+    @Override
+    public void end() {
+      durationNanos = System.nanoTime() - startNanos;
+      tracer.add(this);
+    }
+
+    /**
+     * Return the kind of span.
+     */
+    public Kind getKind() {
+      return kind;
+    }
+
+    /**
+     * Return the span name.
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Return the attribute value for the given key.
+     */
+    public Object getAttribute(String key) {
+      return attributes.get(key);
+    }
+
+    /**
+     * Return all the attributes.
+     */
+    public Map<String, Object> getAttributes() {
+      return Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Return the duration in nanos.
+     */
+    public long getDurationNanos() {
+      return durationNanos;
+    }
+
+    /**
+     * Return the error if the span recorded one.
+     */
+    public Throwable getError() {
+      return error;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package io.ebean.test;
+
+import io.ebean.config.DatabaseTracer;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryTracerTest {
+
+  @Test
+  public void start_end() {
+
+    InMemoryTracer tracer = new InMemoryTracer();
+    DatabaseTracer.Span span = tracer.start(DatabaseTracer.Kind.QUERY, "orm.Customer.findList")
+      .attribute(DatabaseTracer.DB_STATEMENT, "select 1")
+      .attribute(DatabaseTracer.LABEL, null)
+      .attribute(DatabaseTracer.ROWS, 3);
+
+    assertThat(tracer.getSpans()).isEmpty();
+    span.end();
+
+    tracer.start(DatabaseTracer.Kind.COMMIT, "txn.commit", System.nanoTime() - 1000).end();
+
+    List<InMemoryTracer.TracedSpan> queries = tracer.getSpans(DatabaseTracer.Kind.QUERY);
+    assertThat(queries).hasSize(1);
+    InMemoryTracer.TracedSpan query = queries.get(0);
+    assertThat(query.getName()).isEqualTo("orm.Customer.findList");
+    assertThat(query.getAttributes()).containsOnlyKeys(DatabaseTracer.DB_STATEMENT, DatabaseTracer.ROWS);
+    assertThat(query.getAttribute(DatabaseTracer.ROWS)).isEqualTo(3L);
+    assertThat(query.getDurationNanos()).isGreaterThanOrEqualTo(0);
+
+    InMemoryTracer.TracedSpan commit = tracer.getSpans(DatabaseTracer.Kind.COMMIT).get(0);
+    assertThat(commit.getDurationNanos()).isGreaterThanOrEqualTo(1000);
+
+    tracer.clear();
+    assertThat(tracer.getSpans()).isEmpty();
+  }
+
+  @Test
+  public void error() {
+
+    InMemoryTracer tracer = new InMemoryTracer();
+    DatabaseTracer.Span span = tracer.start(DatabaseTracer.Kind.BATCH_FLUSH, "txn.batch.flush");
+    IllegalStateException e = new IllegalStateException("fail");
+    span.error(e);
+    span.end();
+
+    assertThat(tracer.getSpans().get(0).getError()).isSameAs(e);
+  }
+}